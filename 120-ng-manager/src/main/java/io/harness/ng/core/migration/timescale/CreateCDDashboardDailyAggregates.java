@@ -0,0 +1,22 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ng.core.migration.timescale;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.migration.timescale.NGAbstractTimeScaleMigration;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@OwnedBy(HarnessTeam.CDC)
+public class CreateCDDashboardDailyAggregates extends NGAbstractTimeScaleMigration {
+  public String getFileName() {
+    return "timescale/create_cd_dashboard_daily_aggregates_timescale.sql";
+  }
+}
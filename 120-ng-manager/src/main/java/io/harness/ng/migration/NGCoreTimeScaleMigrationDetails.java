@@ -11,6 +11,7 @@ import io.harness.migration.MigrationDetails;
 import io.harness.migration.NGMigration;
 import io.harness.migration.beans.MigrationType;
 import io.harness.ng.core.migration.timescale.AddRollbackDurationToServiceInfraInfoTable;
+import io.harness.ng.core.migration.timescale.CreateCDDashboardDailyAggregates;
 
 import com.google.common.collect.ImmutableList;
 import java.util.List;
@@ -31,6 +32,7 @@ public class NGCoreTimeScaleMigrationDetails implements MigrationDetails {
   public List<Pair<Integer, Class<? extends NGMigration>>> getMigrations() {
     return new ImmutableList.Builder<Pair<Integer, Class<? extends NGMigration>>>()
         .add(Pair.of(1, AddRollbackDurationToServiceInfraInfoTable.class))
+        .add(Pair.of(2, CreateCDDashboardDailyAggregates.class))
         .build();
   }
 }
@@ -20,4 +20,10 @@ import lombok.Value;
 public class TimeAndStatusDeployment {
   private List<Long> time;
   private List<String> status;
+  // Number of executions each row stands for, null when every row is a single execution.
+  private List<Long> count;
+
+  public long getCount(int index) {
+    return count == null ? 1 : count.get(index);
+  }
 }
@@ -90,6 +90,8 @@ import io.harness.service.instancedashboardservice.InstanceDashboardService;
 import io.harness.timescaledb.DBUtils;
 import io.harness.timescaledb.TimeScaleDBService;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.sql.Array;
@@ -98,6 +100,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -109,6 +112,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -124,6 +128,8 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
   private String tableNameCD = "pipeline_execution_summary_cd";
   private String tableNameServiceAndInfra = "service_infra_info";
+  private String dailyAggregateCD = "pipeline_execution_summary_cd_daily";
+  private String dailyAggregateServiceAndInfra = "service_infra_info_daily";
   public static List<String> activeStatusList = Arrays.asList(ExecutionStatus.RUNNING.name(),
       ExecutionStatus.ASYNCWAITING.name(), ExecutionStatus.TASKWAITING.name(), ExecutionStatus.TIMEDWAITING.name(),
       ExecutionStatus.PAUSED.name(), ExecutionStatus.PAUSING.name());
@@ -131,6 +137,15 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       ExecutionStatus.APPROVALWAITING.name(), ExecutionStatus.WAITING.name(), ExecutionStatus.RESOURCEWAITING.name());
   private static final int MAX_RETRY_COUNT = 5;
   public static final double INVALID_CHANGE_RATE = -10000;
+  private static final String STATUS_TIME_QUERY = "statusTime";
+  private static final String SERVICE_DEPLOYMENTS_QUERY = "serviceDeployments";
+
+  /*
+    Short lived cache of the rows backing the overview and service detail charts, so that the widgets of one page load
+    and the refreshes right after it do not hit timescale again.
+  */
+  private final Cache<DashboardQueryKey, TimeAndStatusDeployment> dashboardQueryCache =
+      Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1L)).maximumSize(5000L).build();
 
   public String executionStatusCdTimeScaleColumns() {
     return "id,"
@@ -502,6 +517,109 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
     return TimeAndStatusDeployment.builder().status(status).time(time).build();
   }
 
+  /*
+    Returns status and start time of the executions in the interval. When the caller only looks at whole days the
+    daily continuous aggregate is read instead, with one row per day and status carrying the number of executions.
+  */
+  public TimeAndStatusDeployment getTimeAndStatusDeployment(String accountId, String orgId, String projectId,
+      long startInterval, long endInterval, boolean useDailyAggregate) {
+    DashboardQueryKey key = new DashboardQueryKey(
+        STATUS_TIME_QUERY, accountId, orgId, projectId, null, startInterval, endInterval, 1, useDailyAggregate);
+    return dashboardQueryCache.get(key, k -> {
+      if (useDailyAggregate) {
+        TimeAndStatusDeployment aggregated =
+            queryCalculatorDailyStatusCount(queryBuilderDailyStatusCount(accountId, orgId, projectId), accountId,
+                orgId, projectId, startInterval, endInterval);
+        if (aggregated != null) {
+          return aggregated;
+        }
+      }
+      return queryCalculatorTimeAndStatus(
+          queryBuilderSelectStatusTime(accountId, orgId, projectId, startInterval, endInterval));
+    });
+  }
+
+  /*
+    select status, bucket as time_entity, sum(deployments) as deployments from pipeline_execution_summary_cd_daily
+    where accountid=? and orgidentifier=? and projectidentifier=? and bucket>=? and bucket<? group by status, bucket;
+
+    Same predicates as queryBuilderSelectStatusTime over the same table: the aggregate keeps the scope columns and the
+    status of every execution, and with day aligned boundaries bucket>=start and bucket<end selects exactly the
+    executions with startts>=start and startts<end, executions without startts have no bucket.
+  */
+  public String queryBuilderDailyStatusCount(String accountId, String orgId, String projectId) {
+    StringBuilder preparedSqlBuilder = new StringBuilder(300);
+    preparedSqlBuilder.append(
+        "select status, bucket as time_entity, sum(deployments) as deployments from " + dailyAggregateCD + " where ");
+
+    if (accountId != null) {
+      preparedSqlBuilder.append("accountid=? and ");
+    }
+
+    if (orgId != null) {
+      preparedSqlBuilder.append("orgidentifier=? and ");
+    }
+
+    if (projectId != null) {
+      preparedSqlBuilder.append("projectidentifier=? and ");
+    }
+
+    preparedSqlBuilder.append("bucket>=? and bucket<? group by status, bucket;");
+    return preparedSqlBuilder.toString();
+  }
+
+  public TimeAndStatusDeployment queryCalculatorDailyStatusCount(String query, String accountId, String orgId,
+      String projectId, long startInterval, long endInterval) {
+    return queryCalculatorDailyCount(query, startInterval, endInterval, accountId, orgId, projectId);
+  }
+
+  /*
+    Returns null when the aggregate can not be read, e.g. before its migration ran, so that callers fall back to the
+    raw tables instead of showing empty charts. The scope values that are not null are bound in order, followed by the
+    interval.
+  */
+  private TimeAndStatusDeployment queryCalculatorDailyCount(
+      String query, long startInterval, long endInterval, String... scope) {
+    List<Long> time = new ArrayList<>();
+    List<String> status = new ArrayList<>();
+    List<Long> count = new ArrayList<>();
+
+    ResultSet resultSet = null;
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = connection.prepareStatement(query)) {
+      int parameterIndex = 1;
+      for (String scopeValue : scope) {
+        if (scopeValue != null) {
+          statement.setString(parameterIndex++, scopeValue);
+        }
+      }
+      statement.setLong(parameterIndex++, startInterval);
+      statement.setLong(parameterIndex, endInterval);
+      resultSet = statement.executeQuery();
+      while (resultSet != null && resultSet.next()) {
+        status.add(resultSet.getString("status"));
+        time.add(resultSet.getLong("time_entity"));
+        count.add(resultSet.getLong("deployments"));
+      }
+    } catch (SQLException ex) {
+      log.warn("Unable to read daily aggregate, falling back to the raw executions", ex);
+      return null;
+    } finally {
+      DBUtils.close(resultSet);
+    }
+
+    return TimeAndStatusDeployment.builder().status(status).time(time).count(count).build();
+  }
+
+  private static boolean isDayAligned(long... intervals) {
+    for (long interval : intervals) {
+      if (interval <= 0 || interval % DAY_IN_MS != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public List<String> queryCalculatorEnvType(String queryEnvironmentType) {
     List<String> envType = new ArrayList<>();
 
@@ -528,13 +646,12 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
   @Override
   public io.harness.ng.overview.dto.HealthDeploymentDashboard getHealthDeploymentDashboard(String accountId,
       String orgId, String projectId, long startInterval, long endInterval, long previousStartInterval) {
-    String query = queryBuilderSelectStatusTime(accountId, orgId, projectId, previousStartInterval, endInterval);
-
     List<Long> time = new ArrayList<>();
     List<String> status = new ArrayList<>();
     List<String> envType = new ArrayList<>();
 
-    TimeAndStatusDeployment timeAndStatusDeployment = queryCalculatorTimeAndStatus(query);
+    TimeAndStatusDeployment timeAndStatusDeployment = getTimeAndStatusDeployment(accountId, orgId, projectId,
+        previousStartInterval, endInterval, isDayAligned(previousStartInterval, startInterval, endInterval));
     time = timeAndStatusDeployment.getTime();
     status = timeAndStatusDeployment.getStatus();
 
@@ -566,28 +683,29 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     for (int i = 0; i < time.size(); i++) {
       long currentTimeEpoch = time.get(i);
+      int count = Math.toIntExact(timeAndStatusDeployment.getCount(i));
       if (currentTimeEpoch >= startInterval && currentTimeEpoch < endInterval) {
         currentTimeEpoch = getStartingDateEpochValue(currentTimeEpoch, startInterval);
-        total++;
-        totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + 1);
+        total += count;
+        totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + count);
         if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-          currentSuccess++;
-          successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + 1);
+          currentSuccess += count;
+          successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + count);
         } else if (activeStatusList.contains(status.get(i)) || pendingStatusList.contains(status.get(i))) {
-          currentActive++;
-          activeCountMap.put(currentTimeEpoch, activeCountMap.get(currentTimeEpoch) + 1);
+          currentActive += count;
+          activeCountMap.put(currentTimeEpoch, activeCountMap.get(currentTimeEpoch) + count);
         } else {
-          currentFailed++;
-          failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + 1);
+          currentFailed += count;
+          failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + count);
         }
       } else {
-        previousDeployment++;
+        previousDeployment += count;
         if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-          previousSuccess++;
+          previousSuccess += count;
         } else if (activeStatusList.contains(status.get(i)) || pendingStatusList.contains(status.get(i))) {
-          previousActive++;
+          previousActive += count;
         } else {
-          previousFailed++;
+          previousFailed += count;
         }
       }
     }
@@ -746,8 +864,6 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
   @Override
   public io.harness.ng.overview.dto.ExecutionDeploymentInfo getExecutionDeploymentDashboard(
       String accountId, String orgId, String projectId, long startInterval, long endInterval) {
-    String query = queryBuilderSelectStatusTime(accountId, orgId, projectId, startInterval, endInterval);
-
     HashMap<Long, Integer> totalCountMap = new HashMap<>();
     HashMap<Long, Integer> successCountMap = new HashMap<>();
     HashMap<Long, Integer> failedCountMap = new HashMap<>();
@@ -763,7 +879,8 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       startDateCopy = startDateCopy + timeUnitPerDay;
     }
 
-    TimeAndStatusDeployment timeAndStatusDeployment = queryCalculatorTimeAndStatus(query);
+    TimeAndStatusDeployment timeAndStatusDeployment = getTimeAndStatusDeployment(
+        accountId, orgId, projectId, startInterval, endInterval, isDayAligned(startInterval, endInterval));
     List<Long> time = timeAndStatusDeployment.getTime();
     List<String> status = timeAndStatusDeployment.getStatus();
 
@@ -771,12 +888,13 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     for (int i = 0; i < time.size(); i++) {
       long currentTimeEpoch = time.get(i);
+      int count = Math.toIntExact(timeAndStatusDeployment.getCount(i));
       currentTimeEpoch = getStartingDateEpochValue(currentTimeEpoch, startInterval);
-      totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + 1);
+      totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + count);
       if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-        successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + 1);
+        successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + count);
       } else if (CDDashboardServiceHelper.failedStatusList.contains(status.get(i))) {
-        failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + 1);
+        failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + count);
       }
     }
 
@@ -1072,9 +1190,6 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
   @Override
   public ServiceDeploymentInfoDTO getServiceDeployments(String accountIdentifier, String orgIdentifier,
       String projectIdentifier, long startTime, long endTime, String serviceIdentifier, long bucketSizeInDays) {
-    String query = queryBuilderServiceDeployments(
-        accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, bucketSizeInDays, serviceIdentifier);
-
     /**
      * Map that stores service deployment data for a bucket time - starting time of a
      * dateCDOverviewDashboardServiceImpl.java
@@ -1084,6 +1199,97 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     initializeResultMap(resultMap, startTimeCopy, endTime, bucketSizeInDays);
 
+    TimeAndStatusDeployment statusCounts = getServiceDeploymentStatusCount(
+        accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, serviceIdentifier, bucketSizeInDays);
+    for (int i = 0; i < statusCounts.getTime().size(); i++) {
+      String status = statusCounts.getStatus().get(i);
+      long numberOfRecords = statusCounts.getCount(i);
+      io.harness.ng.overview.dto.ServiceDeployment serviceDeployment = resultMap.get(statusCounts.getTime().get(i));
+      io.harness.ng.overview.dto.DeploymentCount deployments = serviceDeployment.getDeployments();
+      deployments.setTotal(deployments.getTotal() + numberOfRecords);
+      if (CDDashboardServiceHelper.successStatusList.contains(status)) {
+        deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
+      } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
+        deployments.setFailure(deployments.getFailure() + numberOfRecords);
+      }
+    }
+    List<io.harness.ng.overview.dto.ServiceDeployment> serviceDeploymentList =
+        resultMap.values().stream().collect(Collectors.toList());
+    return ServiceDeploymentInfoDTO.builder().serviceDeploymentList(serviceDeploymentList).build();
+  }
+
+  /*
+    Returns the number of service deployments per bucket and status. When the interval is made of whole days the daily
+    service aggregate is read instead of the raw rows.
+  */
+  private TimeAndStatusDeployment getServiceDeploymentStatusCount(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, long startTime, long endTime, String serviceIdentifier, long bucketSizeInDays) {
+    boolean useDailyAggregate = isDayAligned(startTime, endTime);
+    DashboardQueryKey key = new DashboardQueryKey(SERVICE_DEPLOYMENTS_QUERY, accountIdentifier, orgIdentifier,
+        projectIdentifier, serviceIdentifier, startTime, endTime, bucketSizeInDays, useDailyAggregate);
+    return dashboardQueryCache.get(key, k -> {
+      if (useDailyAggregate) {
+        TimeAndStatusDeployment aggregated = queryCalculatorDailyServiceDeployments(
+            queryBuilderDailyServiceDeployments(
+                accountIdentifier, orgIdentifier, projectIdentifier, serviceIdentifier, bucketSizeInDays),
+            accountIdentifier, orgIdentifier, projectIdentifier, serviceIdentifier, startTime, endTime);
+        if (aggregated != null) {
+          return aggregated;
+        }
+      }
+      return queryCalculatorServiceDeployments(queryBuilderServiceDeployments(accountIdentifier, orgIdentifier,
+          projectIdentifier, startTime, endTime, bucketSizeInDays, serviceIdentifier));
+    });
+  }
+
+  /*
+    select service_status as status, time_bucket(86400000, bucket) as time_entity, sum(deployments) as deployments
+    from service_infra_info_daily where accountid=? and orgidentifier=? and projectidentifier=? and service_id=? and
+    bucket>=? and bucket<? and service_status != '' group by status, time_entity;
+
+    Same predicates as queryBuilderServiceDeployments: the aggregate only keeps rows with a service, and the scope
+    columns of service_infra_info are those of the execution the raw query joins. time_bucket over the daily buckets
+    gives the same buckets as time_bucket_gapfill over service_startts, both are aligned on the epoch.
+  */
+  public String queryBuilderDailyServiceDeployments(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, String serviceIdentifier, long bucketSizeInDays) {
+    StringBuilder preparedSqlBuilder = new StringBuilder(400);
+    preparedSqlBuilder.append(String.format(
+        "select service_status as status, time_bucket(%s, bucket) as time_entity, sum(deployments) as deployments "
+            + "from %s where ",
+        bucketSizeInDays * DAY_IN_MS, dailyAggregateServiceAndInfra));
+
+    if (accountIdentifier != null) {
+      preparedSqlBuilder.append("accountid=? and ");
+    }
+
+    if (orgIdentifier != null) {
+      preparedSqlBuilder.append("orgidentifier=? and ");
+    }
+
+    if (projectIdentifier != null) {
+      preparedSqlBuilder.append("projectidentifier=? and ");
+    }
+
+    if (serviceIdentifier != null) {
+      preparedSqlBuilder.append("service_id=? and ");
+    }
+
+    preparedSqlBuilder.append("bucket>=? and bucket<? and service_status != '' group by status, time_entity;");
+    return preparedSqlBuilder.toString();
+  }
+
+  public TimeAndStatusDeployment queryCalculatorDailyServiceDeployments(String query, String accountIdentifier,
+      String orgIdentifier, String projectIdentifier, String serviceIdentifier, long startTime, long endTime) {
+    return queryCalculatorDailyCount(
+        query, startTime, endTime, accountIdentifier, orgIdentifier, projectIdentifier, serviceIdentifier);
+  }
+
+  public TimeAndStatusDeployment queryCalculatorServiceDeployments(String query) {
+    List<Long> time = new ArrayList<>();
+    List<String> status = new ArrayList<>();
+    List<Long> count = new ArrayList<>();
+
     int totalTries = 0;
     boolean successfulOperation = false;
     while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
@@ -1092,17 +1298,9 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
            PreparedStatement statement = connection.prepareStatement(query)) {
         resultSet = statement.executeQuery();
         while (resultSet != null && resultSet.next()) {
-          String status = resultSet.getString(NGServiceConstants.STATUS);
-          long bucketTime = Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY));
-          long numberOfRecords = resultSet.getLong(NGServiceConstants.NUMBER_OF_RECORDS);
-          io.harness.ng.overview.dto.ServiceDeployment serviceDeployment = resultMap.get(bucketTime);
-          io.harness.ng.overview.dto.DeploymentCount deployments = serviceDeployment.getDeployments();
-          deployments.setTotal(deployments.getTotal() + numberOfRecords);
-          if (CDDashboardServiceHelper.successStatusList.contains(status)) {
-            deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
-          } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
-            deployments.setFailure(deployments.getFailure() + numberOfRecords);
-          }
+          status.add(resultSet.getString(NGServiceConstants.STATUS));
+          time.add(Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY)));
+          count.add(resultSet.getLong(NGServiceConstants.NUMBER_OF_RECORDS));
         }
         successfulOperation = true;
       } catch (SQLException ex) {
@@ -1112,9 +1310,7 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
         DBUtils.close(resultSet);
       }
     }
-    List<io.harness.ng.overview.dto.ServiceDeployment> serviceDeploymentList =
-        resultMap.values().stream().collect(Collectors.toList());
-    return ServiceDeploymentInfoDTO.builder().serviceDeploymentList(serviceDeploymentList).build();
+    return TimeAndStatusDeployment.builder().status(status).time(time).count(count).build();
   }
 
   private void initializeResultMap(Map<Long, io.harness.ng.overview.dto.ServiceDeployment> resultMap, long startTime,
@@ -2599,4 +2795,17 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
         .get()
         .getGitOpsEnabled();
   }
+
+  @Value
+  private static class DashboardQueryKey {
+    String query;
+    String accountId;
+    String orgId;
+    String projectId;
+    String serviceId;
+    long startInterval;
+    long endInterval;
+    long bucketSizeInDays;
+    boolean dailyAggregate;
+  }
 }
@@ -8,6 +8,7 @@
 package io.harness.utils.featureflaghelper;
 
 import io.harness.account.AccountClient;
+import io.harness.account.AccountFeatureFlagCache;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.FeatureName;
@@ -19,9 +20,10 @@ import java.util.Set;
 @OwnedBy(HarnessTeam.PL)
 public class NGFeatureFlagHelperService {
   @Inject AccountClient accountClient;
+  @Inject AccountFeatureFlagCache accountFeatureFlagCache;
 
   public boolean isEnabled(String accountId, FeatureName featureName) {
-    return CGRestUtils.getResponse(accountClient.isFeatureFlagEnabled(featureName.name(), accountId));
+    return accountFeatureFlagCache.isEnabled(accountId, featureName);
   }
 
   public Set<String> getFeatureFlagEnabledAccountIds(String featureName) {
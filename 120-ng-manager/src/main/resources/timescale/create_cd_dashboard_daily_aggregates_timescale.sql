@@ -0,0 +1,55 @@
+-- Copyright 2023 Harness Inc. All rights reserved.
+-- Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+-- that can be found in the licenses directory at the root of this repository, also available at
+-- https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+
+---------- CD DASHBOARD DAILY AGGREGATES START ------------
+BEGIN;
+
+CREATE OR REPLACE FUNCTION unix_now_in_millis() RETURNS BIGINT LANGUAGE SQL STABLE AS $$ SELECT (EXTRACT(EPOCH FROM NOW()) * 1000)::BIGINT $$;
+
+SELECT SET_INTEGER_NOW_FUNC('pipeline_execution_summary_cd', 'unix_now_in_millis', replace_if_exists => TRUE);
+
+SELECT SET_INTEGER_NOW_FUNC('service_infra_info', 'unix_now_in_millis', replace_if_exists => TRUE);
+
+COMMIT;
+
+BEGIN;
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS pipeline_execution_summary_cd_daily
+WITH (timescaledb.continuous, timescaledb.materialized_only = FALSE) AS
+SELECT TIME_BUCKET(BIGINT '86400000', startts) AS bucket, accountid, orgidentifier, projectidentifier, status,
+    COUNT(*) AS deployments
+FROM pipeline_execution_summary_cd
+GROUP BY bucket, accountid, orgidentifier, projectidentifier, status
+WITH NO DATA;
+
+-- Service deployments by service and environment. Rows carry the scope of the execution they belong to.
+CREATE MATERIALIZED VIEW IF NOT EXISTS service_infra_info_daily
+WITH (timescaledb.continuous, timescaledb.materialized_only = FALSE) AS
+SELECT TIME_BUCKET(BIGINT '86400000', service_startts) AS bucket, accountid, orgidentifier, projectidentifier,
+    service_id, env_id, service_status, COUNT(*) AS deployments
+FROM service_infra_info
+WHERE service_id IS NOT NULL
+GROUP BY bucket, accountid, orgidentifier, projectidentifier, service_id, env_id, service_status
+WITH NO DATA;
+
+COMMIT;
+
+-- The two most recent days are left to real time aggregation over the raw rows, executions there still change status.
+BEGIN;
+
+SELECT ADD_CONTINUOUS_AGGREGATE_POLICY('pipeline_execution_summary_cd_daily', start_offset => NULL,
+    end_offset => BIGINT '172800000', schedule_interval => INTERVAL '1 hour', if_not_exists => TRUE);
+
+CREATE INDEX IF NOT EXISTS pipeline_execution_summary_cd_daily_scope_idx
+    ON pipeline_execution_summary_cd_daily (accountid, orgidentifier, projectidentifier, bucket DESC);
+
+SELECT ADD_CONTINUOUS_AGGREGATE_POLICY('service_infra_info_daily', start_offset => NULL,
+    end_offset => BIGINT '172800000', schedule_interval => INTERVAL '1 hour', if_not_exists => TRUE);
+
+CREATE INDEX IF NOT EXISTS service_infra_info_daily_scope_idx
+    ON service_infra_info_daily (accountid, orgidentifier, projectidentifier, service_id, env_id, bucket DESC);
+
+COMMIT;
+---------- CD DASHBOARD DAILY AGGREGATES END ------------
@@ -7,15 +7,22 @@
 
 package io.harness.ng.overview;
 
+import static io.harness.NGDateUtils.DAY_IN_MS;
 import static io.harness.ng.core.activityhistory.dto.TimeGroupType.DAY;
 import static io.harness.ng.overview.service.CDOverviewDashboardServiceImpl.INVALID_CHANGE_RATE;
 import static io.harness.rule.OwnerRule.MEENAKSHI;
 import static io.harness.rule.OwnerRule.PRASHANTSHARMA;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
@@ -57,10 +64,12 @@ import io.harness.timescaledb.TimeScaleDBService;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import lombok.Value;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Before;
@@ -232,6 +241,122 @@ public class CDDashboardApisTest extends CategoryTest {
     assertThat(expectedHealthDeploymentDashboard).isEqualTo(healthDeploymentDashboard);
   }
 
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testDailyAggregateQueryHasPredicatesOfRawQuery() {
+    long startInterval = 1619136000000L;
+    long endInterval = startInterval + 7 * DAY_IN_MS;
+
+    assertThat(cdOverviewDashboardServiceImpl.queryBuilderSelectStatusTime(
+                   "acc", "org", "pro", startInterval, endInterval))
+        .isEqualTo("select status,startts from pipeline_execution_summary_cd where accountid='acc' and "
+            + "orgidentifier='org' and projectidentifier='pro' and startts is not null and startts>=1619136000000 and "
+            + "startts<1619740800000;");
+    assertThat(cdOverviewDashboardServiceImpl.queryBuilderDailyStatusCount("acc", "org", "pro"))
+        .isEqualTo("select status, bucket as time_entity, sum(deployments) as deployments from "
+            + "pipeline_execution_summary_cd_daily where accountid=? and orgidentifier=? and projectidentifier=? and "
+            + "bucket>=? and bucket<? group by status, bucket;");
+
+    assertThat(cdOverviewDashboardServiceImpl.queryBuilderSelectStatusTime(
+                   "acc", null, null, startInterval, endInterval))
+        .isEqualTo("select status,startts from pipeline_execution_summary_cd where accountid='acc' and "
+            + "startts is not null and startts>=1619136000000 and startts<1619740800000;");
+    assertThat(cdOverviewDashboardServiceImpl.queryBuilderDailyStatusCount("acc", null, null))
+        .isEqualTo("select status, bucket as time_entity, sum(deployments) as deployments from "
+            + "pipeline_execution_summary_cd_daily where accountid=? and bucket>=? and bucket<? group by status, "
+            + "bucket;");
+
+    assertThat(cdOverviewDashboardServiceImpl.queryBuilderDailyServiceDeployments("acc", "org", "pro", "svc", 2))
+        .isEqualTo("select service_status as status, time_bucket(172800000, bucket) as time_entity, "
+            + "sum(deployments) as deployments from service_infra_info_daily where accountid=? and orgidentifier=? "
+            + "and projectidentifier=? and service_id=? and bucket>=? and bucket<? and service_status != '' group by "
+            + "status, time_entity;");
+  }
+
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testDashboardRowsAreCachedPerScopeAndRange() {
+    long startInterval = 1619136000000L;
+    long endInterval = startInterval + 7 * DAY_IN_MS;
+    TimeAndStatusDeployment dailyAggregate = TimeAndStatusDeployment.builder()
+                                                 .time(Arrays.asList(startInterval))
+                                                 .status(Arrays.asList(ExecutionStatus.SUCCESS.name()))
+                                                 .count(Arrays.asList(3L))
+                                                 .build();
+    doReturn(dailyAggregate)
+        .when(cdOverviewDashboardServiceImpl)
+        .queryCalculatorDailyStatusCount(any(), any(), any(), any(), anyLong(), anyLong());
+
+    ExecutionDeploymentInfo first =
+        cdOverviewDashboardServiceImpl.getExecutionDeploymentDashboard("acc", "org", "pro", startInterval, endInterval);
+    ExecutionDeploymentInfo second =
+        cdOverviewDashboardServiceImpl.getExecutionDeploymentDashboard("acc", "org", "pro", startInterval, endInterval);
+    cdOverviewDashboardServiceImpl.getExecutionDeploymentDashboard("acc", "org", "pro2", startInterval, endInterval);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(first.getExecutionDeploymentList().get(0).getDeployments().getTotal()).isEqualTo(3);
+    verify(cdOverviewDashboardServiceImpl, times(2))
+        .queryCalculatorDailyStatusCount(any(), any(), any(), any(), anyLong(), anyLong());
+  }
+
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testDailyAggregatesAndRawRowsGiveSameDashboards() {
+    long previousStartInterval = 1619136000000L;
+    long startInterval = previousStartInterval + 7 * DAY_IN_MS;
+    long endInterval = startInterval + 7 * DAY_IN_MS;
+    List<SeededExecution> executions = seedExecutions(previousStartInterval, endInterval);
+    List<String> envTypes = Arrays.asList(EnvironmentType.Production.name(), EnvironmentType.PreProduction.name());
+
+    // Reads the daily aggregates, as the continuous aggregates would return them for the seeded executions
+    CDOverviewDashboardServiceImpl aggregateService = spy(new CDOverviewDashboardServiceImpl());
+    doReturn(countByBucketAndStatus(executions, DAY_IN_MS))
+        .when(aggregateService)
+        .queryCalculatorDailyStatusCount(any(), any(), any(), any(), anyLong(), anyLong());
+    doReturn(envTypes).when(aggregateService).queryCalculatorEnvType(anyString());
+
+    // The aggregates are not available, so the same executions are read from the raw rows
+    CDOverviewDashboardServiceImpl rawService = spy(new CDOverviewDashboardServiceImpl());
+    doReturn(null).when(rawService).queryCalculatorDailyStatusCount(any(), any(), any(), any(), anyLong(), anyLong());
+    doReturn(null)
+        .when(rawService)
+        .queryCalculatorDailyServiceDeployments(any(), any(), any(), any(), any(), anyLong(), anyLong());
+    doReturn(TimeAndStatusDeployment.builder()
+                 .status(executions.stream().map(SeededExecution::getStatus).collect(Collectors.toList()))
+                 .time(executions.stream().map(SeededExecution::getStartTs).collect(Collectors.toList()))
+                 .build())
+        .when(rawService)
+        .queryCalculatorTimeAndStatus(anyString());
+    doReturn(envTypes).when(rawService).queryCalculatorEnvType(anyString());
+
+    assertThat(aggregateService.getHealthDeploymentDashboard(
+                   "acc", "org", "pro", startInterval, endInterval, previousStartInterval))
+        .isEqualTo(rawService.getHealthDeploymentDashboard(
+            "acc", "org", "pro", startInterval, endInterval, previousStartInterval));
+    assertThat(aggregateService.getExecutionDeploymentDashboard("acc", "org", "pro", startInterval, endInterval))
+        .isEqualTo(rawService.getExecutionDeploymentDashboard("acc", "org", "pro", startInterval, endInterval));
+
+    for (long bucketSizeInDays : new long[] {1, 2}) {
+      doReturn(countByBucketAndStatus(executions, bucketSizeInDays * DAY_IN_MS))
+          .when(rawService)
+          .queryCalculatorServiceDeployments(anyString());
+      doReturn(rebucketDailyServiceRows(executions, bucketSizeInDays * DAY_IN_MS))
+          .when(aggregateService)
+          .queryCalculatorDailyServiceDeployments(any(), any(), any(), any(), any(), anyLong(), anyLong());
+
+      assertThat(aggregateService.getServiceDeployments(
+                     "acc", "org", "pro", previousStartInterval, endInterval, "svc", bucketSizeInDays))
+          .isEqualTo(rawService.getServiceDeployments(
+              "acc", "org", "pro", previousStartInterval, endInterval, "svc", bucketSizeInDays));
+    }
+
+    verify(aggregateService, never()).queryCalculatorTimeAndStatus(anyString());
+    verify(aggregateService, never()).queryCalculatorServiceDeployments(anyString());
+  }
+
   @Test
   @Owner(developers = PRASHANTSHARMA)
   @Category(UnitTests.class)
@@ -1082,4 +1207,64 @@ public class CDDashboardApisTest extends CategoryTest {
 
     assertThat(expectedResult).isEqualTo(dashboardExecutionStatusInfo);
   }
+
+  // Executions of one service over two environments, a few a day with every kind of status
+  private static List<SeededExecution> seedExecutions(long startInterval, long endInterval) {
+    List<String> statuses = Arrays.asList(ExecutionStatus.SUCCESS.name(), ExecutionStatus.FAILED.name(),
+        ExecutionStatus.RUNNING.name(), ExecutionStatus.ABORTED.name(), ExecutionStatus.IGNOREFAILED.name(),
+        ExecutionStatus.EXPIRED.name(), ExecutionStatus.APPROVALWAITING.name());
+    List<SeededExecution> executions = new ArrayList<>();
+    int day = 0;
+    for (long dayStart = startInterval; dayStart < endInterval; dayStart += DAY_IN_MS, day++) {
+      for (int i = 0; i <= day % 4; i++) {
+        executions.add(new SeededExecution(statuses.get((day + i) % statuses.size()),
+            dayStart + i * 3 * 3600000L + 1000L, i % 2 == 0 ? "env1" : "env2"));
+      }
+    }
+    return executions;
+  }
+
+  // What a query grouping the executions by time bucket and status returns
+  private static TimeAndStatusDeployment countByBucketAndStatus(List<SeededExecution> executions, long bucketSizeInMs) {
+    Map<Pair<Long, String>, Long> counts = new LinkedHashMap<>();
+    for (SeededExecution execution : executions) {
+      long bucket = Math.floorDiv(execution.getStartTs(), bucketSizeInMs) * bucketSizeInMs;
+      counts.merge(Pair.of(bucket, execution.getStatus()), 1L, Long::sum);
+    }
+    return toTimeAndStatusDeployment(counts);
+  }
+
+  /*
+    What the query over service_infra_info_daily returns: the aggregate keeps a row per day, environment and status,
+    the query sums them into buckets of the requested size.
+  */
+  private static TimeAndStatusDeployment rebucketDailyServiceRows(
+      List<SeededExecution> executions, long bucketSizeInMs) {
+    Map<List<Object>, Long> dailyRows = new LinkedHashMap<>();
+    for (SeededExecution execution : executions) {
+      long day = Math.floorDiv(execution.getStartTs(), DAY_IN_MS) * DAY_IN_MS;
+      dailyRows.merge(Arrays.asList(day, execution.getEnvId(), execution.getStatus()), 1L, Long::sum);
+    }
+    Map<Pair<Long, String>, Long> counts = new LinkedHashMap<>();
+    dailyRows.forEach((row, deployments) -> {
+      long bucket = Math.floorDiv((long) row.get(0), bucketSizeInMs) * bucketSizeInMs;
+      counts.merge(Pair.of(bucket, (String) row.get(2)), deployments, Long::sum);
+    });
+    return toTimeAndStatusDeployment(counts);
+  }
+
+  private static TimeAndStatusDeployment toTimeAndStatusDeployment(Map<Pair<Long, String>, Long> counts) {
+    return TimeAndStatusDeployment.builder()
+        .time(counts.keySet().stream().map(Pair::getLeft).collect(Collectors.toList()))
+        .status(counts.keySet().stream().map(Pair::getRight).collect(Collectors.toList()))
+        .count(new ArrayList<>(counts.values()))
+        .build();
+  }
+
+  @Value
+  private static class SeededExecution {
+    String status;
+    long startTs;
+    String envId;
+  }
 }
@@ -7,6 +7,7 @@
 
 package io.harness.gitsync;
 
+import static io.harness.gitsync.common.WebhookEventConstants.GIT_BRANCH_HEAD_INVALIDATION_CONSUMER;
 import static io.harness.ng.DbAliases.NG_MANAGER;
 
 import io.harness.annotations.dev.HarnessTeam;
@@ -16,6 +17,7 @@ import io.harness.eventsframework.EventsFrameworkConstants;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.impl.noop.NoOpConsumer;
 import io.harness.eventsframework.impl.redis.RedisConsumer;
+import io.harness.network.Localhost;
 import io.harness.redis.RedisConfig;
 import io.harness.redis.RedissonClientFactory;
 
@@ -37,6 +39,10 @@ public abstract class AbstractGitSyncModule extends AbstractModule {
           .annotatedWith(Names.named(EventsFrameworkConstants.GIT_BRANCH_HOOK_EVENT_STREAM))
           .toInstance(
               NoOpConsumer.of(EventsFrameworkConstants.DUMMY_TOPIC_NAME, EventsFrameworkConstants.DUMMY_GROUP_NAME));
+      bind(Consumer.class)
+          .annotatedWith(Names.named(GIT_BRANCH_HEAD_INVALIDATION_CONSUMER))
+          .toInstance(
+              NoOpConsumer.of(EventsFrameworkConstants.DUMMY_TOPIC_NAME, EventsFrameworkConstants.DUMMY_GROUP_NAME));
     } else {
       RedissonClient redissonClient = RedissonClientFactory.getClient(redisConfig);
       bind(Consumer.class)
@@ -49,6 +55,13 @@ public abstract class AbstractGitSyncModule extends AbstractModule {
           .toInstance(RedisConsumer.of(EventsFrameworkConstants.GIT_BRANCH_HOOK_EVENT_STREAM, NG_MANAGER,
               redissonClient, EventsFrameworkConstants.GIT_BRANCH_HOOK_EVENT_STREAM_MAX_PROCESSING_TIME,
               EventsFrameworkConstants.GIT_BRANCH_HOOK_EVENT_STREAM_BATCH_SIZE, redisConfig.getEnvNamespace()));
+      // A consumer group of its own on every pod, so that each pod sees every push and drops its branch heads
+      bind(Consumer.class)
+          .annotatedWith(Names.named(GIT_BRANCH_HEAD_INVALIDATION_CONSUMER))
+          .toInstance(RedisConsumer.of(EventsFrameworkConstants.GIT_PUSH_EVENT_STREAM,
+              NG_MANAGER + "-branch-heads-" + Localhost.getLocalHostName(), redissonClient,
+              EventsFrameworkConstants.GIT_PUSH_EVENT_STREAM_MAX_PROCESSING_TIME,
+              EventsFrameworkConstants.GIT_PUSH_EVENT_STREAM_BATCH_SIZE, redisConfig.getEnvNamespace()));
     }
   }
 
@@ -17,6 +17,9 @@ import lombok.Getter;
 public enum GitFileCacheTTL {
   VALID_CACHE_DURATION(5 * 60 * 1000L),
   MAX_CACHE_DURATION(60 * 60 * 1000L),
+  // Content at a commit never changes, this only bounds how long unused entries are kept
+  COMMIT_CACHE_DURATION(7 * 24 * 60 * 60 * 1000L),
+  BRANCH_HEAD_CACHE_DURATION(60 * 1000L),
   ;
 
   final long durationInMs;
@@ -21,6 +21,9 @@ import lombok.experimental.FieldDefaults;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class GitFileCacheKey {
   String accountIdentifier;
+  String orgIdentifier;
+  String projectIdentifier;
+  String connectorRef;
   GitProvider gitProvider;
   String repoName;
   String ref;
@@ -42,6 +42,10 @@ public class GitFileCacheTTLHelper {
     return Date.from(Instant.ofEpochMilli(currentTime + GitFileCacheTTL.MAX_CACHE_DURATION.getDurationInMs()));
   }
 
+  public Date getCommitCacheValidUntilTime(long currentTime) {
+    return Date.from(Instant.ofEpochMilli(currentTime + GitFileCacheTTL.COMMIT_CACHE_DURATION.getDurationInMs()));
+  }
+
   private boolean isExpiredCache(long validUntil, long currentTime) {
     return validUntil - currentTime < 0;
   }
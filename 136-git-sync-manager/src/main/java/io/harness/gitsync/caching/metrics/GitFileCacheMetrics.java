@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.caching.metrics;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.gitsync.caching.beans.GitProvider;
+
+import com.google.inject.Singleton;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Value;
+
+/**
+ * Counts git file cache hits, misses and the SCM calls they saved, per git provider. Counters are read and reset by
+ * {@link GitFileCacheMetricsPublisher} on every publish, so each snapshot covers one publish interval.
+ */
+@Singleton
+@OwnedBy(HarnessTeam.PIPELINE)
+public class GitFileCacheMetrics {
+  private final Map<GitProvider, ProviderCounters> counters = new EnumMap<>(GitProvider.class);
+
+  public GitFileCacheMetrics() {
+    for (GitProvider gitProvider : GitProvider.values()) {
+      counters.put(gitProvider, new ProviderCounters());
+    }
+  }
+
+  public void recordHit(GitProvider gitProvider) {
+    ProviderCounters providerCounters = getCounters(gitProvider);
+    providerCounters.hits.increment();
+    providerCounters.scmCallsSaved.increment();
+  }
+
+  public void recordMiss(GitProvider gitProvider) {
+    getCounters(gitProvider).misses.increment();
+  }
+
+  public void recordScmCallsSaved(GitProvider gitProvider, long scmCallsSaved) {
+    if (scmCallsSaved > 0) {
+      getCounters(gitProvider).scmCallsSaved.add(scmCallsSaved);
+    }
+  }
+
+  public Map<GitProvider, Snapshot> snapshotAndReset() {
+    Map<GitProvider, Snapshot> snapshots = new EnumMap<>(GitProvider.class);
+    counters.forEach((gitProvider, providerCounters) -> {
+      Snapshot snapshot = new Snapshot(providerCounters.hits.sumThenReset(), providerCounters.misses.sumThenReset(),
+          providerCounters.scmCallsSaved.sumThenReset());
+      if (snapshot.getLookups() > 0 || snapshot.getScmCallsSaved() > 0) {
+        snapshots.put(gitProvider, snapshot);
+      }
+    });
+    return snapshots;
+  }
+
+  private ProviderCounters getCounters(GitProvider gitProvider) {
+    return counters.get(gitProvider == null ? GitProvider.UNKNOWN : gitProvider);
+  }
+
+  private static class ProviderCounters {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder scmCallsSaved = new LongAdder();
+  }
+
+  @Value
+  public static class Snapshot {
+    long hits;
+    long misses;
+    long scmCallsSaved;
+
+    public long getLookups() {
+      return hits + misses;
+    }
+
+    public double getHitRatio() {
+      return getLookups() == 0 ? 0 : (double) hits / getLookups();
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.caching.metrics;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.metrics.service.api.MetricsPublisher;
+
+import com.google.inject.Inject;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class GitFileCacheMetricsPublisher implements MetricsPublisher {
+  public static final String GIT_FILE_CACHE_HIT_RATIO = "git_file_cache_hit_ratio";
+  public static final String GIT_FILE_CACHE_LOOKUPS = "git_file_cache_lookups";
+  public static final String GIT_FILE_CACHE_SCM_CALLS_SAVED = "git_file_cache_scm_calls_saved";
+
+  private final GitFileCacheMetrics gitFileCacheMetrics;
+  private final MetricService metricService;
+
+  @Inject
+  public GitFileCacheMetricsPublisher(GitFileCacheMetrics gitFileCacheMetrics, MetricService metricService) {
+    this.gitFileCacheMetrics = gitFileCacheMetrics;
+    this.metricService = metricService;
+  }
+
+  @Override
+  public void recordMetrics() {
+    gitFileCacheMetrics.snapshotAndReset().forEach((gitProvider, snapshot) -> {
+      try (GitFileCacheMetricsContext ignored = new GitFileCacheMetricsContext(gitProvider.name())) {
+        metricService.recordMetric(GIT_FILE_CACHE_HIT_RATIO, snapshot.getHitRatio());
+        metricService.recordMetric(GIT_FILE_CACHE_LOOKUPS, snapshot.getLookups());
+        metricService.recordMetric(GIT_FILE_CACHE_SCM_CALLS_SAVED, snapshot.getScmCallsSaved());
+      }
+    });
+  }
+}
@@ -20,4 +20,26 @@ public interface GitFileCacheService {
   GitFileCacheResponse upsertCache(GitFileCacheKey gitFileCacheKey, GitFileCacheObject gitFileCacheObject);
 
   void invalidateCache(GitFileCacheKey gitFileCacheKey);
+
+  /**
+   * Content of a file at a commit never changes, so entries fetched by commit id are never stale. The ref of the key is
+   * ignored.
+   */
+  GitFileCacheObject fetchFromCacheByCommit(GitFileCacheKey gitFileCacheKey, String commitId);
+
+  void upsertCacheByCommit(GitFileCacheKey gitFileCacheKey, String commitId, GitFileCacheObject gitFileCacheObject);
+
+  /**
+   * Returns the head commit of the branch of the key if it was resolved on this pod recently, null otherwise. Heads are
+   * kept per scope, git provider and connector, as the same repo name can point to different repos across connectors.
+   */
+  String getBranchHeadCommitId(GitFileCacheKey gitFileCacheKey);
+
+  void updateBranchHeadCommitId(GitFileCacheKey gitFileCacheKey, String commitId);
+
+  /**
+   * Drops the head of the branch for every scope and connector of the repo in the account. Push webhooks do not carry
+   * the scope or connector of the file, so they can only invalidate heads, not set them.
+   */
+  void invalidateBranchHeads(String accountIdentifier, String repoName, String branch);
 }
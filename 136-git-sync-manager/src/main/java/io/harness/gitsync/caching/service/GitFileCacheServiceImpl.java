@@ -7,29 +7,207 @@
 
 package io.harness.gitsync.caching.service;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.gitsync.caching.GitFileCacheTTL;
 import io.harness.gitsync.caching.beans.CacheDetails;
 import io.harness.gitsync.caching.beans.GitFileCacheKey;
 import io.harness.gitsync.caching.beans.GitFileCacheObject;
 import io.harness.gitsync.caching.beans.GitFileCacheResponse;
+import io.harness.gitsync.caching.beans.GitProvider;
 import io.harness.gitsync.caching.entity.GitFileCache;
 import io.harness.gitsync.caching.entity.GitFileCache.GitFileCacheKeys;
 import io.harness.gitsync.caching.helper.GitFileCacheTTLHelper;
 import io.harness.gitsync.caching.mapper.GitFileCacheObjectMapper;
 import io.harness.gitsync.caching.mapper.GitProviderMapper;
+import io.harness.gitsync.caching.metrics.GitFileCacheMetrics;
 import io.harness.repositories.gitfilecache.GitFileCacheRepository;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Update;
 
+/**
+ * Git file cache with two tiers. Files fetched at a known commit are stored by commit id, in memory and in mongo, and
+ * never go stale. Branch refs are resolved to commit ids through an in memory map of branch heads, filled when a head
+ * is fetched from the git provider. The map is per pod, every pod reads the push webhooks with a consumer group of its
+ * own and drops the heads of the pushed branch. Entries also expire after BRANCH_HEAD_CACHE_DURATION, which bounds the
+ * staleness when a push event is missed. A ref that can not be resolved falls back to the ref keyed entries.
+ */
+@Singleton
 @OwnedBy(HarnessTeam.PIPELINE)
 public class GitFileCacheServiceImpl implements GitFileCacheService {
+  // ':' is not allowed in git ref names, so commit keyed entries can never collide with branch keyed ones
+  private static final String COMMIT_REF_PREFIX = "commit:";
+  private static final long MAX_COMMIT_CACHE_WEIGHT = 64L * 1024 * 1024;
+  private static final long MAX_BRANCH_HEADS = 10000L;
+
   @Inject GitFileCacheRepository gitFileCacheRepository;
+  @Inject GitFileCacheMetrics gitFileCacheMetrics;
+
+  private final Cache<CommitFileKey, GitFileCacheObject> commitFileCache =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_COMMIT_CACHE_WEIGHT)
+          .weigher((CommitFileKey key, GitFileCacheObject value)
+                       -> value.getFileContent() == null ? 1 : value.getFileContent().length() + 1)
+          .expireAfterAccess(1, TimeUnit.HOURS)
+          .build();
+  private final Cache<BranchKey, BranchHead> branchHeadCache =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_BRANCH_HEADS)
+          .expireAfterWrite(GitFileCacheTTL.BRANCH_HEAD_CACHE_DURATION.getDurationInMs(), MILLISECONDS)
+          .build();
 
   @Override
   public GitFileCacheResponse fetchFromCache(GitFileCacheKey gitFileCacheKey) {
+    GitFileCacheResponse gitFileCacheResponse = fetchFromBranchHead(gitFileCacheKey);
+    if (gitFileCacheResponse == null) {
+      gitFileCacheResponse = fetchFromRefCache(gitFileCacheKey);
+    }
+    if (gitFileCacheResponse == null) {
+      gitFileCacheMetrics.recordMiss(gitFileCacheKey.getGitProvider());
+    } else {
+      gitFileCacheMetrics.recordHit(gitFileCacheKey.getGitProvider());
+    }
+    return gitFileCacheResponse;
+  }
+
+  @Override
+  public GitFileCacheResponse upsertCache(GitFileCacheKey gitFileCacheKey, GitFileCacheObject gitFileCacheObject) {
+    String branchHeadCommitId = getBranchHeadCommitId(gitFileCacheKey);
+    if (branchHeadCommitId != null && branchHeadCommitId.equals(gitFileCacheObject.getCommitId())) {
+      upsertCacheByCommit(gitFileCacheKey, branchHeadCommitId, gitFileCacheObject);
+    }
+
+    Criteria criteria = getCriteria(gitFileCacheKey, gitFileCacheKey.getRef());
+    Update update = getUpsertOperationUpdates(gitFileCacheKey, gitFileCacheKey.getRef(), gitFileCacheObject,
+        GitFileCacheTTLHelper.getValidUntilTime(System.currentTimeMillis()));
+    GitFileCache gitFileCache = gitFileCacheRepository.upsert(criteria, update);
+
+    CacheDetails cacheDetails =
+        GitFileCacheTTLHelper.getCacheDetails(gitFileCache.getLastUpdatedAt(), gitFileCache.getValidUntil().getTime());
+    return GitFileCacheResponse.builder()
+        .cacheDetails(cacheDetails)
+        .gitFileCacheObject(GitFileCacheObjectMapper.fromEntity(gitFileCache.getGitFileObject()))
+        .build();
+  }
+
+  @Override
+  public void invalidateCache(GitFileCacheKey gitFileCacheKey) {
+    BranchKey branchKey = toBranchKey(gitFileCacheKey);
+    if (branchKey != null) {
+      branchHeadCache.invalidate(branchKey);
+      gitFileCacheRepository.deleteByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
+          gitFileCacheKey.getAccountIdentifier(), GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()),
+          gitFileCacheKey.getRepoName(), gitFileCacheKey.getRef(), gitFileCacheKey.getCompleteFilePath());
+    }
+    if (gitFileCacheKey.isDefaultBranch()) {
+      gitFileCacheRepository.deleteByAccountIdentifierAndGitProviderAndRepoNameAndCompleteFilepathAndIsDefaultBranch(
+          gitFileCacheKey.getAccountIdentifier(), GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()),
+          gitFileCacheKey.getRepoName(), gitFileCacheKey.getCompleteFilePath(), true);
+    }
+  }
+
+  @Override
+  public GitFileCacheObject fetchFromCacheByCommit(GitFileCacheKey gitFileCacheKey, String commitId) {
+    GitFileCacheObject gitFileCacheObject = lookupByCommit(gitFileCacheKey, commitId);
+    if (gitFileCacheObject == null) {
+      gitFileCacheMetrics.recordMiss(gitFileCacheKey.getGitProvider());
+    } else {
+      gitFileCacheMetrics.recordHit(gitFileCacheKey.getGitProvider());
+    }
+    return gitFileCacheObject;
+  }
+
+  private GitFileCacheObject lookupByCommit(GitFileCacheKey gitFileCacheKey, String commitId) {
+    if (isEmpty(commitId)) {
+      return null;
+    }
+    CommitFileKey commitFileKey = toCommitFileKey(gitFileCacheKey, commitId);
+    GitFileCacheObject gitFileCacheObject = commitFileCache.getIfPresent(commitFileKey);
+    if (gitFileCacheObject != null) {
+      return gitFileCacheObject;
+    }
+
+    GitFileCache gitFileCache =
+        gitFileCacheRepository.findByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
+            gitFileCacheKey.getAccountIdentifier(), GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()),
+            gitFileCacheKey.getRepoName(), COMMIT_REF_PREFIX + commitId, gitFileCacheKey.getCompleteFilePath());
+    if (gitFileCache == null || gitFileCache.getValidUntil().getTime() < System.currentTimeMillis()) {
+      return null;
+    }
+    gitFileCacheObject = GitFileCacheObjectMapper.fromEntity(gitFileCache.getGitFileObject());
+    commitFileCache.put(commitFileKey, gitFileCacheObject);
+    return gitFileCacheObject;
+  }
+
+  @Override
+  public void upsertCacheByCommit(
+      GitFileCacheKey gitFileCacheKey, String commitId, GitFileCacheObject gitFileCacheObject) {
+    if (isEmpty(commitId)) {
+      return;
+    }
+    commitFileCache.put(toCommitFileKey(gitFileCacheKey, commitId), gitFileCacheObject);
+    String ref = COMMIT_REF_PREFIX + commitId;
+    gitFileCacheRepository.upsert(getCriteria(gitFileCacheKey, ref),
+        getUpsertOperationUpdates(gitFileCacheKey, ref, gitFileCacheObject,
+            GitFileCacheTTLHelper.getCommitCacheValidUntilTime(System.currentTimeMillis())));
+  }
+
+  @Override
+  public String getBranchHeadCommitId(GitFileCacheKey gitFileCacheKey) {
+    BranchKey branchKey = toBranchKey(gitFileCacheKey);
+    if (branchKey == null) {
+      return null;
+    }
+    BranchHead branchHead = branchHeadCache.getIfPresent(branchKey);
+    return branchHead == null ? null : branchHead.getCommitId();
+  }
+
+  @Override
+  public void updateBranchHeadCommitId(GitFileCacheKey gitFileCacheKey, String commitId) {
+    BranchKey branchKey = toBranchKey(gitFileCacheKey);
+    if (branchKey == null || isEmpty(commitId)) {
+      return;
+    }
+    branchHeadCache.put(branchKey, new BranchHead(commitId, System.currentTimeMillis()));
+  }
+
+  @Override
+  public void invalidateBranchHeads(String accountIdentifier, String repoName, String branch) {
+    branchHeadCache.asMap().keySet().removeIf(branchKey
+        -> branchKey.getAccountIdentifier().equals(accountIdentifier) && branchKey.getRepoName().equals(repoName)
+            && branchKey.getBranch().equals(branch));
+  }
+
+  private GitFileCacheResponse fetchFromBranchHead(GitFileCacheKey gitFileCacheKey) {
+    BranchKey branchKey = toBranchKey(gitFileCacheKey);
+    BranchHead branchHead = branchKey == null ? null : branchHeadCache.getIfPresent(branchKey);
+    if (branchHead == null) {
+      return null;
+    }
+    GitFileCacheObject gitFileCacheObject = lookupByCommit(gitFileCacheKey, branchHead.getCommitId());
+    if (gitFileCacheObject == null) {
+      return null;
+    }
+    return GitFileCacheResponse.builder()
+        .cacheDetails(GitFileCacheTTLHelper.getCacheDetails(branchHead.getUpdatedAt(),
+            branchHead.getUpdatedAt() + GitFileCacheTTL.MAX_CACHE_DURATION.getDurationInMs()))
+        .gitFileCacheObject(gitFileCacheObject)
+        .build();
+  }
+
+  private GitFileCacheResponse fetchFromRefCache(GitFileCacheKey gitFileCacheKey) {
     GitFileCache gitFileCache;
     if (gitFileCacheKey.isDefaultBranch()) {
       gitFileCache =
@@ -57,43 +235,27 @@ public class GitFileCacheServiceImpl implements GitFileCacheService {
         .build();
   }
 
-  @Override
-  public GitFileCacheResponse upsertCache(GitFileCacheKey gitFileCacheKey, GitFileCacheObject gitFileCacheObject) {
-    Criteria criteria = getCriteria(gitFileCacheKey);
-    Update update = getUpsertOperationUpdates(gitFileCacheKey, gitFileCacheObject);
-    GitFileCache gitFileCache = gitFileCacheRepository.upsert(criteria, update);
-
-    CacheDetails cacheDetails =
-        GitFileCacheTTLHelper.getCacheDetails(gitFileCache.getLastUpdatedAt(), gitFileCache.getValidUntil().getTime());
-    return GitFileCacheResponse.builder()
-        .cacheDetails(cacheDetails)
-        .gitFileCacheObject(GitFileCacheObjectMapper.fromEntity(gitFileCache.getGitFileObject()))
-        .build();
-  }
-
-  @Override
-  public void invalidateCache(GitFileCacheKey gitFileCacheKey) {}
-
-  private Update getUpsertOperationUpdates(GitFileCacheKey gitFileCacheKey, GitFileCacheObject gitFileCacheObject) {
+  private Update getUpsertOperationUpdates(
+      GitFileCacheKey gitFileCacheKey, String ref, GitFileCacheObject gitFileCacheObject, Date validUntil) {
     long currentTime = System.currentTimeMillis();
     Update update = new Update();
     update.setOnInsert(GitFileCacheKeys.accountIdentifier, gitFileCacheKey.getAccountIdentifier());
     update.setOnInsert(GitFileCacheKeys.gitProvider, GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()));
     update.setOnInsert(GitFileCacheKeys.repoName, gitFileCacheKey.getRepoName());
-    update.setOnInsert(GitFileCacheKeys.ref, gitFileCacheKey.getRef());
+    update.setOnInsert(GitFileCacheKeys.ref, ref);
     update.setOnInsert(GitFileCacheKeys.completeFilepath, gitFileCacheKey.getCompleteFilePath());
     update.setOnInsert(GitFileCacheKeys.gitFileObject, GitFileCacheObjectMapper.toEntity(gitFileCacheObject));
     update.setOnInsert(GitFileCacheKeys.createdAt, currentTime);
-    update.set(GitFileCacheKeys.validUntil, GitFileCacheTTLHelper.getValidUntilTime(currentTime));
+    update.set(GitFileCacheKeys.validUntil, validUntil);
     update.set(GitFileCacheKeys.lastUpdatedAt, currentTime);
-    if (gitFileCacheKey.isDefaultBranch()) {
+    if (gitFileCacheKey.isDefaultBranch() && !ref.startsWith(COMMIT_REF_PREFIX)) {
       update.set(GitFileCacheKeys.isDefaultBranch, true);
     }
 
     return update;
   }
 
-  private Criteria getCriteria(GitFileCacheKey gitFileCacheKey) {
+  private Criteria getCriteria(GitFileCacheKey gitFileCacheKey, String ref) {
     return Criteria.where(GitFileCacheKeys.accountIdentifier)
         .is(gitFileCacheKey.getAccountIdentifier())
         .and(GitFileCacheKeys.gitProvider)
@@ -101,8 +263,49 @@ public class GitFileCacheServiceImpl implements GitFileCacheService {
         .and(GitFileCacheKeys.repoName)
         .is(gitFileCacheKey.getRepoName())
         .and(GitFileCacheKeys.ref)
-        .is(gitFileCacheKey.getRef())
+        .is(ref)
         .and(GitFileCacheKeys.completeFilepath)
         .is(gitFileCacheKey.getCompleteFilePath());
   }
+
+  private CommitFileKey toCommitFileKey(GitFileCacheKey gitFileCacheKey, String commitId) {
+    return new CommitFileKey(gitFileCacheKey.getAccountIdentifier(), gitFileCacheKey.getGitProvider(),
+        gitFileCacheKey.getRepoName(), commitId, gitFileCacheKey.getCompleteFilePath());
+  }
+
+  private BranchKey toBranchKey(GitFileCacheKey gitFileCacheKey) {
+    if (isEmpty(gitFileCacheKey.getAccountIdentifier()) || isEmpty(gitFileCacheKey.getRepoName())
+        || isEmpty(gitFileCacheKey.getRef())) {
+      return null;
+    }
+    return new BranchKey(gitFileCacheKey.getAccountIdentifier(), gitFileCacheKey.getOrgIdentifier(),
+        gitFileCacheKey.getProjectIdentifier(), gitFileCacheKey.getGitProvider(), gitFileCacheKey.getConnectorRef(),
+        gitFileCacheKey.getRepoName(), gitFileCacheKey.getRef());
+  }
+
+  @Value
+  private static class CommitFileKey {
+    String accountIdentifier;
+    GitProvider gitProvider;
+    String repoName;
+    String commitId;
+    String completeFilePath;
+  }
+
+  @Value
+  private static class BranchKey {
+    String accountIdentifier;
+    String orgIdentifier;
+    String projectIdentifier;
+    GitProvider gitProvider;
+    String connectorRef;
+    String repoName;
+    String branch;
+  }
+
+  @Value
+  private static class BranchHead {
+    String commitId;
+    long updatedAt;
+  }
 }
@@ -16,6 +16,7 @@ import lombok.experimental.UtilityClass;
 @OwnedBy(DX)
 @UtilityClass
 public class WebhookEventConstants {
+  public static final String GIT_BRANCH_HEAD_INVALIDATION_CONSUMER = "GitBranchHeadInvalidationConsumer";
   public static final String GIT_BRANCH_HOOK_EVENT = "GitBranchHookEvent";
   public static final String GIT_BRANCH_HOOK_EVENT_CONSUMER = "GitBranchHookEventConsumer";
   public static final String GIT_PUSH_EVENT = "GitPushEvent";
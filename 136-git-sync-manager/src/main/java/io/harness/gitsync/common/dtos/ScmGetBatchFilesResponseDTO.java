@@ -0,0 +1,28 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.common.dtos;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+public class ScmGetBatchFilesResponseDTO {
+  String branchName;
+  String commitId;
+  // Keyed by file path, files which could not be fetched are not present
+  Map<String, ScmGetFileResponseDTO> files;
+}
@@ -39,6 +39,8 @@ import io.harness.gitsync.CreatePRResponse;
 import io.harness.gitsync.ErrorDetails;
 import io.harness.gitsync.FileGitDetails;
 import io.harness.gitsync.FileInfo;
+import io.harness.gitsync.GetBatchFilesByBranchRequest;
+import io.harness.gitsync.GetBatchFilesByBranchResponse;
 import io.harness.gitsync.GetBranchHeadCommitRequest;
 import io.harness.gitsync.GetBranchHeadCommitResponse;
 import io.harness.gitsync.GetFileRequest;
@@ -68,6 +70,8 @@ import io.harness.gitsync.common.dtos.ScmCreatePRRequestDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRResponseDTO;
 import io.harness.gitsync.common.dtos.ScmFileContentTypeDTO;
 import io.harness.gitsync.common.dtos.ScmFileGitDetailsDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesByBranchRequestDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesResponseDTO;
 import io.harness.gitsync.common.dtos.ScmGetBranchHeadCommitRequestDTO;
 import io.harness.gitsync.common.dtos.ScmGetBranchHeadCommitResponseDTO;
 import io.harness.gitsync.common.dtos.ScmGetFileByBranchRequestDTO;
@@ -586,6 +590,68 @@ public class HarnessToGitHelperServiceImpl implements HarnessToGitHelperService
     }
   }
 
+  @Override
+  public GetBatchFilesByBranchResponse getBatchFilesByBranch(
+      GetBatchFilesByBranchRequest getBatchFilesByBranchRequest) {
+    try {
+      Scope scope =
+          ScopeIdentifierMapper.getScopeFromScopeIdentifiers(getBatchFilesByBranchRequest.getScopeIdentifiers());
+      getBatchFilesByBranchRequest.getFilePathsList().forEach(gitFilePathHelper::validateFilePath);
+      ScmGetBatchFilesResponseDTO scmGetBatchFilesResponseDTO = scmFacilitatorService.getBatchFilesByBranch(
+          ScmGetBatchFilesByBranchRequestDTO.builder()
+              .scope(scope)
+              .repoName(getBatchFilesByBranchRequest.getRepoName())
+              .branchName(getBatchFilesByBranchRequest.getBranchName())
+              .connectorRef(getBatchFilesByBranchRequest.getConnectorRef())
+              .filePaths(getBatchFilesByBranchRequest.getFilePathsList())
+              .useCache(getBatchFilesByBranchRequest.getCacheRequestParams().getUseCache())
+              .build());
+      return prepareGetBatchFilesByBranchResponse(getBatchFilesByBranchRequest, scmGetBatchFilesResponseDTO, scope);
+    } catch (WingsException ex) {
+      ScmException scmException = ScmExceptionUtils.getScmException(ex);
+      if (scmException == null) {
+        return GetBatchFilesByBranchResponse.newBuilder()
+            .setStatusCode(ex.getCode().getStatus().getCode())
+            .setError(prepareDefaultErrorDetails(ex))
+            .build();
+      }
+      return GetBatchFilesByBranchResponse.newBuilder()
+          .setStatusCode(ScmErrorCodeToHttpStatusCodeMapping.getHttpStatusCode(scmException.getCode()))
+          .setError(prepareErrorDetails(ex))
+          .build();
+    }
+  }
+
+  private GetBatchFilesByBranchResponse prepareGetBatchFilesByBranchResponse(
+      GetBatchFilesByBranchRequest getBatchFilesByBranchRequest,
+      ScmGetBatchFilesResponseDTO scmGetBatchFilesResponseDTO, Scope scope) {
+    GitRepositoryDTO gitRepositoryDTO =
+        GitRepositoryDTO.builder().name(getBatchFilesByBranchRequest.getRepoName()).build();
+    ScmConnector scmConnector = gitSyncConnectorHelper.getScmConnectorForGivenRepo(scope.getAccountIdentifier(),
+        scope.getOrgIdentifier(), scope.getProjectIdentifier(), getBatchFilesByBranchRequest.getConnectorRef(),
+        getBatchFilesByBranchRequest.getRepoName());
+    GetBatchFilesByBranchResponse.Builder responseBuilder =
+        GetBatchFilesByBranchResponse.newBuilder().setStatusCode(HTTP_200);
+    scmGetBatchFilesResponseDTO.getFiles().forEach(
+        (filePath, scmGetFileResponseDTO)
+            -> responseBuilder.putFiles(filePath,
+                GetFileResponse.newBuilder()
+                    .setStatusCode(HTTP_200)
+                    .setFileContent(scmGetFileResponseDTO.getFileContent())
+                    .setGitMetaData(
+                        GitMetaData.newBuilder()
+                            .setRepoName(getBatchFilesByBranchRequest.getRepoName())
+                            .setBranchName(scmGetFileResponseDTO.getBranchName())
+                            .setCommitId(scmGetFileResponseDTO.getCommitId())
+                            .setBlobId(scmGetFileResponseDTO.getBlobId())
+                            .setFilePath(filePath)
+                            .setFileUrl(scmConnector.getFileUrl(
+                                scmGetFileResponseDTO.getBranchName(), filePath, gitRepositoryDTO))
+                            .build())
+                    .build()));
+    return responseBuilder.build();
+  }
+
   private ListFilesResponse prepareListFilesResponse(ScmListFilesResponseDTO response) {
     return ListFilesResponse.newBuilder()
         .setStatusCode(HTTP_200)
@@ -34,6 +34,7 @@ import io.harness.gitsync.caching.beans.CacheDetails;
 import io.harness.gitsync.caching.beans.GitFileCacheKey;
 import io.harness.gitsync.caching.beans.GitFileCacheObject;
 import io.harness.gitsync.caching.beans.GitFileCacheResponse;
+import io.harness.gitsync.caching.metrics.GitFileCacheMetrics;
 import io.harness.gitsync.caching.service.GitFileCacheService;
 import io.harness.gitsync.common.beans.ScmApis;
 import io.harness.gitsync.common.dtos.ApiResponseDTO;
@@ -41,12 +42,15 @@ import io.harness.gitsync.common.dtos.CreateGitFileRequestDTO;
 import io.harness.gitsync.common.dtos.GetLatestCommitOnFileRequestDTO;
 import io.harness.gitsync.common.dtos.GitBranchDetailsDTO;
 import io.harness.gitsync.common.dtos.GitBranchesResponseDTO;
+import io.harness.gitsync.common.dtos.GitFileChangeDTO;
 import io.harness.gitsync.common.dtos.GitRepositoryResponseDTO;
 import io.harness.gitsync.common.dtos.ScmCommitFileResponseDTO;
 import io.harness.gitsync.common.dtos.ScmCreateFileRequestDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRRequestDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRResponseDTO;
 import io.harness.gitsync.common.dtos.ScmFileGitDetailsDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesByBranchRequestDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesResponseDTO;
 import io.harness.gitsync.common.dtos.ScmGetBranchHeadCommitRequestDTO;
 import io.harness.gitsync.common.dtos.ScmGetBranchHeadCommitResponseDTO;
 import io.harness.gitsync.common.dtos.ScmGetFileByBranchRequestDTO;
@@ -88,7 +92,9 @@ import com.google.inject.name.Named;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -104,18 +110,21 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
   NGFeatureFlagHelperService ngFeatureFlagHelperService;
   GitClientEnabledHelper gitClientEnabledHelper;
   GitFileCacheService gitFileCacheService;
+  GitFileCacheMetrics gitFileCacheMetrics;
 
   @Inject
   public ScmFacilitatorServiceImpl(GitSyncConnectorHelper gitSyncConnectorHelper,
       @Named("connectorDecoratorService") ConnectorService connectorService,
       ScmOrchestratorService scmOrchestratorService, NGFeatureFlagHelperService ngFeatureFlagHelperService,
-      GitClientEnabledHelper gitClientEnabledHelper, GitFileCacheService gitFileCacheService) {
+      GitClientEnabledHelper gitClientEnabledHelper, GitFileCacheService gitFileCacheService,
+      GitFileCacheMetrics gitFileCacheMetrics) {
     this.gitSyncConnectorHelper = gitSyncConnectorHelper;
     this.connectorService = connectorService;
     this.scmOrchestratorService = scmOrchestratorService;
     this.ngFeatureFlagHelperService = ngFeatureFlagHelperService;
     this.gitClientEnabledHelper = gitClientEnabledHelper;
     this.gitFileCacheService = gitFileCacheService;
+    this.gitFileCacheMetrics = gitFileCacheMetrics;
   }
 
   @Override
@@ -267,6 +276,9 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
     if (ngFeatureFlagHelperService.isEnabled(scope.getAccountIdentifier(), FeatureName.PIE_NG_GITX_CACHING)) {
       gitFileCacheService.upsertCache(GitFileCacheKey.builder()
                                           .accountIdentifier(scope.getAccountIdentifier())
+                                          .orgIdentifier(scope.getOrgIdentifier())
+                                          .projectIdentifier(scope.getProjectIdentifier())
+                                          .connectorRef(scmGetFileByBranchRequestDTO.getConnectorRef())
                                           .completeFilePath(scmGetFileByBranchRequestDTO.getFilePath())
                                           .gitProvider(GitProviderUtils.getGitProvider(scmConnector))
                                           .repoName(scmGetFileByBranchRequestDTO.getRepoName())
@@ -325,6 +337,9 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
     if (ngFeatureFlagHelperService.isEnabled(scope.getAccountIdentifier(), FeatureName.PIE_NG_GITX_CACHING)) {
       gitFileCacheService.upsertCache(GitFileCacheKey.builder()
                                           .accountIdentifier(scope.getAccountIdentifier())
+                                          .orgIdentifier(scope.getOrgIdentifier())
+                                          .projectIdentifier(scope.getProjectIdentifier())
+                                          .connectorRef(scmGetFileByBranchRequestDTO.getConnectorRef())
                                           .completeFilePath(scmGetFileByBranchRequestDTO.getFilePath())
                                           .gitProvider(GitProviderUtils.getGitProvider(scmConnector))
                                           .repoName(scmGetFileByBranchRequestDTO.getRepoName())
@@ -346,6 +361,96 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
         .build();
   }
 
+  @Override
+  public ScmGetBatchFilesResponseDTO getBatchFilesByBranch(
+      ScmGetBatchFilesByBranchRequestDTO scmGetBatchFilesByBranchRequestDTO) {
+    Scope scope = scmGetBatchFilesByBranchRequestDTO.getScope();
+    String repoName = scmGetBatchFilesByBranchRequestDTO.getRepoName();
+    String connectorRef = scmGetBatchFilesByBranchRequestDTO.getConnectorRef();
+    ScmConnector scmConnector = gitSyncConnectorHelper.getScmConnectorForGivenRepo(scope.getAccountIdentifier(),
+        scope.getOrgIdentifier(), scope.getProjectIdentifier(), connectorRef, repoName);
+    String branchName = isEmpty(scmGetBatchFilesByBranchRequestDTO.getBranchName())
+        ? getDefaultBranch(scope.getAccountIdentifier(), scope.getOrgIdentifier(), scope.getProjectIdentifier(),
+            connectorRef, repoName)
+        : scmGetBatchFilesByBranchRequestDTO.getBranchName();
+    boolean useCache = scmGetBatchFilesByBranchRequestDTO.isUseCache()
+        && ngFeatureFlagHelperService.isEnabled(scope.getAccountIdentifier(), FeatureName.PIE_NG_GITX_CACHING);
+
+    GitFileCacheKey branchCacheKey = getCacheKey(scope, repoName, connectorRef, scmConnector, branchName, null);
+    String commitId = useCache ? gitFileCacheService.getBranchHeadCommitId(branchCacheKey) : null;
+    if (commitId == null) {
+      commitId = getBranchHeadCommitDetails(ScmGetBranchHeadCommitRequestDTO.builder()
+                                                .scope(scope)
+                                                .repoName(repoName)
+                                                .branchName(branchName)
+                                                .connectorRef(connectorRef)
+                                                .build())
+                     .getCommitId();
+      if (useCache) {
+        gitFileCacheService.updateBranchHeadCommitId(branchCacheKey, commitId);
+      }
+    }
+
+    Map<String, ScmGetFileResponseDTO> files = new HashMap<>();
+    List<String> missingFilePaths = new ArrayList<>();
+    for (String filePath : emptyIfNull(scmGetBatchFilesByBranchRequestDTO.getFilePaths())) {
+      GitFileCacheObject gitFileCacheObject = useCache
+          ? gitFileCacheService.fetchFromCacheByCommit(
+              getCacheKey(scope, repoName, connectorRef, scmConnector, branchName, filePath), commitId)
+          : null;
+      if (gitFileCacheObject == null) {
+        missingFilePaths.add(filePath);
+      } else {
+        files.put(filePath,
+            ScmGetFileResponseDTO.builder()
+                .fileContent(gitFileCacheObject.getFileContent())
+                .blobId(gitFileCacheObject.getObjectId())
+                .commitId(gitFileCacheObject.getCommitId())
+                .branchName(branchName)
+                .build());
+      }
+    }
+
+    if (isNotEmpty(missingFilePaths)) {
+      final String headCommitId = commitId;
+      List<GitFileChangeDTO> gitFileChangeDTOList =
+          scmOrchestratorService.processScmRequestUsingConnectorSettings(scmClientFacilitatorService
+              -> scmClientFacilitatorService.listFilesByCommitId(scope, scmConnector, missingFilePaths, headCommitId),
+              scmConnector);
+      for (GitFileChangeDTO gitFileChangeDTO : emptyIfNull(gitFileChangeDTOList)) {
+        if (isNotEmpty(gitFileChangeDTO.getError())
+            || ScmApiErrorHandlingHelper.isFailureResponse(
+                gitFileChangeDTO.getStatus(), scmConnector.getConnectorType())) {
+          log.warn("Could not fetch file {} at commit {} in batch: {}", gitFileChangeDTO.getPath(), headCommitId,
+              gitFileChangeDTO.getError());
+          continue;
+        }
+        if (useCache) {
+          gitFileCacheService.upsertCacheByCommit(
+              getCacheKey(scope, repoName, connectorRef, scmConnector, branchName, gitFileChangeDTO.getPath()),
+              headCommitId,
+              GitFileCacheObject.builder()
+                  .fileContent(gitFileChangeDTO.getContent())
+                  .commitId(headCommitId)
+                  .objectId(gitFileChangeDTO.getObjectId())
+                  .build());
+        }
+        files.put(gitFileChangeDTO.getPath(),
+            ScmGetFileResponseDTO.builder()
+                .fileContent(gitFileChangeDTO.getContent())
+                .blobId(gitFileChangeDTO.getObjectId())
+                .commitId(headCommitId)
+                .branchName(branchName)
+                .build());
+      }
+      // One call for all the files missing in cache instead of one call per file
+      gitFileCacheMetrics.recordScmCallsSaved(
+          GitProviderUtils.getGitProvider(scmConnector), missingFilePaths.size() - 1L);
+    }
+
+    return ScmGetBatchFilesResponseDTO.builder().branchName(branchName).commitId(commitId).files(files).build();
+  }
+
   @Override
   public ScmGetBranchHeadCommitResponseDTO getBranchHeadCommitDetails(
       ScmGetBranchHeadCommitRequestDTO scmGetBranchHeadCommitRequestDTO) {
@@ -456,6 +561,9 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
     if (ngFeatureFlagHelperService.isEnabled(scope.getAccountIdentifier(), FeatureName.PIE_NG_GITX_CACHING)) {
       gitFileCacheService.upsertCache(GitFileCacheKey.builder()
                                           .accountIdentifier(scope.getAccountIdentifier())
+                                          .orgIdentifier(scope.getOrgIdentifier())
+                                          .projectIdentifier(scope.getProjectIdentifier())
+                                          .connectorRef(scmCreateFileRequestDTO.getConnectorRef())
                                           .completeFilePath(scmCreateFileRequestDTO.getFilePath())
                                           .gitProvider(GitProviderUtils.getGitProvider(scmConnector))
                                           .repoName(scmCreateFileRequestDTO.getRepoName())
@@ -518,6 +626,9 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
     if (ngFeatureFlagHelperService.isEnabled(scope.getAccountIdentifier(), FeatureName.PIE_NG_GITX_CACHING)) {
       gitFileCacheService.upsertCache(GitFileCacheKey.builder()
                                           .accountIdentifier(scope.getAccountIdentifier())
+                                          .orgIdentifier(scope.getOrgIdentifier())
+                                          .projectIdentifier(scope.getProjectIdentifier())
+                                          .connectorRef(scmUpdateFileRequestDTO.getConnectorRef())
                                           .completeFilePath(scmUpdateFileRequestDTO.getFilePath())
                                           .gitProvider(GitProviderUtils.getGitProvider(scmConnector))
                                           .repoName(scmUpdateFileRequestDTO.getRepoName())
@@ -572,6 +683,23 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
         scope.getOrgIdentifier(), scope.getProjectIdentifier(), scmGetFileByCommitIdRequestDTO.getConnectorRef(),
         scmGetFileByCommitIdRequestDTO.getRepoName());
 
+    GitFileCacheKey cacheKey = getCacheKey(scope, scmGetFileByCommitIdRequestDTO.getRepoName(),
+        scmGetFileByCommitIdRequestDTO.getConnectorRef(), scmConnector, null,
+        scmGetFileByCommitIdRequestDTO.getFilePath());
+    boolean useCache =
+        ngFeatureFlagHelperService.isEnabled(scope.getAccountIdentifier(), FeatureName.PIE_NG_GITX_CACHING);
+    if (useCache) {
+      GitFileCacheObject gitFileCacheObject =
+          gitFileCacheService.fetchFromCacheByCommit(cacheKey, scmGetFileByCommitIdRequestDTO.getCommitId());
+      if (gitFileCacheObject != null) {
+        return ScmGetFileResponseDTO.builder()
+            .fileContent(gitFileCacheObject.getFileContent())
+            .blobId(gitFileCacheObject.getObjectId())
+            .commitId(gitFileCacheObject.getCommitId())
+            .build();
+      }
+    }
+
     FileContent fileContent = scmOrchestratorService.processScmRequestUsingConnectorSettings(scmClientFacilitatorService
         -> scmClientFacilitatorService.getFile(scope.getAccountIdentifier(), scope.getOrgIdentifier(),
             scope.getProjectIdentifier(), scmGetFileByCommitIdRequestDTO.getConnectorRef(),
@@ -589,6 +717,15 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
               .build());
     }
 
+    if (useCache) {
+      gitFileCacheService.upsertCacheByCommit(cacheKey, scmGetFileByCommitIdRequestDTO.getCommitId(),
+          GitFileCacheObject.builder()
+              .fileContent(fileContent.getContent())
+              .commitId(fileContent.getCommitId())
+              .objectId(fileContent.getBlobId())
+              .build());
+    }
+
     return ScmGetFileResponseDTO.builder()
         .fileContent(fileContent.getContent())
         .blobId(fileContent.getBlobId())
@@ -727,6 +864,9 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
       ScmGetFileByBranchRequestDTO scmGetFileByBranchRequestDTO, ScmConnector scmConnector) {
     return GitFileCacheKey.builder()
         .accountIdentifier(scmGetFileByBranchRequestDTO.getScope().getAccountIdentifier())
+        .orgIdentifier(scmGetFileByBranchRequestDTO.getScope().getOrgIdentifier())
+        .projectIdentifier(scmGetFileByBranchRequestDTO.getScope().getProjectIdentifier())
+        .connectorRef(scmGetFileByBranchRequestDTO.getConnectorRef())
         .completeFilePath(scmGetFileByBranchRequestDTO.getFilePath())
         .repoName(scmGetFileByBranchRequestDTO.getRepoName())
         .gitProvider(GitProviderUtils.getGitProvider(scmConnector))
@@ -739,6 +879,9 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
       ScmGetFileByBranchRequestDTO scmGetFileByBranchRequestDTO, ScmConnector scmConnector, String branchName) {
     return GitFileCacheKey.builder()
         .accountIdentifier(scmGetFileByBranchRequestDTO.getScope().getAccountIdentifier())
+        .orgIdentifier(scmGetFileByBranchRequestDTO.getScope().getOrgIdentifier())
+        .projectIdentifier(scmGetFileByBranchRequestDTO.getScope().getProjectIdentifier())
+        .connectorRef(scmGetFileByBranchRequestDTO.getConnectorRef())
         .completeFilePath(scmGetFileByBranchRequestDTO.getFilePath())
         .repoName(scmGetFileByBranchRequestDTO.getRepoName())
         .gitProvider(GitProviderUtils.getGitProvider(scmConnector))
@@ -747,6 +890,20 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
         .build();
   }
 
+  private GitFileCacheKey getCacheKey(Scope scope, String repoName, String connectorRef, ScmConnector scmConnector,
+      String branchName, String filePath) {
+    return GitFileCacheKey.builder()
+        .accountIdentifier(scope.getAccountIdentifier())
+        .orgIdentifier(scope.getOrgIdentifier())
+        .projectIdentifier(scope.getProjectIdentifier())
+        .connectorRef(connectorRef)
+        .completeFilePath(filePath)
+        .repoName(repoName)
+        .gitProvider(GitProviderUtils.getGitProvider(scmConnector))
+        .ref(branchName)
+        .build();
+  }
+
   private ScmGetFileResponseDTO prepareScmGetFileCacheResponse(
       String fileContent, String branchName, String commitId, String objectId, CacheDetails cacheDetails) {
     return ScmGetFileResponseDTO.builder()
@@ -379,4 +379,15 @@ public class ScmManagerFacilitatorServiceImpl extends AbstractScmClientFacilitat
         scope.getAccountIdentifier(), scope.getOrgIdentifier(), scope.getProjectIdentifier(), scmConnector);
     return scmClient.listFilesInCommit(decryptedConnector, request);
   }
+
+  @Override
+  public List<GitFileChangeDTO> listFilesByCommitId(
+      Scope scope, ScmConnector scmConnector, List<String> filePaths, String commitId) {
+    final ScmConnector decryptedConnector = gitSyncConnectorHelper.getDecryptedConnectorForNewGitX(
+        scope.getAccountIdentifier(), scope.getOrgIdentifier(), scope.getProjectIdentifier(), scmConnector);
+    final FileContentBatchResponse fileContentBatchResponse =
+        scmClient.listFilesByCommitId(decryptedConnector, filePaths, commitId);
+    return FileBatchResponseMapper.createGitFileChangeList(
+        fileContentBatchResponse.getFileBatchContentResponse(), fileContentBatchResponse.getCommitId());
+  }
 }
@@ -35,6 +35,8 @@ import io.harness.gitsync.common.dtos.GitRepositoryResponseDTO;
 import io.harness.gitsync.common.dtos.SaasGitDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRRequestDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRResponseDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesByBranchRequestDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesResponseDTO;
 import io.harness.gitsync.common.dtos.ScmGetFileByBranchRequestDTO;
 import io.harness.gitsync.common.dtos.ScmGetFileResponseDTO;
 import io.harness.gitsync.common.dtos.ScmListFilesRequestDTO;
@@ -307,6 +309,43 @@ public class ScmFacilitatorResource {
                                        .build());
   }
 
+  @GET
+  @Path("get-files-by-branch")
+  @ApiOperation(value = "get files by branch", nickname = "getFilesByBranch")
+  @Hidden
+  @Operation(operationId = "getFilesByBranch", summary = "get files at the head of a branch in one git call",
+      responses = { @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "Get files by branch") },
+      hidden = true)
+  public ResponseDTO<ScmGetBatchFilesResponseDTO>
+  getFilesByBranch(@Parameter(description = ACCOUNT_PARAM_MESSAGE) @NotBlank @NotNull @QueryParam(
+                       NGCommonEntityConstants.ACCOUNT_KEY) String accountIdentifier,
+      @Parameter(description = ORG_PARAM_MESSAGE) @QueryParam(
+          NGCommonEntityConstants.ORG_KEY) @OrgIdentifier String orgIdentifier,
+      @Parameter(description = PROJECT_PARAM_MESSAGE) @QueryParam(
+          NGCommonEntityConstants.PROJECT_KEY) @ProjectIdentifier String projectIdentifier,
+      @Parameter(description = GitSyncApiConstants.GIT_CONNECTOR_REF_PARAM_MESSAGE) @NotBlank @QueryParam(
+          GitSyncApiConstants.CONNECTOR_REF) String connectorRef,
+      @Parameter(description = GitSyncApiConstants.REPO_NAME_PARAM_MESSAGE) @NotBlank @QueryParam(
+          NGCommonEntityConstants.REPO_NAME) String repoName,
+      @Parameter(description = GitSyncApiConstants.BRANCH_PARAM_MESSAGE) @QueryParam(
+          GitSyncApiConstants.BRANCH_KEY) String branch,
+      @Parameter(description = GitSyncApiConstants.FILEPATH_PARAM_MESSAGE) @QueryParam(
+          GitSyncApiConstants.FILE_PATH_KEY) @NotNull List<String> filePaths) {
+    return ResponseDTO.newResponse(
+        scmFacilitatorService.getBatchFilesByBranch(ScmGetBatchFilesByBranchRequestDTO.builder()
+                                                        .scope(Scope.builder()
+                                                                   .accountIdentifier(accountIdentifier)
+                                                                   .orgIdentifier(orgIdentifier)
+                                                                   .projectIdentifier(projectIdentifier)
+                                                                   .build())
+                                                        .branchName(branch)
+                                                        .filePaths(filePaths)
+                                                        .connectorRef(connectorRef)
+                                                        .repoName(repoName)
+                                                        .useCache(true)
+                                                        .build()));
+  }
+
   @GET
   @Path("list-repos-by-connector")
   @ApiOperation(
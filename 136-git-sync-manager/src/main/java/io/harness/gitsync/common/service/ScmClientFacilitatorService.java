@@ -121,4 +121,8 @@ public interface ScmClientFacilitatorService {
   GetLatestCommitResponse getBranchHeadCommitDetails(Scope scope, ScmConnector scmConnector, String branch);
 
   ListFilesInCommitResponse listFiles(Scope scope, ScmConnector scmConnector, ListFilesInCommitRequest request);
+
+  // Find content of the files at given commitId in a single scm call
+  List<GitFileChangeDTO> listFilesByCommitId(
+      Scope scope, ScmConnector scmConnector, List<String> filePaths, String commitId);
 }
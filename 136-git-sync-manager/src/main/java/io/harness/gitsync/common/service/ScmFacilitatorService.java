@@ -16,6 +16,8 @@ import io.harness.gitsync.common.dtos.ScmCommitFileResponseDTO;
 import io.harness.gitsync.common.dtos.ScmCreateFileRequestDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRRequestDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRResponseDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesByBranchRequestDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesResponseDTO;
 import io.harness.gitsync.common.dtos.ScmGetBranchHeadCommitRequestDTO;
 import io.harness.gitsync.common.dtos.ScmGetBranchHeadCommitResponseDTO;
 import io.harness.gitsync.common.dtos.ScmGetFileByBranchRequestDTO;
@@ -47,6 +49,14 @@ public interface ScmFacilitatorService {
 
   ScmGetFileResponseDTO getFileByBranchV2(ScmGetFileByBranchRequestDTO scmGetFileByBranchRequestDTO);
 
+  /**
+   * Fetches all files at the head commit of the branch, using the commit keyed cache where possible and a single scm
+   * call for the rest. Files which could not be fetched are left out of the response, callers should fetch them one by
+   * one to get the scm error.
+   */
+  ScmGetBatchFilesResponseDTO getBatchFilesByBranch(
+      ScmGetBatchFilesByBranchRequestDTO scmGetBatchFilesByBranchRequestDTO);
+
   List<UserRepoResponse> listAllReposForOnboardingFlow(
       String accountIdentifier, String orgIdentifier, String projectIdentifier, String connectorRef);
 
@@ -11,10 +11,12 @@ import static io.harness.eventsframework.EventsFrameworkConstants.GIT_BRANCH_HOO
 import static io.harness.eventsframework.EventsFrameworkConstants.GIT_BRANCH_HOOK_EVENT_STREAM_MAX_PROCESSING_TIME;
 import static io.harness.eventsframework.EventsFrameworkConstants.GIT_PUSH_EVENT_STREAM;
 import static io.harness.eventsframework.EventsFrameworkConstants.GIT_PUSH_EVENT_STREAM_MAX_PROCESSING_TIME;
+import static io.harness.gitsync.common.WebhookEventConstants.GIT_BRANCH_HEAD_INVALIDATION_CONSUMER;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.gitsync.core.webhook.createbranchevent.GitBranchHookEventStreamConsumer;
+import io.harness.gitsync.core.webhook.pushevent.GitBranchHeadInvalidationStreamConsumer;
 import io.harness.gitsync.core.webhook.pushevent.GitPushEventStreamConsumer;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -30,8 +32,10 @@ import lombok.extern.slf4j.Slf4j;
 public class GitSyncEventConsumerService implements Managed {
   @Inject private GitBranchHookEventStreamConsumer gitCreateBranchEventStreamConsumer;
   @Inject private GitPushEventStreamConsumer gitPushEventStreamConsumer;
+  @Inject private GitBranchHeadInvalidationStreamConsumer gitBranchHeadInvalidationStreamConsumer;
   private ExecutorService gitBranchHookEventConsumerService;
   private ExecutorService gitPushEventConsumerService;
+  private ExecutorService gitBranchHeadInvalidationConsumerService;
 
   @Override
   public void start() throws Exception {
@@ -42,6 +46,10 @@ public class GitSyncEventConsumerService implements Managed {
     gitPushEventConsumerService =
         Executors.newFixedThreadPool(2, new ThreadFactoryBuilder().setNameFormat(GIT_PUSH_EVENT_STREAM).build());
     gitPushEventConsumerService.execute(gitPushEventStreamConsumer);
+
+    gitBranchHeadInvalidationConsumerService = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat(GIT_BRANCH_HEAD_INVALIDATION_CONSUMER).build());
+    gitBranchHeadInvalidationConsumerService.execute(gitBranchHeadInvalidationStreamConsumer);
   }
 
   @Override
@@ -53,5 +61,9 @@ public class GitSyncEventConsumerService implements Managed {
     gitPushEventConsumerService.shutdownNow();
     gitPushEventConsumerService.awaitTermination(
         GIT_PUSH_EVENT_STREAM_MAX_PROCESSING_TIME.getSeconds(), TimeUnit.SECONDS);
+
+    gitBranchHeadInvalidationConsumerService.shutdownNow();
+    gitBranchHeadInvalidationConsumerService.awaitTermination(
+        GIT_PUSH_EVENT_STREAM_MAX_PROCESSING_TIME.getSeconds(), TimeUnit.SECONDS);
   }
 }
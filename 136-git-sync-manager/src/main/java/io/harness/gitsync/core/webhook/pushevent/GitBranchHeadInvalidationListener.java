@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.core.webhook.pushevent;
+
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.NgEventLogContext;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.webhookpayloads.webhookdata.WebhookDTO;
+import io.harness.gitsync.caching.service.GitFileCacheService;
+import io.harness.logging.AutoLogContext;
+import io.harness.ng.core.event.MessageListener;
+import io.harness.product.ci.scm.proto.PushHook;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.protobuf.InvalidProtocolBufferException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drops the branch heads of the pushed branch from the git file cache of this pod. Every pod reads the push events with
+ * a consumer group of its own, so no pod keeps resolving the branch to the commit before the push.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(HarnessTeam.PIPELINE)
+public class GitBranchHeadInvalidationListener implements MessageListener {
+  @Inject GitFileCacheService gitFileCacheService;
+
+  @Override
+  public boolean handleMessage(Message message) {
+    if (message == null || !message.hasMessage()) {
+      return true;
+    }
+    try (AutoLogContext ignore1 = new NgEventLogContext(message.getId(), OVERRIDE_ERROR)) {
+      WebhookDTO webhookDTO = WebhookDTO.parseFrom(message.getMessage().getData());
+      if (!webhookDTO.hasParsedResponse() || !webhookDTO.getParsedResponse().hasPush()) {
+        return true;
+      }
+      PushHook pushHook = webhookDTO.getParsedResponse().getPush();
+      gitFileCacheService.invalidateBranchHeads(
+          webhookDTO.getAccountId(), pushHook.getRepo().getName(), pushHook.getRef().replaceFirst("^refs/heads/", ""));
+    } catch (InvalidProtocolBufferException e) {
+      log.error("Encountered error while deserialzing the webhook for the message {}", message.getId(), e);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.core.webhook.pushevent;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.gitsync.common.WebhookEventConstants.GIT_BRANCH_HEAD_INVALIDATION_CONSUMER;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.RedisTraceConsumer;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@OwnedBy(PIPELINE)
+@Singleton
+public class GitBranchHeadInvalidationStreamConsumer extends RedisTraceConsumer {
+  private static final int WAIT_TIME_IN_SECONDS = 10;
+  private final Consumer redisConsumer;
+  private final GitBranchHeadInvalidationListener gitBranchHeadInvalidationListener;
+
+  @Inject
+  public GitBranchHeadInvalidationStreamConsumer(@Named(GIT_BRANCH_HEAD_INVALIDATION_CONSUMER) Consumer redisConsumer,
+      GitBranchHeadInvalidationListener gitBranchHeadInvalidationListener) {
+    this.redisConsumer = redisConsumer;
+    this.gitBranchHeadInvalidationListener = gitBranchHeadInvalidationListener;
+  }
+
+  @Override
+  public void run() {
+    log.info("{} : Started the consumer", GIT_BRANCH_HEAD_INVALIDATION_CONSUMER);
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        readEventsFrameworkMessages();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (Exception ex) {
+      log.error("{} : consumer unexpectedly stopped", GIT_BRANCH_HEAD_INVALIDATION_CONSUMER, ex);
+    }
+  }
+
+  private void readEventsFrameworkMessages() throws InterruptedException {
+    try {
+      pollAndProcessMessages();
+    } catch (EventsFrameworkDownException e) {
+      log.error(
+          "Events framework is down for " + GIT_BRANCH_HEAD_INVALIDATION_CONSUMER + " consumer. Retrying again...", e);
+      TimeUnit.SECONDS.sleep(WAIT_TIME_IN_SECONDS);
+    }
+  }
+
+  private void pollAndProcessMessages() {
+    List<Message> messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+    for (Message message : messages) {
+      if (handleMessage(message)) {
+        redisConsumer.acknowledge(message.getId());
+      }
+    }
+  }
+
+  @Override
+  protected boolean processMessage(Message message) {
+    return gitBranchHeadInvalidationListener.handleMessage(message);
+  }
+}
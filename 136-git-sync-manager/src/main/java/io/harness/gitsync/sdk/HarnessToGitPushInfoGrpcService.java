@@ -21,6 +21,8 @@ import io.harness.gitsync.CreatePRRequest;
 import io.harness.gitsync.CreatePRResponse;
 import io.harness.gitsync.ErrorDetails;
 import io.harness.gitsync.FileInfo;
+import io.harness.gitsync.GetBatchFilesByBranchRequest;
+import io.harness.gitsync.GetBatchFilesByBranchResponse;
 import io.harness.gitsync.GetBranchHeadCommitRequest;
 import io.harness.gitsync.GetBranchHeadCommitResponse;
 import io.harness.gitsync.GetFileRequest;
@@ -316,6 +318,35 @@ public class HarnessToGitPushInfoGrpcService extends HarnessToGitPushInfoService
     responseObserver.onCompleted();
   }
 
+  @Override
+  public void getBatchFilesByBranch(
+      GetBatchFilesByBranchRequest request, StreamObserver<GetBatchFilesByBranchResponse> responseObserver) {
+    GetBatchFilesByBranchResponse response;
+    Map<String, String> contextMap = GitSyncLogContextHelper.setContextMap(
+        ScopeIdentifierMapper.getScopeFromScopeIdentifiers(request.getScopeIdentifiers()), request.getRepoName(),
+        request.getBranchName(), "", GitOperation.GET_BATCH_FILES, request.getContextMapMap());
+    try (GlobalContextManager.GlobalContextGuard guard = GlobalContextManager.ensureGlobalContextGuard();
+         MdcContextSetter ignore1 = new MdcContextSetter(contextMap)) {
+      log.info(String.format("%s Grpc request received for getBatchFilesByBranch ops for %s files", GIT_SERVICE,
+          request.getFilePathsCount()));
+      try {
+        setPrincipal(request.getScopeIdentifiers().getAccountIdentifier(), request.getPrincipal());
+        response = harnessToGitHelperService.getBatchFilesByBranch(request);
+        log.info(String.format("%s getBatchFilesByBranch ops fetched %s of %s files", GIT_SERVICE,
+            response.getFilesCount(), request.getFilePathsCount()));
+      } catch (Exception ex) {
+        final String errorMessage = getErrorMessageForRuntimeExceptions(GitOperation.GET_BATCH_FILES);
+        log.error(errorMessage, ex);
+        response = GetBatchFilesByBranchResponse.newBuilder()
+                       .setStatusCode(HTTP_500)
+                       .setError(ErrorDetails.newBuilder().setErrorMessage(errorMessage).build())
+                       .build();
+      }
+    }
+    responseObserver.onNext(response);
+    responseObserver.onCompleted();
+  }
+
   @Override
   public void getDefaultBranch(RepoDetails request, StreamObserver<BranchDetails> responseObserver) {
     try (MdcContextSetter ignore1 = new MdcContextSetter(request.getContextMapMap())) {
@@ -24,4 +24,11 @@ public interface GitFileCacheRepository extends CrudRepository<GitFileCache, Str
   GitFileCache findByAccountIdentifierAndGitProviderAndRepoNameAndCompleteFilepathAndIsDefaultBranch(
       String accountIdentifier, GitProvider gitProvider, String repoName, String completeFilepath,
       boolean isDefaultBranch);
+
+  Long deleteByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
+      String accountIdentifier, GitProvider gitProvider, String repoName, String ref, String completeFilepath);
+
+  Long deleteByAccountIdentifierAndGitProviderAndRepoNameAndCompleteFilepathAndIsDefaultBranch(
+      String accountIdentifier, GitProvider gitProvider, String repoName, String completeFilepath,
+      boolean isDefaultBranch);
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.caching.service;
+
+import static io.harness.rule.OwnerRule.MOHIT_GARG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.gitsync.caching.beans.GitFileCacheKey;
+import io.harness.gitsync.caching.beans.GitFileCacheObject;
+import io.harness.gitsync.caching.beans.GitFileCacheResponse;
+import io.harness.gitsync.caching.beans.GitProvider;
+import io.harness.gitsync.caching.entity.GitFileCache;
+import io.harness.gitsync.caching.entity.GitFileObject;
+import io.harness.gitsync.caching.metrics.GitFileCacheMetrics;
+import io.harness.repositories.gitfilecache.GitFileCacheRepository;
+import io.harness.rule.Owner;
+
+import java.util.Date;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class GitFileCacheServiceImplTest extends CategoryTest {
+  private static final String ACCOUNT = "account";
+  private static final String ORG = "org";
+  private static final String PROJECT = "project";
+  private static final String CONNECTOR_REF = "connector";
+  private static final String REPO = "repo";
+  private static final String BRANCH = "main";
+  private static final String FILE_PATH = ".harness/pipeline.yaml";
+  private static final String COMMIT_ID = "c0ffee";
+
+  private GitFileCacheRepository gitFileCacheRepository;
+  private GitFileCacheMetrics gitFileCacheMetrics;
+  private GitFileCacheServiceImpl gitFileCacheService;
+  private GitFileCacheKey branchKey;
+
+  @Before
+  public void setup() {
+    gitFileCacheRepository = mock(GitFileCacheRepository.class);
+    gitFileCacheMetrics = new GitFileCacheMetrics();
+    gitFileCacheService = new GitFileCacheServiceImpl();
+    gitFileCacheService.gitFileCacheRepository = gitFileCacheRepository;
+    gitFileCacheService.gitFileCacheMetrics = gitFileCacheMetrics;
+    branchKey = GitFileCacheKey.builder()
+                    .accountIdentifier(ACCOUNT)
+                    .orgIdentifier(ORG)
+                    .projectIdentifier(PROJECT)
+                    .connectorRef(CONNECTOR_REF)
+                    .gitProvider(GitProvider.GITHUB_SAAS)
+                    .repoName(REPO)
+                    .ref(BRANCH)
+                    .completeFilePath(FILE_PATH)
+                    .build();
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testBranchIsServedFromCommitCacheOnceHeadIsKnown() {
+    gitFileCacheService.upsertCacheByCommit(branchKey, COMMIT_ID, cacheObject("content"));
+    gitFileCacheService.updateBranchHeadCommitId(branchKey, COMMIT_ID);
+
+    GitFileCacheResponse response = gitFileCacheService.fetchFromCache(branchKey);
+
+    assertThat(response.getGitFileCacheObject().getFileContent()).isEqualTo("content");
+    assertThat(response.getCacheDetails().isStale()).isFalse();
+    verify(gitFileCacheRepository, times(0))
+        .findByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(any(), any(), any(), any(), any());
+    assertThat(gitFileCacheMetrics.snapshotAndReset().get(GitProvider.GITHUB_SAAS).getHitRatio()).isEqualTo(1.0);
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testCommitLookupFallsBackToMongoAndKeepsItInMemory() {
+    when(gitFileCacheRepository.findByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
+             eq(ACCOUNT), any(), eq(REPO), eq("commit:" + COMMIT_ID), eq(FILE_PATH)))
+        .thenReturn(GitFileCache.builder()
+                        .gitFileObject(GitFileObject.builder().fileContent("content").commitId(COMMIT_ID).build())
+                        .validUntil(new Date(System.currentTimeMillis() + 60000L))
+                        .build());
+
+    assertThat(gitFileCacheService.fetchFromCacheByCommit(branchKey, COMMIT_ID).getFileContent()).isEqualTo("content");
+    assertThat(gitFileCacheService.fetchFromCacheByCommit(branchKey, COMMIT_ID).getFileContent()).isEqualTo("content");
+    assertThat(gitFileCacheService.fetchFromCacheByCommit(branchKey, "other")).isNull();
+
+    verify(gitFileCacheRepository, times(1))
+        .findByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
+            anyString(), any(), anyString(), eq("commit:" + COMMIT_ID), anyString());
+    GitFileCacheMetrics.Snapshot snapshot = gitFileCacheMetrics.snapshotAndReset().get(GitProvider.GITHUB_SAAS);
+    assertThat(snapshot.getHits()).isEqualTo(2);
+    assertThat(snapshot.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testInvalidateDropsBranchHead() {
+    gitFileCacheService.updateBranchHeadCommitId(branchKey, COMMIT_ID);
+    assertThat(gitFileCacheService.getBranchHeadCommitId(branchKey)).isEqualTo(COMMIT_ID);
+
+    gitFileCacheService.invalidateCache(branchKey);
+
+    assertThat(gitFileCacheService.getBranchHeadCommitId(branchKey)).isNull();
+    verify(gitFileCacheRepository)
+        .deleteByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
+            eq(ACCOUNT), any(), eq(REPO), eq(BRANCH), eq(FILE_PATH));
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testBranchHeadIsKeptPerScopeAndConnector() {
+    gitFileCacheService.updateBranchHeadCommitId(branchKey, COMMIT_ID);
+
+    GitFileCacheKey otherConnectorKey = GitFileCacheKey.builder()
+                                            .accountIdentifier(ACCOUNT)
+                                            .orgIdentifier(ORG)
+                                            .projectIdentifier(PROJECT)
+                                            .connectorRef("otherConnector")
+                                            .gitProvider(GitProvider.GITHUB_SAAS)
+                                            .repoName(REPO)
+                                            .ref(BRANCH)
+                                            .build();
+    GitFileCacheKey otherProjectKey = GitFileCacheKey.builder()
+                                          .accountIdentifier(ACCOUNT)
+                                          .orgIdentifier(ORG)
+                                          .projectIdentifier("otherProject")
+                                          .connectorRef(CONNECTOR_REF)
+                                          .gitProvider(GitProvider.GITHUB_SAAS)
+                                          .repoName(REPO)
+                                          .ref(BRANCH)
+                                          .build();
+
+    assertThat(gitFileCacheService.getBranchHeadCommitId(otherConnectorKey)).isNull();
+    assertThat(gitFileCacheService.getBranchHeadCommitId(otherProjectKey)).isNull();
+    assertThat(gitFileCacheService.getBranchHeadCommitId(branchKey)).isEqualTo(COMMIT_ID);
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testPushDropsBranchHeadOfEveryScope() {
+    gitFileCacheService.updateBranchHeadCommitId(branchKey, COMMIT_ID);
+
+    gitFileCacheService.invalidateBranchHeads(ACCOUNT, REPO, "other");
+    assertThat(gitFileCacheService.getBranchHeadCommitId(branchKey)).isEqualTo(COMMIT_ID);
+
+    gitFileCacheService.invalidateBranchHeads(ACCOUNT, REPO, BRANCH);
+    assertThat(gitFileCacheService.getBranchHeadCommitId(branchKey)).isNull();
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testInvalidateDropsDefaultBranchEntry() {
+    GitFileCacheKey defaultBranchKey = GitFileCacheKey.builder()
+                                           .accountIdentifier(ACCOUNT)
+                                           .gitProvider(GitProvider.GITHUB_SAAS)
+                                           .repoName(REPO)
+                                           .completeFilePath(FILE_PATH)
+                                           .isDefaultBranch(true)
+                                           .build();
+
+    gitFileCacheService.invalidateCache(defaultBranchKey);
+
+    verify(gitFileCacheRepository)
+        .deleteByAccountIdentifierAndGitProviderAndRepoNameAndCompleteFilepathAndIsDefaultBranch(
+            eq(ACCOUNT), any(), eq(REPO), eq(FILE_PATH), eq(true));
+  }
+
+  private GitFileCacheObject cacheObject(String content) {
+    return GitFileCacheObject.builder().fileContent(content).objectId("blob").commitId(COMMIT_ID).build();
+  }
+}
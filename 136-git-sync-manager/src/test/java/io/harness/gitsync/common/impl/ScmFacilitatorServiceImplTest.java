@@ -14,7 +14,12 @@ import static io.harness.rule.OwnerRule.MOHIT_GARG;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.annotations.dev.OwnedBy;
@@ -43,13 +48,18 @@ import io.harness.exception.WingsException;
 import io.harness.git.GitClientHelper;
 import io.harness.gitsync.GitSyncTestBase;
 import io.harness.gitsync.beans.GitRepositoryDTO;
+import io.harness.gitsync.caching.beans.GitFileCacheObject;
+import io.harness.gitsync.caching.metrics.GitFileCacheMetrics;
 import io.harness.gitsync.caching.service.GitFileCacheService;
 import io.harness.gitsync.common.dtos.GitBranchesResponseDTO;
+import io.harness.gitsync.common.dtos.GitFileChangeDTO;
 import io.harness.gitsync.common.dtos.GitRepositoryResponseDTO;
 import io.harness.gitsync.common.dtos.ScmCommitFileResponseDTO;
 import io.harness.gitsync.common.dtos.ScmCreateFileRequestDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRRequestDTO;
 import io.harness.gitsync.common.dtos.ScmCreatePRResponseDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesByBranchRequestDTO;
+import io.harness.gitsync.common.dtos.ScmGetBatchFilesResponseDTO;
 import io.harness.gitsync.common.dtos.ScmGetFileByBranchRequestDTO;
 import io.harness.gitsync.common.dtos.ScmGetFileByCommitIdRequestDTO;
 import io.harness.gitsync.common.dtos.ScmGetFileResponseDTO;
@@ -107,12 +117,14 @@ public class ScmFacilitatorServiceImplTest extends GitSyncTestBase {
   Scope scope;
   ScmConnector scmConnector;
   @Mock GitFileCacheService gitFileCacheService;
+  GitFileCacheMetrics gitFileCacheMetrics = new GitFileCacheMetrics();
 
   @Before
   public void setup() throws Exception {
     MockitoAnnotations.initMocks(this);
     scmFacilitatorService = new ScmFacilitatorServiceImpl(gitSyncConnectorHelper, connectorService,
-        scmOrchestratorService, ngFeatureFlagHelperService, gitClientEnabledHelper, gitFileCacheService);
+        scmOrchestratorService, ngFeatureFlagHelperService, gitClientEnabledHelper, gitFileCacheService,
+        gitFileCacheMetrics);
     pageRequest = PageRequest.builder().build();
     GithubConnectorDTO githubConnector = GithubConnectorDTO.builder()
                                              .connectionType(GitConnectionType.ACCOUNT)
@@ -500,6 +512,43 @@ public class ScmFacilitatorServiceImplTest extends GitSyncTestBase {
         .isInstanceOf(InvalidRequestException.class);
   }
 
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testGetBatchFilesByBranchFetchesCacheMissesInOneCall() {
+    when(ngFeatureFlagHelperService.isEnabled(any(), any())).thenReturn(true);
+    when(gitFileCacheService.getBranchHeadCommitId(any())).thenReturn(commitId);
+    when(gitFileCacheService.fetchFromCacheByCommit(
+             argThat(key -> key != null && "cached.yaml".equals(key.getCompleteFilePath())), eq(commitId)))
+        .thenReturn(GitFileCacheObject.builder().fileContent(content).objectId(blobId).commitId(commitId).build());
+    List<GitFileChangeDTO> fetchedFiles = Arrays.asList(
+        GitFileChangeDTO.builder().path("a.yaml").content("a").objectId("blobA").commitId(commitId).status(200).build(),
+        GitFileChangeDTO.builder().path("b.yaml").content("b").objectId("blobB").commitId(commitId).status(200).build(),
+        GitFileChangeDTO.builder().path("missing.yaml").status(404).error(error).build());
+    when(scmOrchestratorService.processScmRequestUsingConnectorSettings(any(), any())).thenReturn(fetchedFiles);
+
+    ScmGetBatchFilesResponseDTO response = scmFacilitatorService.getBatchFilesByBranch(
+        ScmGetBatchFilesByBranchRequestDTO.builder()
+            .scope(scope)
+            .repoName(repoName)
+            .branchName(branch)
+            .connectorRef(connectorRef)
+            .filePaths(Arrays.asList("cached.yaml", "a.yaml", "b.yaml", "missing.yaml"))
+            .useCache(true)
+            .build());
+
+    assertThat(response.getCommitId()).isEqualTo(commitId);
+    assertThat(response.getFiles()).containsOnlyKeys("cached.yaml", "a.yaml", "b.yaml");
+    assertThat(response.getFiles().get("cached.yaml").getFileContent()).isEqualTo(content);
+    assertThat(response.getFiles().get("a.yaml").getBlobId()).isEqualTo("blobA");
+    verify(scmOrchestratorService, times(1)).processScmRequestUsingConnectorSettings(any(), any());
+    verify(gitFileCacheService, times(2)).upsertCacheByCommit(any(), eq(commitId), any());
+    verify(gitFileCacheService, never()).updateBranchHeadCommitId(any(), any());
+    assertThat(gitFileCacheMetrics.snapshotAndReset().values())
+        .extracting(GitFileCacheMetrics.Snapshot::getScmCallsSaved)
+        .containsExactly(2L);
+  }
+
   private Scope getDefaultScope() {
     return Scope.builder()
         .accountIdentifier(accountIdentifier)
@@ -1008,6 +1008,15 @@ public class DelegateModule extends AbstractModule {
             .build());
   }
 
+  @Provides
+  @Singleton
+  @Named("perpetualTaskRunExecutor")
+  public ExecutorService perpetualTaskRunExecutor() {
+    // Unbounded on purpose, concurrency is limited per task type by PerpetualTaskRunDispatcher.
+    return Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder().setNameFormat("perpetual-task-run-%d").setPriority(Thread.NORM_PRIORITY).build());
+  }
+
   @Provides
   @Singleton
   @Named("delegateAgentMetricsExecutor")
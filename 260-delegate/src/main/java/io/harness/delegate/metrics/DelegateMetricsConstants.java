@@ -19,6 +19,11 @@ public class DelegateMetricsConstants {
   public static final String TASKS_CURRENTLY_EXECUTING = "tasks_currently_executing";
   public static final String TASKS_IN_QUEUE = "tasks_in_queue";
   public static final String TASK_TIMEOUT = "task_timeout";
+  public static final String PERPETUAL_TASK_QUEUE_DELAY = "perpetual_task_queue_delay";
+  public static final String PERPETUAL_TASK_EXECUTION_TIME = "perpetual_task_execution_time";
+  public static final String PERPETUAL_TASKS_CURRENTLY_EXECUTING = "perpetual_tasks_currently_executing";
+  public static final String SECRET_MANAGER_READS_SAVED = "secret_manager_reads_saved";
+  public static final String SECRET_MANAGER_READS = "secret_manager_reads";
 
   private static final String DELEGATE_NAME_LABEL = "delegate_name";
   private static final String TASK_TYPE_LABEL = "task_type";
@@ -28,6 +33,15 @@ public class DelegateMetricsConstants {
     put(TASKS_CURRENTLY_EXECUTING, create("Number of tasks in execution.", DELEGATE_NAME_LABEL));
     put(TASKS_IN_QUEUE, create("Number of tasks in the queue.", DELEGATE_NAME_LABEL));
     put(TASK_TIMEOUT, create("Number of tasks timed out.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(PERPETUAL_TASK_QUEUE_DELAY,
+        create("Time a perpetual task run waited for a permit.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(PERPETUAL_TASK_EXECUTION_TIME,
+        create("Time needed to execute a perpetual task run.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(PERPETUAL_TASKS_CURRENTLY_EXECUTING,
+        create("Number of perpetual task runs in execution.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(SECRET_MANAGER_READS_SAVED,
+        create("Number of KMS and vault secret reads served from the delegate cache.", DELEGATE_NAME_LABEL));
+    put(SECRET_MANAGER_READS, create("Number of cacheable KMS and vault secret reads.", DELEGATE_NAME_LABEL));
   }
 
   private static void put(String metricName, DelegateMetricDetails metricDetails) {
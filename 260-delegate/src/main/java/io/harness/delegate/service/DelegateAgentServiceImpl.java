@@ -50,6 +50,8 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_PROCESS;
 import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.SECRET_MANAGER_READS;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.SECRET_MANAGER_READS_SAVED;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASKS_CURRENTLY_EXECUTING;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASKS_IN_QUEUE;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASK_EXECUTION_TIME;
@@ -149,6 +151,7 @@ import io.harness.network.Http;
 import io.harness.perpetualtask.PerpetualTaskWorker;
 import io.harness.reflection.ExpressionReflectionUtils;
 import io.harness.rest.RestResponse;
+import io.harness.secrets.SecretManagerReadCache;
 import io.harness.security.TokenGenerator;
 import io.harness.security.encryption.DelegateDecryptionService;
 import io.harness.security.encryption.EncryptedDataDetail;
@@ -341,6 +344,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject private DelegateDecryptionService delegateDecryptionService;
   @Inject private DelegateLogService delegateLogService;
   @Inject private EncryptionService encryptionService;
+  @Inject private SecretManagerReadCache secretManagerReadCache;
   @Inject private ExecutionConfigOverrideFromFileOnDelegate delegateLocalConfigService;
   @Inject(optional = true) @Nullable private PerpetualTaskWorker perpetualTaskWorker;
   @Inject(optional = true) @Nullable private LogStreamingClient logStreamingClient;
@@ -2668,6 +2672,10 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     long tasksExecutionCount = ((ThreadPoolExecutor) taskExecutor).getActiveCount();
     metricRegistry.recordGaugeValue(TASKS_IN_QUEUE, new String[] {DELEGATE_NAME}, tasksInQueueCount);
     metricRegistry.recordGaugeValue(TASKS_CURRENTLY_EXECUTING, new String[] {DELEGATE_NAME}, tasksExecutionCount);
+    metricRegistry.recordGaugeValue(
+        SECRET_MANAGER_READS_SAVED, new String[] {DELEGATE_NAME}, secretManagerReadCache.getHitCount());
+    metricRegistry.recordGaugeValue(SECRET_MANAGER_READS, new String[] {DELEGATE_NAME},
+        secretManagerReadCache.getHitCount() + secretManagerReadCache.getMissCount());
   }
 
   @Override
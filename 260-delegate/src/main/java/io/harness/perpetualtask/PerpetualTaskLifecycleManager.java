@@ -25,14 +25,19 @@ import com.google.protobuf.util.Durations;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 @Slf4j
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
 public class PerpetualTaskLifecycleManager {
-  private final long timeoutMillis;
+  @Getter(AccessLevel.PACKAGE) private final long timeoutMillis;
+  @Getter(AccessLevel.PACKAGE) private final String taskType;
   private final PerpetualTaskId taskId;
   private final TimeLimiter timeLimiter;
   private final PerpetualTaskExecutionParams params;
@@ -41,6 +46,8 @@ public class PerpetualTaskLifecycleManager {
   private final PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient;
   private final AtomicInteger currentlyExecutingPerpetualTasksCount;
   private final String accountId;
+  private final AtomicBoolean runInFlight = new AtomicBoolean();
+  @Getter(AccessLevel.PACKAGE) private volatile boolean stopped;
 
   PerpetualTaskLifecycleManager(PerpetualTaskId taskId, PerpetualTaskExecutionContext context,
       Map<String, PerpetualTaskExecutor> factoryMap, PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient,
@@ -50,7 +57,8 @@ public class PerpetualTaskLifecycleManager {
     this.timeLimiter = timeLimiter;
     this.perpetualTaskServiceAgentClient = perpetualTaskServiceAgentClient;
     params = context.getTaskParams();
-    perpetualTaskExecutor = factoryMap.get(getTaskType(params));
+    taskType = getTaskType(params);
+    perpetualTaskExecutor = factoryMap.get(taskType);
     timeoutMillis = Durations.toMillis(context.getTaskSchedule().getTimeout());
     this.currentlyExecutingPerpetualTasksCount = currentlyExecutingPerpetualTasksCount;
     this.accountId = accountId;
@@ -67,6 +75,7 @@ public class PerpetualTaskLifecycleManager {
   }
 
   void stopTask() {
+    stopped = true;
     try {
       if (perpetualTaskExecutor != null) {
         perpetualTaskExecutor.cleanup(taskId, params);
@@ -76,7 +85,22 @@ public class PerpetualTaskLifecycleManager {
     }
   }
 
+  /*
+   * Claims the single run slot of this task, so that a slow run is never overlapped by the next iteration.
+   */
+  boolean tryStartRun() {
+    return runInFlight.compareAndSet(false, true);
+  }
+
+  void finishRun() {
+    runInFlight.set(false);
+  }
+
   Void call() {
+    return call(() -> false);
+  }
+
+  Void call(BooleanSupplier deadlineExceeded) {
     Instant taskStartTime = Instant.now();
     PerpetualTaskResponse perpetualTaskResponse;
     try (AutoLogContext ignore1 = new PerpetualTaskLogContext(taskId.getId(), OVERRIDE_ERROR)) {
@@ -97,9 +121,17 @@ public class PerpetualTaskLifecycleManager {
 
       decrementTaskCounter();
     } catch (Exception ex) {
-      perpetualTaskResponse =
-          PerpetualTaskResponse.builder().responseCode(500).responseMessage(ExceptionUtils.getMessage(ex)).build();
-      log.error("Exception during execution of perpetual task ", ex);
+      if (deadlineExceeded.getAsBoolean()) {
+        perpetualTaskResponse = PerpetualTaskResponse.builder()
+                                    .responseCode(408)
+                                    .responseMessage("Perpetual task timed out after " + timeoutMillis + " ms")
+                                    .build();
+        log.debug("Timed out running task", ex);
+      } else {
+        perpetualTaskResponse =
+            PerpetualTaskResponse.builder().responseCode(500).responseMessage(ExceptionUtils.getMessage(ex)).build();
+        log.error("Exception during execution of perpetual task ", ex);
+      }
       decrementTaskCounter();
     }
     if (perpetualTaskResponse != null && perpetualTaskResponse.getResponseCode() != SC_OK) {
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask;
+
+import static io.harness.delegate.metrics.DelegateMetricsConstants.PERPETUAL_TASKS_CURRENTLY_EXECUTING;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.PERPETUAL_TASK_EXECUTION_TIME;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.PERPETUAL_TASK_QUEUE_DELAY;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.delegate.configuration.DelegateConfiguration;
+import io.harness.metrics.HarnessMetricRegistry;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs perpetual task iterations on an elastic executor instead of the shared, bounded task executor.
+ *
+ * Concurrency is bounded per task type by permits rather than by pool size. Runs waiting for a permit are parked in a
+ * per type queue and do not hold a thread, and every run is cancelled by interrupting its own thread once the task
+ * timeout elapses, so no second thread is spent waiting on it.
+ */
+@Slf4j
+@Singleton
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+public class PerpetualTaskRunDispatcher {
+  static final int DEFAULT_MAX_CONCURRENT_RUNS_PER_TYPE = 100;
+  private static final double RUN_JITTER_FRACTION = 0.05;
+  private static final String DELEGATE_NAME =
+      isNotBlank(System.getenv().get("DELEGATE_NAME")) ? System.getenv().get("DELEGATE_NAME") : "";
+
+  @Getter private final boolean enabled;
+  private final int maxConcurrentRunsPerType;
+  private final ExecutorService runExecutor;
+  private final ScheduledExecutorService timeoutExecutor;
+  private final HarnessMetricRegistry metricRegistry;
+  private final Map<String, TaskTypeLane> lanes = new ConcurrentHashMap<>();
+
+  @Inject
+  public PerpetualTaskRunDispatcher(DelegateConfiguration configuration,
+      @Named("perpetualTaskRunExecutor") ExecutorService runExecutor,
+      @Named("perpetualTaskTimeoutExecutor") ScheduledExecutorService timeoutExecutor,
+      HarnessMetricRegistry metricRegistry) {
+    this(configuration.isPerpetualTaskElasticExecutionEnabled(),
+        configuration.getPerpetualTaskMaxConcurrentRunsPerType() == null
+            ? DEFAULT_MAX_CONCURRENT_RUNS_PER_TYPE
+            : configuration.getPerpetualTaskMaxConcurrentRunsPerType(),
+        runExecutor, timeoutExecutor, metricRegistry);
+  }
+
+  @VisibleForTesting
+  PerpetualTaskRunDispatcher(boolean enabled, int maxConcurrentRunsPerType, ExecutorService runExecutor,
+      ScheduledExecutorService timeoutExecutor, HarnessMetricRegistry metricRegistry) {
+    this.enabled = enabled;
+    this.maxConcurrentRunsPerType = maxConcurrentRunsPerType;
+    this.runExecutor = runExecutor;
+    this.timeoutExecutor = timeoutExecutor;
+    this.metricRegistry = metricRegistry;
+    if (enabled) {
+      log.info("Perpetual tasks run on the elastic executor with {} concurrent runs per task type",
+          maxConcurrentRunsPerType);
+    }
+  }
+
+  /*
+   * Called on every scheduled iteration of a task. Returns immediately, the run itself is started after a small jitter
+   * once a permit for the task type is available. An iteration is skipped if the previous run is still in flight.
+   */
+  void dispatch(PerpetualTaskLifecycleManager lifecycleManager, long intervalMillis) {
+    if (!lifecycleManager.tryStartRun()) {
+      log.debug("Previous run of the perpetual task is still in flight, skipping this iteration");
+      return;
+    }
+    long jitterMillis = ThreadLocalRandom.current().nextLong((long) (intervalMillis * RUN_JITTER_FRACTION) + 1);
+    try {
+      timeoutExecutor.schedule(() -> enqueue(lifecycleManager), jitterMillis, MILLISECONDS);
+    } catch (RejectedExecutionException ex) {
+      lifecycleManager.finishRun();
+      log.warn("Perpetual task run rejected while delegate is shutting down");
+    }
+  }
+
+  @VisibleForTesting
+  void enqueue(PerpetualTaskLifecycleManager lifecycleManager) {
+    TaskTypeLane lane = lanes.computeIfAbsent(lifecycleManager.getTaskType(), TaskTypeLane::new);
+    lane.getPending().offer(new PendingRun(lifecycleManager, System.currentTimeMillis()));
+    drain(lane);
+  }
+
+  int getRunningCount(String taskType) {
+    TaskTypeLane lane = lanes.get(taskType);
+    return lane == null ? 0 : lane.getRunning().get();
+  }
+
+  int getPendingCount(String taskType) {
+    TaskTypeLane lane = lanes.get(taskType);
+    return lane == null ? 0 : lane.getPending().size();
+  }
+
+  private void drain(TaskTypeLane lane) {
+    while (!lane.getPending().isEmpty()) {
+      if (!lane.getPermits().tryAcquire()) {
+        return;
+      }
+      PendingRun pendingRun = lane.getPending().poll();
+      if (pendingRun == null) {
+        lane.getPermits().release();
+        continue;
+      }
+      try {
+        runExecutor.execute(() -> run(lane, pendingRun));
+      } catch (RejectedExecutionException ex) {
+        lane.getPermits().release();
+        pendingRun.getLifecycleManager().finishRun();
+        log.warn("Perpetual task run rejected while delegate is shutting down");
+        return;
+      }
+    }
+  }
+
+  private void run(TaskTypeLane lane, PendingRun pendingRun) {
+    PerpetualTaskLifecycleManager lifecycleManager = pendingRun.getLifecycleManager();
+    String[] labels = new String[] {DELEGATE_NAME, lane.getTaskType()};
+    long startTime = System.currentTimeMillis();
+    recordGaugeValue(PERPETUAL_TASK_QUEUE_DELAY, labels, startTime - pendingRun.getEnqueuedAt());
+    recordGaugeValue(PERPETUAL_TASKS_CURRENTLY_EXECUTING, labels, lane.getRunning().incrementAndGet());
+    try {
+      if (!lifecycleManager.isStopped()) {
+        runWithDeadline(lifecycleManager);
+      }
+    } catch (Exception ex) {
+      log.error("Throwable while executing perpetual task", ex);
+    } finally {
+      recordGaugeValue(PERPETUAL_TASK_EXECUTION_TIME, labels, System.currentTimeMillis() - startTime);
+      recordGaugeValue(PERPETUAL_TASKS_CURRENTLY_EXECUTING, labels, lane.getRunning().decrementAndGet());
+      lifecycleManager.finishRun();
+      lane.getPermits().release();
+      drain(lane);
+    }
+  }
+
+  private void runWithDeadline(PerpetualTaskLifecycleManager lifecycleManager) {
+    if (lifecycleManager.getTimeoutMillis() <= 0) {
+      lifecycleManager.call();
+      return;
+    }
+    RunDeadline deadline = new RunDeadline(Thread.currentThread());
+    ScheduledFuture<?> watchdog =
+        timeoutExecutor.schedule(deadline::expire, lifecycleManager.getTimeoutMillis(), MILLISECONDS);
+    try {
+      lifecycleManager.call(deadline::isExpired);
+    } finally {
+      watchdog.cancel(false);
+      deadline.complete();
+    }
+  }
+
+  private void recordGaugeValue(String metricName, String[] labels, double value) {
+    if (metricRegistry != null) {
+      metricRegistry.recordGaugeValue(metricName, labels, value);
+    }
+  }
+
+  @Getter
+  private class TaskTypeLane {
+    private final String taskType;
+    private final Semaphore permits;
+    private final Queue<PendingRun> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    TaskTypeLane(String taskType) {
+      this.taskType = taskType;
+      this.permits = new Semaphore(maxConcurrentRunsPerType);
+    }
+  }
+
+  @Value
+  private static class PendingRun {
+    PerpetualTaskLifecycleManager lifecycleManager;
+    long enqueuedAt;
+  }
+
+  /*
+   * Interrupts the running thread once the timeout elapses. Completion and expiry are mutually exclusive, so an
+   * interrupt can never leak into the next run executed by the same pooled thread.
+   */
+  private static class RunDeadline {
+    private final Thread runner;
+    private boolean done;
+    private volatile boolean expired;
+
+    RunDeadline(Thread runner) {
+      this.runner = runner;
+    }
+
+    synchronized void expire() {
+      if (!done) {
+        expired = true;
+        runner.interrupt();
+      }
+    }
+
+    boolean isExpired() {
+      return expired;
+    }
+
+    void complete() {
+      synchronized (this) {
+        done = true;
+      }
+      if (expired) {
+        // Clear the interrupt delivered by expire() before the thread goes back to the pool.
+        Thread.interrupted();
+      }
+    }
+  }
+}
@@ -49,7 +49,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
@@ -73,6 +75,7 @@ public class PerpetualTaskWorker {
   private final AtomicReference<PerpetualTaskWorkerService> svcHolder = new AtomicReference<>();
   private String accountId;
   @Getter private final AtomicInteger currentlyExecutingPerpetualTasksCount = new AtomicInteger();
+  @Inject(optional = true) @Setter(AccessLevel.PACKAGE) private PerpetualTaskRunDispatcher runDispatcher;
 
   private class PerpetualTaskWorkerService extends AbstractScheduledService {
     PerpetualTaskWorkerService() {
@@ -207,9 +210,14 @@ public class PerpetualTaskWorker {
       synchronized (runningTaskMap) {
         runningTaskMap.computeIfAbsent(task.getTaskId(), k -> {
           log.info("Starting perpetual task with id: {}.", task.getTaskId().getId());
+          Runnable iteration = perpetualTaskLifecycleManager::startTask;
+          if (runDispatcher != null && runDispatcher.isEnabled()) {
+            long intervalMillis = TimeUnit.SECONDS.toMillis(intervalSeconds);
+            iteration = () -> runDispatcher.dispatch(perpetualTaskLifecycleManager, intervalMillis);
+          }
           ScheduledFuture<?> taskHandle = perpetualTaskTimeoutExecutor.scheduleWithFixedDelay(
-              new Schedulable("Throwable while executing perpetual task", perpetualTaskLifecycleManager::startTask),
-              new SecureRandom().nextInt(120), intervalSeconds, TimeUnit.SECONDS);
+              new Schedulable("Throwable while executing perpetual task", iteration), new SecureRandom().nextInt(120),
+              intervalSeconds, TimeUnit.SECONDS);
 
           PerpetualTaskHandle perpetualTaskHandle = new PerpetualTaskHandle(taskHandle, perpetualTaskLifecycleManager);
 
@@ -23,6 +23,7 @@ import io.harness.perpetualtask.PerpetualTaskId;
 import io.harness.perpetualtask.PerpetualTaskResponse;
 import io.harness.serializer.KryoSerializer;
 
+import software.wings.delegatetasks.buildsource.ArtifactKeyDigest;
 import software.wings.delegatetasks.buildsource.BuildSourceExecutionResponse;
 import software.wings.delegatetasks.buildsource.BuildSourceParameters;
 import software.wings.delegatetasks.buildsource.BuildSourceResponse;
@@ -142,6 +143,10 @@ public class ArtifactPerpetualTaskExecutor implements PerpetualTaskExecutor {
    */
   private boolean publishDeletedArtifactKeys(
       String accountId, String artifactStreamId, PerpetualTaskId taskId, ArtifactsPublishedCache currCache) {
+    if (currCache.isDigestMode()) {
+      return publishDeletedKeyDigest(accountId, artifactStreamId, taskId, currCache);
+    }
+
     Set<String> toBeDeletedArtifactKeys = currCache.getToBeDeletedArtifactKeys();
     if (isEmpty(toBeDeletedArtifactKeys)) {
       log.info(
@@ -167,6 +172,34 @@ public class ArtifactPerpetualTaskExecutor implements PerpetualTaskExecutor {
     return true;
   }
 
+  /**
+   * publishDeletedKeyDigest is the digest mode counterpart of publishDeletedArtifactKeys. Only the digest of the keys
+   * to be deleted is sent, the manager resolves it against the artifact keys it has stored.
+   */
+  private boolean publishDeletedKeyDigest(
+      String accountId, String artifactStreamId, PerpetualTaskId taskId, ArtifactsPublishedCache currCache) {
+    ArtifactKeyDigest toBeDeletedKeyDigest = currCache.getToBeDeletedKeyDigest();
+    if (toBeDeletedKeyDigest.isEmpty()) {
+      return true;
+    }
+
+    BuildSourceExecutionResponse buildSourceExecutionResponse =
+        BuildSourceExecutionResponse.builder()
+            .buildSourceResponse(
+                BuildSourceResponse.builder().toBeDeletedKeyDigest(toBeDeletedKeyDigest).cleanup(true).build())
+            .commandExecutionStatus(CommandExecutionStatus.SUCCESS)
+            .artifactStreamId(artifactStreamId)
+            .build();
+
+    boolean published = publishToManager(accountId, artifactStreamId, taskId, buildSourceExecutionResponse);
+    if (!published) {
+      return false;
+    }
+
+    currCache.removeDeletedKeyDigest(toBeDeletedKeyDigest);
+    return true;
+  }
+
   /**
    * publishUnpublishedBuildDetails publishes build details to the manager that are in the cache and are unpublished. It
    * returns true if the operation succeeds and there are more build details left after the current batch.
@@ -234,6 +267,12 @@ public class ArtifactPerpetualTaskExecutor implements PerpetualTaskExecutor {
         buildSourceParameters.getArtifactStreamType(), buildSourceParameters.getArtifactStreamAttributes());
     boolean enableCleanup =
         DelegateArtifactCollectionUtils.supportsCleanup(buildSourceParameters.getArtifactStreamType());
+    if (buildSourceParameters.getSavedBuildDetailsKeyDigest() != null) {
+      return cache.get(artifactStreamId,
+          id
+          -> new ArtifactsPublishedCache<>(
+              buildSourceParameters.getSavedBuildDetailsKeyDigest(), buildDetailsKeyFn, enableCleanup));
+    }
     return cache.get(artifactStreamId,
         id
         -> new ArtifactsPublishedCache(
@@ -12,6 +12,10 @@ import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
 
+import software.wings.delegatetasks.buildsource.ArtifactKeyDigest;
+import software.wings.delegatetasks.buildsource.ArtifactKeyDigest.ArtifactKeyHasher;
+
+import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -56,6 +60,9 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
  *   State - published: 1-800 except 200, unpublished: nothing, toBeDeleted: nothing
  *
  *   Now, we can do artifact collection
+ *
+ * When the manager sends the published keys as an ArtifactKeyDigest, the cache runs in digest mode: the published keys
+ * are kept only as the digest and the keys to be deleted are tracked and published as a digest too.
  */
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
@@ -71,6 +78,12 @@ public class ArtifactsPublishedCache<P> {
   boolean enableCleanup;
   @NonFinal @Getter @Setter boolean fetchFromCache;
 
+  // Only used in digest mode, in which case publishedArtifactKeys and toBeDeletedArtifactKeys stay empty.
+  boolean digestMode;
+  ArtifactKeyHasher keyHasher;
+  @NonFinal ArtifactKeyDigest publishedKeyDigest;
+  @NonFinal ArtifactKeyDigest toBeDeletedKeyDigest;
+
   public ArtifactsPublishedCache(
       Collection<String> publishedArtifactKeys, Function<P, String> buildDetailsKeyFunction, boolean enableCleanup) {
     this.publishedArtifactKeys =
@@ -81,6 +94,31 @@ public class ArtifactsPublishedCache<P> {
     this.buildDetailsKeyFunction = buildDetailsKeyFunction;
     this.enableCleanup = enableCleanup;
     this.fetchFromCache = false;
+    this.digestMode = false;
+    this.keyHasher = ArtifactKeyDigest.DEFAULT_HASHER;
+    this.publishedKeyDigest = ArtifactKeyDigest.EMPTY;
+    this.toBeDeletedKeyDigest = ArtifactKeyDigest.EMPTY;
+  }
+
+  public ArtifactsPublishedCache(
+      ArtifactKeyDigest publishedKeyDigest, Function<P, String> buildDetailsKeyFunction, boolean enableCleanup) {
+    this(publishedKeyDigest, buildDetailsKeyFunction, enableCleanup, ArtifactKeyDigest.DEFAULT_HASHER);
+  }
+
+  @VisibleForTesting
+  ArtifactsPublishedCache(ArtifactKeyDigest publishedKeyDigest, Function<P, String> buildDetailsKeyFunction,
+      boolean enableCleanup, ArtifactKeyHasher keyHasher) {
+    this.publishedArtifactKeys = new HashSet<>();
+    this.toBeDeletedArtifactKeys = new HashSet<>();
+    this.unpublishedArtifactKeys = new HashSet<>();
+    this.unpublishedBuildDetails = new ArrayList<>();
+    this.buildDetailsKeyFunction = buildDetailsKeyFunction;
+    this.enableCleanup = enableCleanup;
+    this.fetchFromCache = false;
+    this.digestMode = true;
+    this.keyHasher = keyHasher;
+    this.publishedKeyDigest = publishedKeyDigest == null ? ArtifactKeyDigest.EMPTY : publishedKeyDigest;
+    this.toBeDeletedKeyDigest = ArtifactKeyDigest.EMPTY;
   }
 
   /**
@@ -98,7 +136,7 @@ public class ArtifactsPublishedCache<P> {
     for (P build : builds) {
       String key = buildDetailsKeyFunction.apply(build);
       newKeys.add(key);
-      if (!publishedArtifactKeys.contains(key) && !unpublishedArtifactKeys.contains(key)) {
+      if (!isPublished(key) && !unpublishedArtifactKeys.contains(key)) {
         // Add any new key we find as unpublished.
         unpublishedBuildDetails.add(build);
         unpublishedArtifactKeys.add(key);
@@ -107,9 +145,14 @@ public class ArtifactsPublishedCache<P> {
 
     if (enableCleanup) {
       // If some published keys are no longer in the new result, add them in the to be deleted set.
-      for (String key : publishedArtifactKeys) {
-        if (!newKeys.contains(key)) {
-          toBeDeletedArtifactKeys.add(key);
+      if (digestMode) {
+        toBeDeletedKeyDigest =
+            toBeDeletedKeyDigest.union(publishedKeyDigest.minus(ArtifactKeyDigest.of(newKeys, keyHasher)));
+      } else {
+        for (String key : publishedArtifactKeys) {
+          if (!newKeys.contains(key)) {
+            toBeDeletedArtifactKeys.add(key);
+          }
         }
       }
 
@@ -140,13 +183,26 @@ public class ArtifactsPublishedCache<P> {
     updateUnpublishedBuildDetails();
   }
 
+  public void removeDeletedKeyDigest(ArtifactKeyDigest deletedKeyDigest) {
+    if (!enableCleanup || deletedKeyDigest == null || deletedKeyDigest.isEmpty()) {
+      return;
+    }
+
+    publishedKeyDigest = publishedKeyDigest.minus(deletedKeyDigest);
+    toBeDeletedKeyDigest = toBeDeletedKeyDigest.minus(deletedKeyDigest);
+  }
+
   public void addPublishedBuildDetails(Collection<P> builds) {
     if (isEmpty(builds)) {
       return;
     }
 
     Set<String> artifactKeys = builds.stream().map(buildDetailsKeyFunction).collect(Collectors.toSet());
-    publishedArtifactKeys.addAll(artifactKeys);
+    if (digestMode) {
+      publishedKeyDigest = publishedKeyDigest.union(ArtifactKeyDigest.of(artifactKeys, keyHasher));
+    } else {
+      publishedArtifactKeys.addAll(artifactKeys);
+    }
     unpublishedArtifactKeys.removeAll(artifactKeys);
     updateUnpublishedBuildDetails();
   }
@@ -156,7 +212,19 @@ public class ArtifactsPublishedCache<P> {
   }
 
   public boolean hasToBeDeletedArtifactKeys() {
-    return enableCleanup && !toBeDeletedArtifactKeys.isEmpty();
+    return enableCleanup && (!toBeDeletedArtifactKeys.isEmpty() || !toBeDeletedKeyDigest.isEmpty());
+  }
+
+  public boolean isDigestMode() {
+    return digestMode;
+  }
+
+  public ArtifactKeyDigest getToBeDeletedKeyDigest() {
+    return enableCleanup ? toBeDeletedKeyDigest : ArtifactKeyDigest.EMPTY;
+  }
+
+  public int getPublishedArtifactCount() {
+    return digestMode ? publishedKeyDigest.size() : publishedArtifactKeys.size();
   }
 
   public Set<String> getToBeDeletedArtifactKeys() {
@@ -186,6 +254,10 @@ public class ArtifactsPublishedCache<P> {
     }
   }
 
+  private boolean isPublished(String key) {
+    return digestMode ? publishedKeyDigest.contains(key, keyHasher) : publishedArtifactKeys.contains(key);
+  }
+
   /**
    * Update unpublishedBuildDetails so that it contains only those build details that are also in
    * unpublishedArtifactKeys.
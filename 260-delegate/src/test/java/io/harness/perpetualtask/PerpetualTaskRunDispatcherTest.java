@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.perpetualtask.ecs.EcsPerpetualTaskParams;
+import io.harness.perpetualtask.example.SamplePerpetualTaskParams;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.Durations;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PerpetualTaskRunDispatcherTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "ACCOUNT_ID";
+  private static final int MAX_CONCURRENT_RUNS_PER_TYPE = 50;
+
+  private final Map<String, PerpetualTaskExecutor> factoryMap = new HashMap<>();
+  private PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient;
+  private ExecutorService runExecutor;
+  private ScheduledExecutorService timeoutExecutor;
+  private PerpetualTaskRunDispatcher dispatcher;
+
+  @Before
+  public void setUp() {
+    perpetualTaskServiceAgentClient = mock(PerpetualTaskServiceAgentClient.class);
+    runExecutor = Executors.newCachedThreadPool();
+    timeoutExecutor = Executors.newScheduledThreadPool(4);
+    dispatcher = new PerpetualTaskRunDispatcher(true, MAX_CONCURRENT_RUNS_PER_TYPE, runExecutor, timeoutExecutor, null);
+  }
+
+  @After
+  public void tearDown() {
+    runExecutor.shutdownNow();
+    timeoutExecutor.shutdownNow();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFiveThousandBlockingTasksAreBoundedPerTaskType() throws InterruptedException {
+    int taskCount = 5000;
+    CountDownLatch finished = new CountDownLatch(2 * taskCount);
+    BlockingExecutor ecsExecutor = new BlockingExecutor(finished, 2);
+    BlockingExecutor sampleExecutor = new BlockingExecutor(finished, 2);
+    factoryMap.put(EcsPerpetualTaskParams.class.getSimpleName(), ecsExecutor);
+    factoryMap.put(SamplePerpetualTaskParams.class.getSimpleName(), sampleExecutor);
+
+    for (int i = 0; i < taskCount; i++) {
+      dispatcher.enqueue(lifecycleManager("ecs-" + i, EcsPerpetualTaskParams.getDefaultInstance(), 60000));
+      dispatcher.enqueue(lifecycleManager("sample-" + i, SamplePerpetualTaskParams.getDefaultInstance(), 60000));
+    }
+
+    assertThat(finished.await(2, TimeUnit.MINUTES)).isTrue();
+    assertThat(ecsExecutor.getMaxConcurrency()).isBetween(1, MAX_CONCURRENT_RUNS_PER_TYPE);
+    assertThat(sampleExecutor.getMaxConcurrency()).isBetween(1, MAX_CONCURRENT_RUNS_PER_TYPE);
+    assertThat(dispatcher.getPendingCount(EcsPerpetualTaskParams.class.getSimpleName())).isZero();
+    assertThat(dispatcher.getPendingCount(SamplePerpetualTaskParams.class.getSimpleName())).isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRunIsInterruptedAndReportedOnTimeout() throws InterruptedException {
+    CountDownLatch finished = new CountDownLatch(1);
+    factoryMap.put(EcsPerpetualTaskParams.class.getSimpleName(), new BlockingExecutor(finished, 60000));
+    PerpetualTaskLifecycleManager lifecycleManager =
+        lifecycleManager("ecs", EcsPerpetualTaskParams.getDefaultInstance(), 100);
+
+    assertThat(lifecycleManager.tryStartRun()).isTrue();
+    dispatcher.enqueue(lifecycleManager);
+
+    assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+    Thread.sleep(100);
+    verify(perpetualTaskServiceAgentClient)
+        .recordPerpetualTaskFailure(any(PerpetualTaskId.class), eq(ACCOUNT_ID), any(PerpetualTaskResponse.class));
+    assertThat(lifecycleManager.tryStartRun()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testIterationIsSkippedWhileRunIsInFlight() {
+    factoryMap.put(EcsPerpetualTaskParams.class.getSimpleName(), new BlockingExecutor(new CountDownLatch(1), 0));
+    PerpetualTaskLifecycleManager lifecycleManager =
+        lifecycleManager("ecs", EcsPerpetualTaskParams.getDefaultInstance(), 100);
+
+    assertThat(lifecycleManager.tryStartRun()).isTrue();
+    dispatcher.dispatch(lifecycleManager, 1000);
+    assertThat(dispatcher.getPendingCount(EcsPerpetualTaskParams.class.getSimpleName())).isZero();
+    assertThat(dispatcher.getRunningCount(EcsPerpetualTaskParams.class.getSimpleName())).isZero();
+  }
+
+  private PerpetualTaskLifecycleManager lifecycleManager(String taskId, Message params, long timeoutMillis) {
+    PerpetualTaskExecutionContext context =
+        PerpetualTaskExecutionContext.newBuilder()
+            .setTaskParams(PerpetualTaskExecutionParams.newBuilder().setCustomizedParams(Any.pack(params)).build())
+            .setTaskSchedule(PerpetualTaskSchedule.newBuilder().setTimeout(Durations.fromMillis(timeoutMillis)).build())
+            .build();
+    return new PerpetualTaskLifecycleManager(PerpetualTaskId.newBuilder().setId(taskId).build(), context, factoryMap,
+        perpetualTaskServiceAgentClient, null, new AtomicInteger(), ACCOUNT_ID);
+  }
+
+  private static class BlockingExecutor implements PerpetualTaskExecutor {
+    private final CountDownLatch finished;
+    private final long blockMillis;
+    private final AtomicInteger concurrency = new AtomicInteger();
+    private final AtomicInteger maxConcurrency = new AtomicInteger();
+
+    BlockingExecutor(CountDownLatch finished, long blockMillis) {
+      this.finished = finished;
+      this.blockMillis = blockMillis;
+    }
+
+    @Override
+    public PerpetualTaskResponse runOnce(
+        PerpetualTaskId taskId, PerpetualTaskExecutionParams params, Instant heartbeatTime) {
+      maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(blockMillis);
+        return PerpetualTaskResponse.builder().responseCode(200).responseMessage(SUCCESS_RESPONSE_MSG).build();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted", e);
+      } finally {
+        concurrency.decrementAndGet();
+        finished.countDown();
+      }
+    }
+
+    @Override
+    public boolean cleanup(PerpetualTaskId taskId, PerpetualTaskExecutionParams params) {
+      return true;
+    }
+
+    int getMaxConcurrency() {
+      return maxConcurrency.get();
+    }
+  }
+}
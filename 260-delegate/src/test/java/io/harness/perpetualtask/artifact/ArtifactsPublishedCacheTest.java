@@ -18,6 +18,8 @@ import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
+import software.wings.delegatetasks.buildsource.ArtifactKeyDigest;
+import software.wings.delegatetasks.buildsource.ArtifactKeyDigest.ArtifactKeyHasher;
 import software.wings.helpers.ext.jenkins.BuildDetails;
 
 import java.util.Collection;
@@ -164,6 +166,88 @@ public class ArtifactsPublishedCacheTest extends CategoryTest {
     assertThat(res.getRight()).isFalse();
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testDigestModeWithCollidingHashes() {
+    ArtifactKeyHasher collidingHasher = new CollidingKeyHasher();
+    ArtifactsPublishedCache<BuildDetails> cache =
+        prepareDigestCache(asList("0.1.0", "0.2.0", "0.3.0"), true, collidingHasher);
+    assertThat(cache.isDigestMode()).isTrue();
+    assertThat(cache.getPublishedArtifactCount()).isEqualTo(3);
+
+    // Every key has the same 64-bit hash, new keys must still be detected as unpublished.
+    cache.addCollectionResult(prepareBuildDetails(asList("0.1.0", "0.4.0", "0.5.0")));
+    assertThat(cache.needsToPublish()).isTrue();
+    assertThat(cache.hasToBeDeletedArtifactKeys()).isTrue();
+    assertThat(cache.getToBeDeletedArtifactKeys()).isEmpty();
+    assertThat(cache.getToBeDeletedKeyDigest())
+        .isEqualTo(ArtifactKeyDigest.of(asList("0.2.0", "0.3.0"), collidingHasher));
+
+    ImmutablePair<List<BuildDetails>, Boolean> res = cache.getLimitedUnpublishedBuildDetails();
+    assertThat(res.getLeft().stream().map(BuildDetails::getNumber).collect(Collectors.toList()))
+        .containsExactly("0.4.0", "0.5.0");
+
+    cache.removeDeletedKeyDigest(cache.getToBeDeletedKeyDigest());
+    assertThat(cache.hasToBeDeletedArtifactKeys()).isFalse();
+    assertThat(cache.getPublishedArtifactCount()).isEqualTo(1);
+
+    cache.addPublishedBuildDetails(res.getLeft());
+    assertThat(cache.needsToPublish()).isFalse();
+    assertThat(cache.getPublishedArtifactCount()).isEqualTo(3);
+
+    cache.addCollectionResult(prepareBuildDetails(asList("0.1.0", "0.4.0", "0.5.0", "0.6.0")));
+    assertThat(cache.hasToBeDeletedArtifactKeys()).isFalse();
+    assertThat(cache.getLimitedUnpublishedBuildDetails()
+                   .getLeft()
+                   .stream()
+                   .map(BuildDetails::getNumber)
+                   .collect(Collectors.toList()))
+        .containsExactly("0.6.0");
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testDigestModeMatchesExactMode() {
+    List<String> published = IntStream.rangeClosed(1, 2000).boxed().map(String::valueOf).collect(Collectors.toList());
+    List<String> collected =
+        IntStream.rangeClosed(1000, 3000).boxed().map(String::valueOf).collect(Collectors.toList());
+    ArtifactsPublishedCache<BuildDetails> exactCache = prepareCache(published, true);
+    ArtifactsPublishedCache<BuildDetails> digestCache =
+        prepareDigestCache(published, true, ArtifactKeyDigest.DEFAULT_HASHER);
+
+    exactCache.addCollectionResult(prepareBuildDetails(collected));
+    digestCache.addCollectionResult(prepareBuildDetails(collected));
+
+    assertThat(digestCache.getToBeDeletedKeyDigest())
+        .isEqualTo(ArtifactKeyDigest.of(exactCache.getToBeDeletedArtifactKeys()));
+    assertThat(digestCache.getLimitedUnpublishedBuildDetails().getLeft().stream().map(BuildDetails::getNumber))
+        .containsExactlyElementsOf(exactCache.getLimitedUnpublishedBuildDetails()
+                                       .getLeft()
+                                       .stream()
+                                       .map(BuildDetails::getNumber)
+                                       .collect(Collectors.toList()));
+  }
+
+  private ArtifactsPublishedCache<BuildDetails> prepareDigestCache(
+      Collection<String> publishedArtifactKeys, boolean enableCleanup, ArtifactKeyHasher keyHasher) {
+    return new ArtifactsPublishedCache<>(ArtifactKeyDigest.of(publishedArtifactKeys, keyHasher),
+        BuildDetails::getNumber, enableCleanup, keyHasher);
+  }
+
+  private static class CollidingKeyHasher implements ArtifactKeyHasher {
+    @Override
+    public long hash(String key) {
+      return 42L;
+    }
+
+    @Override
+    public int fingerprint(String key) {
+      return ArtifactKeyDigest.DEFAULT_HASHER.fingerprint(key);
+    }
+  }
+
   private ArtifactsPublishedCache<BuildDetails> prepareCache(
       Collection<String> publishedArtifactKeys, boolean enableCleanup) {
     Function<BuildDetails, String> buildDetailsFunction = BuildDetails::getNumber;
@@ -26,6 +26,7 @@ import io.harness.plancreator.steps.common.StageElementParameters;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.execution.ChildExecutableResponse;
 import io.harness.pms.contracts.execution.Status;
+import io.harness.pms.contracts.refobjects.RefObject;
 import io.harness.pms.contracts.steps.StepCategory;
 import io.harness.pms.contracts.steps.StepType;
 import io.harness.pms.execution.utils.AmbianceUtils;
@@ -120,10 +121,12 @@ public class SecurityStageStepPMS implements ChildExecutable<StageElementParamet
     StepResponseBuilder stepResponseBuilder = createStepResponseFromChildResponse(responseDataMap).toBuilder();
     List<String> stepIdentifiers = integrationStageStepParametersPMS.getStepIdentifiers();
     if (isNotEmpty(stepIdentifiers)) {
-      List<Outcome> outcomes = stepIdentifiers.stream()
-                                   .map(stepIdentifier
-                                       -> outcomeService.resolveOptional(
-                                           ambiance, RefObjectUtils.getOutcomeRefObject("artifact-" + stepIdentifier)))
+      List<RefObject> refObjects =
+          stepIdentifiers.stream()
+              .map(stepIdentifier -> RefObjectUtils.getOutcomeRefObject("artifact-" + stepIdentifier))
+              .collect(Collectors.toList());
+      List<Outcome> outcomes = outcomeService.resolveOptionalMany(ambiance, refObjects)
+                                   .stream()
                                    .filter(OptionalOutcome::isFound)
                                    .map(OptionalOutcome::getOutcome)
                                    .collect(Collectors.toList());
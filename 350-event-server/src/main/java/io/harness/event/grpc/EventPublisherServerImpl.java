@@ -15,23 +15,38 @@ import static java.util.Objects.requireNonNull;
 
 import io.harness.delegate.task.DelegateLogContext;
 import io.harness.event.EventPublisherGrpc;
+import io.harness.event.PublishAck;
 import io.harness.event.PublishRequest;
 import io.harness.event.PublishResponse;
+import io.harness.event.PublishStreamRequest;
 import io.harness.event.service.intfc.EventPublisherService;
 import io.harness.logging.AccountLogContext;
 import io.harness.logging.AutoLogContext;
+import io.harness.threading.ForceQueuePolicy;
+import io.harness.threading.ThreadPool;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.grpc.Context;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Singleton
 public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherImplBase {
+  private static final int MAX_PUBLISH_STREAM_WRITERS = 50;
+
   private final EventPublisherService eventPublisherService;
+  // Writes of all publish streams, a stream has at most one write in progress. Writes of streams beyond
+  // MAX_PUBLISH_STREAM_WRITERS wait in the queue, their requests keep collecting into the next write meanwhile.
+  private final ExecutorService publishStreamExecutor = ThreadPool.create(1, MAX_PUBLISH_STREAM_WRITERS, 60,
+      TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("publish-stream-writer-%d").setDaemon(true).build(),
+      -1, new ForceQueuePolicy(), "publish-stream-writer");
 
   @Inject
   public EventPublisherServerImpl(EventPublisherService eventPublisherService) {
@@ -56,4 +71,14 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
       }
     }
   }
-}
\ No newline at end of file
+
+  @Override
+  public StreamObserver<PublishStreamRequest> publishStream(StreamObserver<PublishAck> responseObserver) {
+    String accountId = requireNonNull(ACCOUNT_ID_CTX_KEY.get(Context.current()));
+    log.info("Opened publish stream via grpc for accountId: {}", accountId);
+    PublishStreamObserver requestObserver = new PublishStreamObserver(accountId, eventPublisherService,
+        (ServerCallStreamObserver<PublishAck>) responseObserver, publishStreamExecutor);
+    requestObserver.start();
+    return requestObserver;
+  }
+}
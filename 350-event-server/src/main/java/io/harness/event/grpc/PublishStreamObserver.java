@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.grpc;
+
+import static io.harness.grpc.IdentifierKeys.DELEGATE_ID;
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+
+import io.harness.delegate.task.DelegateLogContext;
+import io.harness.event.PublishAck;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishStreamRequest;
+import io.harness.event.service.intfc.EventPublisherService;
+import io.harness.logging.AccountLogContext;
+import io.harness.logging.AutoLogContext;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server side of one PublishStream call. The call starts with a window of FLOW_CONTROL_WINDOW requests, every
+ * acknowledged request opens the window by one, so a client that outpaces the database is held back by grpc flow
+ * control instead of piling up messages on the server.
+ *
+ * While one write of the call is in progress the requests that arrive are collected, the next write publishes all of
+ * them with a single call to the EventPublisherService, i.e. one bulk insert. Acks are sent in request order once the
+ * write containing the request finished.
+ */
+@Slf4j
+class PublishStreamObserver implements StreamObserver<PublishStreamRequest> {
+  static final int FLOW_CONTROL_WINDOW = 16;
+
+  private final String accountId;
+  private final EventPublisherService eventPublisherService;
+  private final ServerCallStreamObserver<PublishAck> responseObserver;
+  private final Executor writeExecutor;
+
+  private final Object lock = new Object();
+  private List<PublishStreamRequest> pendingRequests = new ArrayList<>();
+  private boolean writing;
+  private boolean halfClosed;
+  private boolean closed;
+
+  PublishStreamObserver(String accountId, EventPublisherService eventPublisherService,
+      ServerCallStreamObserver<PublishAck> responseObserver, Executor writeExecutor) {
+    this.accountId = accountId;
+    this.eventPublisherService = eventPublisherService;
+    this.responseObserver = responseObserver;
+    this.writeExecutor = writeExecutor;
+  }
+
+  void start() {
+    responseObserver.disableAutoRequest();
+    responseObserver.setOnCancelHandler(() -> {
+      synchronized (lock) {
+        closed = true;
+        pendingRequests.clear();
+      }
+    });
+    responseObserver.request(FLOW_CONTROL_WINDOW);
+  }
+
+  @Override
+  public void onNext(PublishStreamRequest request) {
+    synchronized (lock) {
+      if (closed) {
+        return;
+      }
+      pendingRequests.add(request);
+      if (writing) {
+        return;
+      }
+      writing = true;
+    }
+    writeExecutor.execute(this::writePendingRequests);
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    log.warn("Publish stream for accountId: {} failed", accountId, t);
+    synchronized (lock) {
+      closed = true;
+      pendingRequests.clear();
+    }
+  }
+
+  @Override
+  public void onCompleted() {
+    synchronized (lock) {
+      halfClosed = true;
+      if (writing || closed) {
+        return;
+      }
+      closed = true;
+    }
+    responseObserver.onCompleted();
+  }
+
+  private void writePendingRequests() {
+    while (true) {
+      List<PublishStreamRequest> requests;
+      boolean complete = false;
+      synchronized (lock) {
+        if (closed || pendingRequests.isEmpty()) {
+          writing = false;
+          complete = halfClosed && !closed;
+          closed = closed || complete;
+          requests = null;
+        } else {
+          requests = pendingRequests;
+          pendingRequests = new ArrayList<>();
+        }
+      }
+      if (requests == null) {
+        if (complete) {
+          responseObserver.onCompleted();
+        }
+        return;
+      }
+      write(requests);
+    }
+  }
+
+  private void write(List<PublishStreamRequest> requests) {
+    List<PublishMessage> messages = new ArrayList<>();
+    requests.forEach(request -> messages.addAll(request.getMessagesList()));
+    String error = null;
+    if (!messages.isEmpty()) {
+      String delegateId = messages.get(0).getAttributesMap().getOrDefault(DELEGATE_ID, "");
+      try (AutoLogContext ignore = new AccountLogContext(accountId, OVERRIDE_ERROR);
+           AutoLogContext ignore1 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
+        log.info("Received {} publish stream requests with {} messages via grpc for accountId: {}", requests.size(),
+            messages.size(), accountId);
+        eventPublisherService.publish(accountId, delegateId, messages, messages.size());
+      } catch (Exception e) {
+        log.error("Exception in Event Publisher Service", e);
+        error = String.valueOf(e.getMessage());
+      }
+    }
+
+    if (responseObserver.isCancelled()) {
+      return;
+    }
+    for (PublishStreamRequest request : requests) {
+      PublishAck.Builder ack = PublishAck.newBuilder().setSequence(request.getSequence()).setSuccess(error == null);
+      if (error != null) {
+        ack.setErrorMessage(error);
+      }
+      responseObserver.onNext(ack.build());
+    }
+    responseObserver.request(requests.size());
+  }
+}
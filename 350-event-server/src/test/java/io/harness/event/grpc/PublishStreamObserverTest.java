@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.grpc;
+
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.event.PublishAck;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishStreamRequest;
+import io.harness.event.service.intfc.EventPublisherService;
+import io.harness.rule.Owner;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+public class PublishStreamObserverTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+
+  private EventPublisherService eventPublisherService;
+  private ServerCallStreamObserver<PublishAck> responseObserver;
+  private List<Runnable> scheduledWrites;
+  private PublishStreamObserver publishStreamObserver;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    eventPublisherService = mock(EventPublisherService.class);
+    responseObserver = mock(ServerCallStreamObserver.class);
+    scheduledWrites = new ArrayList<>();
+    publishStreamObserver =
+        new PublishStreamObserver(ACCOUNT_ID, eventPublisherService, responseObserver, scheduledWrites::add);
+    publishStreamObserver.start();
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldStartWithFlowControlWindow() {
+    verify(responseObserver).disableAutoRequest();
+    verify(responseObserver).request(PublishStreamObserver.FLOW_CONTROL_WINDOW);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldCoalesceRequestsReceivedDuringWrite() throws Exception {
+    publishStreamObserver.onNext(request(1, 2));
+    publishStreamObserver.onNext(request(2, 3));
+    assertThat(scheduledWrites).hasSize(1);
+
+    scheduledWrites.get(0).run();
+
+    ArgumentCaptor<List<PublishMessage>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(eventPublisherService, times(1)).publish(eq(ACCOUNT_ID), anyString(), messagesCaptor.capture(), eq(5));
+    assertThat(messagesCaptor.getValue()).hasSize(5);
+    InOrder inOrder = inOrder(responseObserver);
+    inOrder.verify(responseObserver).onNext(PublishAck.newBuilder().setSequence(1).setSuccess(true).build());
+    inOrder.verify(responseObserver).onNext(PublishAck.newBuilder().setSequence(2).setSuccess(true).build());
+    inOrder.verify(responseObserver).request(2);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldAckFailedWrite() throws Exception {
+    doThrow(new IllegalStateException("write failed"))
+        .when(eventPublisherService)
+        .publish(anyString(), anyString(), anyList(), anyInt());
+
+    publishStreamObserver.onNext(request(7, 1));
+    scheduledWrites.get(0).run();
+
+    verify(responseObserver)
+        .onNext(PublishAck.newBuilder().setSequence(7).setSuccess(false).setErrorMessage("write failed").build());
+    verify(responseObserver).request(1);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldCompleteAfterPendingWrite() {
+    publishStreamObserver.onNext(request(1, 1));
+    publishStreamObserver.onCompleted();
+    verify(responseObserver, never()).onCompleted();
+
+    scheduledWrites.get(0).run();
+
+    InOrder inOrder = inOrder(responseObserver);
+    inOrder.verify(responseObserver).onNext(PublishAck.newBuilder().setSequence(1).setSuccess(true).build());
+    inOrder.verify(responseObserver).onCompleted();
+  }
+
+  private static PublishStreamRequest request(long sequence, int messageCount) {
+    PublishStreamRequest.Builder request = PublishStreamRequest.newBuilder().setSequence(sequence);
+    for (int i = 0; i < messageCount; i++) {
+      request.addMessages(PublishMessage.newBuilder().setMessageId(sequence + "-" + i).build());
+    }
+    return request.build();
+  }
+}
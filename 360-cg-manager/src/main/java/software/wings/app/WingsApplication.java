@@ -276,6 +276,7 @@ import software.wings.service.impl.instance.InstanceEventListener;
 import software.wings.service.impl.instance.InstanceSyncPerpetualTaskMigrationJob;
 import software.wings.service.impl.trigger.ScheduledTriggerHandler;
 import software.wings.service.impl.workflow.WorkflowServiceImpl;
+import software.wings.service.impl.yaml.YamlDirectoryTreeCache;
 import software.wings.service.impl.yaml.YamlPushServiceImpl;
 import software.wings.service.intfc.AccountService;
 import software.wings.service.intfc.ApplicationManifestService;
@@ -1352,6 +1353,8 @@ public class WingsApplication extends Application<MainConfiguration> {
     AuditServiceImpl auditService = (AuditServiceImpl) injector.getInstance(Key.get(AuditService.class));
     AuditServiceHelper auditServiceHelper = injector.getInstance(Key.get(AuditServiceHelper.class));
     auditServiceHelper.getEntityCrudSubject().register(auditService);
+    YamlPushServiceImpl yamlPushService = (YamlPushServiceImpl) injector.getInstance(Key.get(YamlPushService.class));
+    yamlPushService.getEntityCrudSubject().register(injector.getInstance(Key.get(YamlDirectoryTreeCache.class)));
     if (shouldEnableRemoteObservers(configuration)) {
       if (isDms()) {
         environment.lifecycle().manage(injector.getInstance(DmsEventConsumerService.class));
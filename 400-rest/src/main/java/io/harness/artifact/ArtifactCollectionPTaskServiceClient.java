@@ -11,11 +11,14 @@ import static io.harness.annotations.dev.HarnessTeam.CDC;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.DelegateTask;
+import io.harness.beans.FeatureName;
+import io.harness.ff.FeatureFlagService;
 import io.harness.perpetualtask.PerpetualTaskClientContext;
 import io.harness.perpetualtask.PerpetualTaskServiceClient;
 import io.harness.perpetualtask.artifact.ArtifactCollectionTaskParams;
 import io.harness.serializer.KryoSerializer;
 
+import software.wings.delegatetasks.buildsource.ArtifactKeyDigest;
 import software.wings.delegatetasks.buildsource.BuildSourceParameters;
 import software.wings.service.impl.artifact.ArtifactCollectionUtils;
 
@@ -31,6 +34,7 @@ public class ArtifactCollectionPTaskServiceClient implements PerpetualTaskServic
 
   @Inject private ArtifactCollectionUtils artifactCollectionUtils;
   @Inject private KryoSerializer kryoSerializer;
+  @Inject private FeatureFlagService featureFlagService;
 
   @Override
   public ArtifactCollectionTaskParams getTaskParams(PerpetualTaskClientContext clientContext) {
@@ -38,6 +42,12 @@ public class ArtifactCollectionPTaskServiceClient implements PerpetualTaskServic
     String artifactStreamId = clientParams.get(ARTIFACT_STREAM_ID);
     BuildSourceParameters buildSourceParameters =
         artifactCollectionUtils.prepareBuildSourceParameters(artifactStreamId);
+    if (buildSourceParameters.getSavedBuildDetailsKeys() != null
+        && featureFlagService.isEnabled(FeatureName.SPG_ARTIFACT_KEY_DIGEST, buildSourceParameters.getAccountId())) {
+      buildSourceParameters.setSavedBuildDetailsKeyDigest(
+          ArtifactKeyDigest.of(buildSourceParameters.getSavedBuildDetailsKeys()));
+      buildSourceParameters.setSavedBuildDetailsKeys(null);
+    }
     ByteString bytes = ByteString.copyFrom(kryoSerializer.asBytes(buildSourceParameters));
     return ArtifactCollectionTaskParams.newBuilder()
         .setArtifactStreamId(artifactStreamId)
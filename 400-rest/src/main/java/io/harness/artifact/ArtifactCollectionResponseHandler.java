@@ -29,6 +29,7 @@ import software.wings.beans.alert.ArtifactCollectionFailedAlert;
 import software.wings.beans.artifact.ArtifactStream;
 import software.wings.beans.artifact.ArtifactStreamAttributes;
 import software.wings.beans.artifact.ArtifactStreamCollectionStatus;
+import software.wings.delegatetasks.buildsource.ArtifactKeyDigest;
 import software.wings.delegatetasks.buildsource.ArtifactStreamLogContext;
 import software.wings.delegatetasks.buildsource.BuildSourceExecutionResponse;
 import software.wings.delegatetasks.buildsource.BuildSourceResponse;
@@ -45,6 +46,7 @@ import software.wings.utils.DelegateArtifactCollectionUtils;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import javax.validation.constraints.NotNull;
@@ -144,6 +146,15 @@ public class ArtifactCollectionResponseHandler {
         artifactCollectionUtils.getArtifactStreamAttributes(artifactStream, false);
 
     Set<String> artifactKeys = buildSourceResponse.getToBeDeletedKeys();
+    ArtifactKeyDigest toBeDeletedKeyDigest = buildSourceResponse.getToBeDeletedKeyDigest();
+    if (toBeDeletedKeyDigest != null && !toBeDeletedKeyDigest.isEmpty()) {
+      // The delegate only knows the digest of the published keys, resolve it against the keys stored in the DB.
+      artifactKeys = isEmpty(artifactKeys) ? new HashSet<>() : new HashSet<>(artifactKeys);
+      artifactCollectionUtils.getArtifactsKeys(artifactStream, artifactStreamAttributes)
+          .stream()
+          .filter(toBeDeletedKeyDigest::contains)
+          .forEach(artifactKeys::add);
+    }
     boolean deleted =
         artifactService.deleteArtifactsByUniqueKey(artifactStream, artifactStreamAttributes, artifactKeys);
     log.info("Artifact cleanup completed: deleted = {}, count = {}", deleted, artifactKeys.size());
@@ -600,6 +600,7 @@ import software.wings.verification.prometheus.PrometheusCVServiceConfiguration;
 import software.wings.verification.stackdriver.StackDriverMetricCVConfiguration;
 import software.wings.yaml.YamlHistory;
 import software.wings.yaml.YamlVersion;
+import software.wings.yaml.directory.YamlDirectoryVersion;
 import software.wings.yaml.errorhandling.GitSyncError;
 import software.wings.yaml.errorhandling.GitToHarnessErrorDetails;
 import software.wings.yaml.errorhandling.HarnessToGitErrorDetails;
@@ -855,6 +856,7 @@ public class ManagerMorphiaRegistrar implements MorphiaRegistrar {
     set.add(YamlHistory.class);
     set.add(YamlSuccessfulChange.class);
     set.add(YamlVersion.class);
+    set.add(YamlDirectoryVersion.class);
     set.add(GCPMarketplaceCustomer.class);
     set.add(DeletedEntity.class);
     set.add(ARMInfrastructureProvisioner.class);
@@ -717,6 +717,39 @@ public class YamlResource {
     return new RestResponse<>(yamlDirectoryService.getDirectory(accountId, appId));
   }
 
+  /**
+   * Gets a subtree of the config as code directory by path
+   *
+   * @param accountId the account id
+   * @param path      the path of the subtree, e.g. "Setup/Applications/app"
+   * @return the rest response
+   */
+  @GET
+  @Path("/directory/node")
+  @Timed
+  @ExceptionMetered
+  @ApiKeyAuthorized(permissionType = LOGGED_IN)
+  public RestResponse<DirectoryNode> getDirectoryNode(@QueryParam("accountId") String accountId,
+      @QueryParam("appId") String appId, @QueryParam("path") @NotEmpty String path) {
+    return new RestResponse<>(yamlDirectoryService.getDirectoryNode(accountId, appId, path));
+  }
+
+  /**
+   * Gets the version of the config as code directory, the directory has not changed while the version stays the same
+   *
+   * @param accountId the account id
+   * @return the rest response
+   */
+  @GET
+  @Path("/directory/version")
+  @Timed
+  @ExceptionMetered
+  @ApiKeyAuthorized(permissionType = LOGGED_IN)
+  public RestResponse<String> getDirectoryVersion(
+      @QueryParam("accountId") String accountId, @QueryParam("appId") String appId) {
+    return new RestResponse<>(yamlDirectoryService.getDirectoryVersion(accountId, appId));
+  }
+
   @GET
   @Path("/manifest")
   @Timed
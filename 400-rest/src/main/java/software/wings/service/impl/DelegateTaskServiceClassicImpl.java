@@ -13,6 +13,7 @@ import static io.harness.beans.DelegateTask.Status.ERROR;
 import static io.harness.beans.DelegateTask.Status.QUEUED;
 import static io.harness.beans.DelegateTask.Status.STARTED;
 import static io.harness.beans.DelegateTask.Status.runningStatuses;
+import static io.harness.beans.FeatureName.DELEGATE_TASK_LOAD_AWARE_DISPATCH;
 import static io.harness.beans.FeatureName.DEL_SECRET_EVALUATION_VERBOSE_LOGGING;
 import static io.harness.beans.FeatureName.GIT_HOST_CONNECTIVITY;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
@@ -28,8 +29,11 @@ import static io.harness.govern.Switch.noop;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_NESTS;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE_ATTEMPT;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE_FAILED;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ASSIGNMENT_TIME;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_CREATION;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_DISPATCH_LOAD_SKEW;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_EXPIRED;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_NO_ELIGIBLE_DELEGATES;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_NO_FIRST_WHITELISTED;
@@ -124,6 +128,7 @@ import io.harness.security.encryption.EncryptedDataDetail;
 import io.harness.security.encryption.EncryptionConfig;
 import io.harness.selection.log.DelegateSelectionLogTaskMetadata;
 import io.harness.serializer.KryoSerializer;
+import io.harness.service.impl.DelegateLoadTracker;
 import io.harness.service.intfc.DelegateCache;
 import io.harness.service.intfc.DelegateCallbackRegistry;
 import io.harness.service.intfc.DelegateCallbackService;
@@ -270,6 +275,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @Inject private DelegateSetupService delegateSetupService;
   @Inject private AuditHelper auditHelper;
   @Inject private DelegateMetricsService delegateMetricsService;
+  @Inject private DelegateLoadTracker delegateLoadTracker;
   @Inject private DelegateGlobalAccountController delegateGlobalAccountController;
   @Inject @Named(SECRET_CACHE) Cache<String, EncryptedDataDetails> secretsCache;
   @Inject @Named(EXPRESSION_EVALUATOR_EXECUTOR) ExecutorService expressionEvaluatorExecutor;
@@ -754,12 +760,36 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   }
 
   private String getDelegateIdForFirstBroadcast(DelegateTask delegateTask, List<String> eligibleListOfDelegates) {
+    if (!featureFlagService.isEnabled(DELEGATE_TASK_LOAD_AWARE_DISPATCH, delegateTask.getAccountId())) {
+      return getFirstWhitelistedDelegateId(delegateTask, eligibleListOfDelegates, 1);
+    }
+    // Power of two choices, the less loaded of the first two whitelisted delegates in the shuffled list gets the task.
+    // If it does not acquire the task before the next broadcast, the task is rebroadcast to the other eligible ones.
+    String delegateId = getFirstWhitelistedDelegateId(delegateTask, eligibleListOfDelegates, 2);
+    delegateLoadTracker.recordDispatch(delegateId);
+    delegateMetricsService.recordDelegateTaskMetrics(
+        delegateTask, DELEGATE_TASK_DISPATCH_LOAD_SKEW, delegateLoadTracker.getLoadSkew(eligibleListOfDelegates));
+    return delegateId;
+  }
+
+  private String getFirstWhitelistedDelegateId(
+      DelegateTask delegateTask, List<String> eligibleListOfDelegates, int choices) {
+    String selectedDelegateId = null;
+    int whitelistedDelegates = 0;
     for (String delegateId : eligibleListOfDelegates) {
       if (assignDelegateService.isDelegateGroupWhitelisted(delegateTask, delegateId)
           || assignDelegateService.isWhitelisted(delegateTask, delegateId)) {
-        return delegateId;
+        selectedDelegateId = selectedDelegateId == null
+            ? delegateId
+            : delegateLoadTracker.getLessLoaded(selectedDelegateId, delegateId);
+        if (++whitelistedDelegates == choices) {
+          break;
+        }
       }
     }
+    if (selectedDelegateId != null) {
+      return selectedDelegateId;
+    }
     delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_NO_FIRST_WHITELISTED);
     printCriteriaNoMatch(delegateTask);
     return eligibleListOfDelegates.get(random.nextInt(eligibleListOfDelegates.size()));
@@ -1098,6 +1128,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
       }
 
       log.debug("Acquiring delegate task");
+      delegateMetricsService.recordDelegateTaskMetrics(accountId, DELEGATE_TASK_ACQUIRE_ATTEMPT);
       DelegateTask delegateTask = getUnassignedDelegateTask(accountId, taskId, delegateInstanceId);
       if (delegateTask == null) {
         return DelegateTaskPackage.builder().build();
@@ -1568,6 +1599,8 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
       }
 
       delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_ACQUIRE);
+      delegateMetricsService.recordDelegateTaskDuration(delegateTask, DELEGATE_TASK_ASSIGNMENT_TIME,
+          Duration.ofMillis(task.getLastUpdatedAt() - task.getCreatedAt()));
 
       return resolvePreAssignmentExpressions(task, SecretManagerMode.APPLY);
     }
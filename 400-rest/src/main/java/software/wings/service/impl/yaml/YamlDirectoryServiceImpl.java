@@ -192,6 +192,7 @@ import software.wings.yaml.directory.EnvLevelYamlNode;
 import software.wings.yaml.directory.FolderNode;
 import software.wings.yaml.directory.ServiceLevelYamlNode;
 import software.wings.yaml.directory.SettingAttributeYamlNode;
+import software.wings.yaml.directory.YamlDirectoryVersion;
 import software.wings.yaml.directory.YamlNode;
 import software.wings.yaml.gitSync.beans.YamlGitConfig;
 import software.wings.yaml.gitSync.beans.YamlGitConfig.SyncMode;
@@ -206,7 +207,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -255,6 +258,7 @@ public class YamlDirectoryServiceImpl implements YamlDirectoryService {
   @Inject private TemplateGalleryService templateGalleryService;
   @Inject private GovernanceConfigService governanceConfigService;
   @Inject private EventConfigService eventConfigService;
+  @Inject private YamlDirectoryTreeCache yamlDirectoryTreeCache;
 
   @Override
   public YamlGitConfig weNeedToPushChanges(String accountId, String appId) {
@@ -516,15 +520,19 @@ public class YamlDirectoryServiceImpl implements YamlDirectoryService {
 
   @Override
   public DirectoryNode getDirectory(@NotEmpty String accountId, String appId) {
-    return getDirectory(YamlDirectoryFetchPayload.builder()
-                            .accountId(accountId)
-                            .entityId(accountId)
-                            .applyPermissions(true)
-                            .userPermissionInfo(getUserPermissionInfo(accountId))
-                            .appLevelYamlTreeOnly(true)
-                            .addApplication(true)
-                            .appId(appId)
-                            .build());
+    return getDirectory(getAppLevelFetchPayload(accountId, appId));
+  }
+
+  private YamlDirectoryFetchPayload getAppLevelFetchPayload(String accountId, String appId) {
+    return YamlDirectoryFetchPayload.builder()
+        .accountId(accountId)
+        .entityId(accountId)
+        .applyPermissions(true)
+        .userPermissionInfo(getUserPermissionInfo(accountId))
+        .appLevelYamlTreeOnly(true)
+        .addApplication(true)
+        .appId(appId)
+        .build();
   }
 
   @Override
@@ -542,6 +550,14 @@ public class YamlDirectoryServiceImpl implements YamlDirectoryService {
   }
 
   private FolderNode getDirectory(YamlDirectoryFetchPayload yamlDirectoryFetchPayload) {
+    return getDirectory(yamlDirectoryFetchPayload, null);
+  }
+
+  /**
+   * Builds the setup folder, or only the given top level folder of it. A folder built on its own is not cached, the
+   * cache holds the applications and the account level folders as whole groups.
+   */
+  private FolderNode getDirectory(YamlDirectoryFetchPayload yamlDirectoryFetchPayload, String topLevelFolder) {
     String accountId = yamlDirectoryFetchPayload.getAccountId();
     DirectoryPath directoryPath = new DirectoryPath(SETUP_FOLDER);
 
@@ -556,86 +572,71 @@ public class YamlDirectoryServiceImpl implements YamlDirectoryService {
     configFolder.addChild(new YamlNode(
         accountId, GLOBAL_APP_ID, tagsFileName, HarnessTag.class, directoryPath.clone().add(tagsFileName), Type.TAGS));
 
-    List<Future<FolderNode>> futureList = new ArrayList<>();
     User user = UserThreadLocal.get();
-    if (yamlDirectoryFetchPayload.isAddApplication()) {
-      futureList.add(executorService.submit(
+    boolean treeCacheEnabled = featureFlagService.isEnabled(FeatureName.CG_YAML_DIRECTORY_TREE_CACHE, accountId);
+    YamlDirectoryVersion version = treeCacheEnabled ? yamlDirectoryTreeCache.getVersion(accountId) : null;
+    boolean addGovernance = isNewDeploymentFreezeFFenabled(accountId);
+    String applicationsCacheKey =
+        treeCacheEnabled ? getTreeCacheKey("applications", yamlDirectoryFetchPayload, user) : null;
+    String accountCacheKey =
+        treeCacheEnabled ? getTreeCacheKey("account:" + addGovernance, yamlDirectoryFetchPayload, user) : null;
+
+    boolean withApplications = yamlDirectoryFetchPayload.isAddApplication()
+        && (topLevelFolder == null || APPLICATIONS_FOLDER.equals(topLevelFolder));
+    boolean withAccountFolders = topLevelFolder == null || !APPLICATIONS_FOLDER.equals(topLevelFolder);
+
+    Map<String, FolderNode> applicationFolders = null;
+    if (!withApplications) {
+      applicationFolders = Collections.emptyMap();
+    } else if (treeCacheEnabled) {
+      applicationFolders = yamlDirectoryTreeCache.get(applicationsCacheKey, version.getApplicationsVersion());
+    }
+    List<Future<FolderNode>> applicationFutureList = new ArrayList<>();
+    if (applicationFolders == null) {
+      applicationFutureList.add(executorService.submit(
           ()
               -> doApplicationsYamlTree(accountId, directoryPath.clone(),
                   yamlDirectoryFetchPayload.isApplyPermissions(), yamlDirectoryFetchPayload.getUserPermissionInfo(),
                   yamlDirectoryFetchPayload.isAppLevelYamlTreeOnly(), yamlDirectoryFetchPayload.getAppId())));
     }
 
-    futureList.add(executorService.submit(() -> {
-      try (UserThreadLocal.Guard guard = userGuard(user)) {
-        return doCloudProviders(accountId, directoryPath.clone());
-      }
-    }));
-
-    futureList.add(executorService.submit(() -> {
-      try (UserThreadLocal.Guard guard = userGuard(user)) {
-        return doArtifactServers(accountId, directoryPath.clone());
-      }
-    }));
-
-    futureList.add(executorService.submit(() -> {
-      try (UserThreadLocal.Guard guard = userGuard(user)) {
-        return doCollaborationProviders(accountId, directoryPath.clone());
-      }
-    }));
-
-    futureList.add(executorService.submit(() -> {
-      try (UserThreadLocal.Guard guard = userGuard(user)) {
-        return doSourceRepoProviders(accountId, directoryPath.clone());
-      }
-    }));
-
-    futureList.add(executorService.submit(() -> {
-      try (UserThreadLocal.Guard guard = userGuard(user)) {
-        return doVerificationProviders(accountId, directoryPath.clone());
-      }
-    }));
-
-    futureList.add(executorService.submit(() -> {
-      try (UserThreadLocal.Guard guard = userGuard(user)) {
-        return doNotificationGroups(accountId, directoryPath.clone());
-      }
-    }));
-
-    futureList.add(executorService.submit(() -> {
-      try (UserThreadLocal.Guard guard = userGuard(user)) {
-        return doTemplateLibrary(accountId, directoryPath.clone(), GLOBAL_APP_ID, GLOBAL_TEMPLATE_LIBRARY_FOLDER,
-            Type.GLOBAL_TEMPLATE_LIBRARY, false, Collections.EMPTY_SET);
-      }
-    }));
-
-    if (isNewDeploymentFreezeFFenabled(accountId)) {
-      // Governance Folder
-      futureList.add(executorService.submit(() -> {
-        try (UserThreadLocal.Guard guard = userGuard(user)) {
-          return doGovernance(accountId, yamlDirectoryFetchPayload.getAppId(), directoryPath.clone());
+    Map<String, FolderNode> accountFolders = null;
+    if (!withAccountFolders) {
+      accountFolders = Collections.emptyMap();
+    } else if (treeCacheEnabled) {
+      accountFolders = yamlDirectoryTreeCache.get(accountCacheKey, version.getAccountVersion());
+    }
+    List<Future<FolderNode>> futureList = new ArrayList<>();
+    if (accountFolders == null) {
+      Map<String, Callable<FolderNode>> accountFolderBuilders =
+          getAccountFolderBuilders(accountId, yamlDirectoryFetchPayload.getAppId(), directoryPath, addGovernance);
+      for (Map.Entry<String, Callable<FolderNode>> accountFolderBuilder : accountFolderBuilders.entrySet()) {
+        if (topLevelFolder == null || topLevelFolder.equals(accountFolderBuilder.getKey())) {
+          futureList.add(executorService.submit(() -> {
+            try (UserThreadLocal.Guard guard = userGuard(user)) {
+              return accountFolderBuilder.getValue().call();
+            }
+          }));
         }
-      }));
+      }
     }
 
     // collect results to this map so we can rebuild the correct order
     Map<String, FolderNode> map = new HashMap<>();
-
-    for (Future<FolderNode> future : futureList) {
-      try {
-        final FolderNode fn = future.get();
-
-        if (fn == null) {
-          log.info("********* failure in completionService");
-        } else {
-          map.put(fn.getName(), fn);
-        }
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-      } catch (ExecutionException e) {
-        log.error(ExceptionUtils.getMessage(e), e);
+    if (applicationFolders == null) {
+      applicationFolders = new HashMap<>();
+      if (collectFolders(applicationFutureList, applicationFolders) && treeCacheEnabled) {
+        yamlDirectoryTreeCache.put(applicationsCacheKey, version.getApplicationsVersion(), applicationFolders);
       }
     }
+    if (accountFolders == null) {
+      accountFolders = new HashMap<>();
+      if (collectFolders(futureList, accountFolders) && treeCacheEnabled && topLevelFolder == null) {
+        yamlDirectoryTreeCache.put(accountCacheKey, version.getAccountVersion(), accountFolders);
+      }
+    }
+    map.putAll(applicationFolders);
+    map.putAll(accountFolders);
 
     // this controls the returned order
     if (yamlDirectoryFetchPayload.isAddApplication()) {
@@ -664,6 +665,97 @@ public class YamlDirectoryServiceImpl implements YamlDirectoryService {
     return configFolder;
   }
 
+  private Map<String, Callable<FolderNode>> getAccountFolderBuilders(
+      String accountId, String appId, DirectoryPath directoryPath, boolean addGovernance) {
+    Map<String, Callable<FolderNode>> accountFolderBuilders = new LinkedHashMap<>();
+    accountFolderBuilders.put(CLOUD_PROVIDERS_FOLDER, () -> doCloudProviders(accountId, directoryPath.clone()));
+    accountFolderBuilders.put(ARTIFACT_SOURCES_FOLDER, () -> doArtifactServers(accountId, directoryPath.clone()));
+    accountFolderBuilders.put(
+        COLLABORATION_PROVIDERS_FOLDER, () -> doCollaborationProviders(accountId, directoryPath.clone()));
+    accountFolderBuilders.put(
+        SOURCE_REPO_PROVIDERS_FOLDER, () -> doSourceRepoProviders(accountId, directoryPath.clone()));
+    accountFolderBuilders.put(
+        VERIFICATION_PROVIDERS_FOLDER, () -> doVerificationProviders(accountId, directoryPath.clone()));
+    accountFolderBuilders.put(NOTIFICATION_GROUPS_FOLDER, () -> doNotificationGroups(accountId, directoryPath.clone()));
+    accountFolderBuilders.put(GLOBAL_TEMPLATE_LIBRARY_FOLDER,
+        ()
+            -> doTemplateLibrary(accountId, directoryPath.clone(), GLOBAL_APP_ID, GLOBAL_TEMPLATE_LIBRARY_FOLDER,
+                Type.GLOBAL_TEMPLATE_LIBRARY, false, Collections.EMPTY_SET));
+    if (addGovernance) {
+      accountFolderBuilders.put(
+          YamlConstants.GOVERNANCE_FOLDER, () -> doGovernance(accountId, appId, directoryPath.clone()));
+    }
+    return accountFolderBuilders;
+  }
+
+  private boolean collectFolders(List<Future<FolderNode>> futureList, Map<String, FolderNode> folders) {
+    boolean complete = true;
+    for (Future<FolderNode> future : futureList) {
+      try {
+        final FolderNode fn = future.get();
+
+        if (fn == null) {
+          log.info("********* failure in completionService");
+          complete = false;
+        } else {
+          folders.put(fn.getName(), fn);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        complete = false;
+      } catch (ExecutionException e) {
+        log.error(ExceptionUtils.getMessage(e), e);
+        complete = false;
+      }
+    }
+    return complete;
+  }
+
+  private String getTreeCacheKey(String part, YamlDirectoryFetchPayload yamlDirectoryFetchPayload, User user) {
+    return String.join("/", part, yamlDirectoryFetchPayload.getAccountId(),
+        YamlDirectoryTreeCache.getViewKey(user, yamlDirectoryFetchPayload.isApplyPermissions()),
+        String.valueOf(Objects.hashCode(yamlDirectoryFetchPayload.getUserPermissionInfo())),
+        String.valueOf(yamlDirectoryFetchPayload.isAppLevelYamlTreeOnly()),
+        String.valueOf(yamlDirectoryFetchPayload.getAppId()));
+  }
+
+  @Override
+  public DirectoryNode getDirectoryNode(@NotEmpty String accountId, String appId, @NotEmpty String path) {
+    String[] pathParts = path.split(PATH_DELIMITER);
+    if (!SETUP_FOLDER.equals(pathParts[0])) {
+      return null;
+    }
+    if (pathParts.length == 1) {
+      return getDirectory(accountId, appId);
+    }
+    // Only the top level folder on the path is built
+    DirectoryNode directoryNode = getDirectory(getAppLevelFetchPayload(accountId, appId), pathParts[1]);
+    for (int i = 1; i < pathParts.length && directoryNode != null; i++) {
+      if (!(directoryNode instanceof FolderNode)) {
+        return null;
+      }
+      String name = pathParts[i];
+      directoryNode = ((FolderNode) directoryNode)
+                          .getChildren()
+                          .stream()
+                          .filter(child -> child != null && name.equals(child.getName()))
+                          .findFirst()
+                          .orElse(null);
+    }
+    return directoryNode;
+  }
+
+  @Override
+  public String getDirectoryVersion(@NotEmpty String accountId, String appId) {
+    if (!featureFlagService.isEnabled(FeatureName.CG_YAML_DIRECTORY_TREE_CACHE, accountId)) {
+      return null;
+    }
+    YamlDirectoryVersion version = yamlDirectoryTreeCache.getVersion(accountId);
+    String viewKey = YamlDirectoryTreeCache.getViewKey(UserThreadLocal.get(), true);
+    return version.getApplicationsVersion() + "-" + version.getAccountVersion() + "-"
+        + Integer.toHexString(Objects.hash(viewKey, appId));
+  }
+
   @VisibleForTesting
   FolderNode doGovernance(String accountId, String entityId, DirectoryPath directoryPath) {
     FolderNode governanceFolder = new FolderNode(accountId, YamlConstants.GOVERNANCE_FOLDER, GovernanceConfig.class,
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package software.wings.service.impl.yaml;
+
+import static io.harness.annotations.dev.HarnessTeam.DX;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.persistence.HPersistence.upsertReturnNewOptions;
+
+import static software.wings.beans.CGConstants.GLOBAL_APP_ID;
+
+import static org.mongodb.morphia.mapping.Mapper.ID_KEY;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.persistence.HPersistence;
+
+import software.wings.beans.Application;
+import software.wings.beans.Event.Type;
+import software.wings.beans.User;
+import software.wings.beans.entityinterface.ApplicationAccess;
+import software.wings.security.UserRequestContext;
+import software.wings.service.intfc.entitycrud.EntityCrudOperationObserver;
+import software.wings.yaml.directory.DirectoryNode;
+import software.wings.yaml.directory.FolderNode;
+import software.wings.yaml.directory.YamlDirectoryVersion;
+import software.wings.yaml.directory.YamlDirectoryVersion.YamlDirectoryVersionKeys;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.mongodb.morphia.query.UpdateOperations;
+
+/**
+ * Keeps the top level folders of built config as code directories in memory. Every cached folder is stamped with the
+ * YamlDirectoryVersion counter of its part of the directory at the time the build started, a folder is served only
+ * while that counter is unchanged. Entity changes move the counters, so a change to a workflow rebuilds the
+ * applications folder only and leaves cloud providers, artifact servers etc. cached.
+ *
+ * The counters live in mongo, a change made through any manager invalidates the folders cached on all of them. The
+ * cache is bounded by the number of directory nodes it holds, and a folder is rebuilt at least every
+ * FOLDER_SET_TTL_MINUTES even if its counter did not move.
+ */
+@OwnedBy(DX)
+@Singleton
+@Slf4j
+public class YamlDirectoryTreeCache implements EntityCrudOperationObserver {
+  private static final long MAX_CACHED_NODES = 500_000;
+  private static final long FOLDER_SET_TTL_MINUTES = 10;
+
+  @Inject private HPersistence persistence;
+
+  private final Cache<String, VersionedFolders> folderSets =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CACHED_NODES)
+          .weigher((String key, VersionedFolders versionedFolders) -> versionedFolders.getNodeCount())
+          .expireAfterWrite(FOLDER_SET_TTL_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  public YamlDirectoryVersion getVersion(String accountId) {
+    YamlDirectoryVersion version = persistence.get(YamlDirectoryVersion.class, accountId);
+    return version != null ? version : YamlDirectoryVersion.builder().accountId(accountId).build();
+  }
+
+  /**
+   * Returns the folders cached under key if they were built at the given version, null otherwise.
+   */
+  public Map<String, FolderNode> get(String key, long version) {
+    VersionedFolders cached = folderSets.getIfPresent(key);
+    return cached != null && cached.getVersion() == version ? cached.getFolders() : null;
+  }
+
+  public void put(String key, long version, Map<String, FolderNode> folders) {
+    int nodeCount = 0;
+    for (FolderNode folder : folders.values()) {
+      nodeCount += countNodes(folder);
+    }
+    folderSets.put(key, new VersionedFolders(version, Collections.unmodifiableMap(folders), nodeCount));
+  }
+
+  /**
+   * Folders are built with the permissions and usage restrictions of the current user, they are cached per user and
+   * dropped once the permissions of the user change.
+   */
+  public static String getViewKey(User user, boolean applyPermissions) {
+    UserRequestContext userRequestContext = user != null ? user.getUserRequestContext() : null;
+    if (userRequestContext == null) {
+      return String.valueOf(applyPermissions);
+    }
+    return applyPermissions + ":" + user.getUuid() + ":"
+        + Objects.hash(userRequestContext.getUserPermissionInfo(), userRequestContext.getUserRestrictionInfo());
+  }
+
+  @Override
+  public <T> void handleEntityCrudOperation(String accountId, T oldEntity, T newEntity, Type type) {
+    Object entity = newEntity != null ? newEntity : oldEntity;
+    if (isEmpty(accountId) || entity == null) {
+      return;
+    }
+    UpdateOperations<YamlDirectoryVersion> updateOperations =
+        persistence.createUpdateOperations(YamlDirectoryVersion.class);
+    if (isApplicationEntity(entity)) {
+      updateOperations.inc(YamlDirectoryVersionKeys.applicationsVersion);
+    } else if (entity instanceof ApplicationAccess) {
+      updateOperations.inc(YamlDirectoryVersionKeys.accountVersion);
+    } else {
+      updateOperations.inc(YamlDirectoryVersionKeys.applicationsVersion).inc(YamlDirectoryVersionKeys.accountVersion);
+    }
+    try {
+      persistence.upsert(persistence.createQuery(YamlDirectoryVersion.class).filter(ID_KEY, accountId),
+          updateOperations, upsertReturnNewOptions);
+    } catch (Exception e) {
+      log.error("Failed to move yaml directory version of account {}", accountId, e);
+    }
+  }
+
+  private static int countNodes(DirectoryNode directoryNode) {
+    int count = 1;
+    if (directoryNode instanceof FolderNode) {
+      for (DirectoryNode child : ((FolderNode) directoryNode).getChildren()) {
+        if (child != null) {
+          count += countNodes(child);
+        }
+      }
+    }
+    return count;
+  }
+
+  private static boolean isApplicationEntity(Object entity) {
+    if (entity instanceof Application) {
+      return true;
+    }
+    if (entity instanceof ApplicationAccess) {
+      String appId = ((ApplicationAccess) entity).getAppId();
+      return !isEmpty(appId) && !GLOBAL_APP_ID.equals(appId);
+    }
+    return false;
+  }
+
+  @Value
+  private static class VersionedFolders {
+    long version;
+    Map<String, FolderNode> folders;
+    int nodeCount;
+  }
+}
@@ -64,6 +64,26 @@ public interface YamlDirectoryService {
    */
   DirectoryNode getDirectory(@NotEmpty String accountId, String appId);
 
+  /**
+   * Find the node at the given path of the account setup directory, e.g. "Setup/Applications/app".
+   *
+   * @param accountId the account id
+   * @param appId     the app id
+   * @param path      the path of the node
+   * @return the directory node, null if there is no node at the path
+   */
+  DirectoryNode getDirectoryNode(@NotEmpty String accountId, String appId, @NotEmpty String path);
+
+  /**
+   * Version of the account setup directory as seen by the current user. It changes whenever the directory may have
+   * changed, clients can skip fetching the directory while it stays the same.
+   *
+   * @param accountId the account id
+   * @param appId     the app id
+   * @return the version, null if directory versions are not tracked for the account
+   */
+  String getDirectoryVersion(@NotEmpty String accountId, String appId);
+
   /**
    * Get Directory (tree/sub-tree structure) by entityId, optionally filtered by nodes ("branches") that have custom git
    * sync
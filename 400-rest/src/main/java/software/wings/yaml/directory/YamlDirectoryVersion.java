@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package software.wings.yaml.directory;
+
+import static io.harness.annotations.dev.HarnessTeam.DX;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.AccountAccess;
+import io.harness.persistence.PersistentEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.mongodb.morphia.annotations.Id;
+
+/**
+ * Change counters of the config as code directory of an account. applicationsVersion moves with every change to an
+ * application scoped entity, accountVersion with every change to an account level entity.
+ */
+@OwnedBy(DX)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldNameConstants(innerTypeName = "YamlDirectoryVersionKeys")
+@StoreIn(DbAliases.HARNESS)
+@Entity(value = "yamlDirectoryVersions", noClassnameStored = true)
+@HarnessEntity(exportable = false)
+public class YamlDirectoryVersion implements PersistentEntity, AccountAccess {
+  @Id private String accountId;
+  private long applicationsVersion;
+  private long accountVersion;
+}
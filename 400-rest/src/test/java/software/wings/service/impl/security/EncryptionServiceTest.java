@@ -8,6 +8,7 @@
 package software.wings.service.impl.security;
 
 import static io.harness.rule.OwnerRule.ANKIT;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.UTKARSH;
 import static io.harness.security.SimpleEncryption.CHARSET;
 
@@ -15,6 +16,8 @@ import static junit.framework.TestCase.assertEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -25,8 +28,10 @@ import io.harness.data.structure.UUIDGenerator;
 import io.harness.encryptors.CustomEncryptorsRegistry;
 import io.harness.encryptors.KmsEncryptor;
 import io.harness.encryptors.KmsEncryptorsRegistry;
+import io.harness.encryptors.VaultEncryptor;
 import io.harness.encryptors.VaultEncryptorsRegistry;
 import io.harness.rule.Owner;
+import io.harness.secrets.SecretManagerReadCache;
 import io.harness.secrets.SecretsDelegateCacheService;
 import io.harness.security.SimpleEncryption;
 import io.harness.security.encryption.EncryptableSettingWithEncryptionDetails;
@@ -38,6 +43,7 @@ import io.harness.security.encryption.SecretManagerType;
 
 import software.wings.beans.KmsConfig;
 import software.wings.beans.LocalEncryptionConfig;
+import software.wings.beans.VaultConfig;
 import software.wings.service.intfc.security.SecretManagementDelegateService;
 
 import com.google.common.collect.Lists;
@@ -61,15 +67,17 @@ public class EncryptionServiceTest extends CategoryTest {
   @Mock private VaultEncryptorsRegistry vaultRegistry;
   @Mock private CustomEncryptorsRegistry customRegistry;
   @Mock private KmsEncryptor kmsEncryptor;
+  @Mock private VaultEncryptor vaultEncryptor;
 
+  private final SecretManagerReadCache secretManagerReadCache = new SecretManagerReadCache();
   private EncryptionServiceImpl encryptionService;
   private ScheduledThreadPoolExecutor threadPoolExecutor = new ScheduledThreadPoolExecutor(4);
 
   @Before
   public void setUp() {
     initMocks(this);
-    encryptionService = new EncryptionServiceImpl(
-        vaultRegistry, kmsRegistry, customRegistry, threadPoolExecutor, secretsDelegateCacheService);
+    encryptionService = new EncryptionServiceImpl(vaultRegistry, kmsRegistry, customRegistry, threadPoolExecutor,
+        secretsDelegateCacheService, secretManagerReadCache);
     EncryptionConfig encryptionConfig = mock(KmsConfig.class);
     when(encryptionConfig.getEncryptionType()).thenReturn(EncryptionType.KMS);
     when(encryptionConfig.getType()).thenReturn(SecretManagerType.KMS);
@@ -127,4 +135,56 @@ public class EncryptionServiceTest extends CategoryTest {
 
     assertEquals("Dummy", new String(encryptionService.getDecryptedValue(build, false)));
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testKmsDecryptionIsCachedUntilTheSecretChanges() {
+    KmsConfig kmsConfig = KmsConfig.builder().accountId("accountId").build();
+    kmsConfig.setUuid("kmsId");
+    when(kmsEncryptor.fetchSecretValue(any(), any(), any()))
+        .thenReturn("value".toCharArray())
+        .thenReturn("rotatedValue".toCharArray());
+    EncryptedDataDetail encryptedDataDetail =
+        EncryptedDataDetail.builder()
+            .encryptionConfig(kmsConfig)
+            .encryptedData(
+                EncryptedRecordData.builder().encryptionKey("dataKey").encryptedValue("value".toCharArray()).build())
+            .build();
+
+    char[] value = encryptionService.getDecryptedValue(encryptedDataDetail, false);
+    assertThat(value).isEqualTo("value".toCharArray());
+    value[0] = 'X';
+    assertThat(encryptionService.getDecryptedValue(encryptedDataDetail, false)).isEqualTo("value".toCharArray());
+    verify(kmsEncryptor, times(1)).fetchSecretValue(any(), any(), any());
+
+    encryptedDataDetail.getEncryptedData().setEncryptedValue("rotatedValue".toCharArray());
+    assertThat(encryptionService.getDecryptedValue(encryptedDataDetail, false))
+        .isEqualTo("rotatedValue".toCharArray());
+    verify(kmsEncryptor, times(2)).fetchSecretValue(any(), any(), any());
+    assertThat(secretManagerReadCache.getHitCount()).isEqualTo(1);
+    assertThat(secretManagerReadCache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testVaultReadIsCachedOnlyIfAccepted() {
+    VaultConfig vaultConfig = VaultConfig.builder().accountId("accountId").build();
+    vaultConfig.setUuid("vaultId");
+    when(vaultRegistry.getVaultEncryptor(any())).thenReturn(vaultEncryptor);
+    when(vaultEncryptor.fetchSecretValue(any(), any(), any())).thenReturn("value".toCharArray());
+    EncryptedDataDetail encryptedDataDetail = EncryptedDataDetail.builder()
+                                                  .encryptionConfig(vaultConfig)
+                                                  .encryptedData(EncryptedRecordData.builder().path("a/b#c").build())
+                                                  .build();
+
+    encryptionService.getDecryptedValue(encryptedDataDetail, false);
+    encryptionService.getDecryptedValue(encryptedDataDetail, false);
+    verify(vaultEncryptor, times(2)).fetchSecretValue(any(), any(), any());
+
+    assertThat(encryptionService.getDecryptedValue(encryptedDataDetail, true)).isEqualTo("value".toCharArray());
+    assertThat(encryptionService.getDecryptedValue(encryptedDataDetail, true)).isEqualTo("value".toCharArray());
+    verify(vaultEncryptor, times(3)).fetchSecretValue(any(), any(), any());
+  }
 }
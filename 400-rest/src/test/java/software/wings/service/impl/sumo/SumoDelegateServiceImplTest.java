@@ -64,7 +64,7 @@ public class SumoDelegateServiceImplTest extends WingsBaseTest {
     when(sumoConfig.getSumoUrl()).thenReturn("htt//localhost:9000/");
     SumoDelegateServiceImpl sumoDelegateService = new SumoDelegateServiceImpl();
     FieldUtils.writeField(
-        sumoDelegateService, "encryptionService", new EncryptionServiceImpl(null, null, null, null, null), true);
+        sumoDelegateService, "encryptionService", new EncryptionServiceImpl(null, null, null, null, null, null), true);
     String exceptionMsg = "";
     try {
       sumoDelegateService.validateConfig(sumoConfig, Collections.emptyList());
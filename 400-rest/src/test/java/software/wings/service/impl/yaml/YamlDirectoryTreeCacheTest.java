@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package software.wings.service.impl.yaml;
+
+import static io.harness.annotations.dev.HarnessTeam.DX;
+import static io.harness.rule.OwnerRule.ABHINAV;
+
+import static software.wings.beans.Application.Builder.anApplication;
+import static software.wings.beans.CGConstants.GLOBAL_APP_ID;
+import static software.wings.beans.Environment.Builder.anEnvironment;
+import static software.wings.utils.WingsTestConstants.ACCOUNT_ID;
+import static software.wings.utils.WingsTestConstants.APP_ID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import software.wings.WingsBaseTest;
+import software.wings.beans.Environment;
+import software.wings.beans.Event.Type;
+import software.wings.beans.SettingAttribute;
+import software.wings.yaml.directory.FolderNode;
+import software.wings.yaml.directory.YamlDirectoryVersion;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(DX)
+public class YamlDirectoryTreeCacheTest extends WingsBaseTest {
+  @Inject private YamlDirectoryTreeCache yamlDirectoryTreeCache;
+
+  @Test
+  @Owner(developers = ABHINAV)
+  @Category(UnitTests.class)
+  public void testEntityChangesMoveVersionOfTheirPart() {
+    assertVersion(0, 0);
+
+    Environment environment = anEnvironment().appId(APP_ID).name("env").build();
+    yamlDirectoryTreeCache.handleEntityCrudOperation(ACCOUNT_ID, null, environment, Type.CREATE);
+    assertVersion(1, 0);
+
+    yamlDirectoryTreeCache.handleEntityCrudOperation(
+        ACCOUNT_ID, anApplication().uuid(APP_ID).build(), null, Type.DELETE);
+    assertVersion(2, 0);
+
+    SettingAttribute settingAttribute = SettingAttribute.Builder.aSettingAttribute().withAppId(GLOBAL_APP_ID).build();
+    yamlDirectoryTreeCache.handleEntityCrudOperation(ACCOUNT_ID, settingAttribute, settingAttribute, Type.UPDATE);
+    assertVersion(2, 1);
+
+    yamlDirectoryTreeCache.handleEntityCrudOperation(ACCOUNT_ID, null, new Object(), Type.CREATE);
+    assertVersion(3, 2);
+  }
+
+  @Test
+  @Owner(developers = ABHINAV)
+  @Category(UnitTests.class)
+  public void testFoldersAreServedOnlyAtTheirVersion() {
+    Map<String, FolderNode> folders = ImmutableMap.of("Applications", new FolderNode());
+    yamlDirectoryTreeCache.put("key", 4, folders);
+
+    assertThat(yamlDirectoryTreeCache.get("key", 4)).isEqualTo(folders);
+    assertThat(yamlDirectoryTreeCache.get("key", 5)).isNull();
+    assertThat(yamlDirectoryTreeCache.get("otherKey", 4)).isNull();
+  }
+
+  private void assertVersion(long applicationsVersion, long accountVersion) {
+    YamlDirectoryVersion version = yamlDirectoryTreeCache.getVersion(ACCOUNT_ID);
+    assertThat(version.getApplicationsVersion()).isEqualTo(applicationsVersion);
+    assertThat(version.getAccountVersion()).isEqualTo(accountVersion);
+  }
+}
@@ -22,6 +22,7 @@ import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,6 +41,9 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
   public static final String DELEGATE_TASK_REBROADCAST = "delegate_task_rebroadcast";
   public static final String DELEGATE_TASK_VALIDATION = "delegate_task_validation";
   public static final String DELEGATE_TASK_NO_FIRST_WHITELISTED = "delegate_task_no_first_whitelisted";
+  public static final String DELEGATE_TASK_ACQUIRE_ATTEMPT = "delegate_task_acquire_attempt";
+  public static final String DELEGATE_TASK_ASSIGNMENT_TIME = "delegate_task_assignment_time";
+  public static final String DELEGATE_TASK_DISPATCH_LOAD_SKEW = "delegate_task_dispatch_load_skew";
 
   public static final String DELEGATE_REGISTRATION_FAILED = "delegate_registration_failed";
   public static final String DELEGATE_RESTARTED = "delegate_restarted";
@@ -95,6 +99,20 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
     }
   }
 
+  @Override
+  public void recordDelegateTaskMetrics(DelegateTask task, String metricName, double value) {
+    try (DelegateTaskMetricContext ignore = new DelegateTaskMetricContext(task.getAccountId())) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
+  @Override
+  public void recordDelegateTaskDuration(DelegateTask task, String metricName, Duration duration) {
+    try (DelegateTaskMetricContext ignore = new DelegateTaskMetricContext(task.getAccountId())) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
+
   @Override
   public void recordDelegateTaskResponseMetrics(
       DelegateTask delegateTask, DelegateTaskResponse response, String metricName) {
@@ -11,11 +11,17 @@ import io.harness.beans.DelegateTask;
 import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.DelegateTaskResponse;
 
+import java.time.Duration;
+
 public interface DelegateMetricsService {
   void recordDelegateTaskMetrics(DelegateTask task, String metricName);
 
   void recordDelegateTaskMetrics(String accountId, String metricName);
 
+  void recordDelegateTaskMetrics(DelegateTask task, String metricName, double value);
+
+  void recordDelegateTaskDuration(DelegateTask task, String metricName, Duration duration);
+
   void recordDelegateTaskResponseMetrics(DelegateTask delegateTask, DelegateTaskResponse response, String metricName);
 
   void recordDelegateMetrics(Delegate delegate, String metricName);
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the load of the delegates heartbeating to this manager, so that a new task can be offered to a lightly loaded
+ * delegate first instead of to a random one.
+ *
+ * The load of a delegate is the number of tasks it reported as executing in its last heartbeat plus the number of tasks
+ * dispatched to it since then. Loads not refreshed by a heartbeat within a few heartbeat intervals are dropped, and a
+ * delegate without a known load is never preferred over or to another one.
+ */
+@Singleton
+@OwnedBy(DEL)
+public class DelegateLoadTracker {
+  private static final long LOAD_EXPIRY_MINUTES = 3;
+  private static final int UNKNOWN_LOAD = -1;
+
+  private final Cache<String, DelegateLoad> loads =
+      CacheBuilder.newBuilder().expireAfterWrite(LOAD_EXPIRY_MINUTES, TimeUnit.MINUTES).build();
+
+  public void recordHeartbeat(String delegateId, List<String> executingTaskIds) {
+    loads.put(delegateId, new DelegateLoad(executingTaskIds.size()));
+  }
+
+  public void recordDispatch(String delegateId) {
+    DelegateLoad load = loads.getIfPresent(delegateId);
+    if (load != null) {
+      load.dispatchedTasks.incrementAndGet();
+    }
+  }
+
+  /**
+   * Returns the load of the delegate, or -1 if it is not known.
+   */
+  public int getLoad(String delegateId) {
+    DelegateLoad load = loads.getIfPresent(delegateId);
+    return load == null ? UNKNOWN_LOAD : load.executingTasks + load.dispatchedTasks.get();
+  }
+
+  /**
+   * Returns the second delegate if its load is known to be lower than the load of the first one, otherwise the first.
+   */
+  public String getLessLoaded(String delegateId, String otherDelegateId) {
+    int load = getLoad(delegateId);
+    int otherLoad = getLoad(otherDelegateId);
+    return load != UNKNOWN_LOAD && otherLoad != UNKNOWN_LOAD && otherLoad < load ? otherDelegateId : delegateId;
+  }
+
+  /**
+   * Returns the difference between the highest and the lowest known load of the given delegates.
+   */
+  public int getLoadSkew(Collection<String> delegateIds) {
+    int min = Integer.MAX_VALUE;
+    int max = UNKNOWN_LOAD;
+    for (String delegateId : delegateIds) {
+      int load = getLoad(delegateId);
+      if (load != UNKNOWN_LOAD) {
+        min = Math.min(min, load);
+        max = Math.max(max, load);
+      }
+    }
+    return max == UNKNOWN_LOAD ? 0 : max - min;
+  }
+
+  private static class DelegateLoad {
+    private final int executingTasks;
+    private final AtomicInteger dispatchedTasks = new AtomicInteger();
+
+    DelegateLoad(int executingTasks) {
+      this.executingTasks = executingTasks;
+    }
+  }
+}
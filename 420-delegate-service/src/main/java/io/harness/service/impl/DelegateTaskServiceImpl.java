@@ -75,6 +75,7 @@ public class DelegateTaskServiceImpl implements DelegateTaskService {
   @Inject private DelegateMetricsService delegateMetricsService;
 
   @Inject private DelegateCache delegateCache;
+  @Inject private DelegateLoadTracker delegateLoadTracker;
 
   @Override
   public boolean isTaskTypeSupportedByAllDelegates(String accountId, String taskType) {
@@ -84,6 +85,11 @@ public class DelegateTaskServiceImpl implements DelegateTaskService {
 
   @Override
   public void touchExecutingTasks(String accountId, String delegateId, List<String> delegateTaskIds) {
+    // Heartbeats that do not report the executing tasks leave the known load as it is
+    if (delegateTaskIds != null) {
+      delegateLoadTracker.recordHeartbeat(delegateId, delegateTaskIds);
+    }
+
     // Touch currently executing tasks.
     if (EmptyPredicate.isEmpty(delegateTaskIds)) {
       return;
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class DelegateLoadTrackerTest extends CategoryTest {
+  private final DelegateLoadTracker delegateLoadTracker = new DelegateLoadTracker();
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testLoadCountsDispatchedTasksUntilNextHeartbeat() {
+    assertThat(delegateLoadTracker.getLoad("delegate1")).isEqualTo(-1);
+
+    delegateLoadTracker.recordHeartbeat("delegate1", Arrays.asList("task1", "task2"));
+    delegateLoadTracker.recordDispatch("delegate1");
+    delegateLoadTracker.recordDispatch("delegate2");
+    assertThat(delegateLoadTracker.getLoad("delegate1")).isEqualTo(3);
+    assertThat(delegateLoadTracker.getLoad("delegate2")).isEqualTo(-1);
+
+    delegateLoadTracker.recordHeartbeat("delegate1", Collections.singletonList("task3"));
+    assertThat(delegateLoadTracker.getLoad("delegate1")).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetLessLoaded() {
+    delegateLoadTracker.recordHeartbeat("busy", Arrays.asList("task1", "task2"));
+    delegateLoadTracker.recordHeartbeat("idle", Collections.emptyList());
+    delegateLoadTracker.recordHeartbeat("alsoIdle", Collections.emptyList());
+
+    assertThat(delegateLoadTracker.getLessLoaded("busy", "idle")).isEqualTo("idle");
+    assertThat(delegateLoadTracker.getLessLoaded("idle", "busy")).isEqualTo("idle");
+    assertThat(delegateLoadTracker.getLessLoaded("idle", "alsoIdle")).isEqualTo("idle");
+    // Without a known load the first delegate is kept
+    assertThat(delegateLoadTracker.getLessLoaded("busy", "unknown")).isEqualTo("busy");
+    assertThat(delegateLoadTracker.getLessLoaded("unknown", "idle")).isEqualTo("unknown");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetLoadSkew() {
+    delegateLoadTracker.recordHeartbeat("busy", Arrays.asList("task1", "task2", "task3"));
+    delegateLoadTracker.recordHeartbeat("idle", Collections.emptyList());
+    delegateLoadTracker.recordDispatch("idle");
+
+    assertThat(delegateLoadTracker.getLoadSkew(Arrays.asList("busy", "idle", "unknown"))).isEqualTo(2);
+    assertThat(delegateLoadTracker.getLoadSkew(Arrays.asList("busy", "unknown"))).isEqualTo(0);
+    assertThat(delegateLoadTracker.getLoadSkew(Collections.singletonList("unknown"))).isEqualTo(0);
+  }
+}
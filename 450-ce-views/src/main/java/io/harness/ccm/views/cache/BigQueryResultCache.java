@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.QueryParameterValue;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.TableResult;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches the rows of perspective queries under a fingerprint of the query text, its parameters and the ingestion
+ * watermark (last modified time) of every table of the billing dataset the query reads. New billing data moves the
+ * watermark and with it the fingerprint, so entries never have to be invalidated. Concurrent identical queries share
+ * one BigQuery job.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(CE)
+public class BigQueryResultCache {
+  // Watermarks are re-read at most once per minute and table, a metadata read does not scan any bytes
+  private static final long WATERMARK_REFRESH_SECONDS = 60;
+  private static final int MAX_CACHED_ROWS_PER_RESULT = 10_000;
+
+  private final BigQueryResultCacheStore resultCacheStore;
+  private final Cache<String, Long> tableWatermarks = CacheBuilder.newBuilder()
+                                                         .maximumSize(10_000)
+                                                         .expireAfterWrite(WATERMARK_REFRESH_SECONDS, TimeUnit.SECONDS)
+                                                         .build();
+  private final Map<String, CompletableFuture<CachedTableResult>> inFlightQueries = new ConcurrentHashMap<>();
+
+  @Inject
+  public BigQueryResultCache(BigQueryResultCacheStore resultCacheStore) {
+    this.resultCacheStore = resultCacheStore;
+  }
+
+  /**
+   * Runs the query unless an identical query on unchanged data already ran. cloudProviderTableName is the
+   * project.dataset.table of the perspective, every table of that dataset referenced by the query is watermarked.
+   */
+  public TableResult query(BigQuery bigQuery, QueryJobConfiguration queryConfig, String cloudProviderTableName)
+      throws InterruptedException {
+    String fingerprint = getFingerprint(bigQuery, queryConfig, cloudProviderTableName);
+    if (fingerprint == null) {
+      return bigQuery.query(queryConfig);
+    }
+
+    CachedTableResult cachedResult = resultCacheStore.get(fingerprint);
+    if (cachedResult != null) {
+      return cachedResult.toTableResult();
+    }
+
+    CompletableFuture<CachedTableResult> newQuery = new CompletableFuture<>();
+    CompletableFuture<CachedTableResult> inFlightQuery = inFlightQueries.putIfAbsent(fingerprint, newQuery);
+    if (inFlightQuery != null) {
+      return awaitInFlightQuery(inFlightQuery).toTableResult();
+    }
+
+    try {
+      CachedTableResult result = CachedTableResult.of(bigQuery.query(queryConfig));
+      if (result.getRows().size() <= MAX_CACHED_ROWS_PER_RESULT) {
+        resultCacheStore.put(fingerprint, result);
+      }
+      newQuery.complete(result);
+      return result.toTableResult();
+    } catch (InterruptedException | RuntimeException e) {
+      newQuery.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightQueries.remove(fingerprint, newQuery);
+    }
+  }
+
+  private CachedTableResult awaitInFlightQuery(CompletableFuture<CachedTableResult> inFlightQuery)
+      throws InterruptedException {
+    try {
+      return inFlightQuery.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof InterruptedException) {
+        // The job was abandoned by the thread that started it, not by this one
+        throw new IllegalStateException("Identical BigQuery query was interrupted", cause);
+      }
+      if (cause instanceof RuntimeException) {
+        throw(RuntimeException) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private String getFingerprint(BigQuery bigQuery, QueryJobConfiguration queryConfig, String cloudProviderTableName) {
+    String query = queryConfig.getQuery();
+    List<TableId> sourceTables = getSourceTables(query, cloudProviderTableName);
+    if (sourceTables.isEmpty()) {
+      return null;
+    }
+
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(query, StandardCharsets.UTF_8);
+    hasher.putBoolean(Boolean.TRUE.equals(queryConfig.useLegacySql()));
+    if (queryConfig.getPositionalParameters() != null) {
+      for (QueryParameterValue parameter : queryConfig.getPositionalParameters()) {
+        hasher.putString(String.valueOf(parameter), StandardCharsets.UTF_8);
+      }
+    }
+    if (queryConfig.getNamedParameters() != null) {
+      // Named parameters in a stable order, the same parameters must not produce different fingerprints
+      for (Map.Entry<String, QueryParameterValue> parameter :
+          new TreeMap<>(queryConfig.getNamedParameters()).entrySet()) {
+        hasher.putString(parameter.getKey(), StandardCharsets.UTF_8);
+        hasher.putString(String.valueOf(parameter.getValue()), StandardCharsets.UTF_8);
+      }
+    }
+    for (TableId tableId : sourceTables) {
+      Long watermark = getWatermark(bigQuery, tableId);
+      if (watermark == null) {
+        return null;
+      }
+      hasher.putString(getTableKey(tableId), StandardCharsets.UTF_8);
+      hasher.putLong(watermark);
+    }
+    return hasher.hash().toString();
+  }
+
+  private List<TableId> getSourceTables(String query, String cloudProviderTableName) {
+    if (query == null || cloudProviderTableName == null) {
+      return List.of();
+    }
+    String[] tableNameSplit = cloudProviderTableName.split("\\.");
+    if (tableNameSplit.length != 3) {
+      return List.of();
+    }
+    Pattern tablePattern =
+        Pattern.compile(Pattern.quote(tableNameSplit[0] + "." + tableNameSplit[1] + ".") + "([A-Za-z0-9_]+)");
+    Matcher matcher = tablePattern.matcher(query);
+    TreeSet<String> tableNames = new TreeSet<>();
+    while (matcher.find()) {
+      tableNames.add(matcher.group(1));
+    }
+    return tableNames.stream()
+        .map(tableName -> TableId.of(tableNameSplit[0], tableNameSplit[1], tableName))
+        .collect(Collectors.toList());
+  }
+
+  private Long getWatermark(BigQuery bigQuery, TableId tableId) {
+    String tableKey = getTableKey(tableId);
+    Long watermark = tableWatermarks.getIfPresent(tableKey);
+    if (watermark != null) {
+      return watermark;
+    }
+    try {
+      Table table = bigQuery.getTable(tableId);
+      if (table == null) {
+        return null;
+      }
+      watermark = table.getLastModifiedTime() != null ? table.getLastModifiedTime() : table.getCreationTime();
+    } catch (RuntimeException e) {
+      log.warn("Failed to read last modified time of table {}, query is not cached", tableKey, e);
+      return null;
+    }
+    if (watermark != null) {
+      tableWatermarks.put(tableKey, watermark);
+    }
+    return watermark;
+  }
+
+  private static String getTableKey(TableId tableId) {
+    return tableId.getProject() + "." + tableId.getDataset() + "." + tableId.getTable();
+  }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.ImplementedBy;
+
+/**
+ * Backend of {@link BigQueryResultCache}. Keys are query fingerprints which already include the watermark of the
+ * source tables, a store only has to bound its size and the age of its entries.
+ */
+@OwnedBy(CE)
+@ImplementedBy(InMemoryBigQueryResultCacheStore.class)
+public interface BigQueryResultCacheStore {
+  CachedTableResult get(String fingerprint);
+
+  void put(String fingerprint, CachedTableResult result);
+}
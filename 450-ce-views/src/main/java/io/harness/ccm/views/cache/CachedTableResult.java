@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.cloud.PageImpl;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.TableResult;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Fully fetched rows of a query. A {@link TableResult} fetches its pages lazily from BigQuery, the cache keeps the
+ * rows instead and hands out a new single page TableResult on every hit.
+ */
+@Value
+@OwnedBy(CE)
+public class CachedTableResult {
+  Schema schema;
+  long totalRows;
+  List<FieldValueList> rows;
+
+  public static CachedTableResult of(TableResult result) {
+    return new CachedTableResult(
+        result.getSchema(), result.getTotalRows(), ImmutableList.copyOf(result.iterateAll()));
+  }
+
+  public TableResult toTableResult() {
+    return new TableResult(schema, totalRows, new PageImpl<>(null, null, rows));
+  }
+}
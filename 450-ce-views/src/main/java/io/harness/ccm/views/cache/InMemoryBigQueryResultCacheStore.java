@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+@OwnedBy(CE)
+@Singleton
+public class InMemoryBigQueryResultCacheStore implements BigQueryResultCacheStore {
+  // Weighed by rows so a few large grids can not push out every summary card
+  private static final long MAX_CACHED_ROWS = 200_000;
+  private static final long EXPIRE_AFTER_WRITE_MINUTES = 15;
+
+  private final Cache<String, CachedTableResult> results =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CACHED_ROWS)
+          .weigher((String fingerprint, CachedTableResult result) -> Math.max(1, result.getRows().size()))
+          .expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  @Override
+  public CachedTableResult get(String fingerprint) {
+    return results.getIfPresent(fingerprint);
+  }
+
+  @Override
+  public void put(String fingerprint, CachedTableResult result) {
+    results.put(fingerprint, result);
+  }
+}
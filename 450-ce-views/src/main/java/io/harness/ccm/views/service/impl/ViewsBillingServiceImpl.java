@@ -103,6 +103,7 @@ import static java.lang.String.format;
 import static org.joda.time.Months.monthsBetween;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
 import io.harness.ccm.budget.utils.BudgetUtils;
 import io.harness.ccm.commons.service.intf.EntityMetadataService;
 import io.harness.ccm.views.businessMapping.entities.BusinessMapping;
@@ -111,6 +112,7 @@ import io.harness.ccm.views.businessMapping.entities.SharedCost;
 import io.harness.ccm.views.businessMapping.entities.SharingStrategy;
 import io.harness.ccm.views.businessMapping.entities.UnallocatedCostStrategy;
 import io.harness.ccm.views.businessMapping.service.intf.BusinessMappingService;
+import io.harness.ccm.views.cache.BigQueryResultCache;
 import io.harness.ccm.views.entities.CEView;
 import io.harness.ccm.views.entities.ClusterData;
 import io.harness.ccm.views.entities.ClusterData.ClusterDataBuilder;
@@ -161,6 +163,7 @@ import io.harness.ccm.views.service.CEViewService;
 import io.harness.ccm.views.service.ViewsBillingService;
 import io.harness.ccm.views.utils.ViewFieldUtils;
 import io.harness.exception.InvalidRequestException;
+import io.harness.ff.FeatureFlagService;
 
 import com.google.cloud.Timestamp;
 import com.google.cloud.bigquery.BigQuery;
@@ -217,6 +220,8 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Inject private BusinessMappingService businessMappingService;
   @Inject private AwsAccountFieldHelper awsAccountFieldHelper;
   @Inject private BusinessMappingDataSourceHelper businessMappingDataSourceHelper;
+  @Inject private FeatureFlagService featureFlagService;
+  @Inject private BigQueryResultCache bigQueryResultCache;
 
   private static final String OTHERS = "Others";
   private static final String COST_DESCRIPTION = "of %s - %s";
@@ -371,7 +376,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     log.info("Query for grid (with limit as {}): {}", limit, query.toString());
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = runQuery(bigQuery, queryConfig, cloudProviderTableName, queryParams);
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataPoints for query {}", query, e);
       Thread.currentThread().interrupt();
@@ -425,7 +430,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
         groupBy, aggregateFunction, sort, cloudProviderTableName, queryParams);
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     try {
-      return bigQuery.query(queryConfig);
+      return runQuery(bigQuery, queryConfig, cloudProviderTableName, queryParams);
     } catch (InterruptedException e) {
       log.error("Failed to getTimeSeriesStats for query: {}", query, e);
       Thread.currentThread().interrupt();
@@ -447,7 +452,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
           aggregateFunction, sort, cloudProviderTableName, queryParams);
       final QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
       try {
-        return convertToCostData(bigQuery.query(queryConfig));
+        return convertToCostData(runQuery(bigQuery, queryConfig, cloudProviderTableName, queryParams));
       } catch (final InterruptedException e) {
         log.error("Failed to getUnallocatedCostDataNg for query: {}", query, e);
         Thread.currentThread().interrupt();
@@ -483,7 +488,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
             getTimeTruncGroupBys(groupBy), aggregateFunction, sort, cloudProviderTableName, queryParams);
     final QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     try {
-      return convertToCostData(bigQuery.query(queryConfig));
+      return convertToCostData(runQuery(bigQuery, queryConfig, cloudProviderTableName, queryParams));
     } catch (final InterruptedException e) {
       log.error("Failed to getOthersTotalCostDataNg for query: {}", query, e);
       Thread.currentThread().interrupt();
@@ -530,10 +535,10 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     double prevSharedCostFromRulesAndFilters =
         getTotalSharedCostFromFilters(bigQuery, viewsQueryHelper.getUpdatedFiltersForPrevPeriod(filters), groupBy,
             aggregateFunction, Collections.emptyList(), cloudProviderTableName, queryParams, MAX_LIMIT_VALUE, 0, false);
-    ViewCostData costData =
-        getViewTrendStatsCostData(bigQuery, query, isClusterTableQuery, businessMapping, sharedCostFromRulesAndFilters);
-    ViewCostData prevCostData = getViewTrendStatsCostData(
-        bigQuery, prevTrendStatsQuery, isClusterTableQuery, businessMapping, prevSharedCostFromRulesAndFilters);
+    ViewCostData costData = getViewTrendStatsCostData(bigQuery, query, isClusterTableQuery, businessMapping,
+        sharedCostFromRulesAndFilters, cloudProviderTableName, queryParams);
+    ViewCostData prevCostData = getViewTrendStatsCostData(bigQuery, prevTrendStatsQuery, isClusterTableQuery,
+        businessMapping, prevSharedCostFromRulesAndFilters, cloudProviderTableName, queryParams);
 
     EfficiencyScoreStats efficiencyScoreStats = null;
     if (isClusterTableQuery) {
@@ -696,8 +701,8 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
         filters, idFilters, timeFilters, groupBy, aggregateFunction, viewRuleList, cloudProviderTableName, queryParams);
     double sharedCostFromFiltersAndRules = getTotalSharedCostFromFilters(bigQuery, filters, groupBy, aggregateFunction,
         Collections.emptyList(), cloudProviderTableName, queryParams, MAX_LIMIT_VALUE, 0, false);
-    return getViewTrendStatsCostData(
-        bigQuery, query, isClusterTableQuery, businessMapping, sharedCostFromFiltersAndRules);
+    return getViewTrendStatsCostData(bigQuery, query, isClusterTableQuery, businessMapping,
+        sharedCostFromFiltersAndRules, cloudProviderTableName, queryParams);
   }
 
   public Double[] getActualCostGroupedByPeriod(BigQuery bigQuery, List<QLCEViewFilterWrapper> filters,
@@ -847,7 +852,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
       QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
       TableResult result;
       try {
-        result = bigQuery.query(queryConfig);
+        result = runQuery(bigQuery, queryConfig, cloudProviderTableName, queryParams);
       } catch (InterruptedException e) {
         log.error("Failed to getSharedCostFromFilters.", e);
         Thread.currentThread().interrupt();
@@ -1068,7 +1073,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
       QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
       TableResult result;
       try {
-        result = bigQuery.query(queryConfig);
+        result = runQuery(bigQuery, queryConfig, cloudProviderTableName, queryParams);
       } catch (InterruptedException e) {
         log.error("Failed to getSharedCostFromFilters.", e);
         Thread.currentThread().interrupt();
@@ -1198,11 +1203,12 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   }
 
   private ViewCostData getViewTrendStatsCostData(BigQuery bigQuery, SelectQuery query, boolean isClusterTableQuery,
-      BusinessMapping businessMappingFromGroupBy, double sharedCostFromFiltersAndRules) {
+      BusinessMapping businessMappingFromGroupBy, double sharedCostFromFiltersAndRules, String cloudProviderTableName,
+      ViewQueryParams queryParams) {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = runQuery(bigQuery, queryConfig, cloudProviderTableName, queryParams);
     } catch (InterruptedException e) {
       log.error("Failed to getTrendStatsData. {}", e);
       Thread.currentThread().interrupt();
@@ -1212,6 +1218,16 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
         result, isClusterTableQuery, businessMappingFromGroupBy, sharedCostFromFiltersAndRules);
   }
 
+  // Perspective queries of an account with the result cache enabled share results while the billing data is unchanged
+  private TableResult runQuery(BigQuery bigQuery, QueryJobConfiguration queryConfig, String cloudProviderTableName,
+      ViewQueryParams queryParams) throws InterruptedException {
+    String accountId = queryParams != null ? queryParams.getAccountId() : null;
+    if (accountId != null && featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_QUERY_RESULT_CACHE, accountId)) {
+      return bigQueryResultCache.query(bigQuery, queryConfig, cloudProviderTableName);
+    }
+    return bigQuery.query(queryConfig);
+  }
+
   private ViewCostData convertToTrendStatsData(TableResult result, boolean isClusterTableQuery,
       BusinessMapping businessMappingFromGroupBy, double sharedCostFromFiltersAndRules) {
     Schema schema = result.getSchema();
@@ -2291,7 +2307,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     log.info("Query for cost trend (with limit as {}): {}", limit, query.toString());
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = runQuery(bigQuery, queryConfig, cloudProviderTableName, queryParams);
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataForCostTrend. {}", e);
       Thread.currentThread().interrupt();
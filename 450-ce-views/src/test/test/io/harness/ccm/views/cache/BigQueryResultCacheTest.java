@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.cache;
+
+import static io.harness.rule.OwnerRule.ROHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.cloud.PageImpl;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.FieldValue;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.StandardSQLTypeName;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.TableResult;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class BigQueryResultCacheTest extends CategoryTest {
+  private static final String TABLE = "ccm-play.BillingReport_acc.unifiedTable";
+  private static final String QUERY = "SELECT SUM(cost) AS cost FROM ccm-play.BillingReport_acc.unifiedTable";
+
+  @Mock private BigQuery bigQuery;
+  @Mock private Table table;
+
+  private final BigQueryResultCacheStore resultCacheStore = new InMemoryBigQueryResultCacheStore();
+  private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    doReturn(table).when(bigQuery).getTable(TableId.of("ccm-play", "BillingReport_acc", "unifiedTable"));
+    when(table.getLastModifiedTime()).thenReturn(1L);
+    when(bigQuery.query(any(QueryJobConfiguration.class))).thenAnswer(invocation -> tableResult(10.0));
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testIdenticalQueryServedFromCache() throws Exception {
+    BigQueryResultCache cache = newCache();
+    TableResult first = cache.query(bigQuery, QueryJobConfiguration.newBuilder(QUERY).build(), TABLE);
+    TableResult second = cache.query(bigQuery, QueryJobConfiguration.newBuilder(QUERY).build(), TABLE);
+
+    verify(bigQuery, times(1)).query(any(QueryJobConfiguration.class));
+    assertThat(cost(first)).isEqualTo(10.0);
+    // Every hit can be iterated again
+    assertThat(cost(second)).isEqualTo(10.0);
+    assertThat(cost(second)).isEqualTo(10.0);
+  }
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testQueryRunsAgainWhenWatermarkMoves() throws Exception {
+    newCache().query(bigQuery, QueryJobConfiguration.newBuilder(QUERY).build(), TABLE);
+
+    when(table.getLastModifiedTime()).thenReturn(2L);
+    // A new instance does not remember the old watermark, the store is shared
+    newCache().query(bigQuery, QueryJobConfiguration.newBuilder(QUERY).build(), TABLE);
+
+    verify(bigQuery, times(2)).query(any(QueryJobConfiguration.class));
+  }
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testQueryOutsideDatasetNotCached() throws Exception {
+    BigQueryResultCache cache = newCache();
+    QueryJobConfiguration queryConfig =
+        QueryJobConfiguration.newBuilder("SELECT * FROM ccm-play.CE_INTERNAL.costAggregated").build();
+    cache.query(bigQuery, queryConfig, TABLE);
+    cache.query(bigQuery, queryConfig, TABLE);
+
+    verify(bigQuery, times(2)).query(any(QueryJobConfiguration.class));
+  }
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testConcurrentIdenticalQueriesShareOneJob() throws Exception {
+    CountDownLatch queryStarted = new CountDownLatch(1);
+    CountDownLatch releaseQuery = new CountDownLatch(1);
+    when(bigQuery.query(any(QueryJobConfiguration.class))).thenAnswer(invocation -> {
+      queryStarted.countDown();
+      releaseQuery.await(5, TimeUnit.SECONDS);
+      return tableResult(10.0);
+    });
+    BigQueryResultCache cache = newCache();
+
+    Future<TableResult> first =
+        executorService.submit(() -> cache.query(bigQuery, QueryJobConfiguration.newBuilder(QUERY).build(), TABLE));
+    assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    Future<TableResult> second =
+        executorService.submit(() -> cache.query(bigQuery, QueryJobConfiguration.newBuilder(QUERY).build(), TABLE));
+    Thread.sleep(100);
+    releaseQuery.countDown();
+
+    assertThat(cost(first.get(5, TimeUnit.SECONDS))).isEqualTo(10.0);
+    assertThat(cost(second.get(5, TimeUnit.SECONDS))).isEqualTo(10.0);
+    verify(bigQuery, times(1)).query(any(QueryJobConfiguration.class));
+  }
+
+  private BigQueryResultCache newCache() {
+    return new BigQueryResultCache(resultCacheStore);
+  }
+
+  private static TableResult tableResult(double cost) {
+    Schema schema = Schema.of(Field.of("cost", StandardSQLTypeName.FLOAT64));
+    List<FieldValueList> rows = Collections.singletonList(FieldValueList.of(
+        Collections.singletonList(FieldValue.of(FieldValue.Attribute.PRIMITIVE, String.valueOf(cost))),
+        schema.getFields()));
+    return new TableResult(schema, rows.size(), new PageImpl<>(null, null, rows));
+  }
+
+  private static double cost(TableResult result) {
+    double cost = 0;
+    for (FieldValueList row : result.iterateAll()) {
+      cost += row.get("cost").getDoubleValue();
+    }
+    return cost;
+  }
+}
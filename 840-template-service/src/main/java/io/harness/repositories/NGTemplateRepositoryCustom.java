@@ -73,6 +73,14 @@ public interface NGTemplateRepositoryCustom {
   Page<TemplateEntity> findAll(
       String accountIdentifier, String orgIdentifier, String projectIdentifier, Criteria criteria, Pageable pageable);
 
+  List<TemplateEntity> findAll(Criteria criteria);
+
+  /**
+   * Fetches the yaml of remote templates from git, with one call per repo and branch. Templates which could not be
+   * fetched are left out of the result.
+   */
+  List<TemplateEntity> fetchRemoteEntities(List<TemplateEntity> savedEntities, boolean loadFromCache);
+
   boolean existsByAccountIdAndOrgIdAndProjectIdAndIdentifierAndVersionLabel(
       String accountId, String orgIdentifier, String projectIdentifier, String templateIdentifier, String versionLabel);
 
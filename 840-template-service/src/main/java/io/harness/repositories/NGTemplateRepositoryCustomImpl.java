@@ -44,8 +44,12 @@ import io.harness.template.utils.TemplateUtils;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import lombok.AccessLevel;
@@ -283,6 +287,39 @@ public class NGTemplateRepositoryCustomImpl implements NGTemplateRepositoryCusto
         Collections.emptyMap());
   }
 
+  @Override
+  public List<TemplateEntity> fetchRemoteEntities(List<TemplateEntity> savedEntities, boolean loadFromCache) {
+    Map<List<String>, List<TemplateEntity>> entitiesBySource = new LinkedHashMap<>();
+    for (TemplateEntity savedEntity : savedEntities) {
+      String branchName = templateGitXService.getWorkingBranch(savedEntity.getRepoURL());
+      entitiesBySource
+          .computeIfAbsent(Arrays.asList(savedEntity.getAccountId(), savedEntity.getOrgIdentifier(),
+                               savedEntity.getProjectIdentifier(), savedEntity.getConnectorRef(),
+                               savedEntity.getRepo(), branchName),
+              source -> new ArrayList<>())
+          .add(savedEntity);
+    }
+    List<TemplateEntity> fetchedEntities = new ArrayList<>();
+    entitiesBySource.forEach((source, entities) -> {
+      try {
+        fetchedEntities.addAll(gitAwareEntityHelper.fetchEntitiesFromRemote(entities,
+            Scope.of(source.get(0), source.get(1), source.get(2)),
+            GitContextRequestParams.builder()
+                .branchName(source.get(5))
+                .connectorRef(source.get(3))
+                .repoName(source.get(4))
+                .entityType(EntityType.TEMPLATE)
+                .loadFromCache(loadFromCache)
+                .build(),
+            Collections.emptyMap()));
+      } catch (Exception e) {
+        // Each template is read again on its own, which reports the error or falls back to its fallback branch
+        log.warn(format("Could not fetch %d templates from repo [%s] in one call", entities.size(), source.get(4)), e);
+      }
+    });
+    return fetchedEntities;
+  }
+
   TemplateEntity fetchRemoteEntityWithFallBackBranch(String accountId, String orgIdentifier, String projectIdentifier,
       TemplateEntity savedEntity, String branch, boolean loadFromCache) {
     try {
@@ -413,6 +450,11 @@ public class NGTemplateRepositoryCustomImpl implements NGTemplateRepositoryCusto
         () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), TemplateEntity.class));
   }
 
+  @Override
+  public List<TemplateEntity> findAll(Criteria criteria) {
+    return mongoTemplate.find(new Query(criteria), TemplateEntity.class);
+  }
+
   @Override
   public boolean existsByAccountIdAndOrgIdAndProjectIdAndIdentifierAndVersionLabel(String accountId,
       String orgIdentifier, String projectIdentifier, String templateIdentifier, String versionLabel) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.exception.ngexception.NGTemplateException;
+import io.harness.gitsync.beans.StoreType;
+import io.harness.template.beans.yaml.NGTemplateConfig;
+import io.harness.template.entity.TemplateEntity;
+import io.harness.utils.YamlPipelineUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the parsed template.spec of template versions across requests. Entries are keyed by the template scope,
+ * identifier, versionLabel and lastUpdatedAt of the stored document, so an update of the template yaml never hits a
+ * stale entry. Template update and delete events only drop the entries of older documents early.
+ *
+ * Remote templates are not cached, their yaml lives in git and can change without the document being touched.
+ * Cached specs are shared between requests and must not be mutated by callers.
+ */
+@OwnedBy(CDC)
+@Singleton
+@Slf4j
+public class ResolvedTemplateSpecCache {
+  private static final int MAX_SIZE = 5000;
+
+  private final Cache<TemplateSpecKey, JsonNode> templateSpecs =
+      CacheBuilder.newBuilder().maximumSize(MAX_SIZE).expireAfterAccess(30, TimeUnit.MINUTES).build();
+
+  public JsonNode getTemplateSpec(TemplateEntity templateEntity) {
+    if (!isCacheable(templateEntity)) {
+      return readTemplateSpec(templateEntity.getYaml());
+    }
+    TemplateSpecKey key = TemplateSpecKey.of(templateEntity);
+    JsonNode templateSpec = templateSpecs.getIfPresent(key);
+    if (templateSpec == null) {
+      templateSpec = readTemplateSpec(templateEntity.getYaml());
+      if (templateSpec != null) {
+        templateSpecs.put(key, templateSpec);
+      }
+    }
+    return templateSpec;
+  }
+
+  public void invalidate(TemplateEntity templateEntity) {
+    if (templateEntity == null) {
+      return;
+    }
+    templateSpecs.asMap().keySet().removeIf(key
+        -> Objects.equals(key.getAccountId(), templateEntity.getAccountId())
+            && Objects.equals(key.getOrgIdentifier(), templateEntity.getOrgIdentifier())
+            && Objects.equals(key.getProjectIdentifier(), templateEntity.getProjectIdentifier())
+            && Objects.equals(key.getIdentifier(), templateEntity.getIdentifier()));
+  }
+
+  private boolean isCacheable(TemplateEntity templateEntity) {
+    return templateEntity.getStoreType() != StoreType.REMOTE && templateEntity.getLastUpdatedAt() > 0;
+  }
+
+  private JsonNode readTemplateSpec(String templateYaml) {
+    try {
+      NGTemplateConfig templateConfig = YamlPipelineUtils.read(templateYaml, NGTemplateConfig.class);
+      return templateConfig.getTemplateInfoConfig().getSpec();
+    } catch (IOException e) {
+      log.error("Could not read template yaml", e);
+      throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
+    }
+  }
+
+  @Value
+  private static class TemplateSpecKey {
+    String accountId;
+    String orgIdentifier;
+    String projectIdentifier;
+    String identifier;
+    String versionLabel;
+    // Old git sync keeps one document per branch for the same template version
+    String uuid;
+    long lastUpdatedAt;
+
+    static TemplateSpecKey of(TemplateEntity templateEntity) {
+      return new TemplateSpecKey(templateEntity.getAccountId(), templateEntity.getOrgIdentifier(),
+          templateEntity.getProjectIdentifier(), templateEntity.getIdentifier(), templateEntity.getVersionLabel(),
+          templateEntity.getUuid(), templateEntity.getLastUpdatedAt());
+    }
+  }
+}
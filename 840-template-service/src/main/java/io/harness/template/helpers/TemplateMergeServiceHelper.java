@@ -31,6 +31,7 @@ import io.harness.exception.InvalidRequestException;
 import io.harness.exception.ngexception.NGTemplateException;
 import io.harness.exception.ngexception.beans.templateservice.TemplateInputsErrorDTO;
 import io.harness.exception.ngexception.beans.templateservice.TemplateInputsErrorMetadataDTO;
+import io.harness.gitsync.beans.StoreType;
 import io.harness.logging.AutoLogContext;
 import io.harness.pms.merger.YamlConfig;
 import io.harness.pms.merger.fqn.FQN;
@@ -40,8 +41,8 @@ import io.harness.pms.yaml.YamlField;
 import io.harness.pms.yaml.YamlNode;
 import io.harness.pms.yaml.YamlUtils;
 import io.harness.serializer.JsonUtils;
-import io.harness.template.beans.yaml.NGTemplateConfig;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.entity.TemplateEntity.TemplateEntityKeys;
 import io.harness.template.entity.TemplateEntityGetResponse;
 import io.harness.template.mappers.NGTemplateDtoMapper;
 import io.harness.template.services.NGTemplateServiceHelper;
@@ -54,7 +55,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.inject.Inject;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -64,7 +68,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 @OwnedBy(HarnessTeam.CDC)
 @AllArgsConstructor(onConstructor = @__({ @Inject }))
@@ -76,6 +82,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TemplateMergeServiceHelper {
   private static final int MAX_DEPTH = 10;
   private NGTemplateServiceHelper templateServiceHelper;
+  private ResolvedTemplateSpecCache resolvedTemplateSpecCache;
 
   // Gets the Template Entity linked to a YAML
   public TemplateEntityGetResponse getLinkedTemplateEntity(String accountId, String orgId, String projectId,
@@ -136,6 +143,157 @@ public class TemplateMergeServiceHelper {
     return template;
   }
 
+  /**
+   * Loads the templates linked in the yaml into templateCacheMap before the recursive merge asks for them one at a
+   * time. References are collected one nesting level at a time and every level is read with a single query, the next
+   * level is then collected from the template.spec of the templates just loaded. The yaml of remote templates is
+   * fetched with one git call per repo and branch. Invalid templates, remote templates that could not be fetched and
+   * scopes on old git sync are left to the regular lookup.
+   */
+  public void prefetchLinkedTemplates(String accountId, String orgId, String projectId, YamlNode yamlNode,
+      Map<String, TemplateEntity> templateCacheMap, boolean loadFromCache) {
+    Set<String> visitedTemplates = new HashSet<>();
+    Map<String, Boolean> oldGitSyncScopes = new HashMap<>();
+    List<JsonNode> currentLevel = Collections.singletonList(yamlNode.getCurrJsonNode());
+    for (int depth = 0; depth < MAX_DEPTH && isNotEmpty(currentLevel); depth++) {
+      Map<String, LinkedTemplateRef> linkedTemplateRefs = new LinkedHashMap<>();
+      for (JsonNode node : currentLevel) {
+        collectLinkedTemplateRefs(accountId, orgId, projectId, node, linkedTemplateRefs);
+      }
+      linkedTemplateRefs.keySet().removeAll(visitedTemplates);
+      visitedTemplates.addAll(linkedTemplateRefs.keySet());
+      loadLinkedTemplates(linkedTemplateRefs, templateCacheMap, oldGitSyncScopes, loadFromCache);
+
+      List<JsonNode> nextLevel = new ArrayList<>();
+      for (String templateUniqueIdentifier : linkedTemplateRefs.keySet()) {
+        TemplateEntity templateEntity = templateCacheMap.get(templateUniqueIdentifier);
+        if (templateEntity == null) {
+          continue;
+        }
+        try {
+          JsonNode templateSpec = resolvedTemplateSpecCache.getTemplateSpec(templateEntity);
+          if (templateSpec != null) {
+            nextLevel.add(templateSpec);
+          }
+        } catch (NGTemplateException e) {
+          // The merge reports the unreadable template yaml when it gets to it
+          log.warn("[TemplateService] Skipping prefetch of templates nested in {}", templateUniqueIdentifier);
+        }
+      }
+      currentLevel = nextLevel;
+    }
+  }
+
+  private void collectLinkedTemplateRefs(String accountId, String orgId, String projectId, JsonNode node,
+      Map<String, LinkedTemplateRef> linkedTemplateRefs) {
+    if (node.isArray()) {
+      for (JsonNode element : node) {
+        collectLinkedTemplateRefs(accountId, orgId, projectId, element, linkedTemplateRefs);
+      }
+      return;
+    }
+    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if (isTemplatePresent(field.getKey(), field.getValue())) {
+        addLinkedTemplateRef(accountId, orgId, projectId, field.getValue(), linkedTemplateRefs);
+      }
+      collectLinkedTemplateRefs(accountId, orgId, projectId, field.getValue(), linkedTemplateRefs);
+    }
+  }
+
+  private void addLinkedTemplateRef(String accountId, String orgId, String projectId, JsonNode template,
+      Map<String, LinkedTemplateRef> linkedTemplateRefs) {
+    String versionLabel =
+        template.get(TEMPLATE_VERSION_LABEL) == null ? "" : template.get(TEMPLATE_VERSION_LABEL).asText();
+    IdentifierRef templateIdentifierRef;
+    try {
+      templateIdentifierRef =
+          IdentifierRefHelper.getIdentifierRef(template.get(TEMPLATE_REF).asText(), accountId, orgId, projectId);
+    } catch (Exception e) {
+      // Invalid references are reported by the regular lookup
+      return;
+    }
+    String templateUniqueIdentifier = generateUniqueTemplateIdentifier(templateIdentifierRef.getAccountIdentifier(),
+        templateIdentifierRef.getOrgIdentifier(), templateIdentifierRef.getProjectIdentifier(),
+        templateIdentifierRef.getIdentifier(), isEmpty(versionLabel) ? STABLE_VERSION : versionLabel);
+    linkedTemplateRefs.putIfAbsent(
+        templateUniqueIdentifier, new LinkedTemplateRef(templateIdentifierRef, versionLabel));
+  }
+
+  private void loadLinkedTemplates(Map<String, LinkedTemplateRef> linkedTemplateRefs,
+      Map<String, TemplateEntity> templateCacheMap, Map<String, Boolean> oldGitSyncScopes, boolean loadFromCache) {
+    List<Criteria> templateCriteria = new ArrayList<>();
+    linkedTemplateRefs.forEach((templateUniqueIdentifier, linkedTemplateRef) -> {
+      IdentifierRef ref = linkedTemplateRef.getIdentifierRef();
+      boolean oldGitSync = oldGitSyncScopes.computeIfAbsent(
+          generateUniqueTemplateIdentifier(
+              ref.getAccountIdentifier(), ref.getOrgIdentifier(), ref.getProjectIdentifier(), "", ""),
+          scope
+          -> templateServiceHelper.isOldGitSync(
+              ref.getAccountIdentifier(), ref.getOrgIdentifier(), ref.getProjectIdentifier()));
+      if (templateCacheMap.containsKey(templateUniqueIdentifier) || oldGitSync) {
+        return;
+      }
+      Criteria criteria = Criteria.where(TemplateEntityKeys.accountId)
+                              .is(ref.getAccountIdentifier())
+                              .and(TemplateEntityKeys.orgIdentifier)
+                              .is(ref.getOrgIdentifier())
+                              .and(TemplateEntityKeys.projectIdentifier)
+                              .is(ref.getProjectIdentifier())
+                              .and(TemplateEntityKeys.identifier)
+                              .is(ref.getIdentifier())
+                              .and(TemplateEntityKeys.deleted)
+                              .is(false);
+      if (isEmpty(linkedTemplateRef.getVersionLabel())) {
+        criteria.and(TemplateEntityKeys.isStableTemplate).is(true);
+      } else {
+        criteria.and(TemplateEntityKeys.versionLabel).is(linkedTemplateRef.getVersionLabel());
+      }
+      templateCriteria.add(criteria);
+    });
+    if (templateCriteria.isEmpty()) {
+      return;
+    }
+
+    List<TemplateEntity> templateEntities = new ArrayList<>();
+    List<TemplateEntity> remoteTemplateEntities = new ArrayList<>();
+    for (TemplateEntity templateEntity :
+        templateServiceHelper.findAllTemplates(new Criteria().orOperator(templateCriteria.toArray(new Criteria[0])))) {
+      if (templateEntity.isEntityInvalid()) {
+        continue;
+      }
+      if (templateEntity.getStoreType() == StoreType.REMOTE) {
+        remoteTemplateEntities.add(templateEntity);
+      } else {
+        templateEntities.add(templateEntity);
+      }
+    }
+    if (isNotEmpty(remoteTemplateEntities)) {
+      templateEntities.addAll(templateServiceHelper.fetchRemoteTemplates(remoteTemplateEntities, loadFromCache));
+    }
+    for (TemplateEntity templateEntity : templateEntities) {
+      String versionedIdentifier = generateUniqueTemplateIdentifier(templateEntity.getAccountId(),
+          templateEntity.getOrgIdentifier(), templateEntity.getProjectIdentifier(), templateEntity.getIdentifier(),
+          templateEntity.getVersionLabel());
+      if (linkedTemplateRefs.containsKey(versionedIdentifier)) {
+        templateCacheMap.putIfAbsent(versionedIdentifier, templateEntity);
+      }
+      String stableIdentifier = generateUniqueTemplateIdentifier(templateEntity.getAccountId(),
+          templateEntity.getOrgIdentifier(), templateEntity.getProjectIdentifier(), templateEntity.getIdentifier(),
+          STABLE_VERSION);
+      if (templateEntity.isStableTemplate() && linkedTemplateRefs.containsKey(stableIdentifier)) {
+        templateCacheMap.putIfAbsent(stableIdentifier, templateEntity);
+      }
+    }
+  }
+
+  @Value
+  private static class LinkedTemplateRef {
+    IdentifierRef identifierRef;
+    String versionLabel;
+  }
+
   // Checks if the current Json node is a Template node with fieldName as TEMPLATE and Non-null Value
   public boolean isTemplatePresent(String fieldName, JsonNode templateValue) {
     return TEMPLATE.equals(fieldName) && templateValue.isObject() && templateValue.get(TEMPLATE_REF) != null;
@@ -363,16 +521,7 @@ public class TemplateMergeServiceHelper {
     TemplateEntityGetResponse templateEntityGetResponse =
         getLinkedTemplateEntity(accountId, orgId, projectId, template, templateCacheMap, loadFromCache);
     TemplateEntity templateEntity = templateEntityGetResponse.getTemplateEntity();
-    String templateYaml = templateEntity.getYaml();
-
-    JsonNode templateSpec;
-    try {
-      NGTemplateConfig templateConfig = YamlPipelineUtils.read(templateYaml, NGTemplateConfig.class);
-      templateSpec = templateConfig.getTemplateInfoConfig().getSpec();
-    } catch (IOException e) {
-      log.error("Could not read template yaml", e);
-      throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
-    }
+    JsonNode templateSpec = resolvedTemplateSpecCache.getTemplateSpec(templateEntity);
 
     return mergeTemplateInputsToTemplateSpecInTemplateYaml(templateInputs, templateSpec);
   }
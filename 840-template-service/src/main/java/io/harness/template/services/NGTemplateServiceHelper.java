@@ -484,6 +484,15 @@ public class NGTemplateServiceHelper {
     }
   }
 
+  // Reads the matching template documents as stored in db, remote yamls are not fetched from git
+  public List<TemplateEntity> findAllTemplates(Criteria criteria) {
+    return templateRepository.findAll(criteria);
+  }
+
+  public List<TemplateEntity> fetchRemoteTemplates(List<TemplateEntity> templateEntities, boolean loadFromCache) {
+    return templateRepository.fetchRemoteEntities(templateEntities, loadFromCache);
+  }
+
   public boolean isOldGitSync(TemplateEntity templateEntity) {
     return gitSyncSdkService.isGitSyncEnabled(
         templateEntity.getAccountId(), templateEntity.getOrgIdentifier(), templateEntity.getProjectIdentifier());
@@ -16,6 +16,7 @@ import static io.harness.template.beans.NGTemplateConstants.TEMPLATE_VERSION_LAB
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.exception.InvalidRequestException;
 import io.harness.exception.ngexception.NGTemplateException;
@@ -37,6 +38,7 @@ import io.harness.template.helpers.MergeTemplateInputsInObject;
 import io.harness.template.helpers.TemplateInputsValidator;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 import io.harness.template.mappers.NGTemplateDtoMapper;
+import io.harness.template.utils.NGTemplateFeatureFlagHelperService;
 import io.harness.template.utils.TemplateUtils;
 import io.harness.utils.YamlPipelineUtils;
 
@@ -59,6 +61,7 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
   @Inject private NGTemplateServiceHelper templateServiceHelper;
   @Inject private TemplateInputsValidator templateInputsValidator;
   @Inject private TemplateMergeServiceHelper templateMergeServiceHelper;
+  @Inject private NGTemplateFeatureFlagHelperService ngTemplateFeatureFlagHelperService;
 
   @Override
   public String getTemplateInputs(String accountId, String orgIdentifier, String projectIdentifier,
@@ -88,6 +91,7 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
     YamlNode yamlNode = validateAndGetYamlNode(yaml);
     TemplateUtils.setupGitParentEntityDetails(accountId, orgId, projectId, null, null);
     Map<String, TemplateEntity> templateCacheMap = new HashMap<>();
+    prefetchLinkedTemplates(accountId, orgId, projectId, yamlNode, templateCacheMap, loadFromCache);
     TemplateInputsErrorMetadataDTO errorResponse = templateMergeServiceHelper.validateLinkedTemplateInputsInYaml(
         accountId, orgId, projectId, yamlNode, templateCacheMap, loadFromCache);
     if (errorResponse != null) {
@@ -107,6 +111,7 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
     YamlNode yamlNode = validateAndGetYamlNode(yaml);
     TemplateUtils.setupGitParentEntityDetails(accountId, orgId, projectId, null, null);
     Map<String, TemplateEntity> templateCacheMap = new HashMap<>();
+    prefetchLinkedTemplates(accountId, orgId, projectId, yamlNode, templateCacheMap, loadFromCache);
     ValidateTemplateInputsResponseDTO validateTemplateInputsResponse =
         templateInputsValidator.validateNestedTemplateInputsForGivenYaml(
             accountId, orgId, projectId, yaml, templateCacheMap, loadFromCache);
@@ -167,6 +172,14 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
         .build();
   }
 
+  private void prefetchLinkedTemplates(String accountId, String orgId, String projectId, YamlNode yamlNode,
+      Map<String, TemplateEntity> templateCacheMap, boolean loadFromCache) {
+    if (ngTemplateFeatureFlagHelperService.isEnabled(accountId, FeatureName.NG_TEMPLATE_MERGE_BATCH_PREFETCH)) {
+      templateMergeServiceHelper.prefetchLinkedTemplates(
+          accountId, orgId, projectId, yamlNode, templateCacheMap, loadFromCache);
+    }
+  }
+
   private YamlNode validateAndGetYamlNode(String yaml) {
     if (isEmpty(yaml)) {
       throw new NGTemplateException("Yaml to applyTemplates cannot be empty.");
@@ -44,6 +44,7 @@ import io.harness.security.SourcePrincipalContextData;
 import io.harness.security.dto.Principal;
 import io.harness.security.dto.UserPrincipal;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateSpecCache;
 import io.harness.template.helpers.TemplateReferenceHelper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -74,7 +75,8 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
     eventProducer = mock(Producer.class);
     templateReferenceHelper = mock(TemplateReferenceHelper.class);
     templateOutboxEventHandler =
-        spy(new TemplateOutboxEventHandler(auditClientService, eventProducer, templateReferenceHelper));
+        spy(new TemplateOutboxEventHandler(
+            auditClientService, eventProducer, templateReferenceHelper, new ResolvedTemplateSpecCache()));
     newYaml = Resources.toString(this.getClass().getClassLoader().getResource("template.yaml"), Charsets.UTF_8);
     oldYaml = Resources.toString(this.getClass().getClassLoader().getResource("template_updated.yaml"), Charsets.UTF_8);
   }
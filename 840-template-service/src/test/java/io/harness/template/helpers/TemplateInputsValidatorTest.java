@@ -72,6 +72,7 @@ public class TemplateInputsValidatorTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IOException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateSpecCache", new ResolvedTemplateSpecCache());
     on(inputsValidator).set("templateMergeServiceHelper", templateMergeServiceHelper);
     on(inputsValidator).set("featureFlagHelperService", featureFlagHelperService);
     on(inputsValidator).set("ngManagerReconcileClient", ngManagerReconcileClient);
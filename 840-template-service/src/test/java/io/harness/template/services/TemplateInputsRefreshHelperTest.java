@@ -31,6 +31,7 @@ import io.harness.reconcile.remote.NgManagerReconcileClient;
 import io.harness.rule.Owner;
 import io.harness.rule.OwnerRule;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateSpecCache;
 import io.harness.template.helpers.TemplateInputsRefreshHelper;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 import io.harness.template.utils.NGTemplateFeatureFlagHelperService;
@@ -71,6 +72,7 @@ public class TemplateInputsRefreshHelperTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IllegalAccessException, IOException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateSpecCache", new ResolvedTemplateSpecCache());
     on(templateInputsRefreshHelper).set("templateMergeServiceHelper", templateMergeServiceHelper);
     on(templateInputsRefreshHelper).set("featureFlagHelperService", featureFlagHelperService);
     on(templateInputsRefreshHelper).set("ngManagerReconcileClient", ngManagerReconcileClient);
@@ -15,28 +15,39 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.TemplateServiceTestBase;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
 import io.harness.encryption.Scope;
 import io.harness.exception.InvalidRequestException;
+import io.harness.gitsync.beans.StoreType;
 import io.harness.ng.core.template.TemplateMergeResponseDTO;
 import io.harness.ng.core.template.TemplateReferenceSummary;
 import io.harness.ng.core.template.TemplateRetainVariablesResponse;
 import io.harness.ng.core.template.exception.NGTemplateResolveException;
 import io.harness.rule.Owner;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateSpecCache;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
+import io.harness.template.utils.NGTemplateFeatureFlagHelperService;
 
 import com.google.common.io.Resources;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -46,6 +57,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 @OwnedBy(HarnessTeam.CDC)
 public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
@@ -53,6 +65,7 @@ public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
 
   @Mock private NGTemplateServiceHelper templateServiceHelper;
   @InjectMocks TemplateMergeServiceHelper templateMergeServiceHelper;
+  @Mock NGTemplateFeatureFlagHelperService ngTemplateFeatureFlagHelperService;
 
   private static final String ACCOUNT_ID = "accountId";
   private static final String ORG_ID = "orgId";
@@ -70,6 +83,7 @@ public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IllegalAccessException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateSpecCache", new ResolvedTemplateSpecCache());
     on(templateMergeService).set("templateMergeServiceHelper", templateMergeServiceHelper);
   }
 
@@ -290,6 +304,95 @@ public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
     assertThat(finalPipelineYaml).isEqualTo(resPipeline);
   }
 
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testMergeTemplateSpecToPipelineYaml_StepTemplateWithBatchPrefetch() {
+    TemplateEntity templateEntity = TemplateEntity.builder()
+                                        .accountId(ACCOUNT_ID)
+                                        .orgIdentifier(ORG_ID)
+                                        .projectIdentifier(PROJECT_ID)
+                                        .yaml(readFile("template-step.yaml"))
+                                        .deleted(false)
+                                        .templateScope(Scope.PROJECT)
+                                        .identifier("template1")
+                                        .versionLabel("1")
+                                        .isStableTemplate(true)
+                                        .build();
+    TemplateEntity approvalTemplateEntity = TemplateEntity.builder()
+                                                .accountId(ACCOUNT_ID)
+                                                .orgIdentifier(ORG_ID)
+                                                .projectIdentifier(PROJECT_ID)
+                                                .yaml(readFile("approval-step-template.yaml"))
+                                                .identifier("template2")
+                                                .versionLabel("1")
+                                                .templateScope(Scope.PROJECT)
+                                                .deleted(false)
+                                                .build();
+    when(ngTemplateFeatureFlagHelperService.isEnabled(ACCOUNT_ID, FeatureName.NG_TEMPLATE_MERGE_BATCH_PREFETCH))
+        .thenReturn(true);
+    when(templateServiceHelper.findAllTemplates(any(Criteria.class)))
+        .thenReturn(Arrays.asList(templateEntity, approvalTemplateEntity));
+
+    TemplateMergeResponseDTO pipelineMergeResponse = templateMergeService.applyTemplatesToYaml(
+        ACCOUNT_ID, ORG_ID, PROJECT_ID, readFile("pipeline-with-template-step.yaml"), false, false);
+
+    assertThat(pipelineMergeResponse.getMergedPipelineYaml())
+        .isEqualTo(readFile("pipeline-with-template-step-replaced.yaml"));
+    assertThat(pipelineMergeResponse.getTemplateReferenceSummaries()).hasSize(3);
+    // Both templates are linked directly from the pipeline and have no nested templates, so one query loads them all
+    verify(templateServiceHelper, times(1)).findAllTemplates(any(Criteria.class));
+    verify(templateServiceHelper, never())
+        .getTemplateOrThrowExceptionIfInvalid(
+            any(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testMergeTemplateSpecToPipelineYaml_RemoteStepTemplateWithBatchPrefetch() {
+    TemplateEntity templateEntity = TemplateEntity.builder()
+                                        .accountId(ACCOUNT_ID)
+                                        .orgIdentifier(ORG_ID)
+                                        .projectIdentifier(PROJECT_ID)
+                                        .yaml(readFile("template-step.yaml"))
+                                        .deleted(false)
+                                        .templateScope(Scope.PROJECT)
+                                        .identifier("template1")
+                                        .versionLabel("1")
+                                        .isStableTemplate(true)
+                                        .build();
+    TemplateEntity remoteApprovalTemplateEntity = TemplateEntity.builder()
+                                                      .accountId(ACCOUNT_ID)
+                                                      .orgIdentifier(ORG_ID)
+                                                      .projectIdentifier(PROJECT_ID)
+                                                      .identifier("template2")
+                                                      .versionLabel("1")
+                                                      .templateScope(Scope.PROJECT)
+                                                      .storeType(StoreType.REMOTE)
+                                                      .deleted(false)
+                                                      .build();
+    TemplateEntity fetchedApprovalTemplateEntity =
+        remoteApprovalTemplateEntity.withYaml(readFile("approval-step-template.yaml"));
+    when(ngTemplateFeatureFlagHelperService.isEnabled(ACCOUNT_ID, FeatureName.NG_TEMPLATE_MERGE_BATCH_PREFETCH))
+        .thenReturn(true);
+    when(templateServiceHelper.findAllTemplates(any(Criteria.class)))
+        .thenReturn(Arrays.asList(templateEntity, remoteApprovalTemplateEntity));
+    when(templateServiceHelper.fetchRemoteTemplates(Collections.singletonList(remoteApprovalTemplateEntity), false))
+        .thenReturn(Collections.singletonList(fetchedApprovalTemplateEntity));
+
+    TemplateMergeResponseDTO pipelineMergeResponse = templateMergeService.applyTemplatesToYaml(
+        ACCOUNT_ID, ORG_ID, PROJECT_ID, readFile("pipeline-with-template-step.yaml"), false, false);
+
+    assertThat(pipelineMergeResponse.getMergedPipelineYaml())
+        .isEqualTo(readFile("pipeline-with-template-step-replaced.yaml"));
+    // The remote template is fetched from git together with the other remote templates of its level
+    verify(templateServiceHelper, times(1)).fetchRemoteTemplates(anyList(), eq(false));
+    verify(templateServiceHelper, never())
+        .getTemplateOrThrowExceptionIfInvalid(
+            any(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
+  }
+
   @Test
   @Owner(developers = INDER)
   @Category(UnitTests.class)
@@ -28,7 +28,10 @@ import io.harness.persistence.gitaware.GitAware;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import groovy.lang.Singleton;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @OwnedBy(HarnessTeam.PL)
@@ -69,6 +72,44 @@ public class GitAwareEntityHelper {
     return entity;
   }
 
+  /**
+   * Fetches the yaml of entities stored in the repo and branch of the request params with a single call to git sync,
+   * all at the same commit. Entities whose file could not be fetched are left out of the result, callers read those
+   * one at a time to surface the error. The scm git metadata of the request context is left as it is.
+   */
+  public <T extends GitAware> List<T> fetchEntitiesFromRemote(
+      List<T> entities, Scope scope, GitContextRequestParams gitContextRequestParams, Map<String, String> contextMap) {
+    Map<String, List<T>> entitiesByFilePath = new LinkedHashMap<>();
+    for (T entity : entities) {
+      String filePath = entity.getFilePath();
+      if (!isNullOrDefault(filePath) && (filePath.endsWith(".yaml") || filePath.endsWith(".yml"))) {
+        entitiesByFilePath.computeIfAbsent(filePath, key -> new ArrayList<>()).add(entity);
+      }
+    }
+    if (entitiesByFilePath.isEmpty()) {
+      return Collections.emptyList();
+    }
+    // if branch is empty, then git sdk will figure out the default branch for the repo by itself
+    String branch =
+        isNullOrDefault(gitContextRequestParams.getBranchName()) ? "" : gitContextRequestParams.getBranchName();
+    Map<String, ScmGetFileResponse> files =
+        scmGitSyncHelper.getBatchFilesByBranch(Scope.builder()
+                                                   .accountIdentifier(scope.getAccountIdentifier())
+                                                   .orgIdentifier(scope.getOrgIdentifier())
+                                                   .projectIdentifier(scope.getProjectIdentifier())
+                                                   .build(),
+            gitContextRequestParams.getRepoName(), branch, new ArrayList<>(entitiesByFilePath.keySet()),
+            gitContextRequestParams.getConnectorRef(), gitContextRequestParams.isLoadFromCache(), contextMap);
+    List<T> fetchedEntities = new ArrayList<>();
+    files.forEach((filePath, scmGetFileResponse) -> {
+      for (T entity : entitiesByFilePath.getOrDefault(filePath, Collections.emptyList())) {
+        entity.setData(scmGetFileResponse.getFileContent());
+        fetchedEntities.add(entity);
+      }
+    });
+    return fetchedEntities;
+  }
+
   // todo: make pipeline import call this method too
   public String fetchYAMLFromRemote(String accountId, String orgIdentifier, String projectIdentifier) {
     GitEntityInfo gitEntityInfo = GitAwareContextHelper.getGitRequestParamsInfo();
@@ -7,13 +7,12 @@
 
 package io.harness.utils;
 
-import io.harness.account.AccountClient;
+import io.harness.account.AccountFeatureFlagCache;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.FeatureName;
 import io.harness.exception.InvalidRequestException;
 import io.harness.exception.UnexpectedException;
-import io.harness.remote.client.CGRestUtils;
 
 import com.google.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
@@ -23,11 +22,11 @@ import lombok.extern.slf4j.Slf4j;
 public class NGFeatureFlagHelperService {
   private static final String ERROR_MESSAGE = "Unexpected error, could not fetch the feature flag";
 
-  @Inject AccountClient accountClient;
+  @Inject AccountFeatureFlagCache accountFeatureFlagCache;
 
   public boolean isEnabled(String accountId, FeatureName featureName) {
     try {
-      return CGRestUtils.getResponse(accountClient.isFeatureFlagEnabled(featureName.name(), accountId), ERROR_MESSAGE);
+      return accountFeatureFlagCache.isEnabled(accountId, featureName);
     } catch (InvalidRequestException e) {
       throw new UnexpectedException(ERROR_MESSAGE);
     }
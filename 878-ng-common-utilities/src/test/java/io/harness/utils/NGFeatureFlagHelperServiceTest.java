@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.utils;
+
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.account.AccountClient;
+import io.harness.account.AccountFeatureFlagCache;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureFlag;
+import io.harness.beans.FeatureName;
+import io.harness.category.element.UnitTests;
+import io.harness.exception.UnexpectedException;
+import io.harness.rest.RestResponse;
+import io.harness.rule.Owner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import retrofit2.Call;
+import retrofit2.Response;
+
+@OwnedBy(HarnessTeam.PL)
+public class NGFeatureFlagHelperServiceTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+
+  private AccountClient accountClient;
+  private NGFeatureFlagHelperService ngFeatureFlagHelperService;
+
+  @Before
+  public void setup() {
+    accountClient = mock(AccountClient.class);
+    ngFeatureFlagHelperService = new NGFeatureFlagHelperService();
+    ngFeatureFlagHelperService.accountFeatureFlagCache = new AccountFeatureFlagCache(accountClient);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testIsEnabledFetchesAllFlagsOfAccountOnce() throws IOException {
+    Call<RestResponse<Collection<FeatureFlag>>> request = mockRequest();
+    when(request.execute())
+        .thenReturn(Response.success(new RestResponse<>(Arrays.asList(featureFlag(FeatureName.NG_SETTINGS, true),
+            featureFlag(FeatureName.CG_YAML_DIRECTORY_TREE_CACHE, false)))));
+
+    assertThat(ngFeatureFlagHelperService.isEnabled(ACCOUNT_ID, FeatureName.NG_SETTINGS)).isTrue();
+    assertThat(ngFeatureFlagHelperService.isEnabled(ACCOUNT_ID, FeatureName.CG_YAML_DIRECTORY_TREE_CACHE)).isFalse();
+    assertThat(ngFeatureFlagHelperService.isEnabled(ACCOUNT_ID, FeatureName.NG_SETTINGS)).isTrue();
+    verify(accountClient, times(1)).listAllFeatureFlagsForAccount(ACCOUNT_ID);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testIsEnabledFetchesAgainAfterInvalidate() throws IOException {
+    Call<RestResponse<Collection<FeatureFlag>>> request = mockRequest();
+    when(request.execute())
+        .thenReturn(Response.success(new RestResponse<>(Arrays.asList(featureFlag(FeatureName.NG_SETTINGS, false)))))
+        .thenReturn(Response.success(new RestResponse<>(Arrays.asList(featureFlag(FeatureName.NG_SETTINGS, true)))));
+
+    assertThat(ngFeatureFlagHelperService.isEnabled(ACCOUNT_ID, FeatureName.NG_SETTINGS)).isFalse();
+    ngFeatureFlagHelperService.accountFeatureFlagCache.invalidate(ACCOUNT_ID);
+    assertThat(ngFeatureFlagHelperService.isEnabled(ACCOUNT_ID, FeatureName.NG_SETTINGS)).isTrue();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testIsEnabledFailsWithoutFlagsOfAccount() throws IOException {
+    Call<RestResponse<Collection<FeatureFlag>>> request = mockRequest();
+    when(request.execute()).thenThrow(new IOException("connection refused"));
+
+    assertThatThrownBy(() -> ngFeatureFlagHelperService.isEnabled(ACCOUNT_ID, FeatureName.NG_SETTINGS))
+        .isInstanceOf(UnexpectedException.class);
+  }
+
+  private Call<RestResponse<Collection<FeatureFlag>>> mockRequest() {
+    Call<RestResponse<Collection<FeatureFlag>>> request = mock(Call.class);
+    when(accountClient.listAllFeatureFlagsForAccount(ACCOUNT_ID)).thenReturn(request);
+    return request;
+  }
+
+  private static FeatureFlag featureFlag(FeatureName featureName, boolean enabled) {
+    return FeatureFlag.builder().name(featureName.name()).enabled(enabled).build();
+  }
+}
@@ -28,6 +28,8 @@ import io.harness.gitsync.CreatePRRequest;
 import io.harness.gitsync.CreatePRResponse;
 import io.harness.gitsync.ErrorDetails;
 import io.harness.gitsync.FileInfo;
+import io.harness.gitsync.GetBatchFilesByBranchRequest;
+import io.harness.gitsync.GetBatchFilesByBranchResponse;
 import io.harness.gitsync.GetFileRequest;
 import io.harness.gitsync.GetFileResponse;
 import io.harness.gitsync.GetRepoUrlRequest;
@@ -78,6 +80,8 @@ import com.google.common.base.Strings;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.protobuf.StringValue;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
@@ -145,6 +149,49 @@ public class SCMGitSyncHelper {
     }
   }
 
+  /**
+   * Fetches the files of one repo and branch in a single call, all of them at the same commit. Files which could not be
+   * fetched are left out of the result.
+   */
+  public Map<String, ScmGetFileResponse> getBatchFilesByBranch(Scope scope, String repoName, String branchName,
+      List<String> filePaths, String connectorRef, boolean loadFromCache, Map<String, String> contextMap) {
+    contextMap = GitSyncLogContextHelper.setContextMap(
+        scope, repoName, branchName, "", GitOperation.GET_BATCH_FILES, contextMap);
+    try (GlobalContextManager.GlobalContextGuard guard = GlobalContextManager.ensureGlobalContextGuard();
+         MdcContextSetter ignore1 = new MdcContextSetter(contextMap)) {
+      final GetBatchFilesByBranchRequest getBatchFilesByBranchRequest =
+          GetBatchFilesByBranchRequest.newBuilder()
+              .setRepoName(repoName)
+              .setConnectorRef(connectorRef)
+              .setBranchName(Strings.nullToEmpty(branchName))
+              .addAllFilePaths(filePaths)
+              .setCacheRequestParams(CacheRequestMapper.getCacheRequest(loadFromCache))
+              .putAllContextMap(contextMap)
+              .setScopeIdentifiers(ScopeIdentifierMapper.getScopeIdentifiersFromScope(scope))
+              .setPrincipal(getPrincipal())
+              .build();
+      final GetBatchFilesByBranchResponse getBatchFilesByBranchResponse =
+          GitSyncGrpcClientUtils.retryAndProcessException(
+              harnessToGitPushInfoServiceBlockingStub::getBatchFilesByBranch, getBatchFilesByBranchRequest);
+
+      if (isFailureResponse(getBatchFilesByBranchResponse.getStatusCode())) {
+        log.error("Git SDK getBatchFilesByBranch Failure: {}", getBatchFilesByBranchResponse);
+        scmErrorHandler.processAndThrowException(getBatchFilesByBranchResponse.getStatusCode(),
+            getScmErrorDetailsFromGitProtoResponse(getBatchFilesByBranchResponse.getError()),
+            ScmGitMetaData.builder().repoName(repoName).branchName(branchName).build());
+      }
+      Map<String, ScmGetFileResponse> files = new HashMap<>();
+      getBatchFilesByBranchResponse.getFilesMap().forEach(
+          (filePath, getFileResponse)
+              -> files.put(filePath,
+                  ScmGetFileResponse.builder()
+                      .fileContent(getFileResponse.getFileContent())
+                      .gitMetaData(getScmGitMetaData(getFileResponse))
+                      .build()));
+      return files;
+    }
+  }
+
   public ScmCreateFileGitResponse createFile(
       Scope scope, ScmCreateFileGitRequest gitRequest, Map<String, String> contextMap) {
     contextMap = GitSyncLogContextHelper.setContextMap(scope, gitRequest.getRepoName(), gitRequest.getBranchName(),
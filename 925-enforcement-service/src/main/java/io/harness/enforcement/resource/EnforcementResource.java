@@ -170,4 +170,16 @@ public class EnforcementResource {
     return ResponseDTO.newResponse(featureService.getFeatureRestrictionMetadataMap(
         restrictionMetadataMapRequestDTO.getNames(), accountIdentifier));
   }
+
+  @GET
+  @Path("/metadata/account")
+  @ApiOperation(value = "Fetch Metadata of all Feature Restrictions for the Account",
+      nickname = "fetchAccountRestrictionMetadataMap", hidden = true)
+  @Hidden
+  @InternalApi
+  public ResponseDTO<RestrictionMetadataMapResponseDTO>
+  fetchAccountRestrictionMetadataMap(@Parameter(required = true, description = ACCOUNT_PARAM_MESSAGE) @NotNull
+      @QueryParam(NGCommonEntityConstants.ACCOUNT_KEY) @AccountIdentifier String accountIdentifier) {
+    return ResponseDTO.newResponse(featureService.getAccountRestrictionMetadataMap(accountIdentifier));
+  }
 }
@@ -21,6 +21,7 @@ public interface EnforcementService {
       FeatureRestrictionName featureRestrictionName, String accountIdentifier);
   RestrictionMetadataMapResponseDTO getFeatureRestrictionMetadataMap(
       List<FeatureRestrictionName> featureRestrictionNames, String accountIdentifier);
+  RestrictionMetadataMapResponseDTO getAccountRestrictionMetadataMap(String accountIdentifier);
   List<FeatureRestrictionMetadataDTO> getAllFeatureRestrictionMetadata(String accountIdentifier);
   FeatureRestrictionDetailsDTO getFeatureDetail(
       FeatureRestrictionName featureRestrictionName, String accountIdentifier);
@@ -40,6 +40,7 @@ import io.harness.remote.client.CGRestUtils;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -125,9 +126,10 @@ public class EnforcementServiceImpl implements EnforcementService {
 
     ConversionHandler conversionHandler =
         conversionHandlerFactory.getConversionHandler(isFeatureFlagEnabled(accountIdentifier));
+    Map<ModuleType, Edition> editions = new EnumMap<>(ModuleType.class);
     for (FeatureRestrictionName name : featureRestrictionNames) {
       FeatureRestriction featureRestriction = featureRestrictionMap.get(name);
-      Edition edition = getLicenseEdition(accountIdentifier, featureRestriction.getModuleType());
+      Edition edition = getLicenseEdition(accountIdentifier, featureRestriction.getModuleType(), editions);
 
       FeatureRestrictionMetadataDTO featureRestrictionMetadataDTO =
           conversionHandler.toFeatureMetadataDTO(featureRestriction, edition, accountIdentifier);
@@ -136,6 +138,11 @@ public class EnforcementServiceImpl implements EnforcementService {
     return RestrictionMetadataMapResponseDTO.builder().metadataMap(metadataDTOMap).build();
   }
 
+  @Override
+  public RestrictionMetadataMapResponseDTO getAccountRestrictionMetadataMap(String accountIdentifier) {
+    return getFeatureRestrictionMetadataMap(new ArrayList<>(featureRestrictionMap.keySet()), accountIdentifier);
+  }
+
   @Override
   public List<FeatureRestrictionMetadataDTO> getAllFeatureRestrictionMetadata(String accountIdentifier) {
     boolean featureFlagEnabled = false;
@@ -177,6 +184,7 @@ public class EnforcementServiceImpl implements EnforcementService {
 
     ConversionHandler conversionHandler =
         conversionHandlerFactory.getConversionHandler(isFeatureFlagEnabled(accountIdentifier));
+    Map<ModuleType, Edition> editions = new EnumMap<>(ModuleType.class);
 
     for (FeatureRestrictionName name : featureRestrictionNames) {
       if (!isFeatureRestrictionDefined(name)) {
@@ -185,7 +193,7 @@ public class EnforcementServiceImpl implements EnforcementService {
       FeatureRestriction featureRestriction = featureRestrictionMap.get(name);
 
       try {
-        Edition edition = getLicenseEdition(accountIdentifier, featureRestriction.getModuleType());
+        Edition edition = getLicenseEdition(accountIdentifier, featureRestriction.getModuleType(), editions);
         result.add(conversionHandler.toFeatureDetailsDTO(accountIdentifier, featureRestriction, edition));
       } catch (FeatureNotSupportedException e) {
         result.add(toDisallowedFeatureDetailsDTO(featureRestriction));
@@ -240,6 +248,17 @@ public class EnforcementServiceImpl implements EnforcementService {
     return featureRestrictionMap.containsKey(featureRestrictionName);
   }
 
+  // Resolves the edition of every module once per request, the features of a module all share it
+  private Edition getLicenseEdition(
+      String accountIdentifier, ModuleType moduleType, Map<ModuleType, Edition> editions) {
+    Edition edition = editions.get(moduleType);
+    if (edition == null) {
+      edition = getLicenseEdition(accountIdentifier, moduleType);
+      editions.put(moduleType, edition);
+    }
+    return edition;
+  }
+
   private Edition getLicenseEdition(String accountIdentifier, ModuleType moduleType) {
     // if PL feature edition check
     if (ModuleType.CORE.equals(moduleType)) {
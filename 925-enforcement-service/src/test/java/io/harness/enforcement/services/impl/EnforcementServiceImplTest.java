@@ -13,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -28,6 +30,7 @@ import io.harness.enforcement.beans.FeatureRestrictionUsageDTO;
 import io.harness.enforcement.beans.TimeUnit;
 import io.harness.enforcement.beans.details.AvailabilityRestrictionDTO;
 import io.harness.enforcement.beans.details.FeatureRestrictionDetailsDTO;
+import io.harness.enforcement.beans.internal.RestrictionMetadataMapResponseDTO;
 import io.harness.enforcement.beans.metadata.FeatureRestrictionMetadataDTO;
 import io.harness.enforcement.constants.FeatureRestrictionName;
 import io.harness.enforcement.constants.RestrictionType;
@@ -252,4 +255,17 @@ public class EnforcementServiceImplTest extends CategoryTest {
 
     when(featureFlagCall.execute()).thenReturn(Response.success(new RestResponse<>(true)));
   }
+
+  @Test
+  @Owner(developers = ZHUO)
+  @Category(UnitTests.class)
+  public void testGetAccountRestrictionMetadataMap() {
+    RestrictionMetadataMapResponseDTO result = enforcementService.getAccountRestrictionMetadataMap(ACCOUNT_ID);
+
+    assertThat(result.getMetadataMap())
+        .containsOnlyKeys(FEATURE_NAME, FEATURE_NAME_STATIC, FEATURE_NAME_RATE, CI_FEATURE_NAME, CF_FEATURE_NAME);
+    assertThat(result.getMetadataMap().get(FEATURE_NAME_STATIC).getEdition()).isEqualTo(Edition.FREE);
+    verify(licenseService, times(1)).getLicenseSummary(ACCOUNT_ID, ModuleType.CD);
+    verify(featureFlagCall, times(1)).execute();
+  }
 }
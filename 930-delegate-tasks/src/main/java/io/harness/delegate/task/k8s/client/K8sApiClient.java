@@ -17,10 +17,12 @@ import static java.lang.String.format;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.k8s.model.K8sSteadyStateDTO;
+import io.harness.k8s.model.KubernetesConfig;
 import io.harness.k8s.model.KubernetesResourceId;
 import io.harness.k8s.steadystate.model.K8sEventWatchDTO;
 import io.harness.k8s.steadystate.model.K8sStatusWatchDTO;
 import io.harness.k8s.steadystate.watcher.event.K8sApiEventWatcher;
+import io.harness.k8s.steadystate.watcher.event.K8sEventWatchSubscription;
 import io.harness.k8s.steadystate.watcher.workload.K8sWorkloadWatcherFactory;
 import io.harness.k8s.steadystate.watcher.workload.WorkloadWatcher;
 import io.harness.logging.LogCallback;
@@ -31,7 +33,6 @@ import io.kubernetes.client.openapi.ApiClient;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Future;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -49,23 +50,24 @@ public class K8sApiClient implements K8sClient {
       return true;
     }
 
-    ApiClient apiClient =
-        k8sClientHelper.createKubernetesApiClient(steadyStateDTO.getRequest().getK8sInfraDelegateConfig());
+    KubernetesConfig kubernetesConfig =
+        k8sClientHelper.createKubernetesConfig(steadyStateDTO.getRequest().getK8sInfraDelegateConfig());
+    ApiClient apiClient = k8sClientHelper.createKubernetesApiClient(kubernetesConfig);
     Set<String> namespaces = k8sClientHelper.getNamespacesToMonitor(workloads, steadyStateDTO.getNamespace());
     LogCallback executionLogCallback = steadyStateDTO.getExecutionLogCallback();
 
     log.info("Executing API based steady state check for workloads.");
-    K8sEventWatchDTO eventWatchDTO = k8sClientHelper.createEventWatchDTO(steadyStateDTO, apiClient);
+    K8sEventWatchDTO eventWatchDTO =
+        k8sClientHelper.createEventWatchDTO(steadyStateDTO, apiClient, k8sClientHelper.getClusterKey(kubernetesConfig));
     K8sStatusWatchDTO rolloutStatusDTO = k8sClientHelper.createStatusWatchDTO(steadyStateDTO, apiClient);
 
-    List<Future<?>> futureList = new ArrayList<>();
+    List<K8sEventWatchSubscription> subscriptions = new ArrayList<>();
     boolean success = false;
 
     try {
       k8sClientHelper.logSteadyStateInfo(workloads, namespaces, executionLogCallback);
       for (String ns : namespaces) {
-        Future<?> threadRef = k8sApiEventWatcher.watchForEvents(ns, eventWatchDTO, executionLogCallback);
-        futureList.add(threadRef);
+        subscriptions.add(k8sApiEventWatcher.subscribeToEvents(ns, eventWatchDTO, executionLogCallback));
       }
 
       for (KubernetesResourceId workload : workloads) {
@@ -87,7 +89,7 @@ public class K8sApiClient implements K8sClient {
       executionLogCallback.saveExecutionLog("\nFailed.", INFO, FAILURE);
       return false;
     } finally {
-      k8sApiEventWatcher.destroyRunning(futureList);
+      k8sApiEventWatcher.unsubscribe(subscriptions);
       if (success) {
         if (steadyStateDTO.isDenoteOverallSuccess()) {
           executionLogCallback.saveExecutionLog("\nDone.", INFO, SUCCESS);
@@ -15,15 +15,19 @@ import io.harness.k8s.KubernetesHelperService;
 import io.harness.k8s.kubectl.Kubectl;
 import io.harness.k8s.model.K8sDelegateTaskParams;
 import io.harness.k8s.model.K8sSteadyStateDTO;
+import io.harness.k8s.model.KubernetesClusterAuthType;
 import io.harness.k8s.model.KubernetesConfig;
 import io.harness.k8s.model.KubernetesResourceId;
 import io.harness.k8s.steadystate.model.K8sEventWatchDTO;
 import io.harness.k8s.steadystate.model.K8sStatusWatchDTO;
 import io.harness.logging.LogCallback;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.kubernetes.client.openapi.ApiClient;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -37,11 +41,15 @@ public class K8sClientHelper {
   private static final String MAX_RESOURCE_NAME_LENGTH = "${MAX_RESOURCE_NAME_LENGTH}";
   private static final String EVENT_INFO_FORMAT = "%-7s: %-" + MAX_RESOURCE_NAME_LENGTH + "s   %s";
   private static final String WATCH_STATUS_FORMAT = "%n%-7s: %-" + MAX_RESOURCE_NAME_LENGTH + "s   %s";
+  private static final Set<KubernetesClusterAuthType> SHAREABLE_AUTH_TYPES = EnumSet.of(KubernetesClusterAuthType.NONE,
+      KubernetesClusterAuthType.SERVICE_ACCOUNT, KubernetesClusterAuthType.CLIENT_KEY_CERT,
+      KubernetesClusterAuthType.USER_PASSWORD);
 
-  K8sEventWatchDTO createEventWatchDTO(K8sSteadyStateDTO steadyStateDTO, ApiClient apiClient) {
+  K8sEventWatchDTO createEventWatchDTO(K8sSteadyStateDTO steadyStateDTO, ApiClient apiClient, String clusterKey) {
     final String eventInfoFormat = fetchEventInfoFormat(steadyStateDTO.getResourceIds(), EVENT_INFO_FORMAT);
     return K8sEventWatchDTO.builder()
         .apiClient(apiClient)
+        .clusterKey(clusterKey)
         .eventInfoFormat(eventInfoFormat)
         .eventErrorFormat(EVENT_ERROR_FORMAT)
         .resourceIds(steadyStateDTO.getResourceIds())
@@ -83,11 +91,42 @@ public class K8sClientHelper {
   }
 
   ApiClient createKubernetesApiClient(K8sInfraDelegateConfig k8sInfraDelegateConfig) {
-    KubernetesConfig kubernetesConfig =
-        containerDeploymentDelegateBaseHelper.createKubernetesConfig(k8sInfraDelegateConfig);
+    return createKubernetesApiClient(createKubernetesConfig(k8sInfraDelegateConfig));
+  }
+
+  ApiClient createKubernetesApiClient(KubernetesConfig kubernetesConfig) {
     return kubernetesHelperService.getApiClient(kubernetesConfig);
   }
 
+  KubernetesConfig createKubernetesConfig(K8sInfraDelegateConfig k8sInfraDelegateConfig) {
+    return containerDeploymentDelegateBaseHelper.createKubernetesConfig(k8sInfraDelegateConfig);
+  }
+
+  /**
+   * Digest of the cluster url and static credentials of the config, equal keys can share the same event watches.
+   * Returns null for auth types whose credentials are resolved or refreshed by the client, these are never shared.
+   */
+  String getClusterKey(KubernetesConfig kubernetesConfig) {
+    KubernetesClusterAuthType authType = kubernetesConfig.getAuthType();
+    if (authType != null && !SHAREABLE_AUTH_TYPES.contains(authType)) {
+      return null;
+    }
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, kubernetesConfig.getAccountId());
+    putString(hasher, kubernetesConfig.getMasterUrl());
+    putString(hasher, authType == null ? null : authType.name());
+    putChars(hasher, kubernetesConfig.getUsername());
+    putChars(hasher, kubernetesConfig.getPassword());
+    putChars(hasher, kubernetesConfig.getCaCert());
+    putChars(hasher, kubernetesConfig.getClientCert());
+    putChars(hasher, kubernetesConfig.getClientKey());
+    putString(hasher,
+        kubernetesConfig.getServiceAccountTokenSupplier() == null
+            ? null
+            : kubernetesConfig.getServiceAccountTokenSupplier().get());
+    return hasher.hash().toString();
+  }
+
   Kubectl createKubernetesCliClient(K8sDelegateTaskParams k8sDelegateTaskParams) {
     return Kubectl.client(k8sDelegateTaskParams.getKubectlPath(), k8sDelegateTaskParams.getKubeconfigPath());
   }
@@ -108,6 +147,21 @@ public class K8sClientHelper {
         String.format("Waiting for following workloads to finish: [%s]", workloadKindNames));
   }
 
+  private static void putString(Hasher hasher, String value) {
+    putChars(hasher, value == null ? null : value.toCharArray());
+  }
+
+  private static void putChars(Hasher hasher, char[] value) {
+    if (value == null) {
+      hasher.putInt(-1);
+      return;
+    }
+    hasher.putInt(value.length);
+    for (char c : value) {
+      hasher.putChar(c);
+    }
+  }
+
   private String fetchEventInfoFormat(List<KubernetesResourceId> resourceIds, String eventInfoFormat) {
     int maxResourceNameLength = getMaxResourceNameLength(resourceIds);
     return eventInfoFormat.replace(MAX_RESOURCE_NAME_LENGTH, String.valueOf(maxResourceNameLength));
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.secrets;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.security.encryption.SecretManagerType.KMS;
+import static io.harness.security.encryption.SecretManagerType.VAULT;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.security.encryption.EncryptedDataDetail;
+import io.harness.security.encryption.EncryptedRecord;
+import io.harness.security.encryption.EncryptionConfig;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.inject.Singleton;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Secret values read from KMS and vault secret managers, kept on the delegate so that the secrets used by many tasks
+ * are not decrypted or read again for every task.
+ *
+ * A KMS secret is cached by its encrypted data key and encrypted value, so a rotated or updated secret is never served
+ * from the cache. A vault read is cached by the path it was read from and only for a short time, as the value at a
+ * path can change in the vault itself. Cached values are wiped as soon as they are evicted, and callers get a copy.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class SecretManagerReadCache {
+  private static final long KMS_VALUE_EXPIRY_MINUTES = 30;
+  private static final long VAULT_VALUE_EXPIRY_SECONDS = 60;
+  private static final long MAX_CACHED_CHARACTERS = 1024 * 1024;
+
+  private final Cache<CacheKey, CachedValue> kmsValues = newCache(KMS_VALUE_EXPIRY_MINUTES, TimeUnit.MINUTES);
+  private final Cache<CacheKey, CachedValue> vaultValues = newCache(VAULT_VALUE_EXPIRY_SECONDS, TimeUnit.SECONDS);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Returns the value of the secret, reading it with the given function if it is not cached. Vault reads are only
+   * served from the cache if the caller accepts cached values, KMS decryption always is as its result never changes.
+   */
+  public char[] get(
+      EncryptedDataDetail encryptedDataDetail, boolean fromCache, Function<EncryptedDataDetail, char[]> reader) {
+    Cache<CacheKey, CachedValue> cache = getCache(encryptedDataDetail.getEncryptionConfig(), fromCache);
+    if (cache == null) {
+      return reader.apply(encryptedDataDetail);
+    }
+    CacheKey cacheKey = CacheKey.of(encryptedDataDetail);
+    CachedValue cachedValue = cache.getIfPresent(cacheKey);
+    char[] value = cachedValue == null ? null : cachedValue.copy();
+    if (value != null) {
+      hits.increment();
+      return value;
+    }
+
+    misses.increment();
+    value = reader.apply(encryptedDataDetail);
+    if (!isEmpty(value)) {
+      cache.put(cacheKey, new CachedValue(Arrays.copyOf(value, value.length)));
+    }
+    return value;
+  }
+
+  /**
+   * Returns the number of reads served from the cache, each of which saved a call to the secret manager.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  @VisibleForTesting
+  void invalidateAll() {
+    kmsValues.invalidateAll();
+    vaultValues.invalidateAll();
+  }
+
+  private Cache<CacheKey, CachedValue> getCache(EncryptionConfig encryptionConfig, boolean fromCache) {
+    if (encryptionConfig.getType() == KMS) {
+      return kmsValues;
+    }
+    if (encryptionConfig.getType() == VAULT && fromCache) {
+      return vaultValues;
+    }
+    return null;
+  }
+
+  private static Cache<CacheKey, CachedValue> newCache(long expiry, TimeUnit unit) {
+    return CacheBuilder.newBuilder()
+        .maximumWeight(MAX_CACHED_CHARACTERS)
+        .weigher((CacheKey key, CachedValue value) -> value.length)
+        .expireAfterWrite(expiry, unit)
+        .removalListener((RemovalNotification<CacheKey, CachedValue> notification) -> notification.getValue().wipe())
+        .build();
+  }
+
+  @Value
+  private static class CacheKey {
+    String kmsId;
+    String encryptionKey;
+    String path;
+    String encryptedValue;
+
+    static CacheKey of(EncryptedDataDetail encryptedDataDetail) {
+      EncryptedRecord record = encryptedDataDetail.getEncryptedData();
+      EncryptionConfig config = encryptedDataDetail.getEncryptionConfig();
+      return new CacheKey(isEmpty(config.getUuid()) ? record.getKmsId() : config.getUuid(), record.getEncryptionKey(),
+          record.getPath(), record.getEncryptedValue() == null ? null : String.valueOf(record.getEncryptedValue()));
+    }
+  }
+
+  private static class CachedValue {
+    private final int length;
+    private char[] value;
+
+    CachedValue(char[] value) {
+      this.length = value.length;
+      this.value = value;
+    }
+
+    // Null once the value was wiped, which a reader holding this entry treats as a cache miss
+    synchronized char[] copy() {
+      return value == null ? null : Arrays.copyOf(value, value.length);
+    }
+
+    synchronized void wipe() {
+      if (value != null) {
+        Arrays.fill(value, '\0');
+        value = null;
+      }
+    }
+  }
+}
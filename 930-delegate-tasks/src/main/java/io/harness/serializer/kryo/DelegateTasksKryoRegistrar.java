@@ -214,6 +214,7 @@ import software.wings.cloudprovider.CodeDeployDeploymentInfo;
 import software.wings.delegatetasks.BambooTask;
 import software.wings.delegatetasks.DelegateStateType;
 import software.wings.delegatetasks.GcbDelegateResponse;
+import software.wings.delegatetasks.buildsource.ArtifactKeyDigest;
 import software.wings.delegatetasks.buildsource.BuildCollectParameters;
 import software.wings.delegatetasks.buildsource.BuildSourceExecutionResponse;
 import software.wings.delegatetasks.buildsource.BuildSourceParameters;
@@ -740,6 +741,7 @@ public class DelegateTasksKryoRegistrar implements KryoRegistrar {
     kryo.register(BuildSourceParameters.class, 5618);
     kryo.register(BuildSourceResponse.class, 5619);
     kryo.register(BuildSourceExecutionResponse.class, 5620);
+    kryo.register(ArtifactKeyDigest.class, 40120);
     kryo.register(BuildSourceParameters.BuildSourceRequestType.class, 5621);
     kryo.register(EcsSetupElement.class, 5671);
     kryo.register(ServiceNowTicketType.class, 7163);
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.delegatetasks.buildsource;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.util.Arrays;
+import java.util.Collection;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * ArtifactKeyDigest is a compact, immutable replacement for a set of artifact keys. Every key is stored as a 64-bit
+ * hash plus an independent 32-bit fingerprint, sorted by (hash, fingerprint), which takes 12 bytes per key instead of
+ * a String and a hash set entry.
+ *
+ * A key is considered present only if both its hash and fingerprint match, so a collision of the 64-bit hashes of two
+ * different keys does not make one of them look published. Keys cannot be recovered from a digest, so removals are
+ * exchanged with the manager as digests as well and the manager resolves them against the keys it owns.
+ */
+@OwnedBy(CDC)
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // For kryo
+@TargetModule(HarnessModule._930_DELEGATE_TASKS)
+public class ArtifactKeyDigest {
+  public static final ArtifactKeyDigest EMPTY = new ArtifactKeyDigest(new long[0], new int[0]);
+  public static final ArtifactKeyHasher DEFAULT_HASHER = new Murmur3ArtifactKeyHasher();
+
+  private long[] hashes;
+  private int[] fingerprints;
+
+  private ArtifactKeyDigest(long[] hashes, int[] fingerprints) {
+    this.hashes = hashes;
+    this.fingerprints = fingerprints;
+  }
+
+  public interface ArtifactKeyHasher {
+    long hash(String key);
+
+    int fingerprint(String key);
+
+    /**
+     * Returns the hash and the fingerprint of the key as {hash, fingerprint}.
+     */
+    default long[] hashAndFingerprint(String key) {
+      return new long[] {hash(key), fingerprint(key)};
+    }
+  }
+
+  public static ArtifactKeyDigest of(Collection<String> keys) {
+    return of(keys, DEFAULT_HASHER);
+  }
+
+  public static ArtifactKeyDigest of(Collection<String> keys, ArtifactKeyHasher hasher) {
+    if (keys == null || keys.isEmpty()) {
+      return EMPTY;
+    }
+
+    long[][] entries = new long[keys.size()][];
+    int i = 0;
+    for (String key : keys) {
+      entries[i++] = hasher.hashAndFingerprint(key);
+    }
+    Arrays.sort(entries, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+    long[] hashes = new long[entries.length];
+    int[] fingerprints = new int[entries.length];
+    int size = 0;
+    for (long[] entry : entries) {
+      if (size > 0 && hashes[size - 1] == entry[0] && fingerprints[size - 1] == (int) entry[1]) {
+        continue;
+      }
+      hashes[size] = entry[0];
+      fingerprints[size] = (int) entry[1];
+      size++;
+    }
+    return new ArtifactKeyDigest(Arrays.copyOf(hashes, size), Arrays.copyOf(fingerprints, size));
+  }
+
+  public int size() {
+    return hashes.length;
+  }
+
+  public boolean isEmpty() {
+    return hashes.length == 0;
+  }
+
+  public boolean contains(String key) {
+    return contains(key, DEFAULT_HASHER);
+  }
+
+  public boolean contains(String key, ArtifactKeyHasher hasher) {
+    long[] hashAndFingerprint = hasher.hashAndFingerprint(key);
+    return indexOf(hashAndFingerprint[0], (int) hashAndFingerprint[1]) >= 0;
+  }
+
+  /**
+   * Returns a digest with the entries of both digests.
+   */
+  public ArtifactKeyDigest union(ArtifactKeyDigest other) {
+    if (other == null || other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return other;
+    }
+
+    long[] mergedHashes = new long[hashes.length + other.hashes.length];
+    int[] mergedFingerprints = new int[mergedHashes.length];
+    int i = 0;
+    int j = 0;
+    int size = 0;
+    while (i < hashes.length || j < other.hashes.length) {
+      int cmp;
+      if (i == hashes.length) {
+        cmp = 1;
+      } else if (j == other.hashes.length) {
+        cmp = -1;
+      } else {
+        cmp = compare(hashes[i], fingerprints[i], other.hashes[j], other.fingerprints[j]);
+      }
+      if (cmp <= 0) {
+        mergedHashes[size] = hashes[i];
+        mergedFingerprints[size++] = fingerprints[i++];
+        if (cmp == 0) {
+          j++;
+        }
+      } else {
+        mergedHashes[size] = other.hashes[j];
+        mergedFingerprints[size++] = other.fingerprints[j++];
+      }
+    }
+    return new ArtifactKeyDigest(Arrays.copyOf(mergedHashes, size), Arrays.copyOf(mergedFingerprints, size));
+  }
+
+  /**
+   * Returns a digest with the entries of this digest that are not in the other one.
+   */
+  public ArtifactKeyDigest minus(ArtifactKeyDigest other) {
+    if (other == null || other.isEmpty() || isEmpty()) {
+      return this;
+    }
+
+    long[] remainingHashes = new long[hashes.length];
+    int[] remainingFingerprints = new int[hashes.length];
+    int j = 0;
+    int size = 0;
+    for (int i = 0; i < hashes.length; i++) {
+      while (j < other.hashes.length
+          && compare(other.hashes[j], other.fingerprints[j], hashes[i], fingerprints[i]) < 0) {
+        j++;
+      }
+      if (j < other.hashes.length && compare(other.hashes[j], other.fingerprints[j], hashes[i], fingerprints[i]) == 0) {
+        continue;
+      }
+      remainingHashes[size] = hashes[i];
+      remainingFingerprints[size++] = fingerprints[i];
+    }
+    if (size == hashes.length) {
+      return this;
+    }
+    return new ArtifactKeyDigest(Arrays.copyOf(remainingHashes, size), Arrays.copyOf(remainingFingerprints, size));
+  }
+
+  private int indexOf(long hash, int fingerprint) {
+    int low = 0;
+    int high = hashes.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compare(hashes[mid], fingerprints[mid], hash, fingerprint);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  private static int compare(long hash1, int fingerprint1, long hash2, int fingerprint2) {
+    return hash1 != hash2 ? Long.compare(hash1, hash2) : Integer.compare(fingerprint1, fingerprint2);
+  }
+
+  private static class Murmur3ArtifactKeyHasher implements ArtifactKeyHasher {
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    @Override
+    public long hash(String key) {
+      return hashAndFingerprint(key)[0];
+    }
+
+    @Override
+    public int fingerprint(String key) {
+      return (int) hashAndFingerprint(key)[1];
+    }
+
+    @Override
+    public long[] hashAndFingerprint(String key) {
+      // The fingerprint is taken from the upper half of the 128-bit hash, independent of the lower half
+      HashCode hashCode = HASH_FUNCTION.hashString(key, UTF_8);
+      byte[] bytes = hashCode.asBytes();
+      int fingerprint =
+          (bytes[8] & 0xff) | (bytes[9] & 0xff) << 8 | (bytes[10] & 0xff) << 16 | (bytes[11] & 0xff) << 24;
+      return new long[] {hashCode.asLong(), fingerprint};
+    }
+  }
+}
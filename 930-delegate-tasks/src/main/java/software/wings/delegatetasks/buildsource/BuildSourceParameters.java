@@ -63,6 +63,8 @@ public class BuildSourceParameters implements TaskParameters, ExecutionCapabilit
   // Unique key representing build numbers already present in the DB. It stores different things for different artifact
   // stream types like buildNo, revision or artifactPath.
   private Set<String> savedBuildDetailsKeys;
+  // Compact form of savedBuildDetailsKeys sent to perpetual tasks instead of the keys themselves.
+  private ArtifactKeyDigest savedBuildDetailsKeyDigest;
 
   @Override
   public List<ExecutionCapability> fetchRequiredExecutionCapabilities(ExpressionEvaluator maskingEvaluator) {
@@ -27,6 +27,8 @@ import lombok.Data;
 public class BuildSourceResponse {
   private List<BuildDetails> buildDetails;
   private Set<String> toBeDeletedKeys;
+  // Set instead of toBeDeletedKeys when the delegate only knows the digest of the published keys.
+  private ArtifactKeyDigest toBeDeletedKeyDigest;
   private boolean cleanup;
   private boolean stable;
 }
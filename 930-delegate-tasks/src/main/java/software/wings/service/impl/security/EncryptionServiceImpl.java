@@ -34,6 +34,7 @@ import io.harness.encryptors.VaultEncryptorsRegistry;
 import io.harness.exception.ExceptionUtils;
 import io.harness.exception.SecretManagementDelegateException;
 import io.harness.exception.SecretManagementException;
+import io.harness.secrets.SecretManagerReadCache;
 import io.harness.secrets.SecretsDelegateCacheService;
 import io.harness.security.encryption.EncryptableSettingWithEncryptionDetails;
 import io.harness.security.encryption.EncryptedDataDetail;
@@ -69,17 +70,19 @@ public class EncryptionServiceImpl implements EncryptionService {
   private final KmsEncryptorsRegistry kmsEncryptorsRegistry;
   private final CustomEncryptorsRegistry customEncryptorsRegistry;
   private final SecretsDelegateCacheService secretsDelegateCacheService;
+  private final SecretManagerReadCache secretManagerReadCache;
 
   @Inject
   public EncryptionServiceImpl(VaultEncryptorsRegistry vaultEncryptorsRegistry,
       KmsEncryptorsRegistry kmsEncryptorsRegistry, CustomEncryptorsRegistry customEncryptorsRegistry,
       @Named("asyncExecutor") ExecutorService threadPoolExecutor,
-      SecretsDelegateCacheService secretsDelegateCacheService) {
+      SecretsDelegateCacheService secretsDelegateCacheService, SecretManagerReadCache secretManagerReadCache) {
     this.threadPoolExecutor = threadPoolExecutor;
     this.vaultEncryptorsRegistry = vaultEncryptorsRegistry;
     this.kmsEncryptorsRegistry = kmsEncryptorsRegistry;
     this.customEncryptorsRegistry = customEncryptorsRegistry;
     this.secretsDelegateCacheService = secretsDelegateCacheService;
+    this.secretManagerReadCache = secretManagerReadCache;
   }
 
   @Override
@@ -157,7 +160,7 @@ public class EncryptionServiceImpl implements EncryptionService {
       return secretsDelegateCacheService.get(encryptedDataDetail.getIdentifier(),
           secretUniqueIdentifier -> getDecryptedValueInternal(encryptedDataDetail));
     }
-    char[] value = getDecryptedValueInternal(encryptedDataDetail);
+    char[] value = secretManagerReadCache.get(encryptedDataDetail, fromCache, this::getDecryptedValueInternal);
     if (isNotEmpty(value)) {
       secretsDelegateCacheService.put(encryptedDataDetail.getIdentifier(), value);
     }
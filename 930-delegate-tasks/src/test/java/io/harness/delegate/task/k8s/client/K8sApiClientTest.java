@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -29,10 +30,12 @@ import io.harness.delegate.task.k8s.DirectK8sInfraDelegateConfig;
 import io.harness.delegate.task.k8s.K8sInfraDelegateConfig;
 import io.harness.delegate.task.k8s.K8sRollingDeployRequest;
 import io.harness.k8s.model.K8sSteadyStateDTO;
+import io.harness.k8s.model.KubernetesConfig;
 import io.harness.k8s.model.KubernetesResourceId;
 import io.harness.k8s.steadystate.model.K8sEventWatchDTO;
 import io.harness.k8s.steadystate.model.K8sStatusWatchDTO;
 import io.harness.k8s.steadystate.watcher.event.K8sApiEventWatcher;
+import io.harness.k8s.steadystate.watcher.event.K8sEventWatchSubscription;
 import io.harness.k8s.steadystate.watcher.workload.K8sWorkloadWatcherFactory;
 import io.harness.k8s.steadystate.watcher.workload.WorkloadWatcher;
 import io.harness.logging.CommandExecutionStatus;
@@ -44,7 +47,6 @@ import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import java.util.Collections;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -79,7 +81,7 @@ public class K8sApiClientTest extends CategoryTest {
     K8sSteadyStateDTO k8sSteadyStateDTO = K8sSteadyStateDTO.builder().resourceIds(Collections.emptyList()).build();
     boolean result = k8sApiClient.performSteadyStateCheck(k8sSteadyStateDTO);
     assertThat(result).isTrue();
-    verify(k8sClientHelper, times(0)).createKubernetesApiClient(any(K8sInfraDelegateConfig.class));
+    verify(k8sClientHelper, times(0)).createKubernetesConfig(any(K8sInfraDelegateConfig.class));
   }
 
   @Test
@@ -92,17 +94,19 @@ public class K8sApiClientTest extends CategoryTest {
     ApiClient apiClient = new ApiClient();
 
     doReturn(namespaces).when(k8sClientHelper).getNamespacesToMonitor(anyList(), anyString());
-    doReturn(apiClient).when(k8sClientHelper).createKubernetesApiClient(any(K8sInfraDelegateConfig.class));
+    KubernetesConfig kubernetesConfig = KubernetesConfig.builder().build();
+    doReturn(kubernetesConfig).when(k8sClientHelper).createKubernetesConfig(any(K8sInfraDelegateConfig.class));
+    doReturn(apiClient).when(k8sClientHelper).createKubernetesApiClient(kubernetesConfig);
     doReturn(k8sEventWatchDTO)
         .when(k8sClientHelper)
-        .createEventWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class));
+        .createEventWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class), any());
     doReturn(k8SStatusWatchDTO)
         .when(k8sClientHelper)
         .createStatusWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class));
     doReturn(workloadWatcher).when(workloadWatcherFactory).getWorkloadWatcher(anyString(), anyBoolean());
-    doReturn(new CompletableFuture<>())
+    doReturn(mock(K8sEventWatchSubscription.class))
         .when(k8sApiEventWatcher)
-        .watchForEvents(anyString(), any(K8sEventWatchDTO.class), any(LogCallback.class));
+        .subscribeToEvents(anyString(), any(K8sEventWatchDTO.class), any(LogCallback.class));
     doThrow(ApiException.class)
         .when(workloadWatcher)
         .watchRolloutStatus(any(K8sStatusWatchDTO.class), any(KubernetesResourceId.class), any(LogCallback.class));
@@ -118,7 +122,7 @@ public class K8sApiClientTest extends CategoryTest {
             .isErrorFrameworkEnabled(true)
             .build();
     assertThatThrownBy(() -> k8sApiClient.performSteadyStateCheck(k8sSteadyStateDTO)).isInstanceOf(ApiException.class);
-    verify(k8sApiEventWatcher, times(1)).destroyRunning(anyList());
+    verify(k8sApiEventWatcher, times(1)).unsubscribe(anyList());
   }
 
   @Test
@@ -131,17 +135,19 @@ public class K8sApiClientTest extends CategoryTest {
     ApiClient apiClient = new ApiClient();
 
     doReturn(namespaces).when(k8sClientHelper).getNamespacesToMonitor(anyList(), anyString());
-    doReturn(apiClient).when(k8sClientHelper).createKubernetesApiClient(any(K8sInfraDelegateConfig.class));
+    KubernetesConfig kubernetesConfig = KubernetesConfig.builder().build();
+    doReturn(kubernetesConfig).when(k8sClientHelper).createKubernetesConfig(any(K8sInfraDelegateConfig.class));
+    doReturn(apiClient).when(k8sClientHelper).createKubernetesApiClient(kubernetesConfig);
     doReturn(k8sEventWatchDTO)
         .when(k8sClientHelper)
-        .createEventWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class));
+        .createEventWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class), any());
     doReturn(k8SStatusWatchDTO)
         .when(k8sClientHelper)
         .createStatusWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class));
     doReturn(workloadWatcher).when(workloadWatcherFactory).getWorkloadWatcher(anyString(), anyBoolean());
-    doReturn(new CompletableFuture<>())
+    doReturn(mock(K8sEventWatchSubscription.class))
         .when(k8sApiEventWatcher)
-        .watchForEvents(anyString(), any(K8sEventWatchDTO.class), any(LogCallback.class));
+        .subscribeToEvents(anyString(), any(K8sEventWatchDTO.class), any(LogCallback.class));
     doReturn(false)
         .when(workloadWatcher)
         .watchRolloutStatus(any(K8sStatusWatchDTO.class), any(KubernetesResourceId.class), any(LogCallback.class));
@@ -158,7 +164,7 @@ public class K8sApiClientTest extends CategoryTest {
             .build();
     boolean result = k8sApiClient.performSteadyStateCheck(k8sSteadyStateDTO);
     assertThat(result).isFalse();
-    verify(k8sApiEventWatcher, times(1)).destroyRunning(anyList());
+    verify(k8sApiEventWatcher, times(1)).unsubscribe(anyList());
   }
 
   @Test
@@ -171,17 +177,19 @@ public class K8sApiClientTest extends CategoryTest {
     ApiClient apiClient = new ApiClient();
 
     doReturn(namespaces).when(k8sClientHelper).getNamespacesToMonitor(anyList(), anyString());
-    doReturn(apiClient).when(k8sClientHelper).createKubernetesApiClient(any(K8sInfraDelegateConfig.class));
+    KubernetesConfig kubernetesConfig = KubernetesConfig.builder().build();
+    doReturn(kubernetesConfig).when(k8sClientHelper).createKubernetesConfig(any(K8sInfraDelegateConfig.class));
+    doReturn(apiClient).when(k8sClientHelper).createKubernetesApiClient(kubernetesConfig);
     doReturn(k8sEventWatchDTO)
         .when(k8sClientHelper)
-        .createEventWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class));
+        .createEventWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class), any());
     doReturn(k8SStatusWatchDTO)
         .when(k8sClientHelper)
         .createStatusWatchDTO(any(K8sSteadyStateDTO.class), any(ApiClient.class));
     doReturn(workloadWatcher).when(workloadWatcherFactory).getWorkloadWatcher(anyString(), anyBoolean());
-    doReturn(new CompletableFuture<>())
+    doReturn(mock(K8sEventWatchSubscription.class))
         .when(k8sApiEventWatcher)
-        .watchForEvents(anyString(), any(K8sEventWatchDTO.class), any(LogCallback.class));
+        .subscribeToEvents(anyString(), any(K8sEventWatchDTO.class), any(LogCallback.class));
     doReturn(true)
         .when(workloadWatcher)
         .watchRolloutStatus(any(K8sStatusWatchDTO.class), any(KubernetesResourceId.class), any(LogCallback.class));
@@ -198,6 +206,6 @@ public class K8sApiClientTest extends CategoryTest {
             .build();
     boolean result = k8sApiClient.performSteadyStateCheck(k8sSteadyStateDTO);
     assertThat(result).isTrue();
-    verify(k8sApiEventWatcher, times(1)).destroyRunning(anyList());
+    verify(k8sApiEventWatcher, times(1)).unsubscribe(anyList());
   }
 }
@@ -26,6 +26,7 @@ import io.harness.k8s.KubernetesHelperService;
 import io.harness.k8s.kubectl.Kubectl;
 import io.harness.k8s.model.K8sDelegateTaskParams;
 import io.harness.k8s.model.K8sSteadyStateDTO;
+import io.harness.k8s.model.KubernetesClusterAuthType;
 import io.harness.k8s.model.KubernetesConfig;
 import io.harness.k8s.model.KubernetesResourceId;
 import io.harness.k8s.steadystate.model.K8sEventWatchDTO;
@@ -69,9 +70,10 @@ public class K8sClientHelperTest extends CategoryTest {
   @Owner(developers = ABHINAV2)
   @Category(UnitTests.class)
   public void testEventWatchInfoFormat() {
-    K8sEventWatchDTO eventWatchDTO = k8sClientHelper.createEventWatchDTO(k8sSteadyStateDTO, apiClient);
+    K8sEventWatchDTO eventWatchDTO = k8sClientHelper.createEventWatchDTO(k8sSteadyStateDTO, apiClient, "cluster");
     assertThat(eventWatchDTO.getEventInfoFormat()).isEqualTo("%-7s: %-24s   %s");
     assertThat(eventWatchDTO.getResourceIds()).isEqualTo(resourceIds);
+    assertThat(eventWatchDTO.getClusterKey()).isEqualTo("cluster");
 
     eventWatchDTO = k8sClientHelper.createEventWatchDTO(k8sSteadyStateDTO, client);
     assertThat(eventWatchDTO.getEventInfoFormat()).isEqualTo("%-7s: %-24s   %s");
@@ -114,6 +116,39 @@ public class K8sClientHelperTest extends CategoryTest {
     assertThat(generatedClient).isEqualTo(apiCLient);
   }
 
+  @Test
+  @Owner(developers = ABHINAV2)
+  @Category(UnitTests.class)
+  public void testClusterKey() {
+    KubernetesConfig config = KubernetesConfig.builder()
+                                  .accountId("acc")
+                                  .masterUrl("https://cluster")
+                                  .authType(KubernetesClusterAuthType.SERVICE_ACCOUNT)
+                                  .serviceAccountTokenSupplier(() -> "token")
+                                  .build();
+    KubernetesConfig sameConfig = KubernetesConfig.builder()
+                                      .accountId("acc")
+                                      .masterUrl("https://cluster")
+                                      .authType(KubernetesClusterAuthType.SERVICE_ACCOUNT)
+                                      .serviceAccountTokenSupplier(() -> "token")
+                                      .build();
+    KubernetesConfig otherToken = KubernetesConfig.builder()
+                                      .accountId("acc")
+                                      .masterUrl("https://cluster")
+                                      .authType(KubernetesClusterAuthType.SERVICE_ACCOUNT)
+                                      .serviceAccountTokenSupplier(() -> "other-token")
+                                      .build();
+    KubernetesConfig gcpConfig = KubernetesConfig.builder()
+                                     .accountId("acc")
+                                     .masterUrl("https://cluster")
+                                     .authType(KubernetesClusterAuthType.GCP_OAUTH)
+                                     .build();
+
+    assertThat(k8sClientHelper.getClusterKey(config)).isEqualTo(k8sClientHelper.getClusterKey(sameConfig));
+    assertThat(k8sClientHelper.getClusterKey(config)).isNotEqualTo(k8sClientHelper.getClusterKey(otherToken));
+    assertThat(k8sClientHelper.getClusterKey(gcpConfig)).isNull();
+  }
+
   @Test
   @Owner(developers = ABHINAV2)
   @Category(UnitTests.class)
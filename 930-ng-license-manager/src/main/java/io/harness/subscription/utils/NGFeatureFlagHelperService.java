@@ -5,19 +5,18 @@
  * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
  */
 package io.harness.subscription.utils;
-import io.harness.account.AccountClient;
+import io.harness.account.AccountFeatureFlagCache;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.FeatureName;
-import io.harness.remote.client.CGRestUtils;
 
 import com.google.inject.Inject;
 
 @OwnedBy(HarnessTeam.PL)
 public class NGFeatureFlagHelperService {
-  @Inject AccountClient accountClient;
+  @Inject AccountFeatureFlagCache accountFeatureFlagCache;
 
   public boolean isEnabled(String accountId, FeatureName featureName) {
-    return CGRestUtils.getResponse(accountClient.isFeatureFlagEnabled(featureName.name(), accountId));
+    return accountFeatureFlagCache.isEnabled(accountId, featureName);
   }
 }
@@ -47,6 +47,7 @@ public class MongoRedisTracer implements Tracer, NgTracer {
   @Inject @Named(PersistenceTracerConstants.QUERY_ANALYSIS_PRODUCER) private Producer producer;
   @Inject @Named(SERVICE_ID) private String serviceId;
   @Inject private VersionInfoManager versionInfoManager;
+  @Inject private QueryShapeStats queryShapeStats;
 
   private final ConcurrentHashMap<String, Long> queryStatsCache = new ConcurrentHashMap<>();
 
@@ -80,6 +81,30 @@ public class MongoRedisTracer implements Tracer, NgTracer {
     }
   }
 
+  @Override
+  public void recordMorphiaQuery(HQuery<?> query, long elapsedNanos, int documents) {
+    try {
+      queryShapeStats.record(QueryShapeDetector.calculateQueryHashKey(query.getCollection().getName(),
+                                 toDocument(query.getQueryObject()), toDocument(query.getSortObject())),
+          elapsedNanos, documents);
+    } catch (Exception ex) {
+      log.error("Unable to record morphia query stats", ex);
+    }
+  }
+
+  @Override
+  public void recordSpringQuery(String collectionName, Query query, long elapsedNanos, int documents) {
+    try {
+      // The shape is taken from the query as it was written, mapping its fields to the stored names is left to the
+      // sampled queries to keep this on the calling thread cheap
+      queryShapeStats.record(QueryShapeDetector.calculateQueryHashKey(collectionName,
+                                 nonNullDocument(query.getQueryObject()), nonNullDocument(query.getSortObject())),
+          elapsedNanos, documents);
+    } catch (Exception ex) {
+      log.error("Unable to record spring query stats", ex);
+    }
+  }
+
   private void traceSpringQueryInternal(Query query, Class<?> entityClass, MongoTemplate mongoTemplate) {
     String collectionName = mongoTemplate.getCollectionName(entityClass);
     MongoConverter mongoConverter = mongoTemplate.getConverter();
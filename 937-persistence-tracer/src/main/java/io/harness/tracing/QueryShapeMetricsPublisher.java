@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.metrics.service.api.MetricsPublisher;
+
+import com.google.inject.Inject;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class QueryShapeMetricsPublisher implements MetricsPublisher {
+  public static final String QUERY_SHAPE_COUNT = "mongo_query_shape_count";
+  public static final String QUERY_SHAPE_LATENCY_P50 = "mongo_query_shape_latency_p50";
+  public static final String QUERY_SHAPE_LATENCY_P99 = "mongo_query_shape_latency_p99";
+  public static final String QUERY_SHAPE_LATENCY_MAX = "mongo_query_shape_latency_max";
+  public static final String QUERY_SHAPE_DOCUMENTS_MEAN = "mongo_query_shape_documents_mean";
+  public static final String QUERY_SHAPE_DOCUMENTS_MAX = "mongo_query_shape_documents_max";
+  public static final String QUERY_SHAPE_N_PLUS_ONE = "mongo_query_shape_n_plus_one";
+
+  private final QueryShapeStats queryShapeStats;
+  private final MetricService metricService;
+
+  @Inject
+  public QueryShapeMetricsPublisher(QueryShapeStats queryShapeStats, MetricService metricService) {
+    this.queryShapeStats = queryShapeStats;
+    this.metricService = metricService;
+  }
+
+  @Override
+  public void recordMetrics() {
+    queryShapeStats.snapshotAndReset().forEach((queryHashKey, snapshot) -> {
+      try (QueryShapeMetricsContext ignored = new QueryShapeMetricsContext(
+               queryHashKey.getCollectionName(), String.valueOf(queryHashKey.hashCode()))) {
+        metricService.recordMetric(QUERY_SHAPE_COUNT, snapshot.getQueries());
+        metricService.recordMetric(QUERY_SHAPE_LATENCY_P50, snapshot.getP50LatencyMillis());
+        metricService.recordMetric(QUERY_SHAPE_LATENCY_P99, snapshot.getP99LatencyMillis());
+        metricService.recordMetric(QUERY_SHAPE_LATENCY_MAX, snapshot.getMaxLatencyMillis());
+        metricService.recordMetric(QUERY_SHAPE_DOCUMENTS_MEAN, snapshot.getMeanDocuments());
+        metricService.recordMetric(QUERY_SHAPE_DOCUMENTS_MAX, snapshot.getMaxDocuments());
+        metricService.recordMetric(QUERY_SHAPE_N_PLUS_ONE, snapshot.getNPlusOneRequests());
+      }
+    });
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.tracing.shapedetector.QueryHashKey;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency and result size histograms of the queries run by this service, per query shape.
+ *
+ * Queries are recorded into HdrHistogram recorders, which writers update without locking, and the histograms of the
+ * interval since the last snapshot are published as metrics. Shapes are also counted per request, by the trace id of
+ * the current span, and a shape run more than a threshold number of times in a single request is reported as a
+ * possible N+1 query together with the code it was run from.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class QueryShapeStats {
+  static final int N_PLUS_ONE_THRESHOLD = 25;
+  private static final int MAX_SHAPES = 2000;
+  private static final int MAX_TRACKED_REQUESTS = 10000;
+  private static final long REQUEST_EXPIRY_MINUTES = 5;
+  private static final int SIGNIFICANT_DIGITS = 2;
+
+  private final ConcurrentMap<QueryHashKey, ShapeStats> shapes = new ConcurrentHashMap<>();
+  private final Cache<String, ConcurrentMap<QueryHashKey, AtomicInteger>> requestShapes =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_TRACKED_REQUESTS)
+          .expireAfterAccess(REQUEST_EXPIRY_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  public void record(QueryHashKey queryHashKey, long elapsedNanos, int documents) {
+    record(queryHashKey, elapsedNanos, documents, currentRequestId());
+  }
+
+  @VisibleForTesting
+  void record(QueryHashKey queryHashKey, long elapsedNanos, int documents, String requestId) {
+    ShapeStats stats = shapes.get(queryHashKey);
+    if (stats == null) {
+      if (shapes.size() >= MAX_SHAPES) {
+        return;
+      }
+      stats = shapes.computeIfAbsent(queryHashKey, key -> new ShapeStats());
+    }
+    stats.latencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+    stats.documents.recordValue(Math.max(0, documents));
+
+    if (requestId == null) {
+      return;
+    }
+    int count = requestShapes.asMap()
+                    .computeIfAbsent(requestId, id -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(queryHashKey, key -> new AtomicInteger())
+                    .incrementAndGet();
+    if (count == N_PLUS_ONE_THRESHOLD) {
+      stats.nPlusOneRequests.increment();
+      log.warn("Possible N+1 query: shape {} of collection {} was queried {} times in request {}, from {}",
+          queryHashKey.hashCode(), queryHashKey.getCollectionName(), count, requestId, getCallSite());
+    }
+  }
+
+  /**
+   * Returns the stats of the shapes queried since the last snapshot and starts a new interval.
+   */
+  public synchronized Map<QueryHashKey, ShapeSnapshot> snapshotAndReset() {
+    Map<QueryHashKey, ShapeSnapshot> snapshots = new HashMap<>();
+    shapes.forEach((queryHashKey, stats) -> {
+      // The previous interval histograms are recycled, so a snapshot does not allocate new ones
+      stats.latencyInterval = stats.latencyMicros.getIntervalHistogram(stats.latencyInterval);
+      stats.documentsInterval = stats.documents.getIntervalHistogram(stats.documentsInterval);
+      long nPlusOneRequests = stats.nPlusOneRequests.sumThenReset();
+      if (stats.latencyInterval.getTotalCount() == 0 && nPlusOneRequests == 0) {
+        return;
+      }
+      snapshots.put(queryHashKey,
+          ShapeSnapshot.builder()
+              .queries(stats.latencyInterval.getTotalCount())
+              .p50LatencyMillis(toMillis(stats.latencyInterval.getValueAtPercentile(50)))
+              .p99LatencyMillis(toMillis(stats.latencyInterval.getValueAtPercentile(99)))
+              .maxLatencyMillis(toMillis(stats.latencyInterval.getMaxValue()))
+              .meanDocuments(stats.documentsInterval.getMean())
+              .maxDocuments(stats.documentsInterval.getMaxValue())
+              .nPlusOneRequests(nPlusOneRequests)
+              .build());
+    });
+    return snapshots;
+  }
+
+  private static double toMillis(long micros) {
+    return micros / 1000.0;
+  }
+
+  private static String currentRequestId() {
+    SpanContext spanContext = Span.current().getSpanContext();
+    return spanContext.isValid() ? spanContext.getTraceId() : null;
+  }
+
+  // The first frame outside of the persistence layers is the code that ran the query
+  private static String getCallSite() {
+    return StackWalker.getInstance()
+        .walk(frames
+            -> frames.map(StackWalker.StackFrame::toStackTraceElement)
+                   .filter(frame -> !isPersistenceFrame(frame.getClassName()))
+                   .findFirst()
+                   .map(StackTraceElement::toString)
+                   .orElse("unknown"));
+  }
+
+  private static boolean isPersistenceFrame(String className) {
+    return className.startsWith("io.harness.tracing.") || className.startsWith("io.harness.observer.")
+        || className.startsWith("io.harness.persistence.") || className.startsWith("io.harness.springdata.")
+        || className.startsWith("io.harness.mongo.") || className.startsWith("org.mongodb.")
+        || className.startsWith("com.mongodb.") || className.startsWith("org.springframework.")
+        || className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("com.sun.proxy.");
+  }
+
+  private static class ShapeStats {
+    private final Recorder latencyMicros = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder documents = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder nPlusOneRequests = new LongAdder();
+    private Histogram latencyInterval;
+    private Histogram documentsInterval;
+  }
+
+  @Value
+  @Builder
+  public static class ShapeSnapshot {
+    long queries;
+    double p50LatencyMillis;
+    double p99LatencyMillis;
+    double maxLatencyMillis;
+    double meanDocuments;
+    long maxDocuments;
+    long nPlusOneRequests;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.tracing.QueryShapeStats.ShapeSnapshot;
+import io.harness.tracing.shapedetector.QueryHashKey;
+import io.harness.tracing.shapedetector.QueryShapeDetector;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class QueryShapeStatsTest extends CategoryTest {
+  private final QueryShapeStats queryShapeStats = new QueryShapeStats();
+
+  private final QueryHashKey byUuid =
+      QueryShapeDetector.calculateQueryHashKey("services", new Document("_id", "a"), new Document());
+  private final QueryHashKey byAccount =
+      QueryShapeDetector.calculateQueryHashKey("services", new Document("accountId", "a"), new Document());
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testSnapshotAndReset() {
+    for (int i = 1; i <= 100; i++) {
+      queryShapeStats.record(byUuid, TimeUnit.MILLISECONDS.toNanos(i), 1, null);
+    }
+    queryShapeStats.record(byAccount, TimeUnit.MILLISECONDS.toNanos(5), 40, null);
+    queryShapeStats.record(byAccount, TimeUnit.MILLISECONDS.toNanos(7), 60, null);
+
+    Map<QueryHashKey, ShapeSnapshot> snapshots = queryShapeStats.snapshotAndReset();
+    assertThat(snapshots).containsOnlyKeys(byUuid, byAccount);
+    ShapeSnapshot uuidSnapshot = snapshots.get(byUuid);
+    assertThat(uuidSnapshot.getQueries()).isEqualTo(100);
+    assertThat(uuidSnapshot.getP50LatencyMillis()).isBetween(49.0, 51.0);
+    assertThat(uuidSnapshot.getP99LatencyMillis()).isBetween(98.0, 100.0);
+    assertThat(uuidSnapshot.getMaxLatencyMillis()).isBetween(99.0, 101.0);
+    assertThat(snapshots.get(byAccount).getMeanDocuments()).isEqualTo(50.0);
+    assertThat(snapshots.get(byAccount).getMaxDocuments()).isEqualTo(60);
+
+    // Only the queries run since the last snapshot are reported
+    assertThat(queryShapeStats.snapshotAndReset()).isEmpty();
+    queryShapeStats.record(byAccount, TimeUnit.MILLISECONDS.toNanos(5), 1, null);
+    assertThat(queryShapeStats.snapshotAndReset()).containsOnlyKeys(byAccount);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testNPlusOneIsCountedOncePerRequest() {
+    for (int i = 0; i < 2 * QueryShapeStats.N_PLUS_ONE_THRESHOLD; i++) {
+      queryShapeStats.record(byUuid, 1000, 1, "request1");
+      queryShapeStats.record(byUuid, 1000, 1, null);
+    }
+    for (int i = 0; i < QueryShapeStats.N_PLUS_ONE_THRESHOLD - 1; i++) {
+      queryShapeStats.record(byUuid, 1000, 1, "request2");
+      queryShapeStats.record(byAccount, 1000, 1, "request2");
+    }
+    queryShapeStats.record(byUuid, 1000, 1, "request3");
+
+    Map<QueryHashKey, ShapeSnapshot> snapshots = queryShapeStats.snapshotAndReset();
+    assertThat(snapshots.get(byUuid).getNPlusOneRequests()).isEqualTo(1);
+    assertThat(snapshots.get(byAccount).getNPlusOneRequests()).isEqualTo(0);
+
+    queryShapeStats.record(byUuid, 1000, 1, "request2");
+    assertThat(queryShapeStats.snapshotAndReset().get(byUuid).getNPlusOneRequests()).isEqualTo(1);
+  }
+}
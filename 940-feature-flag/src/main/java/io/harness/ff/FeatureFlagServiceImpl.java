@@ -35,34 +35,44 @@ import io.harness.serializer.JsonUtils;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
-import javax.annotation.Nullable;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.query.Query;
+import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
 
 @Singleton
 @Slf4j
 @OwnedBy(HarnessTeam.PL)
 public class FeatureFlagServiceImpl implements FeatureFlagService {
+  // How often the persisted flags are checked for changes made by other instances
+  private static final long SNAPSHOT_REFRESH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+  // How often the flags are loaded again even though the version did not change, bounds how long a missed change lasts
+  private static final long SNAPSHOT_RELOAD_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
   private final HPersistence persistence;
-  @Inject(optional = true) @Nullable private long lastEpoch;
-  private final Map<FeatureName, FeatureFlag> cache;
+  private final AtomicReference<FeatureFlagSnapshot> snapshot = new AtomicReference<>();
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private final ExecutorService snapshotRefreshExecutor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("feature-flag-snapshot-refresh").setDaemon(true).build());
   private final CfMigrationService cfMigrationService;
   private final CfMigrationConfig cfMigrationConfig;
   private final Provider<CfClient> cfClient;
@@ -76,14 +86,11 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
     this.cfMigrationConfig = cfMigrationConfig;
     this.cfClient = cfClient;
     this.featureFlagConfig = featureFlagConfig;
-    this.cache = new HashMap<>();
   }
 
   @Override
   public boolean isEnabledReloadCache(FeatureName featureName, String accountId) {
-    synchronized (cache) {
-      cache.remove(featureName);
-    }
+    updateSnapshot(featureName, loadFeatureFlag(featureName));
     return isEnabled(featureName, accountId);
   }
 
@@ -99,9 +106,7 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
                                                          .setOnInsert(FeatureFlagKeys.obsolete, false)
                                                          .setOnInsert(FeatureFlagKeys.enabled, false);
     FeatureFlag featureFlag = persistence.findAndModify(query, updateOperations, HPersistence.upsertReturnNewOptions);
-    synchronized (cache) {
-      cache.put(featureName, featureFlag);
-    }
+    updateSnapshot(featureName, featureFlag);
 
     cfMigrationService.syncFeatureFlagWithCF(featureFlag);
 
@@ -123,9 +128,7 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
       featureFlag.getAccountIds().remove(accountId);
     }
     persistence.save(featureFlag);
-    synchronized (cache) {
-      cache.put(FeatureName.valueOf(featureName), featureFlag);
-    }
+    updateSnapshot(FeatureName.valueOf(featureName), featureFlag);
     cfMigrationService.syncFeatureFlagWithCF(featureFlag);
     return featureFlag;
   }
@@ -141,9 +144,7 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
                                                          .setOnInsert(FeatureFlagKeys.obsolete, Boolean.FALSE)
                                                          .set(FeatureFlagKeys.enabled, Boolean.TRUE);
     FeatureFlag featureFlag = persistence.findAndModify(query, updateOperations, HPersistence.upsertReturnNewOptions);
-    synchronized (cache) {
-      cache.put(featureName, featureFlag);
-    }
+    updateSnapshot(featureName, featureFlag);
     cfMigrationService.syncFeatureFlagWithCF(featureFlag);
 
     log.info("Enabled feature name :[{}] globally", featureName.name());
@@ -186,23 +187,82 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
 
   @Override
   public Optional<FeatureFlag> getFeatureFlag(@NonNull FeatureName featureName) {
-    FeatureFlag featureFlag;
-    synchronized (cache) {
-      // if the last access to cache was in different epoch reset it. This will allow for potentially outdated
-      // objects to be replaced, and the potential change will be in a relatively same time on all managers.
-      long epoch = currentTimeMillis() / Duration.ofMinutes(5).toMillis();
-      if (lastEpoch != epoch) {
-        lastEpoch = epoch;
-        cache.clear();
+    Optional<FeatureFlag> featureFlag = getSnapshot().get(featureName);
+    if (featureFlag == null) {
+      // Not in the database when the snapshot was loaded, it is looked up once and then kept in the snapshot
+      FeatureFlag loadedFeatureFlag = loadFeatureFlag(featureName);
+      updateSnapshot(featureName, loadedFeatureFlag);
+      featureFlag = Optional.ofNullable(loadedFeatureFlag);
+    }
+    return featureFlag;
+  }
+
+  private FeatureFlagSnapshot getSnapshot() {
+    FeatureFlagSnapshot current = snapshot.get();
+    if (current == null) {
+      synchronized (snapshot) {
+        current = snapshot.get();
+        if (current == null) {
+          current = loadSnapshot();
+          snapshot.set(current);
+        }
       }
+      return current;
+    }
+    if (currentTimeMillis() - current.getCheckedAt() >= SNAPSHOT_REFRESH_INTERVAL_MILLIS
+        && refreshing.compareAndSet(false, true)) {
+      // Readers keep using the current snapshot while a single thread checks for changes
+      snapshotRefreshExecutor.execute(this::refreshSnapshot);
+    }
+    return current;
+  }
 
-      featureFlag = cache.computeIfAbsent(featureName,
-          key
-          -> persistence.createQuery(FeatureFlag.class, excludeAuthority)
-                 .filter(FeatureFlagKeys.name, key.name())
-                 .get());
+  private void refreshSnapshot() {
+    try {
+      FeatureFlagSnapshot current = snapshot.get();
+      if (current == null) {
+        return;
+      }
+      FeatureFlagSnapshot refreshed;
+      if (currentTimeMillis() - current.getLoadedAt() >= SNAPSHOT_RELOAD_INTERVAL_MILLIS
+          || !loadVersion().equals(current.getVersion())) {
+        refreshed = loadSnapshot();
+      } else {
+        refreshed = current.checkedAt(currentTimeMillis());
+      }
+      // A flag changed by this instance in the meantime is picked up by the next refresh
+      snapshot.compareAndSet(current, refreshed);
+    } catch (Exception e) {
+      log.warn("Failed to refresh feature flag snapshot", e);
+    } finally {
+      refreshing.set(false);
     }
-    return Optional.ofNullable(featureFlag);
+  }
+
+  private FeatureFlagSnapshot loadSnapshot() {
+    long checkedAt = currentTimeMillis();
+    FeatureFlagSnapshot.Version version = loadVersion();
+    List<FeatureFlag> featureFlags = persistence.createQuery(FeatureFlag.class, excludeAuthority).asList();
+    return FeatureFlagSnapshot.of(featureFlags, version, checkedAt);
+  }
+
+  private FeatureFlagSnapshot.Version loadVersion() {
+    FeatureFlag lastUpdated = persistence.createQuery(FeatureFlag.class, excludeAuthority)
+                                  .order(Sort.descending(FeatureFlagKeys.lastUpdatedAt))
+                                  .project(FeatureFlagKeys.lastUpdatedAt, true)
+                                  .get();
+    long count = persistence.createQuery(FeatureFlag.class, excludeAuthority).count();
+    return new FeatureFlagSnapshot.Version(lastUpdated != null ? lastUpdated.getLastUpdatedAt() : 0, count);
+  }
+
+  private FeatureFlag loadFeatureFlag(FeatureName featureName) {
+    return persistence.createQuery(FeatureFlag.class, excludeAuthority)
+        .filter(FeatureFlagKeys.name, featureName.name())
+        .get();
+  }
+
+  private void updateSnapshot(FeatureName featureName, FeatureFlag featureFlag) {
+    snapshot.getAndUpdate(current -> current == null ? null : current.with(featureName, featureFlag));
   }
 
   @Override
@@ -251,7 +311,7 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
             featureValue = false;
             return featureValue;
           }
-          featureValue = featureFlag.getAccountIds().contains(accountId);
+          featureValue = getSnapshot().getAccountIds(featureName).contains(accountId);
           return featureValue;
         }
       } finally {
@@ -371,6 +431,9 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
             updateQuery);
       }
     }
+    // Flags were changed in bulk, the next read loads them all again
+    snapshot.set(null);
+
     /**
      *
      * If featureFlagConfig mode is CF and sync is enabled, then only sync creation of feature flags to CF
@@ -416,9 +479,7 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
     }
     persistence.save(featureFlag);
 
-    synchronized (cache) {
-      cache.put(FeatureName.valueOf(featureFlagName), featureFlag);
-    }
+    updateSnapshot(FeatureName.valueOf(featureFlagName), featureFlag);
 
     cfMigrationService.syncFeatureFlagWithCF(featureFlag);
     return Optional.of(featureFlag);
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ff;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureFlag;
+import io.harness.beans.FeatureName;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable view of all feature flags. Changes are applied by creating a new snapshot, readers never wait for writers.
+ *
+ * Flags are kept together with an immutable copy of their account ids, the FeatureFlag objects themselves may still
+ * be changed by callers and are not used for evaluation. A flag that was looked up and is not in the database is kept
+ * as an empty Optional, so that it is not queried again until the next full load.
+ */
+@OwnedBy(HarnessTeam.PL)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class FeatureFlagSnapshot {
+  @Getter private final Version version;
+  @Getter private final long loadedAt;
+  @Getter private final long checkedAt;
+  private final Map<FeatureName, Optional<FeatureFlag>> featureFlags;
+  private final Map<FeatureName, Set<String>> accountIds;
+
+  static FeatureFlagSnapshot of(List<FeatureFlag> featureFlags, Version version, long checkedAt) {
+    Map<FeatureName, Optional<FeatureFlag>> flags = new EnumMap<>(FeatureName.class);
+    Map<FeatureName, Set<String>> accountIds = new EnumMap<>(FeatureName.class);
+    for (FeatureFlag featureFlag : featureFlags) {
+      FeatureName featureName = toFeatureName(featureFlag.getName());
+      if (featureName != null) {
+        flags.put(featureName, Optional.of(featureFlag));
+        accountIds.put(featureName, copyAccountIds(featureFlag));
+      }
+    }
+    return new FeatureFlagSnapshot(version, checkedAt, checkedAt, flags, accountIds);
+  }
+
+  /**
+   * Null if the flag was never looked up, an empty Optional if it does not exist.
+   */
+  Optional<FeatureFlag> get(FeatureName featureName) {
+    return featureFlags.get(featureName);
+  }
+
+  Set<String> getAccountIds(FeatureName featureName) {
+    return accountIds.getOrDefault(featureName, Collections.emptySet());
+  }
+
+  FeatureFlagSnapshot with(FeatureName featureName, FeatureFlag featureFlag) {
+    Map<FeatureName, Optional<FeatureFlag>> flags = new EnumMap<>(FeatureName.class);
+    flags.putAll(featureFlags);
+    flags.put(featureName, Optional.ofNullable(featureFlag));
+    Map<FeatureName, Set<String>> newAccountIds = new EnumMap<>(FeatureName.class);
+    newAccountIds.putAll(accountIds);
+    if (featureFlag != null) {
+      newAccountIds.put(featureName, copyAccountIds(featureFlag));
+    } else {
+      newAccountIds.remove(featureName);
+    }
+    return new FeatureFlagSnapshot(version, loadedAt, checkedAt, flags, newAccountIds);
+  }
+
+  FeatureFlagSnapshot checkedAt(long checkedAt) {
+    return new FeatureFlagSnapshot(version, loadedAt, checkedAt, featureFlags, accountIds);
+  }
+
+  private static Set<String> copyAccountIds(FeatureFlag featureFlag) {
+    return isEmpty(featureFlag.getAccountIds()) ? Collections.emptySet()
+                                                : ImmutableSet.copyOf(featureFlag.getAccountIds());
+  }
+
+  private static FeatureName toFeatureName(String name) {
+    try {
+      return FeatureName.valueOf(name);
+    } catch (IllegalArgumentException | NullPointerException e) {
+      // Obsolete flags stay in the database for a while after they are removed from FeatureName
+      return null;
+    }
+  }
+
+  /**
+   * Latest update time and number of the persisted flags. It misses an update stamped by a writer whose clock is
+   * behind, or in the same millisecond as the latest one, such changes are only picked up by the periodic full load.
+   */
+  @Value
+  static class Version {
+    long lastUpdatedAt;
+    long count;
+  }
+}
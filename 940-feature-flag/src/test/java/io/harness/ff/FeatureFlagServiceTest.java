@@ -247,4 +247,31 @@ public class FeatureFlagServiceTest extends FeatureFlagTestBase {
     assertThat(globaldisableFF).isNotNull();
     assertThat(globaldisableFF.isEnabled()).isTrue();
   }
+
+  @Test
+  @Owner(developers = VIKAS)
+  @Category(UnitTests.class)
+  public void testIsEnabled_ServedFromSnapshotUntilReloaded() {
+    FeatureFlag featureFlag = FeatureFlag.builder().name(CV_DEMO.name()).enabled(false).obsolete(false).build();
+    persistence.save(featureFlag);
+    assertThat(featureFlagService.isEnabled(CV_DEMO, "abcde")).isFalse();
+
+    featureFlag.setAccountIds(Sets.newHashSet("abcde"));
+    persistence.save(featureFlag);
+    assertThat(featureFlagService.isEnabled(CV_DEMO, "abcde")).isFalse();
+    assertThat(featureFlagService.isEnabledReloadCache(CV_DEMO, "abcde")).isTrue();
+  }
+
+  @Test
+  @Owner(developers = VIKAS)
+  @Category(UnitTests.class)
+  public void testEnableAccount_VisibleImmediately() {
+    persistence.save(FeatureFlag.builder().name(CV_DEMO.name()).enabled(false).obsolete(false).build());
+    assertThat(featureFlagService.isEnabled(CV_DEMO, "abcde")).isFalse();
+
+    featureFlagService.enableAccount(CV_DEMO, "abcde");
+
+    assertThat(featureFlagService.isEnabled(CV_DEMO, "abcde")).isTrue();
+    assertThat(featureFlagService.isEnabled(CV_DEMO, "other")).isFalse();
+  }
 }
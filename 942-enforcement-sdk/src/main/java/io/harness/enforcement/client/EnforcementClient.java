@@ -39,6 +39,10 @@ public interface EnforcementClient {
       @Body RestrictionMetadataMapRequestDTO restrictionMetadataMapRequestDTO,
       @Query(NGCommonEntityConstants.ACCOUNT_KEY) String accountIdentifier);
 
+  @GET("enforcement/metadata/account")
+  Call<ResponseDTO<RestrictionMetadataMapResponseDTO>> getAccountRestrictionMetadataMap(
+      @Query(NGCommonEntityConstants.ACCOUNT_KEY) String accountIdentifier);
+
   @POST("enforcement")
   Call<ResponseDTO<FeatureRestrictionDetailsDTO>> getFeatureRestrictionDetail(
       @Body FeatureRestrictionDetailRequestDTO restrictionMetadataMapRequestDTO,
@@ -22,4 +22,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class EnforcementClientConfiguration {
   private boolean enforcementCheckEnabled;
+  // Evaluates restrictions against a per account snapshot of the restriction metadata instead of fetching it per check
+  private boolean entitlementSnapshotEnabled;
 }
@@ -57,6 +57,7 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
   private final EnforcementClient enforcementClient;
   private final EnforcementSdkRegisterService enforcementSdkRegisterService;
   private final EnforcementClientConfiguration enforcementClientConfiguration;
+  private final EntitlementSnapshotCache entitlementSnapshotCache;
 
   private static final String ENABLED = "enabled";
   private static final String MESSAGE = "message";
@@ -65,10 +66,12 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
   @Inject
   public EnforcementClientServiceImpl(EnforcementClient enforcementClient,
       EnforcementSdkRegisterService enforcementSdkRegisterService,
-      EnforcementClientConfiguration enforcementClientConfiguration) {
+      EnforcementClientConfiguration enforcementClientConfiguration,
+      EntitlementSnapshotCache entitlementSnapshotCache) {
     this.enforcementClient = enforcementClient;
     this.enforcementSdkRegisterService = enforcementSdkRegisterService;
     this.enforcementClientConfiguration = enforcementClientConfiguration;
+    this.entitlementSnapshotCache = entitlementSnapshotCache;
   }
 
   @Override
@@ -117,8 +120,7 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
 
     FeatureRestrictionMetadataDTO featureMetadataDTO;
     try {
-      featureMetadataDTO =
-          getResponse(enforcementClient.getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier));
+      featureMetadataDTO = getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier);
     } catch (UnexpectedException e) {
       log.error("Not able to fetch feature restriction metadata from ng-manager, failover to bypass the check", e);
       return;
@@ -152,6 +154,11 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
       return true;
     }
 
+    Boolean locallyAvailable = getLocalAvailability(featureRestrictionName, accountIdentifier);
+    if (locallyAvailable != null) {
+      return locallyAvailable;
+    }
+
     try {
       FeatureRestrictionDetailsDTO response = getResponse(enforcementClient.getFeatureRestrictionDetail(
           FeatureRestrictionDetailRequestDTO.builder().name(featureRestrictionName).build(), accountIdentifier));
@@ -181,9 +188,23 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
       return result;
     }
 
+    List<FeatureRestrictionName> remoteFeatureRestrictionNames = new ArrayList<>();
+    for (FeatureRestrictionName name : featureRestrictionNames) {
+      Boolean locallyAvailable = getLocalAvailability(name, accountIdentifier);
+      if (locallyAvailable != null) {
+        result.put(name, locallyAvailable);
+      } else {
+        remoteFeatureRestrictionNames.add(name);
+      }
+    }
+    if (remoteFeatureRestrictionNames.isEmpty()) {
+      return result;
+    }
+
     try {
       List<FeatureRestrictionDetailsDTO> response = getResponse(enforcementClient.getFeatureRestrictionMap(
-          FeatureRestrictionDetailListRequestDTO.builder().names(featureRestrictionNames).build(), accountIdentifier));
+          FeatureRestrictionDetailListRequestDTO.builder().names(remoteFeatureRestrictionNames).build(),
+          accountIdentifier));
       for (FeatureRestrictionDetailsDTO dto : response) {
         result.put(dto.getName(), dto.isAllowed());
       }
@@ -211,11 +232,8 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
     }
 
     try {
-      RestrictionMetadataMapResponseDTO response = getResponse(enforcementClient.getFeatureRestrictionMetadataMap(
-          RestrictionMetadataMapRequestDTO.builder().names(new ArrayList<>(featureRestrictionNames)).build(),
-          accountIdentifier));
-
-      Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO> metadataMap = response.getMetadataMap();
+      Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO> metadataMap =
+          getFeatureRestrictionMetadataMap(new ArrayList<>(featureRestrictionNames), accountIdentifier);
       for (Map.Entry<FeatureRestrictionName, FeatureRestrictionMetadataDTO> entry : metadataMap.entrySet()) {
         FeatureRestrictionName featureRestrictionName = entry.getKey();
         FeatureRestrictionMetadataDTO featureMetadata = entry.getValue();
@@ -245,8 +263,7 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
   public Optional<RestrictionMetadataDTO> getRestrictionMetadata(FeatureRestrictionName featureRestrictionName,
       String accountIdentifier) throws WrongFeatureStateException, EnforcementServiceConnectionException {
     try {
-      FeatureRestrictionMetadataDTO response =
-          getResponse(enforcementClient.getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier));
+      FeatureRestrictionMetadataDTO response = getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier);
       RestrictionMetadataDTO restrictionMetadataDTO = response.getRestrictionMetadata().get(response.getEdition());
       return Optional.ofNullable(restrictionMetadataDTO);
     } catch (InvalidRequestException invalidRequestException) {
@@ -263,10 +280,8 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
       List<FeatureRestrictionName> featureRestrictionNames, String accountIdentifier)
       throws WrongFeatureStateException, EnforcementServiceConnectionException {
     try {
-      RestrictionMetadataMapResponseDTO response = getResponse(enforcementClient.getFeatureRestrictionMetadataMap(
-          RestrictionMetadataMapRequestDTO.builder().names(featureRestrictionNames).build(), accountIdentifier));
-
-      Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO> metadataMap = response.getMetadataMap();
+      Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO> metadataMap =
+          getFeatureRestrictionMetadataMap(featureRestrictionNames, accountIdentifier);
       return convertFeatureMetadataToRestrictionMetadata(metadataMap);
     } catch (InvalidRequestException invalidRequestException) {
       throw new WrongFeatureStateException("Can't fetch multiple restriction metadata", invalidRequestException,
@@ -276,6 +291,73 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
     }
   }
 
+  private FeatureRestrictionMetadataDTO getFeatureRestrictionMetadata(
+      FeatureRestrictionName featureRestrictionName, String accountIdentifier) {
+    if (enforcementClientConfiguration.isEntitlementSnapshotEnabled()) {
+      FeatureRestrictionMetadataDTO featureMetadataDTO = getSnapshotMetadata(featureRestrictionName, accountIdentifier);
+      if (featureMetadataDTO != null) {
+        return featureMetadataDTO;
+      }
+    }
+    return getResponse(enforcementClient.getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier));
+  }
+
+  private Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO> getFeatureRestrictionMetadataMap(
+      List<FeatureRestrictionName> featureRestrictionNames, String accountIdentifier) {
+    if (enforcementClientConfiguration.isEntitlementSnapshotEnabled()) {
+      Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO> metadataMap = new HashMap<>();
+      for (FeatureRestrictionName name : featureRestrictionNames) {
+        FeatureRestrictionMetadataDTO featureMetadataDTO = getSnapshotMetadata(name, accountIdentifier);
+        if (featureMetadataDTO == null) {
+          break;
+        }
+        metadataMap.put(name, featureMetadataDTO);
+      }
+      if (metadataMap.size() == featureRestrictionNames.size()) {
+        return metadataMap;
+      }
+    }
+    RestrictionMetadataMapResponseDTO response = getResponse(enforcementClient.getFeatureRestrictionMetadataMap(
+        RestrictionMetadataMapRequestDTO.builder().names(featureRestrictionNames).build(), accountIdentifier));
+    return response.getMetadataMap();
+  }
+
+  /**
+   * Availability restrictions of features owned by other services are evaluated against the snapshot, limit
+   * restrictions need the usage counts of the owning service and are checked remotely.
+   * @return null if the feature has to be checked remotely
+   */
+  private Boolean getLocalAvailability(FeatureRestrictionName featureRestrictionName, String accountIdentifier) {
+    if (!enforcementClientConfiguration.isEntitlementSnapshotEnabled()) {
+      return null;
+    }
+    FeatureRestrictionMetadataDTO featureMetadataDTO = getSnapshotMetadata(featureRestrictionName, accountIdentifier);
+    if (featureMetadataDTO == null) {
+      return null;
+    }
+    RestrictionMetadataDTO currentRestriction =
+        featureMetadataDTO.getRestrictionMetadata().get(featureMetadataDTO.getEdition());
+    if (currentRestriction == null || !RestrictionType.AVAILABILITY.equals(currentRestriction.getRestrictionType())) {
+      return null;
+    }
+    return ((AvailabilityRestrictionMetadataDTO) currentRestriction).isEnabled();
+  }
+
+  /**
+   * @return null if the feature is not in the snapshot or the snapshot could not be fetched, the feature is then
+   * looked up remotely
+   */
+  private FeatureRestrictionMetadataDTO getSnapshotMetadata(
+      FeatureRestrictionName featureRestrictionName, String accountIdentifier) {
+    try {
+      return entitlementSnapshotCache.get(featureRestrictionName, accountIdentifier);
+    } catch (InvalidRequestException | UnexpectedException e) {
+      log.warn("Not able to fetch entitlement snapshot of account [{}], checking feature [{}] remotely",
+          accountIdentifier, featureRestrictionName, e);
+      return null;
+    }
+  }
+
   private boolean verifyExceedLimit(long limit, long count, long increment) {
     return limit < count + increment;
   }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.enforcement.client.services.impl;
+
+import static io.harness.remote.client.NGRestUtils.getResponse;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.enforcement.beans.metadata.FeatureRestrictionMetadataDTO;
+import io.harness.enforcement.client.EnforcementClient;
+import io.harness.enforcement.constants.FeatureRestrictionName;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restriction metadata of every feature for an account: the edition of its module, the restrictions of all editions
+ * and whether enforcement is enabled for the account, which the service folds into the metadata. The snapshot is
+ * fetched with one call and restriction checks are evaluated against it locally, usage counts of limit restrictions
+ * still come from the registered RestrictionUsageInterface.
+ *
+ * A snapshot older than REFRESH_AFTER_SECONDS is refetched in the background while the previous one keeps being
+ * served, also when the refetch fails. A snapshot is never served for longer than STALE_FOR_MINUTES.
+ */
+@OwnedBy(HarnessTeam.GTM)
+@Singleton
+public class EntitlementSnapshotCache {
+  private static final long REFRESH_AFTER_SECONDS = 60;
+  private static final long STALE_FOR_MINUTES = 10;
+  private static final long MAX_ACCOUNTS = 10000;
+
+  private final LoadingCache<String, Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO>> snapshots;
+
+  @Inject
+  public EntitlementSnapshotCache(EnforcementClient enforcementClient) {
+    this.snapshots =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_ACCOUNTS)
+            .refreshAfterWrite(REFRESH_AFTER_SECONDS, TimeUnit.SECONDS)
+            .expireAfterWrite(STALE_FOR_MINUTES, TimeUnit.MINUTES)
+            .build(CacheLoader.asyncReloading(
+                new CacheLoader<String, Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO>>() {
+                  @Override
+                  public Map<FeatureRestrictionName, FeatureRestrictionMetadataDTO> load(String accountIdentifier) {
+                    return ImmutableMap.copyOf(
+                        getResponse(enforcementClient.getAccountRestrictionMetadataMap(accountIdentifier))
+                            .getMetadataMap());
+                  }
+                },
+                Executors.newSingleThreadExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("entitlement-snapshot-refresh").setDaemon(true).build())));
+  }
+
+  /**
+   * @return the metadata of the feature, null if the feature is not part of the snapshot
+   */
+  public FeatureRestrictionMetadataDTO get(FeatureRestrictionName featureRestrictionName, String accountIdentifier) {
+    try {
+      return snapshots.getUnchecked(accountIdentifier).get(featureRestrictionName);
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Drops the snapshot of the account, the next check fetches it again.
+   */
+  public void invalidate(String accountIdentifier) {
+    snapshots.invalidate(accountIdentifier);
+  }
+}
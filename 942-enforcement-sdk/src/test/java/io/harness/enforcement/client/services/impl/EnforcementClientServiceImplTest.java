@@ -13,12 +13,16 @@ import static io.harness.rule.OwnerRule.ZHUO;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.ModuleType;
 import io.harness.category.element.UnitTests;
 import io.harness.enforcement.beans.TimeUnit;
+import io.harness.enforcement.beans.internal.RestrictionMetadataMapResponseDTO;
 import io.harness.enforcement.beans.metadata.AvailabilityRestrictionMetadataDTO;
 import io.harness.enforcement.beans.metadata.CustomRestrictionMetadataDTO;
 import io.harness.enforcement.beans.metadata.FeatureRestrictionMetadataDTO;
@@ -30,6 +34,7 @@ import io.harness.enforcement.client.services.EnforcementSdkRegisterService;
 import io.harness.enforcement.constants.FeatureRestrictionName;
 import io.harness.enforcement.constants.RestrictionType;
 import io.harness.enforcement.exceptions.LimitExceededException;
+import io.harness.exception.UnexpectedException;
 import io.harness.licensing.Edition;
 import io.harness.ng.core.dto.ResponseDTO;
 import io.harness.rule.Owner;
@@ -37,6 +42,8 @@ import io.harness.rule.Owner;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -75,8 +82,8 @@ public class EnforcementClientServiceImplTest extends CategoryTest {
 
     when(enforcementClientConfiguration.isEnforcementCheckEnabled()).thenReturn(true);
 
-    enforcementClientService = new EnforcementClientServiceImpl(
-        enforcementClient, enforcementSdkRegisterService, enforcementClientConfiguration);
+    enforcementClientService = new EnforcementClientServiceImpl(enforcementClient, enforcementSdkRegisterService,
+        enforcementClientConfiguration, new EntitlementSnapshotCache(enforcementClient));
   }
 
   @Test
@@ -199,4 +206,70 @@ public class EnforcementClientServiceImplTest extends CategoryTest {
 
     enforcementClientService.checkAvailabilityWithIncrement(featureRestrictionName, accountId, 2);
   }
+
+  @Test
+  @Owner(developers = ZHUO)
+  @Category(UnitTests.class)
+  public void testCheckAvailabilityWithEntitlementSnapshot() throws IOException {
+    dto.setRestrictionMetadata(ImmutableMap.of(Edition.ENTERPRISE,
+        StaticLimitRestrictionMetadataDTO.builder()
+            .restrictionType(RestrictionType.STATIC_LIMIT)
+            .limit(Long.valueOf(11))
+            .allowedIfEqual(false)
+            .build()));
+    mockEntitlementSnapshot(dto);
+
+    assertThat(enforcementClientService.isAvailable(featureRestrictionName, accountId)).isTrue();
+    assertThat(enforcementClientService.isAvailableWithIncrement(featureRestrictionName, accountId, 2)).isFalse();
+    verify(enforcementClient, times(1)).getAccountRestrictionMetadataMap(accountId);
+    verify(enforcementClient, never()).getFeatureRestrictionMetadata(any(), any());
+  }
+
+  @Test
+  @Owner(developers = ZHUO)
+  @Category(UnitTests.class)
+  public void testGetAvailabilityForRemoteFeaturesWithEntitlementSnapshot() throws IOException {
+    dto.setRestrictionMetadata(ImmutableMap.of(Edition.ENTERPRISE,
+        AvailabilityRestrictionMetadataDTO.builder()
+            .restrictionType(RestrictionType.AVAILABILITY)
+            .enabled(false)
+            .build()));
+    mockEntitlementSnapshot(dto);
+
+    Map<FeatureRestrictionName, Boolean> result =
+        enforcementClientService.getAvailabilityForRemoteFeatures(Arrays.asList(featureRestrictionName), accountId);
+
+    assertThat(result).containsEntry(featureRestrictionName, false);
+    verify(enforcementClient, never()).getFeatureRestrictionMap(any(), any());
+  }
+
+  @Test
+  @Owner(developers = ZHUO)
+  @Category(UnitTests.class)
+  public void testCheckAvailabilityFallsBackToRemoteWhenEntitlementSnapshotFails() {
+    dto.setRestrictionMetadata(ImmutableMap.of(Edition.ENTERPRISE,
+        StaticLimitRestrictionMetadataDTO.builder()
+            .restrictionType(RestrictionType.STATIC_LIMIT)
+            .limit(Long.valueOf(11))
+            .allowedIfEqual(false)
+            .build()));
+    when(enforcementClientConfiguration.isEntitlementSnapshotEnabled()).thenReturn(true);
+    when(enforcementClient.getAccountRestrictionMetadataMap(accountId))
+        .thenThrow(new UnexpectedException("Enforcement service unavailable"));
+
+    assertThat(enforcementClientService.isAvailable(featureRestrictionName, accountId)).isTrue();
+    verify(enforcementClient, times(1)).getFeatureRestrictionMetadata(featureRestrictionName, accountId);
+  }
+
+  private void mockEntitlementSnapshot(FeatureRestrictionMetadataDTO featureRestrictionMetadataDTO)
+      throws IOException {
+    when(enforcementClientConfiguration.isEntitlementSnapshotEnabled()).thenReturn(true);
+    Call<ResponseDTO<RestrictionMetadataMapResponseDTO>> snapshotCall = mock(Call.class);
+    when(snapshotCall.execute())
+        .thenReturn(Response.success(ResponseDTO.newResponse(
+            RestrictionMetadataMapResponseDTO.builder()
+                .metadataMap(ImmutableMap.of(featureRestrictionName, featureRestrictionMetadataDTO))
+                .build())));
+    when(enforcementClient.getAccountRestrictionMetadataMap(accountId)).thenReturn(snapshotCall);
+  }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.account;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureFlag;
+import io.harness.beans.FeatureName;
+import io.harness.remote.client.CGRestUtils;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Client side cache of the feature flags enabled for an account. All flags of an account are fetched with one call
+ * and evaluated locally afterwards.
+ *
+ * An account is refetched in the background once its flags are older than REFRESH_AFTER_SECONDS, lookups keep using
+ * the previous flags meanwhile. When the manager can not be reached the previous flags are served for up to
+ * STALE_FOR_MINUTES, after that the next lookup fetches synchronously and fails if the manager is still unavailable.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+@Singleton
+public class AccountFeatureFlagCache {
+  private static final String ERROR_MESSAGE = "Unexpected error, could not fetch the feature flags";
+  private static final long REFRESH_AFTER_SECONDS = 60;
+  private static final long STALE_FOR_MINUTES = 15;
+  private static final long MAX_ACCOUNTS = 10000;
+
+  private final AccountClient accountClient;
+  private final LoadingCache<String, Set<String>> enabledFeatureFlags;
+
+  @Inject
+  public AccountFeatureFlagCache(AccountClient accountClient) {
+    this.accountClient = accountClient;
+    this.enabledFeatureFlags =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_ACCOUNTS)
+            .refreshAfterWrite(REFRESH_AFTER_SECONDS, TimeUnit.SECONDS)
+            .expireAfterWrite(STALE_FOR_MINUTES, TimeUnit.MINUTES)
+            .build(CacheLoader.asyncReloading(new CacheLoader<String, Set<String>>() {
+              @Override
+              public Set<String> load(String accountId) {
+                return fetchEnabledFeatureFlags(accountId);
+              }
+            }, Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                                                      .setNameFormat("account-feature-flag-refresh")
+                                                      .setDaemon(true)
+                                                      .build())));
+  }
+
+  public boolean isEnabled(String accountId, FeatureName featureName) {
+    try {
+      return enabledFeatureFlags.getUnchecked(accountId).contains(featureName.name());
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Drops the flags of the account, the next lookup fetches them again.
+   */
+  public void invalidate(String accountId) {
+    enabledFeatureFlags.invalidate(accountId);
+  }
+
+  private Set<String> fetchEnabledFeatureFlags(String accountId) {
+    ImmutableSet.Builder<String> enabled = ImmutableSet.builder();
+    for (FeatureFlag featureFlag :
+        CGRestUtils.getResponse(accountClient.listAllFeatureFlagsForAccount(accountId), ERROR_MESSAGE)) {
+      if (featureFlag.isEnabled()) {
+        enabled.add(featureFlag.getName());
+      }
+    }
+    return enabled.build();
+  }
+}
@@ -18,7 +18,8 @@ public enum GitOperation {
   GET_FILE("get file"),
   GET_REPO_URL("get repo url"),
   GET_BRANCH_HEAD_COMMIT("get branch head commit"),
-  LIST_FILES("list files");
+  LIST_FILES("list files"),
+  GET_BATCH_FILES("get batch files");
 
   private String value;
 
@@ -520,7 +520,22 @@ public enum FeatureName {
       "To disable Base64 encoding done to WinRM command script which is sent to remote server for execution",
       HarnessTeam.CDP),
   PURGE_DANGLING_APP_ENV_REFS("Explicitly purge dangling references of app/env", HarnessTeam.SPG),
-  SPG_FETCH_ARTIFACT_FROM_DB("Fetch artifact from database if available in artifact collection step", HarnessTeam.SPG);
+  SPG_FETCH_ARTIFACT_FROM_DB("Fetch artifact from database if available in artifact collection step", HarnessTeam.SPG),
+  SPG_ARTIFACT_KEY_DIGEST(
+      "Send published artifact keys to artifact collection perpetual tasks as a compact digest", HarnessTeam.SPG),
+  DELEGATE_TASK_LOAD_AWARE_DISPATCH(
+      "Offer new delegate tasks to the less loaded of two eligible delegates before rebroadcasting them",
+      HarnessTeam.DEL),
+  RESOURCE_CONSTRAINT_LEDGER(
+      "Register resource constraint consumers through a per resource unit permit ledger", HarnessTeam.PIPELINE),
+  WEBHOOK_TRIGGER_ROUTING_INDEX(
+      "Match git webhook events against an in-memory per account index of triggers", HarnessTeam.PIPELINE),
+  NG_TEMPLATE_MERGE_BATCH_PREFETCH(
+      "Prefetch the linked templates of a yaml with one query per nesting level before merging", HarnessTeam.CDC),
+  CCM_PERSPECTIVE_QUERY_RESULT_CACHE(
+      "Cache perspective BigQuery results until the billing data of the perspective changes", HarnessTeam.CE),
+  CG_YAML_DIRECTORY_TREE_CACHE(
+      "Serve the config as code directory from folders cached until an entity of the account changes", HarnessTeam.DX);
 
   @Deprecated
   FeatureName() {
@@ -12,4 +12,9 @@ import org.springframework.data.mongodb.core.query.Query;
 
 public interface NgTracer {
   void traceSpringQuery(Query query, Class<?> entityClass, MongoTemplate mongoTemplate);
+
+  /**
+   * Called after a query returned, with the time it took and the number of documents it returned.
+   */
+  default void recordSpringQuery(String collectionName, Query query, long elapsedNanos, int documents) {}
 }
@@ -127,7 +127,9 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationInMillis));
       }
+      long startTime = System.nanoTime();
       list = super.find(query, entityClass, collectionName);
+      recordQuery(collectionName, query, startTime, list.size());
     } catch (UncategorizedMongoDbException ex) {
       if (isMongoExecutionTimeoutException(ex)) {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
@@ -154,7 +156,10 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationInMillis));
       }
-      return super.findOne(query, entityClass, collectionName);
+      long startTime = System.nanoTime();
+      T entity = super.findOne(query, entityClass, collectionName);
+      recordQuery(collectionName, query, startTime, entity == null ? 0 : 1);
+      return entity;
     } catch (UncategorizedMongoDbException ex) {
       if (isMongoExecutionTimeoutException(ex)) {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
@@ -333,6 +338,13 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
     }
   }
 
+  private void recordQuery(String collectionName, Query query, long startTime, int documents) {
+    if (traceMode == TraceMode.ENABLED) {
+      tracerSubject.fireInform(
+          NgTracer::recordSpringQuery, collectionName, query, System.nanoTime() - startTime, documents);
+    }
+  }
+
   private <T> boolean checkIfListIsLarge(List<T> list) {
     return list.size() > 1000;
   }
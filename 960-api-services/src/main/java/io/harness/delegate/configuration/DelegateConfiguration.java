@@ -80,6 +80,13 @@ public class DelegateConfiguration {
    */
   private boolean trustAllCertificates;
 
+  /*
+   * If true, perpetual task runs are dispatched to an elastic executor and bounded per task type by
+   * perpetualTaskMaxConcurrentRunsPerType, instead of running on the shared task executor.
+   */
+  private boolean perpetualTaskElasticExecutionEnabled;
+  private Integer perpetualTaskMaxConcurrentRunsPerType;
+
   // TODO: This method will get removed once we rolled out new delegate.
   public String getDelegateToken() {
     if (StringUtils.isEmpty(delegateToken)) {
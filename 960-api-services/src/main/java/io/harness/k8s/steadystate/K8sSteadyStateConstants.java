@@ -18,6 +18,7 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class K8sSteadyStateConstants {
   public static final Integer WATCH_CALL_TIMEOUT_SECONDS = 300;
+  public static final String NAME_FIELD_SELECTOR = "metadata.name=%s";
   public static final Pattern RESOURCE_VERSION_PATTERN =
       Pattern.compile("Timeout: Too large resource version: (\\d+), current: (\\d+)");
 }
@@ -23,6 +23,8 @@ import lombok.Data;
 @OwnedBy(CDP)
 public class K8sEventWatchDTO {
   ApiClient apiClient;
+  // Identifies the cluster and credentials of apiClient, event watches are shared between equal keys
+  String clusterKey;
   Kubectl client;
   String eventInfoFormat;
   String eventErrorFormat;
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.k8s.steadystate.watcher.event;
+
+import static io.harness.annotations.dev.HarnessTeam.CDP;
+
+import static java.lang.String.format;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.logging.LogCallback;
+
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Interest of one steady state check in the events of a namespace. Obtained from
+ * {@link K8sApiEventWatcher#subscribeToEvents} and handed back to {@link K8sApiEventWatcher#unsubscribe}.
+ */
+@OwnedBy(CDP)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class K8sEventWatchSubscription {
+  @Getter(AccessLevel.PACKAGE) private final K8sApiEventWatcher.NamespaceWatchKey watchKey;
+  @Getter(AccessLevel.PACKAGE) private final Set<String> workloadNames;
+  private final String eventInfoFormat;
+  private final String eventErrorFormat;
+  @Getter(AccessLevel.PACKAGE) private final LogCallback executionLogCallback;
+
+  void onEvent(CoreV1Event event, String involvedObjectName) {
+    if ("WARNING".equalsIgnoreCase(event.getType())) {
+      executionLogCallback.saveExecutionLog(format(eventErrorFormat, "Event", event.getMessage()));
+    } else {
+      executionLogCallback.saveExecutionLog(format(eventInfoFormat, "Event", involvedObjectName, event.getMessage()));
+    }
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.k8s.steadystate.watcher.event;
+
+import static io.harness.annotations.dev.HarnessTeam.CDP;
+import static io.harness.k8s.steadystate.K8sSteadyStateConstants.WATCH_CALL_TIMEOUT_SECONDS;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.exception.ExceptionUtils;
+import io.harness.exception.sanitizer.ExceptionMessageSanitizer;
+import io.harness.logging.LogLevel;
+
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.CoreV1EventList;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.util.Watch;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+
+/**
+ * One event watch on a namespace of a cluster, shared by every steady state check subscribed to it. Events are routed
+ * through an index of the subscribed workload names: the involved object name and each of its dash separated prefixes
+ * are looked up, which covers the pods and replica sets named after their workload. A watch which fails reports the
+ * error to its subscriptions and drops them, later subscribers start a new watch.
+ */
+@Slf4j
+@OwnedBy(CDP)
+class K8sNamespaceEventWatch {
+  private final String namespace;
+  private final ApiClient apiClient;
+  private final Consumer<K8sNamespaceEventWatch> onTermination;
+  private final Set<K8sEventWatchSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+  private final Map<String, Set<K8sEventWatchSubscription>> subscriptionsByWorkloadName = new ConcurrentHashMap<>();
+
+  private volatile boolean stopped;
+  private volatile Watch<CoreV1Event> currentWatch;
+  private Future<?> watchRef;
+
+  K8sNamespaceEventWatch(String namespace, ApiClient apiClient, Consumer<K8sNamespaceEventWatch> onTermination) {
+    this.namespace = namespace;
+    this.apiClient = apiClient;
+    this.onTermination = onTermination;
+  }
+
+  void start(ExecutorService executorService) {
+    watchRef = executorService.submit(this::runEventWatch);
+  }
+
+  void stop() {
+    stopped = true;
+    Watch<CoreV1Event> watch = currentWatch;
+    if (watch != null) {
+      try {
+        watch.close();
+      } catch (IOException e) {
+        log.warn("Failed to close Kubernetes event watch in namespace {}", namespace);
+      }
+    }
+    if (watchRef != null && !watchRef.cancel(true)) {
+      log.warn("Failed to cancel k8s steady state thread ref.");
+    }
+  }
+
+  synchronized boolean addSubscription(K8sEventWatchSubscription subscription) {
+    if (stopped) {
+      return false;
+    }
+    subscriptions.add(subscription);
+    for (String workloadName : subscription.getWorkloadNames()) {
+      subscriptionsByWorkloadName.computeIfAbsent(workloadName, name -> ConcurrentHashMap.newKeySet())
+          .add(subscription);
+    }
+    return true;
+  }
+
+  synchronized boolean removeSubscription(K8sEventWatchSubscription subscription) {
+    if (!subscriptions.remove(subscription)) {
+      return false;
+    }
+    for (String workloadName : subscription.getWorkloadNames()) {
+      Set<K8sEventWatchSubscription> workloadSubscriptions = subscriptionsByWorkloadName.get(workloadName);
+      if (workloadSubscriptions != null) {
+        workloadSubscriptions.remove(subscription);
+        if (workloadSubscriptions.isEmpty()) {
+          subscriptionsByWorkloadName.remove(workloadName);
+        }
+      }
+    }
+    return subscriptions.isEmpty();
+  }
+
+  Collection<K8sEventWatchSubscription> findSubscriptions(String involvedObjectName) {
+    if (involvedObjectName == null) {
+      return subscriptions;
+    }
+    Set<K8sEventWatchSubscription> matched = new LinkedHashSet<>();
+    String candidate = involvedObjectName;
+    while (true) {
+      Set<K8sEventWatchSubscription> workloadSubscriptions = subscriptionsByWorkloadName.get(candidate);
+      if (workloadSubscriptions != null) {
+        matched.addAll(workloadSubscriptions);
+      }
+      int separator = candidate.lastIndexOf('-');
+      if (separator <= 0) {
+        return matched;
+      }
+      candidate = candidate.substring(0, separator);
+    }
+  }
+
+  private void runEventWatch() {
+    CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+    String errorMessage = null;
+    try {
+      String resourceVersion = null;
+      while (!stopped) {
+        if (resourceVersion == null) {
+          CoreV1EventList coreV1EventList =
+              coreV1Api.listNamespacedEvent(namespace, null, null, null, null, null, null, null, null, null, false);
+          resourceVersion = coreV1EventList.getMetadata() != null ? coreV1EventList.getMetadata().getResourceVersion()
+                                                                  : resourceVersion;
+        }
+        try (Watch<CoreV1Event> watch = createWatchCall(coreV1Api, resourceVersion)) {
+          currentWatch = watch;
+          for (Watch.Response<CoreV1Event> eventListResponse : watch) {
+            CoreV1Event event = eventListResponse.object;
+            V1ObjectReference ref = event.getInvolvedObject();
+            String involvedObjectName = ref == null ? null : ref.getName();
+            for (K8sEventWatchSubscription subscription : findSubscriptions(involvedObjectName)) {
+              subscription.onEvent(event, involvedObjectName);
+            }
+          }
+        } catch (ApiException ex) {
+          if (ex.getCode() == 504 || ex.getCode() == 410) {
+            resourceVersion = K8sApiEventWatcher.extractResourceVersionFromException(ex);
+          } else {
+            resourceVersion = null;
+          }
+        } catch (IOException e) {
+          IOException ex = ExceptionMessageSanitizer.sanitizeException(e);
+          log.error("Failed to close Kubernetes watch." + ExceptionUtils.getMessage(ex), ex);
+        } catch (RuntimeException e) {
+          if (stopped) {
+            return;
+          }
+          throw e;
+        }
+      }
+    } catch (ApiException e) {
+      if (stopped) {
+        return;
+      }
+      ApiException ex = ExceptionMessageSanitizer.sanitizeException(e);
+      errorMessage =
+          String.format("Failed to watch events in namespace %s. ", namespace) + ExceptionUtils.getMessage(ex);
+      log.error(errorMessage, ex);
+    } finally {
+      terminate(errorMessage);
+    }
+  }
+
+  // Later subscribers start a new watch instead of joining a dead one
+  void terminate(String errorMessage) {
+    synchronized (this) {
+      stopped = true;
+      if (errorMessage != null) {
+        for (K8sEventWatchSubscription subscription : subscriptions) {
+          subscription.getExecutionLogCallback().saveExecutionLog(errorMessage, LogLevel.ERROR);
+        }
+      }
+      subscriptions.clear();
+      subscriptionsByWorkloadName.clear();
+    }
+    onTermination.accept(this);
+  }
+
+  private Watch<CoreV1Event> createWatchCall(CoreV1Api coreV1Api, String resourceVersion) throws ApiException {
+    Call call = coreV1Api.listNamespacedEventCall(
+        namespace, null, null, null, null, null, null, resourceVersion, null, WATCH_CALL_TIMEOUT_SECONDS, true, null);
+    return Watch.createWatch(apiClient, call, new TypeToken<Watch.Response<CoreV1Event>>() {}.getType());
+  }
+}
@@ -8,6 +8,7 @@
 package io.harness.k8s.steadystate.watcher.workload;
 
 import static io.harness.annotations.dev.HarnessTeam.CDP;
+import static io.harness.k8s.steadystate.K8sSteadyStateConstants.NAME_FIELD_SELECTOR;
 import static io.harness.k8s.steadystate.K8sSteadyStateConstants.WATCH_CALL_TIMEOUT_SECONDS;
 
 import io.harness.annotations.dev.OwnedBy;
@@ -55,7 +56,8 @@ public class DaemonSetApiWatcher implements WorkloadWatcher {
     AppsV1Api appsV1Api = new AppsV1Api(apiClient);
     boolean success = false;
     while (true) {
-      try (Watch<V1DaemonSet> watch = createWatchCall(apiClient, appsV1Api, workload.getNamespace())) {
+      try (Watch<V1DaemonSet> watch =
+               createWatchCall(apiClient, appsV1Api, workload.getNamespace(), workload.getName())) {
         for (Watch.Response<V1DaemonSet> event : watch) {
           V1DaemonSet daemonSet = event.object;
           V1ObjectMeta meta = daemonSet.getMetadata();
@@ -99,10 +101,12 @@ public class DaemonSetApiWatcher implements WorkloadWatcher {
     }
   }
 
-  private Watch<V1DaemonSet> createWatchCall(ApiClient apiClient, AppsV1Api appsV1Api, String namespace)
-      throws ApiException {
+  private Watch<V1DaemonSet> createWatchCall(
+      ApiClient apiClient, AppsV1Api appsV1Api, String namespace, String name) throws ApiException {
+    // Select the workload on the server so the watch does not stream every DaemonSet of the namespace
+    String fieldSelector = String.format(NAME_FIELD_SELECTOR, name);
     Call call = appsV1Api.listNamespacedDaemonSetCall(
-        namespace, null, null, null, null, null, null, null, null, WATCH_CALL_TIMEOUT_SECONDS, true, null);
+        namespace, null, null, null, fieldSelector, null, null, null, null, WATCH_CALL_TIMEOUT_SECONDS, true, null);
     return Watch.createWatch(apiClient, call, new TypeToken<Watch.Response<V1DaemonSet>>() {}.getType());
   }
 }
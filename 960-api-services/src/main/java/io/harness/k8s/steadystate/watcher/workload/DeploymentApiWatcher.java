@@ -8,6 +8,7 @@
 package io.harness.k8s.steadystate.watcher.workload;
 
 import static io.harness.annotations.dev.HarnessTeam.CDP;
+import static io.harness.k8s.steadystate.K8sSteadyStateConstants.NAME_FIELD_SELECTOR;
 import static io.harness.k8s.steadystate.K8sSteadyStateConstants.WATCH_CALL_TIMEOUT_SECONDS;
 
 import io.harness.annotations.dev.OwnedBy;
@@ -54,7 +55,8 @@ public class DeploymentApiWatcher implements WorkloadWatcher {
     Preconditions.checkNotNull(apiClient, "K8s API Client cannot be null.");
     AppsV1Api appsV1Api = new AppsV1Api(apiClient);
     while (true) {
-      try (Watch<V1Deployment> watch = createWatchCall(apiClient, appsV1Api, deploymentResource.getNamespace())) {
+      try (Watch<V1Deployment> watch =
+               createWatchCall(apiClient, appsV1Api, deploymentResource.getNamespace(), deploymentResource.getName())) {
         for (Watch.Response<V1Deployment> event : watch) {
           V1Deployment deployment = event.object;
           V1ObjectMeta meta = deployment.getMetadata();
@@ -104,10 +106,12 @@ public class DeploymentApiWatcher implements WorkloadWatcher {
     }
   }
 
-  private Watch<V1Deployment> createWatchCall(ApiClient apiClient, AppsV1Api appsV1Api, String namespace)
-      throws ApiException {
+  private Watch<V1Deployment> createWatchCall(
+      ApiClient apiClient, AppsV1Api appsV1Api, String namespace, String name) throws ApiException {
+    // Select the workload on the server so the watch does not stream every Deployment of the namespace
+    String fieldSelector = String.format(NAME_FIELD_SELECTOR, name);
     Call call = appsV1Api.listNamespacedDeploymentCall(
-        namespace, null, null, null, null, null, null, null, null, WATCH_CALL_TIMEOUT_SECONDS, true, null);
+        namespace, null, null, null, fieldSelector, null, null, null, null, WATCH_CALL_TIMEOUT_SECONDS, true, null);
     return Watch.createWatch(apiClient, call, new TypeToken<Watch.Response<V1Deployment>>() {}.getType());
   }
 }
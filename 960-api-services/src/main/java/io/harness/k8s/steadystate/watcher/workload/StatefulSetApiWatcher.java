@@ -8,6 +8,7 @@
 package io.harness.k8s.steadystate.watcher.workload;
 
 import static io.harness.annotations.dev.HarnessTeam.CDP;
+import static io.harness.k8s.steadystate.K8sSteadyStateConstants.NAME_FIELD_SELECTOR;
 import static io.harness.k8s.steadystate.K8sSteadyStateConstants.WATCH_CALL_TIMEOUT_SECONDS;
 
 import io.harness.annotations.dev.OwnedBy;
@@ -54,7 +55,8 @@ public class StatefulSetApiWatcher implements WorkloadWatcher {
     Preconditions.checkNotNull(apiClient, "K8s API Client cannot be null.");
     AppsV1Api appsV1Api = new AppsV1Api(apiClient);
     while (true) {
-      try (Watch<V1StatefulSet> watch = createWatchCall(apiClient, appsV1Api, workload.getNamespace())) {
+      try (Watch<V1StatefulSet> watch =
+               createWatchCall(apiClient, appsV1Api, workload.getNamespace(), workload.getName())) {
         for (Watch.Response<V1StatefulSet> event : watch) {
           V1StatefulSet statefulSet = event.object;
           V1ObjectMeta meta = statefulSet.getMetadata();
@@ -97,10 +99,12 @@ public class StatefulSetApiWatcher implements WorkloadWatcher {
     }
   }
 
-  private Watch<V1StatefulSet> createWatchCall(ApiClient apiClient, AppsV1Api appsV1Api, String namespace)
-      throws ApiException {
+  private Watch<V1StatefulSet> createWatchCall(
+      ApiClient apiClient, AppsV1Api appsV1Api, String namespace, String name) throws ApiException {
+    // Select the workload on the server so the watch does not stream every StatefulSet of the namespace
+    String fieldSelector = String.format(NAME_FIELD_SELECTOR, name);
     Call call = appsV1Api.listNamespacedStatefulSetCall(
-        namespace, null, null, null, null, null, null, null, null, WATCH_CALL_TIMEOUT_SECONDS, true, null);
+        namespace, null, null, null, fieldSelector, null, null, null, null, WATCH_CALL_TIMEOUT_SECONDS, true, null);
     return Watch.createWatch(apiClient, call, new TypeToken<Watch.Response<V1StatefulSet>>() {}.getType());
   }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.k8s.steadystate.watcher.event;
+
+import static io.harness.rule.OwnerRule.ABHINAV2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.k8s.model.KubernetesResourceId;
+import io.harness.k8s.steadystate.model.K8sEventWatchDTO;
+import io.harness.logging.LogCallback;
+import io.harness.logging.LogLevel;
+import io.harness.rule.Owner;
+
+import io.kubernetes.client.openapi.ApiClient;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class K8sApiEventWatcherTest extends CategoryTest {
+  @InjectMocks K8sApiEventWatcher k8sApiEventWatcher;
+  @Mock private ExecutorService k8sSteadyStateExecutor;
+  @Mock private Future<?> watchRef;
+  @Mock private LogCallback logCallback;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.openMocks(this);
+    doReturn(watchRef).when(k8sSteadyStateExecutor).submit(any(Runnable.class));
+  }
+
+  @Test
+  @Owner(developers = ABHINAV2)
+  @Category(UnitTests.class)
+  public void testWatchSharedBetweenSubscriptionsOfSameCluster() {
+    K8sEventWatchSubscription app =
+        k8sApiEventWatcher.subscribeToEvents("ns", eventWatchDTO("key", "app"), logCallback);
+    K8sEventWatchSubscription db = k8sApiEventWatcher.subscribeToEvents("ns", eventWatchDTO("key", "db"), logCallback);
+    k8sApiEventWatcher.subscribeToEvents("ns", eventWatchDTO("other-key", "app"), logCallback);
+    verify(k8sSteadyStateExecutor, times(2)).submit(any(Runnable.class));
+
+    k8sApiEventWatcher.unsubscribe(Collections.singletonList(app));
+    verify(watchRef, never()).cancel(anyBoolean());
+
+    k8sApiEventWatcher.unsubscribe(Collections.singletonList(db));
+    verify(watchRef, times(1)).cancel(true);
+
+    k8sApiEventWatcher.subscribeToEvents("ns", eventWatchDTO("key", "app"), logCallback);
+    verify(k8sSteadyStateExecutor, times(3)).submit(any(Runnable.class));
+  }
+
+  @Test
+  @Owner(developers = ABHINAV2)
+  @Category(UnitTests.class)
+  public void testEventRoutingByWorkloadName() {
+    K8sNamespaceEventWatch namespaceWatch = new K8sNamespaceEventWatch("ns", new ApiClient(), watch -> {});
+    K8sEventWatchSubscription app = subscription(Set.of("app"));
+    K8sEventWatchSubscription appWorker = subscription(Set.of("app-worker"));
+    namespaceWatch.addSubscription(app);
+    namespaceWatch.addSubscription(appWorker);
+
+    assertThat(namespaceWatch.findSubscriptions("app-7c5d9f-x8x2z")).containsExactly(app);
+    assertThat(namespaceWatch.findSubscriptions("app-worker-5f6d-abcde")).containsExactlyInAnyOrder(app, appWorker);
+    assertThat(namespaceWatch.findSubscriptions("application-1")).isEmpty();
+    assertThat(namespaceWatch.findSubscriptions(null)).containsExactlyInAnyOrder(app, appWorker);
+
+    assertThat(namespaceWatch.removeSubscription(app)).isFalse();
+    assertThat(namespaceWatch.findSubscriptions("app-7c5d9f-x8x2z")).isEmpty();
+    assertThat(namespaceWatch.removeSubscription(appWorker)).isTrue();
+  }
+
+  @Test
+  @Owner(developers = ABHINAV2)
+  @Category(UnitTests.class)
+  public void testFailedWatchReportsErrorAndDropsSubscriptions() {
+    List<K8sNamespaceEventWatch> terminated = new ArrayList<>();
+    K8sNamespaceEventWatch namespaceWatch = new K8sNamespaceEventWatch("ns", new ApiClient(), terminated::add);
+    K8sEventWatchSubscription app = subscription(Set.of("app"));
+    assertThat(namespaceWatch.addSubscription(app)).isTrue();
+
+    namespaceWatch.terminate("Failed to watch events in namespace ns.");
+
+    verify(logCallback).saveExecutionLog("Failed to watch events in namespace ns.", LogLevel.ERROR);
+    assertThat(terminated).containsExactly(namespaceWatch);
+    assertThat(namespaceWatch.findSubscriptions(null)).isEmpty();
+    assertThat(namespaceWatch.addSubscription(subscription(Set.of("db")))).isFalse();
+    assertThat(namespaceWatch.removeSubscription(app)).isFalse();
+  }
+
+  private K8sEventWatchDTO eventWatchDTO(String clusterKey, String workloadName) {
+    return K8sEventWatchDTO.builder()
+        .apiClient(new ApiClient())
+        .clusterKey(clusterKey)
+        .resourceIds(List.of(KubernetesResourceId.builder().name(workloadName).namespace("ns").build()))
+        .eventInfoFormat("%s %s %s")
+        .eventErrorFormat("%s %s")
+        .build();
+  }
+
+  private K8sEventWatchSubscription subscription(Set<String> workloadNames) {
+    return new K8sEventWatchSubscription(null, workloadNames, "%s %s %s", "%s %s", logCallback);
+  }
+}
@@ -14,4 +14,9 @@ import io.harness.persistence.HQuery;
 @OwnedBy(HarnessTeam.PIPELINE)
 public interface Tracer {
   void traceMorphiaQuery(HQuery<?> query);
+
+  /**
+   * Called after a query returned, with the time it took and the number of documents it returned.
+   */
+  default void recordMorphiaQuery(HQuery<?> query, long elapsedNanos, int documents) {}
 }
@@ -157,11 +157,14 @@ public class HQuery<T> extends QueryImpl<T> {
       if (options.getMaxTime(TimeUnit.MILLISECONDS) == 0) {
         options.maxTime(maxOperationTimeInMillis, TimeUnit.MILLISECONDS);
       }
-      return HPersistence.retry(() -> {
+      long startTime = System.nanoTime();
+      List<Key<T>> keys = HPersistence.retry(() -> {
         final List<Key<T>> list = super.asKeyList(options);
         checkKeyListSize(list);
         return list;
       });
+      recordQuery(startTime, keys.size());
+      return keys;
     } catch (MongoExecutionTimeoutException ex) {
       log.error("asKeyList query {} exceeded max time limit of {} ms for entityClass {} with error {}", this.getQuery(),
           maxOperationTimeInMillis, entityClass, ex);
@@ -179,11 +182,14 @@ public class HQuery<T> extends QueryImpl<T> {
         options.maxTime(maxOperationTimeInMillis, TimeUnit.MILLISECONDS);
       }
       traceQuery();
-      return HPersistence.retry(() -> {
+      long startTime = System.nanoTime();
+      List<T> entities = HPersistence.retry(() -> {
         final List<T> list = super.asList(options);
         checkListSize(list);
         return list;
       });
+      recordQuery(startTime, entities.size());
+      return entities;
     } catch (MongoExecutionTimeoutException ex) {
       log.error("asList query {} exceeded max time limit of {} ms for collection {} with error {}", this.getQuery(),
           maxOperationTimeInMillis, collectionName, ex);
@@ -301,6 +307,12 @@ public class HQuery<T> extends QueryImpl<T> {
     }
   }
 
+  private void recordQuery(long startTime, int documents) {
+    if (traceMode == TraceMode.ENABLED) {
+      tracerSubject.fireInform(Tracer::recordMorphiaQuery, this, System.nanoTime() - startTime, documents);
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
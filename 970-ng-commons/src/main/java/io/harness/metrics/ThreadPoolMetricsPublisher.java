@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.metrics;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.threading.ScalingThreadPoolExecutor;
+import io.harness.threading.ThreadPoolStats;
+
+import com.google.inject.Inject;
+
+/**
+ * Publishes the queue wait, run time, rejections and queue depth of the thread pools created through ThreadPool.
+ */
+@OwnedBy(HarnessTeam.PL)
+public class ThreadPoolMetricsPublisher implements MetricsPublisher {
+  public static final String THREAD_POOL_TASKS = "thread_pool_tasks";
+  public static final String THREAD_POOL_QUEUE_WAIT_MEAN = "thread_pool_queue_wait_mean";
+  public static final String THREAD_POOL_QUEUE_WAIT_MAX = "thread_pool_queue_wait_max";
+  public static final String THREAD_POOL_RUN_TIME_MEAN = "thread_pool_run_time_mean";
+  public static final String THREAD_POOL_RUN_TIME_MAX = "thread_pool_run_time_max";
+  public static final String THREAD_POOL_REJECTED_TASKS = "thread_pool_rejected_tasks";
+  public static final String THREAD_POOL_QUEUE_DEPTH = "thread_pool_queue_depth";
+  public static final String THREAD_POOL_ACTIVE_THREADS = "thread_pool_active_threads";
+  public static final String THREAD_POOL_SIZE = "thread_pool_size";
+
+  private final MetricService metricService;
+
+  @Inject
+  public ThreadPoolMetricsPublisher(MetricService metricService) {
+    this.metricService = metricService;
+  }
+
+  @Override
+  public void recordMetrics() {
+    for (ThreadPoolStats.Snapshot snapshot : ScalingThreadPoolExecutor.snapshotAndResetAll()) {
+      try (ThreadPoolMetricContext ignored = new ThreadPoolMetricContext(snapshot.getPoolName())) {
+        metricService.recordMetric(THREAD_POOL_TASKS, snapshot.getTasks());
+        metricService.recordMetric(THREAD_POOL_QUEUE_WAIT_MEAN, snapshot.getMeanQueueWaitMillis());
+        metricService.recordMetric(THREAD_POOL_QUEUE_WAIT_MAX, snapshot.getMaxQueueWaitMillis());
+        metricService.recordMetric(THREAD_POOL_RUN_TIME_MEAN, snapshot.getMeanRunMillis());
+        metricService.recordMetric(THREAD_POOL_RUN_TIME_MAX, snapshot.getMaxRunMillis());
+        metricService.recordMetric(THREAD_POOL_REJECTED_TASKS, snapshot.getRejectedTasks());
+        metricService.recordMetric(THREAD_POOL_QUEUE_DEPTH, snapshot.getQueueDepth());
+        metricService.recordMetric(THREAD_POOL_ACTIVE_THREADS, snapshot.getActiveThreads());
+        metricService.recordMetric(THREAD_POOL_SIZE, snapshot.getPoolSize());
+      }
+    }
+  }
+}
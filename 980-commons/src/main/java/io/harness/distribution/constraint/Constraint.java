@@ -27,8 +27,11 @@ import com.google.common.annotations.VisibleForTesting;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Value;
@@ -144,6 +147,11 @@ public class Constraint {
           "An amount of %d permits cannot be requested from constraint with limit %d.", permits, spec.getLimits()));
     }
 
+    if (context != null && Boolean.TRUE.equals(context.get(ConstraintLedger.LEDGER_MODE))
+        && registry instanceof ConstraintLedger) {
+      return registerConsumer(unit, consumerId, permits, context, registry, (ConstraintLedger) registry);
+    }
+
     do {
       List<Consumer> consumers = registry.loadConsumers(id, unit);
       final int usedPermits = getUsedPermits(consumers);
@@ -173,6 +181,34 @@ public class Constraint {
     throw new UnableToRegisterConsumerException("Unable to register the constraint.");
   }
 
+  private State registerConsumer(ConstraintUnit unit, ConsumerId consumerId, int permits, Map<String, Object> context,
+      ConstraintRegistry registry, ConstraintLedger ledger)
+      throws UnableToRegisterConsumerException, PermanentlyBlockedConsumerException {
+    final int maxBlocked =
+        Boolean.TRUE.equals(context.get("RESOURCE_CONSTRAINT_MAX_QUEUE")) ? MAX_CONSUMERS_WAITING_FOR_RESOURCE : 0;
+    final State state =
+        ledger.acquire(id, unit, Consumer.builder().id(consumerId).permits(permits).context(context).build(), spec,
+            maxBlocked);
+    final Consumer consumer = Consumer.builder().id(consumerId).permits(permits).state(state).context(context).build();
+
+    boolean registered = false;
+    try {
+      if (BLOCKED == state) {
+        checkForBadBlock(consumer, registry.loadConsumers(id, unit), registry);
+      }
+      // The permits are already taken from the ledger, so there is nothing to compare the running consumers with
+      registered = registry.registerConsumer(id, unit, consumer, -1);
+    } finally {
+      if (!registered) {
+        ledger.revert(id, unit, consumer, state);
+      }
+    }
+    if (!registered) {
+      throw new UnableToRegisterConsumerException("Unable to register the constraint.");
+    }
+    return state;
+  }
+
   public boolean consumerUnblocked(
       ConstraintUnit unit, ConsumerId consumerId, Map<String, Object> context, ConstraintRegistry registry) {
     return registry.consumerUnblocked(id, unit, consumerId, context);
@@ -188,7 +224,8 @@ public class Constraint {
 
     final RunnableConsumersBuilder builder = RunnableConsumers.builder().usedPermits(usedPermits);
 
-    List<ConsumerId> consumerIds = new ArrayList<>();
+    Set<ConsumerId> consumerIds = new LinkedHashSet<>();
+    Map<String, List<Consumer>> consumersByReleaseEntity = groupByReleaseEntity(consumers);
 
     for (Consumer consumer : consumers) {
       if (consumer.getState() != BLOCKED) {
@@ -214,10 +251,32 @@ public class Constraint {
 
       // WHEN ONE CONSUMER IS CHOOSE TO RUN, SEARCH FOR OTHERS CONSUMERS WITH THE SAME resourceUnit, releaseEntityType
       // AND releaseEntityId TO NOTIFY AND START THEM. IN THE NEXT ITERATIONS SKIP IF ALREADY ADDED TO FINAL RESULT.
-      consumerIds.addAll(searchRelated(consumers, consumer));
+      // EVERY GROUP IS TAKEN ONLY ONCE, SO THE WHOLE LIST IS WALKED ONCE INSTEAD OF ONCE PER CHOSEN CONSUMER.
+      List<Consumer> related = consumersByReleaseEntity.remove(releaseEntityKey(consumer));
+      if (related != null) {
+        related.stream().filter(c -> isDifferentId(c, consumer)).map(Consumer::getId).forEach(consumerIds::add);
+      }
     }
 
-    return builder.consumerIds(consumerIds).build();
+    return builder.consumerIds(new ArrayList<>(consumerIds)).build();
+  }
+
+  private static Map<String, List<Consumer>> groupByReleaseEntity(List<Consumer> consumers) {
+    Map<String, List<Consumer>> consumersByReleaseEntity = new HashMap<>();
+    for (Consumer consumer : consumers) {
+      String key = releaseEntityKey(consumer);
+      if (key != null) {
+        consumersByReleaseEntity.computeIfAbsent(key, k -> new ArrayList<>()).add(consumer);
+      }
+    }
+    return consumersByReleaseEntity;
+  }
+
+  private static String releaseEntityKey(Consumer consumer) {
+    if (!hasContext(consumer) || getReleaseEntityType(consumer) == null || getReleaseEntityId(consumer) == null) {
+      return null;
+    }
+    return getReleaseEntityType(consumer) + "/" + getReleaseEntityId(consumer);
   }
 
   /**
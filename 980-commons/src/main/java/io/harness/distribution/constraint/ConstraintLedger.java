@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.distribution.constraint;
+
+import io.harness.distribution.constraint.Constraint.Spec;
+import io.harness.distribution.constraint.Consumer.State;
+
+/*
+ * A constraint registry that keeps, for every unit of a constraint, the permits used by the active consumers and the
+ * queue of the blocked consumers in a single record that it updates atomically. With it a consumer is registered with
+ * one conditional update of that record, instead of loading all the consumers of the unit and retrying on conflicts.
+ *
+ * The registry is expected to return the permits of a finished consumer and to move an unblocked consumer out of the
+ * queue in the same record, refusing to unblock a consumer the unit has no permits for. The ledger is used only for the
+ * consumers registered with LEDGER_MODE set in their context.
+ */
+public interface ConstraintLedger {
+  String LEDGER_MODE = "RESOURCE_CONSTRAINT_LEDGER";
+
+  /**
+   * Takes the permits for the consumer if the unit has them available and, for the FIFO strategy, no other consumer is
+   * blocked. Otherwise queues the consumer as blocked, or rejects it if maxBlocked is positive and that many consumers
+   * are blocked already.
+   */
+  State acquire(ConstraintId id, ConstraintUnit unit, Consumer consumer, Spec spec, int maxBlocked);
+
+  /**
+   * Reverts the acquire for a consumer that could not be registered.
+   */
+  void revert(ConstraintId id, ConstraintUnit unit, Consumer consumer, State state);
+}
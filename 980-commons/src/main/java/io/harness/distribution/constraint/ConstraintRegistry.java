@@ -18,7 +18,8 @@ public interface ConstraintRegistry {
   Constraint load(ConstraintId id) throws UnableToLoadConstraintException;
   List<Consumer> loadConsumers(@NotNull ConstraintId id, @NotNull ConstraintUnit unit);
 
-  // When a new consumer is registered it goes into either blocked or running state.
+  // When a new consumer is registered it goes into either blocked or running state. The currently running permits are
+  // -1 when the permits of the consumer were already taken from a ConstraintLedger.
   boolean registerConsumer(ConstraintId id, ConstraintUnit unit, Consumer consumer, int currentlyRunning)
       throws UnableToRegisterConsumerException;
 
@@ -10,23 +10,36 @@ package io.harness.distribution.constraint;
 import static io.harness.distribution.constraint.Consumer.State.ACTIVE;
 import static io.harness.distribution.constraint.Consumer.State.BLOCKED;
 import static io.harness.distribution.constraint.Consumer.State.FINISHED;
+import static io.harness.distribution.constraint.Consumer.State.REJECTED;
 
 import static java.util.Collections.synchronizedMap;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 
 import io.harness.distribution.constraint.Constraint.Spec;
+import io.harness.distribution.constraint.Constraint.Strategy;
 import io.harness.distribution.constraint.Consumer.State;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 import javax.validation.constraints.NotNull;
 
-public class InprocConstraintRegistry implements ConstraintRegistry {
+public class InprocConstraintRegistry implements ConstraintRegistry, ConstraintLedger {
   private Map<ConstraintId, Spec> map = synchronizedMap(new HashMap<>());
   private Map<String, List<Consumer>> consumers = synchronizedMap(new HashMap<>());
+  private Map<String, Ledger> ledgers = new HashMap<>();
+
+  private static class Ledger {
+    private int usedPermits;
+    private long nextSequence;
+    // Blocked consumers in the order they were queued
+    private final Set<ConsumerId> blocked = new LinkedHashSet<>();
+    private final Map<ConsumerId, Long> sequences = new HashMap<>();
+  }
 
   private String computeKey(@NotNull ConstraintId id, @NotNull ConstraintUnit unit) {
     return defaultString(id.getValue(), "null") + "/" + defaultString(unit.getValue(), "null");
@@ -50,7 +63,9 @@ public class InprocConstraintRegistry implements ConstraintRegistry {
 
   @Override
   public List<Consumer> loadConsumers(ConstraintId id, ConstraintUnit unit) {
-    return this.consumers.computeIfAbsent(computeKey(id, unit), key -> new ArrayList<>());
+    synchronized (consumers) {
+      return new ArrayList<>(this.consumers.computeIfAbsent(computeKey(id, unit), key -> new ArrayList<>()));
+    }
   }
 
   @Override
@@ -58,6 +73,10 @@ public class InprocConstraintRegistry implements ConstraintRegistry {
       throws UnableToRegisterConsumerException {
     synchronized (consumers) {
       List<Consumer> constraintConsumers = consumers.computeIfAbsent(computeKey(id, unit), key -> new ArrayList<>());
+      if (currentlyRunning < 0) {
+        addInLedgerOrder(constraintConsumers, ledgers.get(computeKey(id, unit)), consumer);
+        return true;
+      }
       if (Constraint.getUsedPermits(constraintConsumers) != currentlyRunning) {
         return false;
       }
@@ -67,6 +86,59 @@ public class InprocConstraintRegistry implements ConstraintRegistry {
     return true;
   }
 
+  @Override
+  public State acquire(ConstraintId id, ConstraintUnit unit, Consumer consumer, Spec spec, int maxBlocked) {
+    synchronized (consumers) {
+      Ledger ledger = ledgers.computeIfAbsent(computeKey(id, unit), key -> newLedger(id, unit));
+      ledger.sequences.put(consumer.getId(), ledger.nextSequence++);
+      boolean noneAhead = spec.getStrategy() == Strategy.ASAP || ledger.blocked.isEmpty();
+      if (noneAhead && spec.getLimits() - ledger.usedPermits >= consumer.getPermits()) {
+        ledger.usedPermits += consumer.getPermits();
+        return ACTIVE;
+      }
+      if (maxBlocked > 0 && ledger.blocked.size() >= maxBlocked) {
+        return REJECTED;
+      }
+      ledger.blocked.add(consumer.getId());
+      return BLOCKED;
+    }
+  }
+
+  @Override
+  public void revert(ConstraintId id, ConstraintUnit unit, Consumer consumer, State state) {
+    synchronized (consumers) {
+      Ledger ledger = ledgers.get(computeKey(id, unit));
+      if (state == ACTIVE) {
+        ledger.usedPermits -= consumer.getPermits();
+      } else if (state == BLOCKED) {
+        ledger.blocked.remove(consumer.getId());
+      }
+    }
+  }
+
+  private Ledger newLedger(ConstraintId id, ConstraintUnit unit) {
+    Ledger ledger = new Ledger();
+    for (Consumer consumer : consumers.computeIfAbsent(computeKey(id, unit), key -> new ArrayList<>())) {
+      ledger.sequences.put(consumer.getId(), ledger.nextSequence++);
+      if (consumer.getState() == ACTIVE) {
+        ledger.usedPermits += consumer.getPermits();
+      } else if (consumer.getState() == BLOCKED) {
+        ledger.blocked.add(consumer.getId());
+      }
+    }
+    return ledger;
+  }
+
+  // Consumers are kept in the order the ledger queued them, which registering them may not keep when racing
+  private static void addInLedgerOrder(List<Consumer> constraintConsumers, Ledger ledger, Consumer consumer) {
+    long sequence = ledger.sequences.get(consumer.getId());
+    int index = constraintConsumers.size();
+    while (index > 0 && ledger.sequences.getOrDefault(constraintConsumers.get(index - 1).getId(), -1L) > sequence) {
+      index--;
+    }
+    constraintConsumers.add(index, consumer);
+  }
+
   @Override
   public boolean adjustRegisterConsumerContext(ConstraintId id, Map<String, Object> context) {
     return false;
@@ -93,6 +165,7 @@ public class InprocConstraintRegistry implements ConstraintRegistry {
       ConstraintId id, ConstraintUnit unit, ConsumerId consumerId, State newState, State expected) {
     synchronized (consumers) {
       final List<Consumer> constraintConsumers = this.consumers.get(computeKey(id, unit));
+      final Ledger ledger = ledgers.get(computeKey(id, unit));
 
       final ListIterator<Consumer> iterator = constraintConsumers.listIterator();
       while (iterator.hasNext()) {
@@ -101,6 +174,9 @@ public class InprocConstraintRegistry implements ConstraintRegistry {
           if (consumer.getState() != expected) {
             return false;
           }
+          if (ledger != null && !updateLedger(ledger, map.get(id), consumer, newState)) {
+            return false;
+          }
           iterator.set(Consumer.builder().state(newState).id(consumer.getId()).permits(consumer.getPermits()).build());
           return true;
         }
@@ -109,4 +185,17 @@ public class InprocConstraintRegistry implements ConstraintRegistry {
 
     return false;
   }
+
+  private static boolean updateLedger(Ledger ledger, Spec spec, Consumer consumer, State newState) {
+    if (newState == ACTIVE) {
+      if (spec != null && spec.getLimits() - ledger.usedPermits < consumer.getPermits()) {
+        return false;
+      }
+      ledger.usedPermits += consumer.getPermits();
+      ledger.blocked.remove(consumer.getId());
+    } else if (newState == FINISHED) {
+      ledger.usedPermits -= consumer.getPermits();
+    }
+    return true;
+  }
 }
@@ -55,7 +55,12 @@ public class ExpressionEvaluator {
 
   private Map<String, Object> expressionFunctorMap = new HashMap<>();
 
-  private JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+  // Expressions in rendered templates repeat a lot, the engine is shared so that each of them is parsed only once
+  private static final int JEXL_EXPRESSION_CACHE_SIZE = 4096;
+  private static final JexlEngine DEFAULT_ENGINE =
+      new JexlBuilder().logger(new NoOpLog()).cache(JEXL_EXPRESSION_CACHE_SIZE).create();
+
+  private JexlEngine engine = DEFAULT_ENGINE;
 
   public void addFunctor(String name, ExpressionFunctor functor) {
     if (functor == null) {
@@ -97,8 +97,27 @@ public class ExpressionEvaluatorUtils {
 
     String result = expression;
     int limit = Math.max(EXPANSION_LIMIT, EXPANSION_MULTIPLIER_LIMIT * expression.length());
+    int depth = 0;
+    // The first pass over the original expression is rendered from its compiled template when it has one, later
+    // passes only run if the values brought in new variables.
+    ExpressionTemplate template = newDelimiters ? null : ExpressionTemplate.compile(expression);
+    if (template != null) {
+      if (!template.hasVariables()) {
+        return expression;
+      }
+      result = template.render(variableResolver, name -> getValue(ctx, name));
+      if (result.length() > DEBUG_LENGTH_LIMIT) {
+        log.info("The expression length: {} has exceeded {} limit.", result.length(), DEBUG_LENGTH_LIMIT);
+      }
+      checkLimit(result, limit, expression);
+      if (result.equals(expression) || !result.contains("${")) {
+        return result;
+      }
+      depth = 1;
+    }
+
     // We go maximum upto DEPTH_LIMIT depth while resolving all the variables
-    for (int i = 0; i < DEPTH_LIMIT; i++) {
+    for (int i = depth; i < DEPTH_LIMIT; i++) {
       // Lets use an example, we want to replace variables (i.e, ${..}) in expression - echo "${testVar}" && echo "1234"
       // ctx has map having (testVar, example) as one of its enteries.
       // pattern - ABCD[0-9]+WXYZ
@@ -125,20 +144,7 @@ public class ExpressionEvaluatorUtils {
 
           // Get the value from ctx map. After this step: value - example
           // '\' and '$' are escaped in the value. The matched entry with pattern is replaced with value.
-          Object ctxValue = ctx.get(name);
-          String value = "";
-          if (ctxValue instanceof Future) {
-            // If we have future from context, means secret value is being evaulated asynchronously.
-            // Let's extract the value from end result of this future object.
-            try {
-              value = String.valueOf(((Future<?>) ctxValue).get());
-            } catch (Exception e) {
-              log.error("Encountered error while extracting secret value from future ", e);
-            }
-          } else {
-            // Cast the value from context to string.
-            value = String.valueOf(ctxValue);
-          }
+          String value = getValue(ctx, name);
 
           // This appends the string to sb till the replaced matched entry.
           // After this step: sb - echo "example
@@ -163,6 +169,32 @@ public class ExpressionEvaluatorUtils {
         "Infinite loop or too deep indirection in property interpretation", expression);
   }
 
+  private static String getValue(JexlContext ctx, String name) {
+    Object ctxValue = ctx.get(name);
+    if (ctxValue instanceof Future) {
+      // If we have future from context, means secret value is being evaulated asynchronously.
+      // Let's extract the value from end result of this future object.
+      try {
+        return String.valueOf(((Future<?>) ctxValue).get());
+      } catch (Exception e) {
+        log.error("Encountered error while extracting secret value from future ", e);
+        return "";
+      }
+    }
+    // Cast the value from context to string.
+    return String.valueOf(ctxValue);
+  }
+
+  private static String getSecuredValue(JexlContext ctx, String name) {
+    return ctx.get(name) instanceof SecretString ? SecretString.SECRET_MASK : String.valueOf(ctx.get(name));
+  }
+
+  private static void checkLimit(String result, int limit, String expression) {
+    if (result.length() > limit) {
+      throw new CriticalExpressionEvaluationException("Exponentially growing interpretation", expression);
+    }
+  }
+
   /**
    * Fetch field from inside the object using jexl conventions. POJSs, Maps, Classes having get method are supported.
    *
@@ -328,7 +360,7 @@ public class ExpressionEvaluatorUtils {
     StringBuffer sb = new StringBuffer();
     do {
       String name = matcher.group(0);
-      String value = ctx.get(name) instanceof SecretString ? SecretString.SECRET_MASK : String.valueOf(ctx.get(name));
+      String value = getSecuredValue(ctx, name);
       matcher.appendReplacement(sb, value.replace("\\", "\\\\").replace("$", "\\$"));
     } while (matcher.find());
     matcher.appendTail(sb);
@@ -341,7 +373,21 @@ public class ExpressionEvaluatorUtils {
 
     String result = expression;
     int limit = Math.max(EXPANSION_LIMIT, EXPANSION_MULTIPLIER_LIMIT * expression.length());
-    for (int i = 0; i < DEPTH_LIMIT; i++) {
+    int depth = 0;
+    ExpressionTemplate template = ExpressionTemplate.compile(expression);
+    if (template != null) {
+      if (!template.hasVariables()) {
+        return expression;
+      }
+      result = template.render(variableResolver, name -> getSecuredValue(ctx, name));
+      checkLimit(result, limit, expression);
+      if (result.equals(expression) || !result.contains("${")) {
+        return result;
+      }
+      depth = 1;
+    }
+
+    for (int i = depth; i < DEPTH_LIMIT; i++) {
       String original = result;
       result = substitutor.replace(new StringBuffer(original));
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.commons.text.StrLookup;
+
+/**
+ * A text with ${...} variables split once into literal and variable segments, so that the first substitution pass over
+ * it does not have to scan the text again.
+ *
+ * Only texts whose variables are neither nested nor escaped are compiled, for those a single left to right pass over
+ * the segments looks up exactly the variables, in the same order, that the StrSubstitutor would. Compiled templates
+ * are kept in a bounded cache shared by all the evaluators as the same texts are rendered again and again.
+ */
+@OwnedBy(CDC)
+public class ExpressionTemplate {
+  private static final String VARIABLE_PREFIX = "${";
+  private static final char VARIABLE_SUFFIX = '}';
+  private static final char ESCAPE = '$';
+  private static final long MAX_CACHE_WEIGHT = 16L * 1024 * 1024;
+  private static final ExpressionTemplate NOT_COMPILABLE = new ExpressionTemplate(Collections.emptyList());
+
+  private static final Cache<String, ExpressionTemplate> templateCache =
+      Caffeine.newBuilder()
+          .maximumWeight(MAX_CACHE_WEIGHT)
+          .weigher((String text, ExpressionTemplate template) -> text.length())
+          .build();
+
+  // Literals are plain strings, variables are the text between ${ and }
+  private final List<Segment> segments;
+
+  private ExpressionTemplate(List<Segment> segments) {
+    this.segments = segments;
+  }
+
+  /**
+   * Returns the compiled template for the text, or null if its variables are nested or escaped.
+   */
+  public static ExpressionTemplate compile(String text) {
+    if (text == null) {
+      return null;
+    }
+    ExpressionTemplate template = templateCache.get(text, ExpressionTemplate::parse);
+    return template == NOT_COMPILABLE ? null : template;
+  }
+
+  public boolean hasVariables() {
+    for (Segment segment : segments) {
+      if (segment.isVariable()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Renders the template, looking up every variable with the variable resolver and then converting the name returned
+   * by the resolver with the given function. A variable is left as it is if the resolver returns null.
+   */
+  public String render(StrLookup<Object> variableResolver, Function<String, String> resolvedValue) {
+    StringBuilder sb = new StringBuilder();
+    for (Segment segment : segments) {
+      if (!segment.isVariable()) {
+        sb.append(segment.getText());
+        continue;
+      }
+      String resolvedName = variableResolver.lookup(segment.getText());
+      if (resolvedName == null) {
+        sb.append(VARIABLE_PREFIX).append(segment.getText()).append(VARIABLE_SUFFIX);
+      } else {
+        sb.append(resolvedValue.apply(resolvedName));
+      }
+    }
+    return sb.toString();
+  }
+
+  private static ExpressionTemplate parse(String text) {
+    List<Segment> segments = new ArrayList<>();
+    int literalStart = 0;
+    int pos = text.indexOf(VARIABLE_PREFIX);
+    while (pos >= 0) {
+      if (pos > 0 && text.charAt(pos - 1) == ESCAPE) {
+        return NOT_COMPILABLE;
+      }
+      int end = text.indexOf(VARIABLE_SUFFIX, pos + VARIABLE_PREFIX.length());
+      if (end < 0) {
+        // Never closed, the rest is left as it is
+        break;
+      }
+      int nested = text.indexOf(VARIABLE_PREFIX, pos + VARIABLE_PREFIX.length());
+      if ((nested >= 0 && nested < end) || end == pos + VARIABLE_PREFIX.length()) {
+        return NOT_COMPILABLE;
+      }
+      if (pos > literalStart) {
+        segments.add(new Segment(text.substring(literalStart, pos), false));
+      }
+      segments.add(new Segment(text.substring(pos + VARIABLE_PREFIX.length(), end), true));
+      literalStart = end + 1;
+      pos = text.indexOf(VARIABLE_PREFIX, literalStart);
+    }
+    if (literalStart < text.length()) {
+      segments.add(new Segment(text.substring(literalStart), false));
+    }
+    return new ExpressionTemplate(segments);
+  }
+
+  private static class Segment {
+    private final String text;
+    private final boolean variable;
+
+    Segment(String text, boolean variable) {
+      this.text = text;
+      this.variable = variable;
+    }
+
+    String getText() {
+      return text;
+    }
+
+    boolean isVariable() {
+      return variable;
+    }
+  }
+}
@@ -7,13 +7,25 @@
 
 package io.harness.threading;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,19 +33,32 @@ import lombok.extern.slf4j.Slf4j;
  * /blob/master/app/src/main /java/lb/listviewvariants/utils/async_task_thread_pool
  * /ScalingThreadPoolExecutor.java that forces the Java to raise the current pool size, if it has
  * still not reached the max threshold, in case existing ones are busy processing other jobs.
+ *
+ * It also keeps the time its tasks spent queued and running, and the number of tasks it rejected. Tasks are timed from
+ * the moment they are handed to the executor, so tasks passed to execute are wrapped while queued. remove and
+ * shutdownNow unwrap them, only getQueue exposes the wrappers. Pools created without a name are reported under the name
+ * their thread factory gives its threads, without the trailing thread number.
  */
 @Slf4j
 public class ScalingThreadPoolExecutor extends ThreadPoolExecutor {
+  private static final Set<ScalingThreadPoolExecutor> executors =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+  private static final Pattern THREAD_NUMBER = Pattern.compile("[-_ ]?\\d+$");
+
   /**
    * number of threads that are actively executing tasks
    */
   private final AtomicInteger activeCount = new AtomicInteger();
+  private final ThreadPoolStats stats = new ThreadPoolStats();
+  private final String poolName;
 
   /**
    * Instantiates a new scaling thread pool executor.
    */
   public ScalingThreadPoolExecutor() {
     super(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(100));
+    this.poolName = register(this, null);
+    countRejections();
   }
 
   /**
@@ -47,7 +72,108 @@ public class ScalingThreadPoolExecutor extends ThreadPoolExecutor {
    */
   public ScalingThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
       BlockingQueue workQueue, ThreadFactory threadFactory) {
+    this(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, null);
+  }
+
+  /**
+   * Instantiates a new scaling thread pool executor whose stats are reported under the given pool name.
+   */
+  public ScalingThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+      BlockingQueue workQueue, ThreadFactory threadFactory, String poolName) {
     super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+    this.poolName = register(this, poolName);
+    countRejections();
+  }
+
+  // Probes the thread factory for the thread name, which uses up one thread number. Pools sharing a thread name format
+  // get a numbered name past the first
+  private static String register(ScalingThreadPoolExecutor executor, String poolName) {
+    if (poolName != null) {
+      executors.add(executor);
+      return poolName;
+    }
+    String threadName = executor.getThreadFactory().newThread(() -> {}).getName();
+    String baseName = THREAD_NUMBER.matcher(threadName).replaceFirst("");
+    synchronized (executors) {
+      Set<String> usedNames = new HashSet<>();
+      for (ScalingThreadPoolExecutor pool : executors) {
+        usedNames.add(pool.poolName);
+      }
+      String name = baseName;
+      for (int i = 2; usedNames.contains(name); i++) {
+        name = baseName + "-" + i;
+      }
+      executors.add(executor);
+      return name;
+    }
+  }
+
+  /**
+   * Returns the stats of all the live pools since the last snapshot and starts a new interval.
+   */
+  public static List<ThreadPoolStats.Snapshot> snapshotAndResetAll() {
+    List<ScalingThreadPoolExecutor> pools;
+    synchronized (executors) {
+      pools = new ArrayList<>(executors);
+    }
+    List<ThreadPoolStats.Snapshot> snapshots = new ArrayList<>();
+    for (ScalingThreadPoolExecutor pool : pools) {
+      if (!pool.isTerminated()) {
+        snapshots.add(pool.stats.snapshotAndReset(pool.poolName, pool));
+      }
+    }
+    return snapshots;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    super.execute(command instanceof TimedTask ? command : new TimedRunnable(command));
+  }
+
+  @Override
+  protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+    return new TimedFutureTask<>(runnable, value, runnable.getClass().getName());
+  }
+
+  @Override
+  protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+    return new TimedFutureTask<>(callable, callable.getClass().getName());
+  }
+
+  @Override
+  public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+    if (handler == null) {
+      throw new NullPointerException();
+    }
+    super.setRejectedExecutionHandler(new RejectionCountingHandler(
+        handler instanceof RejectionCountingHandler ? ((RejectionCountingHandler) handler).handler : handler));
+  }
+
+  @Override
+  public RejectedExecutionHandler getRejectedExecutionHandler() {
+    return ((RejectionCountingHandler) super.getRejectedExecutionHandler()).handler;
+  }
+
+  @Override
+  public boolean remove(Runnable task) {
+    if (!(task instanceof TimedTask)) {
+      for (Runnable queued : getQueue()) {
+        if (queued instanceof TimedRunnable && ((TimedRunnable) queued).runnable.equals(task)) {
+          return super.remove(queued);
+        }
+      }
+    }
+    return super.remove(task);
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> tasks = super.shutdownNow();
+    List<Runnable> unwrapped = new ArrayList<>(tasks.size());
+    for (Runnable task : tasks) {
+      unwrapped.add(task instanceof TimedRunnable ? ((TimedRunnable) task).runnable : task);
+    }
+    return unwrapped;
   }
 
   @Override
@@ -67,6 +193,11 @@ public class ScalingThreadPoolExecutor extends ThreadPoolExecutor {
   @Override
   protected void beforeExecute(Thread t, Runnable r) {
     activeCount.incrementAndGet();
+    if (r instanceof TimedTask) {
+      TimedTask task = (TimedTask) r;
+      task.setStartTime(System.nanoTime());
+      stats.recordQueueWait(poolName, task.getSource(), task.getStartTime() - task.getSubmitTime());
+    }
   }
 
   /* (non-Javadoc)
@@ -75,8 +206,124 @@ public class ScalingThreadPoolExecutor extends ThreadPoolExecutor {
   @Override
   protected void afterExecute(Runnable r, Throwable t) {
     activeCount.decrementAndGet();
+    if (r instanceof TimedTask) {
+      stats.recordRun(System.nanoTime() - ((TimedTask) r).getStartTime());
+    }
     if (t != null) {
       log.error("Unhandled Exception: ", t);
     }
   }
+
+  // Wraps the handler set by the super constructor too, which does not go through setRejectedExecutionHandler
+  private void countRejections() {
+    setRejectedExecutionHandler(super.getRejectedExecutionHandler());
+  }
+
+  // Only a task the handler refused counts as rejected, ForceQueuePolicy queueing it after all does not
+  private class RejectionCountingHandler implements RejectedExecutionHandler {
+    private final RejectedExecutionHandler handler;
+
+    RejectionCountingHandler(RejectedExecutionHandler handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+      try {
+        handler.rejectedExecution(r, executor);
+      } catch (RejectedExecutionException e) {
+        stats.recordRejection();
+        throw e;
+      }
+    }
+  }
+
+  private interface TimedTask {
+    long getSubmitTime();
+
+    long getStartTime();
+
+    void setStartTime(long startTime);
+
+    String getSource();
+  }
+
+  private static class TimedRunnable implements Runnable, TimedTask {
+    private final Runnable runnable;
+    private final long submitTime = System.nanoTime();
+    private long startTime;
+
+    TimedRunnable(Runnable runnable) {
+      if (runnable == null) {
+        throw new NullPointerException();
+      }
+      this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      runnable.run();
+    }
+
+    @Override
+    public long getSubmitTime() {
+      return submitTime;
+    }
+
+    @Override
+    public long getStartTime() {
+      return startTime;
+    }
+
+    @Override
+    public void setStartTime(long startTime) {
+      this.startTime = startTime;
+    }
+
+    @Override
+    public String getSource() {
+      return runnable.getClass().getName();
+    }
+
+    @Override
+    public String toString() {
+      return runnable.toString();
+    }
+  }
+
+  private static class TimedFutureTask<V> extends FutureTask<V> implements TimedTask {
+    private final long submitTime = System.nanoTime();
+    private final String source;
+    private long startTime;
+
+    TimedFutureTask(Callable<V> callable, String source) {
+      super(callable);
+      this.source = source;
+    }
+
+    TimedFutureTask(Runnable runnable, V result, String source) {
+      super(runnable, result);
+      this.source = source;
+    }
+
+    @Override
+    public long getSubmitTime() {
+      return submitTime;
+    }
+
+    @Override
+    public long getStartTime() {
+      return startTime;
+    }
+
+    @Override
+    public void setStartTime(long startTime) {
+      this.startTime = startTime;
+    }
+
+    @Override
+    public String getSource() {
+      return source;
+    }
+  }
 }
@@ -31,8 +31,9 @@ public class ThreadPool {
   private static final int CORE_POOL_SIZE = 20;
   private static final int MAX_POOL_SIZE = 1000;
   private static final long IDLE_TIME = 500L;
-  private static final ThreadPoolExecutor commonPool =
-      create(CORE_POOL_SIZE, MAX_POOL_SIZE, IDLE_TIME, TimeUnit.MILLISECONDS);
+  private static final String COMMON_POOL_NAME = "common";
+  private static final ThreadPoolExecutor commonPool = create(CORE_POOL_SIZE, MAX_POOL_SIZE, IDLE_TIME,
+      TimeUnit.MILLISECONDS, Executors.defaultThreadFactory(), -1, new ForceQueuePolicy(), COMMON_POOL_NAME);
 
   /**
    * Creates the thread pool executor.
@@ -57,11 +58,26 @@ public class ThreadPool {
     return create(corePoolSize, maxPoolSize, idleTime, unit, threadFactory, -1, new ForceQueuePolicy());
   }
 
+  public static ThreadPoolExecutor create(ThreadPoolConfig poolConfig, ThreadFactory threadFactory, String poolName) {
+    return create(poolConfig.getCorePoolSize(), poolConfig.getMaxPoolSize(), poolConfig.getIdleTime(),
+        poolConfig.getTimeUnit(), threadFactory, -1, new ForceQueuePolicy(), poolName);
+  }
+
   public static ThreadPoolExecutor create(int corePoolSize, int maxPoolSize, long idleTime, TimeUnit unit,
       ThreadFactory threadFactory, int queueSize, RejectedExecutionHandler rejectedExecutionHandler) {
+    return create(
+        corePoolSize, maxPoolSize, idleTime, unit, threadFactory, queueSize, rejectedExecutionHandler, null);
+  }
+
+  /**
+   * Creates the thread pool executor whose stats are published under the given pool name.
+   */
+  public static ThreadPoolExecutor create(int corePoolSize, int maxPoolSize, long idleTime, TimeUnit unit,
+      ThreadFactory threadFactory, int queueSize, RejectedExecutionHandler rejectedExecutionHandler,
+      String poolName) {
     ScalingQueue<Runnable> queue = queueSize < 0 ? new ScalingQueue<>() : new ScalingQueue<>(queueSize);
     ThreadPoolExecutor executor =
-        new ScalingThreadPoolExecutor(corePoolSize, maxPoolSize, idleTime, unit, queue, threadFactory);
+        new ScalingThreadPoolExecutor(corePoolSize, maxPoolSize, idleTime, unit, queue, threadFactory, poolName);
     executor.setRejectedExecutionHandler(rejectedExecutionHandler);
     queue.setThreadPoolExecutor(executor);
     return executor;
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.threading;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Time the tasks of a pool spent queued and running, and the number of tasks the pool rejected, since the last
+ * snapshot. Tasks waiting in the queue for longer than a threshold are logged with the class of the task, which for a
+ * lambda names the class that submitted it, at most once a minute per pool.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+public class ThreadPoolStats {
+  private static final long SLOW_TASK_WAIT_NANOS = TimeUnit.SECONDS.toNanos(10);
+  private static final long SLOW_TASK_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final LongAdder tasks = new LongAdder();
+  private final LongAdder queueWaitNanos = new LongAdder();
+  private final LongAdder runNanos = new LongAdder();
+  private final LongAdder rejectedTasks = new LongAdder();
+  private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+  private final AtomicLong maxRunNanos = new AtomicLong();
+  private final AtomicLong lastSlowTaskLog = new AtomicLong(System.nanoTime() - SLOW_TASK_LOG_INTERVAL_NANOS);
+
+  void recordQueueWait(String poolName, String source, long nanos) {
+    queueWaitNanos.add(nanos);
+    maxQueueWaitNanos.accumulateAndGet(nanos, Math::max);
+    if (nanos >= SLOW_TASK_WAIT_NANOS) {
+      long now = System.nanoTime();
+      long last = lastSlowTaskLog.get();
+      if (now - last >= SLOW_TASK_LOG_INTERVAL_NANOS && lastSlowTaskLog.compareAndSet(last, now)) {
+        log.warn("Task {} waited {} ms in the queue of thread pool {}", source, TimeUnit.NANOSECONDS.toMillis(nanos),
+            poolName);
+      }
+    }
+  }
+
+  void recordRun(long nanos) {
+    tasks.increment();
+    runNanos.add(nanos);
+    maxRunNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  void recordRejection() {
+    rejectedTasks.increment();
+  }
+
+  Snapshot snapshotAndReset(String poolName, ScalingThreadPoolExecutor executor) {
+    long completed = tasks.sumThenReset();
+    return Snapshot.builder()
+        .poolName(poolName)
+        .tasks(completed)
+        .meanQueueWaitMillis(mean(queueWaitNanos.sumThenReset(), completed))
+        .maxQueueWaitMillis(toMillis(maxQueueWaitNanos.getAndSet(0)))
+        .meanRunMillis(mean(runNanos.sumThenReset(), completed))
+        .maxRunMillis(toMillis(maxRunNanos.getAndSet(0)))
+        .rejectedTasks(rejectedTasks.sumThenReset())
+        .queueDepth(executor.getQueue().size())
+        .activeThreads(executor.getActiveCount())
+        .poolSize(executor.getPoolSize())
+        .build();
+  }
+
+  private static double mean(long nanos, long count) {
+    return count == 0 ? 0 : toMillis(nanos) / count;
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  @Value
+  @Builder
+  public static class Snapshot {
+    String poolName;
+    long tasks;
+    double meanQueueWaitMillis;
+    double maxQueueWaitMillis;
+    double meanRunMillis;
+    double maxRunMillis;
+    long rejectedTasks;
+    int queueDepth;
+    int activeThreads;
+    int poolSize;
+  }
+}
@@ -31,6 +31,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -324,6 +329,133 @@ public class ConstraintTest extends CategoryTest {
     assertThat(consumerIds).isEmpty();
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRegisterConsumerWithLedger()
+      throws UnableToSaveConstraintException, InvalidPermitsException, UnableToRegisterConsumerException,
+             PermanentlyBlockedConsumerException {
+    ConstraintRegistry fifoRegistry = new InprocConstraintRegistry();
+    Constraint fifo =
+        Constraint.create(id, Spec.builder().strategy(Strategy.FIFO).limits(10).build(), fifoRegistry);
+    assertThat(fifo.registerConsumer(unit1, consumer1, 5, ledgerContext(), fifoRegistry)).isEqualTo(ACTIVE);
+    assertThat(fifo.registerConsumer(unit1, consumer2, 8, ledgerContext(), fifoRegistry)).isEqualTo(BLOCKED);
+    // There are permits for it, but it is not allowed to get ahead of the blocked one
+    assertThat(fifo.registerConsumer(unit1, consumer3, 2, ledgerContext(), fifoRegistry)).isEqualTo(BLOCKED);
+
+    assertThat(fifo.runnableConsumers(unit1, fifoRegistry).getConsumerIds()).isEmpty();
+    assertThat(fifo.consumerFinished(unit1, consumer1, fifoRegistry)).isTrue();
+    assertThat(fifo.runnableConsumers(unit1, fifoRegistry).getConsumerIds()).containsExactly(consumer2, consumer3);
+    assertThat(fifo.consumerUnblocked(unit1, consumer2, null, fifoRegistry)).isTrue();
+    assertThat(fifo.consumerUnblocked(unit1, consumer3, null, fifoRegistry)).isTrue();
+    assertThat(fifo.registerConsumer(unit1, consumer4, 1, ledgerContext(), fifoRegistry)).isEqualTo(BLOCKED);
+
+    ConstraintRegistry asapRegistry = new InprocConstraintRegistry();
+    Constraint asap =
+        Constraint.create(id, Spec.builder().strategy(Strategy.ASAP).limits(10).build(), asapRegistry);
+    assertThat(asap.registerConsumer(unit1, consumer1, 5, ledgerContext(), asapRegistry)).isEqualTo(ACTIVE);
+    assertThat(asap.registerConsumer(unit1, consumer2, 8, ledgerContext(), asapRegistry)).isEqualTo(BLOCKED);
+    assertThat(asap.registerConsumer(unit1, consumer3, 2, ledgerContext(), asapRegistry)).isEqualTo(ACTIVE);
+    // The ledger does not let a consumer run without the permits for it
+    assertThat(asap.consumerUnblocked(unit1, consumer2, null, asapRegistry)).isFalse();
+    assertThat(asap.consumerFinished(unit1, consumer1, asapRegistry)).isTrue();
+    assertThat(asap.consumerUnblocked(unit1, consumer2, null, asapRegistry)).isTrue();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRegisterConsumerWithLedgerMaxQueue()
+      throws UnableToSaveConstraintException, InvalidPermitsException, UnableToRegisterConsumerException,
+             PermanentlyBlockedConsumerException {
+    ConstraintRegistry registry = new InprocConstraintRegistry();
+    Map<String, Object> constraintContext = ledgerContext();
+    constraintContext.put("RESOURCE_CONSTRAINT_MAX_QUEUE", true);
+
+    Constraint constraint = Constraint.create(id, Spec.builder().strategy(Strategy.FIFO).limits(10).build(), registry);
+    assertThat(constraint.registerConsumer(unit1, consumer1, 10, constraintContext, registry)).isEqualTo(ACTIVE);
+    for (int i = 0; i < Constraint.MAX_CONSUMERS_WAITING_FOR_RESOURCE; i++) {
+      assertThat(constraint.registerConsumer(unit1, new ConsumerId("c" + i), 1, constraintContext, registry))
+          .isEqualTo(BLOCKED);
+    }
+    assertThat(constraint.registerConsumer(unit1, consumer2, 1, constraintContext, registry)).isEqualTo(REJECTED);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testConcurrentConsumersWithLedger() throws UnableToSaveConstraintException {
+    for (Strategy strategy : Strategy.values()) {
+      final int limits = 10;
+      final int registeringThreads = 4;
+      final int consumersPerThread = 50;
+      final int consumerCount = registeringThreads * consumersPerThread;
+
+      ConstraintRegistry registry = new InprocConstraintRegistry();
+      Constraint constraint =
+          Constraint.create(id, Spec.builder().strategy(strategy).limits(limits).build(), registry);
+
+      Map<ConsumerId, Integer> permits = new ConcurrentHashMap<>();
+      Queue<ConsumerId> active = new ConcurrentLinkedQueue<>();
+      AtomicInteger inUse = new AtomicInteger();
+      AtomicInteger maxInUse = new AtomicInteger();
+      AtomicInteger finished = new AtomicInteger();
+      AtomicBoolean failed = new AtomicBoolean();
+
+      Concurrent.test(registeringThreads + 2, i -> {
+        if (i < registeringThreads) {
+          for (int j = 0; j < consumersPerThread; j++) {
+            ConsumerId consumerId = new ConsumerId(i + "-" + j);
+            permits.put(consumerId, random.nextInt(5) + 1);
+            try {
+              if (constraint.registerConsumer(unit1, consumerId, permits.get(consumerId), ledgerContext(), registry)
+                  == ACTIVE) {
+                maxInUse.accumulateAndGet(inUse.addAndGet(permits.get(consumerId)), Math::max);
+                active.add(consumerId);
+              }
+            } catch (InvalidPermitsException | UnableToRegisterConsumerException
+                | PermanentlyBlockedConsumerException e) {
+              failed.set(true);
+            }
+          }
+        } else if (i == registeringThreads) {
+          while (finished.get() < consumerCount && !failed.get()) {
+            ConsumerId consumerId = active.poll();
+            if (consumerId == null) {
+              continue;
+            }
+            // Released before finishing, so the count never runs behind the permits really in use
+            inUse.addAndGet(-permits.get(consumerId));
+            if (!constraint.consumerFinished(unit1, consumerId, registry)) {
+              failed.set(true);
+            }
+            finished.incrementAndGet();
+          }
+        } else {
+          while (finished.get() < consumerCount && !failed.get()) {
+            for (ConsumerId consumerId : constraint.runnableConsumers(unit1, registry).getConsumerIds()) {
+              if (!constraint.consumerUnblocked(unit1, consumerId, null, registry)) {
+                break;
+              }
+              maxInUse.accumulateAndGet(inUse.addAndGet(permits.get(consumerId)), Math::max);
+              active.add(consumerId);
+            }
+          }
+        }
+      });
+
+      assertThat(failed.get()).isFalse();
+      assertThat(maxInUse.get()).isLessThanOrEqualTo(limits);
+      assertThat(registry.loadConsumers(id, unit1)).hasSize(consumerCount).allMatch(c -> c.getState() == FINISHED);
+    }
+  }
+
+  private Map<String, Object> ledgerContext() {
+    Map<String, Object> context = new HashMap<>();
+    context.put(ConstraintLedger.LEDGER_MODE, true);
+    return context;
+  }
+
   private Consumer createConsumer(String id, String releaseEntityType, String releaseEntityId) {
     return Consumer.builder().id(new ConsumerId(id)).context(createContext(releaseEntityType, releaseEntityId)).build();
   }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.text.StrLookup;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ExpressionTemplateTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCompile() {
+    assertThat(ExpressionTemplate.compile(null)).isNull();
+    assertThat(ExpressionTemplate.compile("echo ${a} ${b.c}")).isNotNull();
+    assertThat(ExpressionTemplate.compile("echo ${a} ${b.c}")).isSameAs(ExpressionTemplate.compile("echo ${a} ${b.c}"));
+    assertThat(ExpressionTemplate.compile("no variables").hasVariables()).isFalse();
+    assertThat(ExpressionTemplate.compile("echo ${a").hasVariables()).isFalse();
+
+    // Escaped, nested and empty variables are left to the substitutor
+    assertThat(ExpressionTemplate.compile("echo $${a}")).isNull();
+    assertThat(ExpressionTemplate.compile("echo ${${a}.b}")).isNull();
+    assertThat(ExpressionTemplate.compile("echo ${}")).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRenderLooksUpVariablesInOrder() {
+    List<String> lookups = new ArrayList<>();
+    StrLookup<Object> variableResolver = new StrLookup<Object>() {
+      @Override
+      public String lookup(String key) {
+        lookups.add(key);
+        return key.equals("missing") ? null : key.toUpperCase();
+      }
+    };
+
+    assertThat(ExpressionTemplate.compile("a=${a}, b=${b}, ${missing}, ${a} $ {c} ${d")
+                   .render(variableResolver, name -> "<" + name + ">"))
+        .isEqualTo("a=<A>, b=<B>, ${missing}, <A> $ {c} ${d");
+    assertThat(lookups).containsExactly("a", "b", "missing", "a");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSubstituteWithCompiledTemplate() {
+    ExpressionEvaluator expressionEvaluator = new ExpressionEvaluator();
+    VariableResolverTracker tracker = new VariableResolverTracker();
+    Map<String, Object> context = ImmutableMap.<String, Object>builder()
+                                      .put("a", "1")
+                                      .put("b", "${a}-${a}")
+                                      .put("secret", SecretString.builder().value("password").build())
+                                      .put("path", "C:\\dir\\$HOME")
+                                      .build();
+
+    String template = "echo ${a} ${b} ${unknown} ${path} ${secret}";
+    for (int i = 0; i < 2; i++) {
+      assertThat(expressionEvaluator.substitute(template, context, tracker))
+          .isEqualTo("echo 1 1-1 ${unknown} C:\\dir\\$HOME password");
+      assertThat(expressionEvaluator.substituteSecured(template, context, null, null))
+          .isEqualTo("echo 1 1-1 ${unknown} C:\\dir\\$HOME " + SecretString.SECRET_MASK);
+    }
+    assertThat(tracker.getUsage().get("a")).containsEntry("1", 6);
+    assertThat(tracker.getUsage().get("secret")).containsOnlyKeys("***");
+  }
+}
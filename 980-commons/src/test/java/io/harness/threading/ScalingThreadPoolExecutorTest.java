@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.threading;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+import static io.harness.threading.Morpheus.sleep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ScalingThreadPoolExecutorTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testStats() throws Exception {
+    ThreadPoolExecutor executor = ThreadPool.create(1, 1, 1, TimeUnit.SECONDS,
+        new ThreadFactoryBuilder().setNameFormat("test-pool-stats-%d").build(), -1, new ForceQueuePolicy(),
+        "test-pool-stats");
+    try {
+      CountDownLatch latch = new CountDownLatch(1);
+      executor.execute(() -> await(latch));
+      // The only thread is busy, so this one is force queued, which is not a rejection
+      Future<Integer> future = executor.submit(() -> 42);
+      sleep(Duration.ofMillis(50));
+      latch.countDown();
+      assertThat(future.get()).isEqualTo(42);
+      while (executor.getCompletedTaskCount() < 2) {
+        sleep(Duration.ofMillis(5));
+      }
+
+      ThreadPoolStats.Snapshot snapshot = getSnapshot("test-pool-stats");
+      assertThat(snapshot.getTasks()).isEqualTo(2);
+      assertThat(snapshot.getRejectedTasks()).isEqualTo(0);
+      assertThat(snapshot.getMaxQueueWaitMillis()).isGreaterThanOrEqualTo(50);
+      assertThat(snapshot.getMaxRunMillis()).isGreaterThanOrEqualTo(50);
+      assertThat(snapshot.getQueueDepth()).isEqualTo(0);
+      assertThat(snapshot.getPoolSize()).isEqualTo(1);
+
+      assertThat(getSnapshot("test-pool-stats").getTasks()).isEqualTo(0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRejectionsOfDefaultPolicy() {
+    ThreadPoolExecutor executor = new ScalingThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(1), Executors.defaultThreadFactory(), "test-pool-rejections");
+    CountDownLatch latch = new CountDownLatch(1);
+    try {
+      assertThat(executor.getRejectedExecutionHandler()).isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+      executor.execute(() -> await(latch));
+      executor.execute(() -> {});
+      assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+
+      assertThat(getSnapshot("test-pool-rejections").getRejectedTasks()).isEqualTo(1);
+    } finally {
+      latch.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testQueuedTasksAreUnwrapped() {
+    ThreadPoolExecutor executor = new ScalingThreadPoolExecutor(
+        1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), Executors.defaultThreadFactory());
+    CountDownLatch latch = new CountDownLatch(1);
+    try {
+      executor.execute(() -> await(latch));
+      Runnable removed = () -> {};
+      Runnable pending = () -> {};
+      executor.execute(removed);
+      executor.execute(pending);
+
+      assertThat(executor.remove(removed)).isTrue();
+      assertThat(executor.getQueue()).hasSize(1);
+      assertThat(executor.shutdownNow()).containsExactly(pending);
+    } finally {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDefaultPoolNames() {
+    ThreadPoolExecutor first = ThreadPool.create(
+        1, 1, 1, TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("test-pool-default-%d").build());
+    ThreadPoolExecutor second = ThreadPool.create(
+        1, 1, 1, TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("test-pool-default-%d").build());
+    try {
+      assertThat(getSnapshot("test-pool-default")).isNotNull();
+      assertThat(getSnapshot("test-pool-default-2")).isNotNull();
+    } finally {
+      first.shutdownNow();
+      second.shutdownNow();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static ThreadPoolStats.Snapshot getSnapshot(String poolName) {
+    return ScalingThreadPoolExecutor.snapshotAndResetAll()
+        .stream()
+        .filter(snapshot -> snapshot.getPoolName().equals(poolName))
+        .findFirst()
+        .orElse(null);
+  }
+}
@@ -11,11 +11,24 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.beans.AuditEntry;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
 import io.harness.audit.beans.AuthenticationInfoDTO;
 import io.harness.context.GlobalContext;
 
+import java.util.List;
+
 @OwnedBy(PL)
 public interface AuditClientService {
+  /**
+   * Hands the entry to the batch publisher, which sends it to the audit service with the next batch. Returns false when
+   * the publisher is saturated and the entry should be published again later.
+   */
   boolean publishAudit(AuditEntry auditEntry, GlobalContext globalContext);
   boolean publishAudit(AuditEntry auditEntry, AuthenticationInfoDTO authenticationInfo, GlobalContext globalContext);
+
+  /**
+   * Publishes the entries with one request. Entries whose insert ids come back in failedInsertIds were not saved, when
+   * the result is throttled the audit service is saturated and the entries should be published again later.
+   */
+  AuditEventBatchResultDTO publishAudits(List<AuditEntry> auditEntries, GlobalContext globalContext);
 }
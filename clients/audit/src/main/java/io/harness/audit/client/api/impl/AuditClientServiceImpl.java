@@ -18,6 +18,7 @@ import static io.harness.security.PrincipalContextData.PRINCIPAL_CONTEXT;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.beans.AuditEntry;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
 import io.harness.audit.beans.AuditEventDTO;
 import io.harness.audit.beans.AuditEventDTO.AuditEventDTOBuilder;
 import io.harness.audit.beans.AuthenticationInfoDTO;
@@ -36,28 +37,40 @@ import io.harness.security.dto.ServicePrincipal;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @OwnedBy(PL)
 public class AuditClientServiceImpl implements AuditClientService {
   private final AuditClient auditClient;
+  private final AuditEventBatchPublisher auditEventBatchPublisher;
 
   @Inject
-  public AuditClientServiceImpl(AuditClient auditClient) {
+  public AuditClientServiceImpl(AuditClient auditClient, AuditEventBatchPublisher auditEventBatchPublisher) {
     this.auditClient = auditClient;
+    this.auditEventBatchPublisher = auditEventBatchPublisher;
   }
 
   public boolean publishAudit(AuditEntry auditEntry, GlobalContext globalContext) {
     AuditEventDTO auditEventDTO = getAuditEventDTO(auditEntry, globalContext, null);
-    return getResponse(auditClient.createAudit(auditEventDTO));
+    return auditEventBatchPublisher.offer(auditEventDTO);
   }
 
   @Override
   public boolean publishAudit(
       AuditEntry auditEntry, AuthenticationInfoDTO authenticationInfo, GlobalContext globalContext) {
     AuditEventDTO auditEventDTO = getAuditEventDTO(auditEntry, globalContext, authenticationInfo);
-    return getResponse(auditClient.createAudit(auditEventDTO));
+    return auditEventBatchPublisher.offer(auditEventDTO);
+  }
+
+  @Override
+  public AuditEventBatchResultDTO publishAudits(List<AuditEntry> auditEntries, GlobalContext globalContext) {
+    List<AuditEventDTO> auditEventDTOs = auditEntries.stream()
+                                             .map(auditEntry -> getAuditEventDTO(auditEntry, globalContext, null))
+                                             .collect(Collectors.toList());
+    return getResponse(auditClient.createAudits(auditEventDTOs));
   }
 
   private AuditEventDTO getAuditEventDTO(
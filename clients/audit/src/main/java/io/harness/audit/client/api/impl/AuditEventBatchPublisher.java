@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.client.api.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.remote.client.NGRestUtils.getResponse;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
+import io.harness.audit.beans.AuditEventDTO;
+import io.harness.audit.client.remote.AuditClient;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers audit events and sends them to the audit service in batches, so that every audited operation no longer costs
+ * a request and a transaction of its own. Events the service did not save are sent again with the next batch, a
+ * throttled batch is sent again after an exponential back off. Once the buffer is full, offer returns false and the
+ * caller keeps the event, the outbox retries it later.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(PL)
+public class AuditEventBatchPublisher {
+  @VisibleForTesting static final int MAX_BATCH_SIZE = 1000;
+  @VisibleForTesting static final int MAX_ATTEMPTS = 5;
+  private static final int MAX_BUFFERED_EVENTS = 10000;
+  private static final long FLUSH_INTERVAL_MILLIS = 200;
+  private static final long MAX_BACKOFF_MILLIS = 30000;
+
+  private final AuditClient auditClient;
+  private final ScheduledExecutorService executorService;
+  private final BlockingQueue<PendingAuditEvent> buffer = new LinkedBlockingQueue<>(MAX_BUFFERED_EVENTS);
+  // Only touched by the flushing thread
+  private final Deque<PendingAuditEvent> retries = new ArrayDeque<>();
+  private long backoffMillis;
+
+  @Inject
+  public AuditEventBatchPublisher(AuditClient auditClient) {
+    this(auditClient,
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("audit-batch-publisher-%d").setDaemon(true).build()));
+    executorService.schedule(this::flushAndReschedule, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+  }
+
+  @VisibleForTesting
+  AuditEventBatchPublisher(AuditClient auditClient, ScheduledExecutorService executorService) {
+    this.auditClient = auditClient;
+    this.executorService = executorService;
+  }
+
+  public boolean offer(AuditEventDTO auditEventDTO) {
+    boolean accepted = buffer.offer(new PendingAuditEvent(auditEventDTO));
+    if (!accepted) {
+      log.warn("Audit event buffer is full, audit event with insertId [{}] is left to the caller to retry",
+          auditEventDTO.getInsertId());
+    }
+    return accepted;
+  }
+
+  private void flushAndReschedule() {
+    long delayMillis = FLUSH_INTERVAL_MILLIS;
+    try {
+      if (!flush()) {
+        backoffMillis = Math.min(MAX_BACKOFF_MILLIS, Math.max(FLUSH_INTERVAL_MILLIS, backoffMillis * 2));
+        delayMillis = backoffMillis;
+      } else {
+        backoffMillis = 0;
+      }
+    } catch (Exception e) {
+      log.error("Unexpected error while flushing audit events", e);
+    }
+    if (!executorService.isShutdown()) {
+      executorService.schedule(this::flushAndReschedule, delayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Sends the retried and buffered events, at most one batch. Returns false when the audit service throttled the
+   * batch or could not be reached, the caller should back off before the next flush.
+   */
+  @VisibleForTesting
+  boolean flush() {
+    List<PendingAuditEvent> batch = new ArrayList<>();
+    while (batch.size() < MAX_BATCH_SIZE && !retries.isEmpty()) {
+      batch.add(retries.poll());
+    }
+    buffer.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+    if (batch.isEmpty()) {
+      return true;
+    }
+
+    List<AuditEventDTO> auditEventDTOs = new ArrayList<>(batch.size());
+    for (PendingAuditEvent pendingAuditEvent : batch) {
+      auditEventDTOs.add(pendingAuditEvent.auditEventDTO);
+    }
+    AuditEventBatchResultDTO result;
+    try {
+      result = getResponse(auditClient.createAudits(auditEventDTOs));
+    } catch (Exception e) {
+      log.warn("Failed to publish a batch of {} audit events, retrying them", batch.size(), e);
+      retry(batch);
+      return false;
+    }
+
+    if (result.isThrottled()) {
+      // A throttled batch was not looked at, so it does not use up an attempt
+      retries.addAll(batch);
+      return false;
+    }
+    if (result.getFailedInsertIds() != null && !result.getFailedInsertIds().isEmpty()) {
+      Set<String> failedInsertIds = new HashSet<>(result.getFailedInsertIds());
+      List<PendingAuditEvent> failed = new ArrayList<>();
+      for (PendingAuditEvent pendingAuditEvent : batch) {
+        if (failedInsertIds.contains(pendingAuditEvent.auditEventDTO.getInsertId())) {
+          failed.add(pendingAuditEvent);
+        }
+      }
+      retry(failed);
+    }
+    return true;
+  }
+
+  private void retry(List<PendingAuditEvent> pendingAuditEvents) {
+    for (PendingAuditEvent pendingAuditEvent : pendingAuditEvents) {
+      if (++pendingAuditEvent.attempts < MAX_ATTEMPTS) {
+        retries.add(pendingAuditEvent);
+      } else {
+        log.error("[AUDIT_ERROR]: Dropping audit event with insertId [{}] after {} attempts",
+            pendingAuditEvent.auditEventDTO.getInsertId(), pendingAuditEvent.attempts);
+      }
+    }
+  }
+
+  // Sends what is still buffered once more, events that fail now are lost with the pod
+  private void shutdown() {
+    executorService.shutdownNow();
+    try {
+      if (executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+        while ((!buffer.isEmpty() || !retries.isEmpty()) && flush()) {
+          // keep sending until everything is out or the audit service pushes back
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!buffer.isEmpty() || !retries.isEmpty()) {
+      log.error("[AUDIT_ERROR]: {} audit events were not published before shutdown", buffer.size() + retries.size());
+    }
+  }
+
+  private static class PendingAuditEvent {
+    private final AuditEventDTO auditEventDTO;
+    private int attempts;
+
+    PendingAuditEvent(AuditEventDTO auditEventDTO) {
+      this.auditEventDTO = auditEventDTO;
+    }
+  }
+}
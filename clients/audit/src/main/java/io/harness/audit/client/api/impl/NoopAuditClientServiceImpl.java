@@ -11,10 +11,14 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.beans.AuditEntry;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
 import io.harness.audit.beans.AuthenticationInfoDTO;
 import io.harness.audit.client.api.AuditClientService;
 import io.harness.context.GlobalContext;
 
+import java.util.Collections;
+import java.util.List;
+
 @OwnedBy(PL)
 public class NoopAuditClientServiceImpl implements AuditClientService {
   public boolean publishAudit(AuditEntry auditEntry, GlobalContext globalContext) {
@@ -26,4 +30,9 @@ public class NoopAuditClientServiceImpl implements AuditClientService {
       AuditEntry auditEntry, AuthenticationInfoDTO authenticationInfo, GlobalContext globalContext) {
     return true;
   }
+
+  @Override
+  public AuditEventBatchResultDTO publishAudits(List<AuditEntry> auditEntries, GlobalContext globalContext) {
+    return AuditEventBatchResultDTO.builder().failedInsertIds(Collections.emptyList()).throttled(false).build();
+  }
 }
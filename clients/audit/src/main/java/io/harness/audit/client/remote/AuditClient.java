@@ -10,9 +10,11 @@ package io.harness.audit.client.remote;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
 import io.harness.audit.beans.AuditEventDTO;
 import io.harness.ng.core.dto.ResponseDTO;
 
+import java.util.List;
 import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.POST;
@@ -21,5 +23,10 @@ import retrofit2.http.POST;
 public interface AuditClient {
   String AUDITS_API = "audits";
 
+  String AUDITS_BATCH_API = "audits/batch";
+
   @POST(AUDITS_API) Call<ResponseDTO<Boolean>> createAudit(@Body AuditEventDTO auditEventDTO);
+
+  @POST(AUDITS_BATCH_API)
+  Call<ResponseDTO<AuditEventBatchResultDTO>> createAudits(@Body List<AuditEventDTO> auditEventDTOs);
 }
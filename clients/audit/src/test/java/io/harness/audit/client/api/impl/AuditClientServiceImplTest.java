@@ -16,6 +16,7 @@ import static java.util.Collections.singletonMap;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -29,6 +30,7 @@ import io.harness.ModuleType;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.Action;
 import io.harness.audit.beans.AuditEntry;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
 import io.harness.audit.beans.AuditEventDTO;
 import io.harness.audit.beans.AuthenticationInfoDTO;
 import io.harness.audit.beans.PrincipalType;
@@ -44,6 +46,9 @@ import io.harness.security.PrincipalContextData;
 import io.harness.security.dto.UserPrincipal;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -54,12 +59,14 @@ import retrofit2.Response;
 @OwnedBy(PL)
 public class AuditClientServiceImplTest extends CategoryTest {
   private AuditClient auditClient;
+  private AuditEventBatchPublisher auditEventBatchPublisher;
   private AuditClientServiceImpl auditClientService;
 
   @Before
   public void setup() {
     auditClient = mock(AuditClient.class, RETURNS_DEEP_STUBS);
-    auditClientService = new AuditClientServiceImpl(auditClient);
+    auditEventBatchPublisher = new AuditEventBatchPublisher(auditClient, mock(ScheduledExecutorService.class));
+    auditClientService = new AuditClientServiceImpl(auditClient, auditEventBatchPublisher);
   }
 
   private AuditEntry getAuditEntry() {
@@ -93,9 +100,9 @@ public class AuditClientServiceImplTest extends CategoryTest {
         MdcGlobalContextData.builder().map(singletonMap(getCorrelationIdKey(), randomAlphabetic(10))).build();
     globalContext.upsertGlobalContextRecord(mdcGlobalContextData);
 
-    final ArgumentCaptor<AuditEventDTO> auditEventDTOArgumentCaptor = ArgumentCaptor.forClass(AuditEventDTO.class);
+    final ArgumentCaptor<List<AuditEventDTO>> auditEventDTOArgumentCaptor = ArgumentCaptor.forClass(List.class);
     verifyMethodInvocation(auditEventDTOArgumentCaptor, auditEntry, globalContext);
-    AuditEventDTO auditEventDTO = auditEventDTOArgumentCaptor.getValue();
+    AuditEventDTO auditEventDTO = auditEventDTOArgumentCaptor.getValue().get(0);
 
     assertAuditEventDTO(auditEntry, auditEventDTO);
     assertNotNull(auditEventDTO.getAuthenticationInfo());
@@ -115,9 +122,9 @@ public class AuditClientServiceImplTest extends CategoryTest {
   public void testPublishAuditWithNullGlobalContext() throws IOException {
     AuditEntry auditEntry = getAuditEntry();
 
-    final ArgumentCaptor<AuditEventDTO> auditEventDTOArgumentCaptor = ArgumentCaptor.forClass(AuditEventDTO.class);
+    final ArgumentCaptor<List<AuditEventDTO>> auditEventDTOArgumentCaptor = ArgumentCaptor.forClass(List.class);
     verifyMethodInvocation(auditEventDTOArgumentCaptor, auditEntry, null);
-    AuditEventDTO auditEventDTO = auditEventDTOArgumentCaptor.getValue();
+    AuditEventDTO auditEventDTO = auditEventDTOArgumentCaptor.getValue().get(0);
 
     assertAuditEventDTO(auditEntry, auditEventDTO);
   }
@@ -137,9 +144,9 @@ public class AuditClientServiceImplTest extends CategoryTest {
         MdcGlobalContextData.builder().map(singletonMap(getCorrelationIdKey(), randomAlphabetic(10))).build();
     globalContext.upsertGlobalContextRecord(mdcGlobalContextData);
 
-    final ArgumentCaptor<AuditEventDTO> auditEventDTOArgumentCaptor = ArgumentCaptor.forClass(AuditEventDTO.class);
+    final ArgumentCaptor<List<AuditEventDTO>> auditEventDTOArgumentCaptor = ArgumentCaptor.forClass(List.class);
     verifyMethodInvocation(auditEventDTOArgumentCaptor, auditEntry, globalContext, authenticationInfoDTO);
-    AuditEventDTO auditEventDTO = auditEventDTOArgumentCaptor.getValue();
+    AuditEventDTO auditEventDTO = auditEventDTOArgumentCaptor.getValue().get(0);
 
     assertAuditEventDTO(auditEntry, auditEventDTO);
     assertNotNull(auditEventDTO.getAuthenticationInfo());
@@ -163,29 +170,33 @@ public class AuditClientServiceImplTest extends CategoryTest {
     assertNull(auditEventDTO.getAuditEventData());
   }
 
-  private void verifyMethodInvocation(ArgumentCaptor<AuditEventDTO> auditEventDTOArgumentCaptor, AuditEntry auditEntry,
-      GlobalContext globalContext) throws IOException {
-    ResponseDTO<Boolean> restResponse = ResponseDTO.newResponse(true);
-    Response<ResponseDTO<Boolean>> response = Response.success(restResponse);
-    Call<ResponseDTO<Boolean>> responseDTOCall = mock(Call.class);
-    when(auditClient.createAudit(any())).thenReturn(responseDTOCall);
-    when(responseDTOCall.execute()).thenReturn(response);
+  private void verifyMethodInvocation(ArgumentCaptor<List<AuditEventDTO>> auditEventDTOArgumentCaptor,
+      AuditEntry auditEntry, GlobalContext globalContext) throws IOException {
+    mockCreateAudits();
 
-    auditClientService.publishAudit(auditEntry, globalContext);
+    assertTrue(auditClientService.publishAudit(auditEntry, globalContext));
+    auditEventBatchPublisher.flush();
 
-    verify(auditClient, times(1)).createAudit(auditEventDTOArgumentCaptor.capture());
+    verify(auditClient, times(1)).createAudits(auditEventDTOArgumentCaptor.capture());
   }
 
-  private void verifyMethodInvocation(ArgumentCaptor<AuditEventDTO> auditEventDTOArgumentCaptor, AuditEntry auditEntry,
-      GlobalContext globalContext, AuthenticationInfoDTO authenticationInfoDTO) throws IOException {
-    ResponseDTO<Boolean> restResponse = ResponseDTO.newResponse(true);
-    Response<ResponseDTO<Boolean>> response = Response.success(restResponse);
-    Call<ResponseDTO<Boolean>> responseDTOCall = mock(Call.class);
-    when(auditClient.createAudit(any())).thenReturn(responseDTOCall);
-    when(responseDTOCall.execute()).thenReturn(response);
+  private void verifyMethodInvocation(ArgumentCaptor<List<AuditEventDTO>> auditEventDTOArgumentCaptor,
+      AuditEntry auditEntry, GlobalContext globalContext, AuthenticationInfoDTO authenticationInfoDTO)
+      throws IOException {
+    mockCreateAudits();
 
-    auditClientService.publishAudit(auditEntry, authenticationInfoDTO, globalContext);
+    assertTrue(auditClientService.publishAudit(auditEntry, authenticationInfoDTO, globalContext));
+    auditEventBatchPublisher.flush();
 
-    verify(auditClient, times(1)).createAudit(auditEventDTOArgumentCaptor.capture());
+    verify(auditClient, times(1)).createAudits(auditEventDTOArgumentCaptor.capture());
+  }
+
+  private void mockCreateAudits() throws IOException {
+    ResponseDTO<AuditEventBatchResultDTO> restResponse = ResponseDTO.newResponse(
+        AuditEventBatchResultDTO.builder().failedInsertIds(Collections.emptyList()).throttled(false).build());
+    Response<ResponseDTO<AuditEventBatchResultDTO>> response = Response.success(restResponse);
+    Call<ResponseDTO<AuditEventBatchResultDTO>> responseDTOCall = mock(Call.class);
+    when(auditClient.createAudits(any())).thenReturn(responseDTOCall);
+    when(responseDTOCall.execute()).thenReturn(response);
   }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.client.api.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
+import io.harness.audit.beans.AuditEventDTO;
+import io.harness.audit.client.remote.AuditClient;
+import io.harness.category.element.UnitTests;
+import io.harness.ng.core.dto.ResponseDTO;
+import io.harness.rule.Owner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import retrofit2.Call;
+import retrofit2.Response;
+
+@OwnedBy(PL)
+public class AuditEventBatchPublisherTest extends CategoryTest {
+  private AuditClient auditClient;
+  private AuditEventBatchPublisher auditEventBatchPublisher;
+
+  @Before
+  public void setup() {
+    auditClient = mock(AuditClient.class);
+    auditEventBatchPublisher = new AuditEventBatchPublisher(auditClient, mock(ScheduledExecutorService.class));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testFlushSendsAtMostOneBatch() throws IOException {
+    mockCreateAudits(result(false));
+    for (int i = 0; i < AuditEventBatchPublisher.MAX_BATCH_SIZE + 1; i++) {
+      assertThat(auditEventBatchPublisher.offer(auditEvent(String.valueOf(i)))).isTrue();
+    }
+
+    assertThat(auditEventBatchPublisher.flush()).isTrue();
+    assertThat(auditEventBatchPublisher.flush()).isTrue();
+
+    List<List<String>> sent = sentInsertIds(2);
+    assertThat(sent.get(0)).hasSize(AuditEventBatchPublisher.MAX_BATCH_SIZE);
+    assertThat(sent.get(1)).containsExactly(String.valueOf(AuditEventBatchPublisher.MAX_BATCH_SIZE));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testFailedEventsAreSentAgain() throws IOException {
+    mockCreateAudits(result(false, "b"), result(false));
+    auditEventBatchPublisher.offer(auditEvent("a"));
+    auditEventBatchPublisher.offer(auditEvent("b"));
+
+    assertThat(auditEventBatchPublisher.flush()).isTrue();
+    assertThat(auditEventBatchPublisher.flush()).isTrue();
+
+    List<List<String>> sent = sentInsertIds(2);
+    assertThat(sent.get(0)).containsExactly("a", "b");
+    assertThat(sent.get(1)).containsExactly("b");
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testThrottledBatchBacksOffWithoutUsingAnAttempt() throws IOException {
+    AuditEventBatchResultDTO[] throttled = new AuditEventBatchResultDTO[AuditEventBatchPublisher.MAX_ATTEMPTS];
+    Arrays.fill(throttled, result(true, "a"));
+    mockCreateAudits(result(true, "a"), throttled);
+    auditEventBatchPublisher.offer(auditEvent("a"));
+
+    for (int i = 0; i <= AuditEventBatchPublisher.MAX_ATTEMPTS; i++) {
+      assertThat(auditEventBatchPublisher.flush()).isFalse();
+    }
+
+    assertThat(sentInsertIds(AuditEventBatchPublisher.MAX_ATTEMPTS + 1))
+        .allMatch(insertIds -> insertIds.equals(Collections.singletonList("a")));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testEventIsDroppedAfterMaxAttempts() throws IOException {
+    mockCreateAudits(result(false, "a"));
+    auditEventBatchPublisher.offer(auditEvent("a"));
+
+    for (int i = 0; i < AuditEventBatchPublisher.MAX_ATTEMPTS; i++) {
+      assertThat(auditEventBatchPublisher.flush()).isTrue();
+    }
+    assertThat(auditEventBatchPublisher.flush()).isTrue();
+
+    verify(auditClient, times(AuditEventBatchPublisher.MAX_ATTEMPTS)).createAudits(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testUnreachableServiceBacksOff() throws IOException {
+    Call<ResponseDTO<AuditEventBatchResultDTO>> call = mock(Call.class);
+    when(auditClient.createAudits(any())).thenReturn(call);
+    when(call.execute()).thenThrow(new IOException("connection refused"));
+    auditEventBatchPublisher.offer(auditEvent("a"));
+
+    assertThat(auditEventBatchPublisher.flush()).isFalse();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testEmptyFlushSendsNothing() {
+    assertThat(auditEventBatchPublisher.flush()).isTrue();
+
+    verify(auditClient, never()).createAudits(any());
+  }
+
+  private static AuditEventDTO auditEvent(String insertId) {
+    return AuditEventDTO.builder().insertId(insertId).build();
+  }
+
+  private static AuditEventBatchResultDTO result(boolean throttled, String... failedInsertIds) {
+    return AuditEventBatchResultDTO.builder()
+        .failedInsertIds(Arrays.asList(failedInsertIds))
+        .throttled(throttled)
+        .build();
+  }
+
+  private void mockCreateAudits(AuditEventBatchResultDTO first, AuditEventBatchResultDTO... rest) throws IOException {
+    Call<ResponseDTO<AuditEventBatchResultDTO>> call = mock(Call.class);
+    when(auditClient.createAudits(any())).thenReturn(call);
+    Response<ResponseDTO<AuditEventBatchResultDTO>>[] responses = new Response[rest.length];
+    for (int i = 0; i < rest.length; i++) {
+      responses[i] = Response.success(ResponseDTO.newResponse(rest[i]));
+    }
+    when(call.execute()).thenReturn(Response.success(ResponseDTO.newResponse(first)), responses);
+  }
+
+  private List<List<String>> sentInsertIds(int requests) {
+    ArgumentCaptor<List<AuditEventDTO>> captor = ArgumentCaptor.forClass(List.class);
+    verify(auditClient, times(requests)).createAudits(captor.capture());
+    return captor.getAllValues()
+        .stream()
+        .map(batch -> batch.stream().map(AuditEventDTO::getInsertId).collect(Collectors.toList()))
+        .collect(Collectors.toList());
+  }
+}
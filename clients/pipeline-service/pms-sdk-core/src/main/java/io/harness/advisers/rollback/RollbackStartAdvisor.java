@@ -27,6 +27,7 @@ import io.harness.serializer.KryoSerializer;
 import io.harness.steps.SectionStepSweepingOutput;
 
 import com.google.inject.Inject;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,11 +73,15 @@ public class RollbackStartAdvisor implements Adviser {
    * @return
    */
   private OnFailRollbackOutput getRollbackOutputV2(AdvisingEvent advisingEvent) {
-    OptionalSweepingOutput failedNodeSweepingOutput =
-        executionSweepingOutputService.resolveOptional(advisingEvent.getAmbiance(),
-            RefObjectUtils.getSweepingOutputRefObject(YAMLFieldNameConstants.FAILED_CHILDREN_OUTPUT));
+    // The rollback strategy is resolved along with the failed children so that the fallback costs no extra call
+    List<OptionalSweepingOutput> optionalSweepingOutputs =
+        executionSweepingOutputService.resolveOptionalMany(advisingEvent.getAmbiance(),
+            Arrays.asList(RefObjectUtils.getSweepingOutputRefObject(YAMLFieldNameConstants.FAILED_CHILDREN_OUTPUT),
+                RefObjectUtils.getSweepingOutputRefObject(YAMLFieldNameConstants.USE_ROLLBACK_STRATEGY)));
+    OptionalSweepingOutput failedNodeSweepingOutput = optionalSweepingOutputs.get(0);
     if (!failedNodeSweepingOutput.isFound()) {
-      return getRollbackOutput(advisingEvent);
+      OptionalSweepingOutput rollbackSweepingOutput = optionalSweepingOutputs.get(1);
+      return rollbackSweepingOutput.isFound() ? (OnFailRollbackOutput) rollbackSweepingOutput.getOutput() : null;
     }
     SectionStepSweepingOutput sectionStepSweepingOutput =
         (SectionStepSweepingOutput) failedNodeSweepingOutput.getOutput();
@@ -93,14 +98,4 @@ public class RollbackStartAdvisor implements Adviser {
         .map(optionalSweepingOutput -> (OnFailRollbackOutput) (optionalSweepingOutput.getOutput()))
         .orElse(null);
   }
-
-  private OnFailRollbackOutput getRollbackOutput(AdvisingEvent advisingEvent) {
-    OptionalSweepingOutput optionalSweepingOutput =
-        executionSweepingOutputService.resolveOptional(advisingEvent.getAmbiance(),
-            RefObjectUtils.getSweepingOutputRefObject(YAMLFieldNameConstants.USE_ROLLBACK_STRATEGY));
-    if (!optionalSweepingOutput.isFound()) {
-      return null;
-    }
-    return (OnFailRollbackOutput) optionalSweepingOutput.getOutput();
-  }
 }
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.plancreator.strategy;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.expression.EngineExpressionEvaluator;
+import io.harness.expression.common.ExpressionMode;
+import io.harness.serializer.JsonUtils;
+import io.harness.yaml.utils.JsonPipelineUtils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A node with a looping strategy compiled once, so that it can be expanded for every iteration without serializing and
+ * parsing the whole node again.
+ *
+ * Compiling records every field name and text value with an expression. Expanding an iteration resolves only those,
+ * and objects and arrays without any expression below them are shared between all the expanded nodes. Expanded nodes
+ * must therefore be treated as read only below their root, which is the only node modified after expansion. Expressions
+ * that do not refer to the strategy resolve the same way in every iteration and are resolved once while compiling.
+ *
+ * Every expression is resolved in its json encoded form and parsed back, which is exactly what resolving the node as a
+ * single json string did. If a resolved value does not parse on its own, or an expression might span several values,
+ * the whole node is resolved as a json string instead so that the result stays the same.
+ */
+@Slf4j
+@OwnedBy(PIPELINE)
+public class StrategyExpansionTemplate {
+  private static final String EXPRESSION_PREFIX = "<+";
+  private static final String EXPRESSION_SUFFIX = ">";
+  private static final List<String> STRATEGY_REFERENCES = Arrays.asList(
+      StrategyConstants.STRATEGY, StrategyConstants.MATRIX, StrategyConstants.STEP, StrategyConstants.REPEAT);
+  private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+  private static final ObjectReader VALUE_READER = JsonPipelineUtils.getMapper().readerFor(JsonNode.class).with(
+      DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+  private final String sourceJson;
+  private final ObjectTemplate rootTemplate;
+
+  private StrategyExpansionTemplate(String sourceJson, ObjectTemplate rootTemplate) {
+    this.sourceJson = sourceJson;
+    this.rootTemplate = rootTemplate;
+  }
+
+  public static StrategyExpansionTemplate compile(JsonNode jsonNode) {
+    String sourceJson = jsonNode.toString();
+    if (!jsonNode.isObject()) {
+      return new StrategyExpansionTemplate(sourceJson, null);
+    }
+    try {
+      return new StrategyExpansionTemplate(sourceJson, new Compiler().compileObject(jsonNode.deepCopy()));
+    } catch (NotSelfContainedException ex) {
+      log.debug("Node can not be compiled for strategy expansion, it will be resolved as a json string", ex);
+      return new StrategyExpansionTemplate(sourceJson, null);
+    }
+  }
+
+  /**
+   * Returns the node for the given iteration with all the expressions resolved. The root of the returned node is never
+   * shared with other iterations.
+   */
+  public JsonNode expand(Map<String, String> combinations, int currentIteration, int totalIteration, String itemValue) {
+    if (rootTemplate != null) {
+      try {
+        return rootTemplate.expand(new IterationContext(combinations, currentIteration, totalIteration, itemValue));
+      } catch (NotSelfContainedException ex) {
+        log.debug("Iteration {} can not be expanded from the compiled node, resolving it as a json string",
+            currentIteration, ex);
+      }
+    }
+    return JsonPipelineUtils.asTree(JsonUtils.asMap(
+        StrategyUtils.replaceExpressions(sourceJson, combinations, currentIteration, totalIteration, itemValue)));
+  }
+
+  private static boolean hasExpression(String text) {
+    return text.contains(EXPRESSION_PREFIX);
+  }
+
+  private static boolean refersToStrategy(String text) {
+    for (String reference : STRATEGY_REFERENCES) {
+      if (text.contains(reference)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static JsonNode parseResolved(String resolved) {
+    try {
+      JsonNode node = VALUE_READER.readValue(resolved);
+      if (node == null || !node.isTextual()) {
+        throw new NotSelfContainedException();
+      }
+      return node;
+    } catch (IOException ex) {
+      throw new NotSelfContainedException();
+    }
+  }
+
+  private static class Compiler {
+    private final EngineExpressionEvaluator staticEvaluator =
+        new StrategyExpressionEvaluator(new HashMap<>(), 0, 1, null);
+
+    private ObjectTemplate compileObject(JsonNode objectNode) {
+      List<FieldTemplate> fields = new ArrayList<>();
+      Iterator<Map.Entry<String, JsonNode>> iterator = objectNode.fields();
+      while (iterator.hasNext()) {
+        Map.Entry<String, JsonNode> field = iterator.next();
+        fields.add(new FieldTemplate(compileText(field.getKey()), compile(field.getValue())));
+      }
+      return new ObjectTemplate(fields);
+    }
+
+    private ValueTemplate compile(JsonNode node) {
+      if (node.isTextual()) {
+        return compileText(node.asText());
+      }
+      if (node.isObject()) {
+        ObjectTemplate objectTemplate = compileObject(node);
+        return objectTemplate.isConstant() ? toConstant(node, objectTemplate) : objectTemplate;
+      }
+      if (node.isArray()) {
+        List<ValueTemplate> elements = new ArrayList<>();
+        for (JsonNode element : node) {
+          elements.add(compile(element));
+        }
+        ArrayTemplate arrayTemplate = new ArrayTemplate(elements);
+        return arrayTemplate.isConstant() ? toConstant(node, arrayTemplate) : arrayTemplate;
+      }
+      return new ConstantTemplate(node, true);
+    }
+
+    // A container whose values are all constant is built once, or shared as it is if no expression was resolved in it
+    private static ConstantTemplate toConstant(JsonNode node, ContainerTemplate template) {
+      return template.isUnchanged() ? new ConstantTemplate(node, true)
+                                    : new ConstantTemplate(template.expand(null), false);
+    }
+
+    private ValueTemplate compileText(String text) {
+      if (!hasExpression(text)) {
+        return new ConstantTemplate(TextNode.valueOf(text), true);
+      }
+      // An expression left open here could only be closed by a later value of the json string
+      if (StringUtils.countMatches(text, EXPRESSION_PREFIX) > StringUtils.countMatches(text, EXPRESSION_SUFFIX)) {
+        throw new NotSelfContainedException();
+      }
+      String encodedText = TextNode.valueOf(text).toString();
+      if (!refersToStrategy(text)) {
+        JsonNode resolved = parseResolved(
+            (String) staticEvaluator.resolve(encodedText, ExpressionMode.RETURN_ORIGINAL_EXPRESSION_IF_UNRESOLVED));
+        return new ConstantTemplate(resolved, text.equals(resolved.asText()));
+      }
+      return new ExpressionTemplate(encodedText);
+    }
+  }
+
+  private interface ValueTemplate {
+    JsonNode expand(IterationContext context);
+  }
+
+  private interface ContainerTemplate extends ValueTemplate {
+    boolean isConstant();
+
+    boolean isUnchanged();
+  }
+
+  private static boolean isConstantValue(ValueTemplate template) {
+    return template instanceof ConstantTemplate;
+  }
+
+  private static boolean isUnchangedValue(ValueTemplate template) {
+    return template instanceof ConstantTemplate && ((ConstantTemplate) template).unchanged;
+  }
+
+  private static class ConstantTemplate implements ValueTemplate {
+    private final JsonNode node;
+    // False if the node is the result of resolving expressions and differs from the source node
+    private final boolean unchanged;
+
+    ConstantTemplate(JsonNode node, boolean unchanged) {
+      this.node = node;
+      this.unchanged = unchanged;
+    }
+
+    @Override
+    public JsonNode expand(IterationContext context) {
+      return node;
+    }
+  }
+
+  private static class ExpressionTemplate implements ValueTemplate {
+    private final String encodedText;
+
+    ExpressionTemplate(String encodedText) {
+      this.encodedText = encodedText;
+    }
+
+    @Override
+    public JsonNode expand(IterationContext context) {
+      return parseResolved(context.resolve(encodedText));
+    }
+  }
+
+  private static class FieldTemplate {
+    private final ValueTemplate name;
+    private final ValueTemplate value;
+
+    FieldTemplate(ValueTemplate name, ValueTemplate value) {
+      this.name = name;
+      this.value = value;
+    }
+
+  }
+
+  private static class ObjectTemplate implements ContainerTemplate {
+    private final List<FieldTemplate> fields;
+
+    ObjectTemplate(List<FieldTemplate> fields) {
+      this.fields = fields;
+    }
+
+    @Override
+    public boolean isConstant() {
+      return fields.stream().allMatch(field -> isConstantValue(field.name) && isConstantValue(field.value));
+    }
+
+    @Override
+    public boolean isUnchanged() {
+      return fields.stream().allMatch(field -> isUnchangedValue(field.name) && isUnchangedValue(field.value));
+    }
+
+    @Override
+    public ObjectNode expand(IterationContext context) {
+      ObjectNode objectNode = NODE_FACTORY.objectNode();
+      for (FieldTemplate field : fields) {
+        objectNode.set(field.name.expand(context).asText(), field.value.expand(context));
+      }
+      return objectNode;
+    }
+  }
+
+  private static class ArrayTemplate implements ContainerTemplate {
+    private final List<ValueTemplate> elements;
+
+    ArrayTemplate(List<ValueTemplate> elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    public boolean isConstant() {
+      return elements.stream().allMatch(StrategyExpansionTemplate::isConstantValue);
+    }
+
+    @Override
+    public boolean isUnchanged() {
+      return elements.stream().allMatch(StrategyExpansionTemplate::isUnchangedValue);
+    }
+
+    @Override
+    public ArrayNode expand(IterationContext context) {
+      ArrayNode arrayNode = NODE_FACTORY.arrayNode(elements.size());
+      for (ValueTemplate element : elements) {
+        arrayNode.add(element.expand(context));
+      }
+      return arrayNode;
+    }
+  }
+
+  private static class IterationContext {
+    private final Map<String, String> combinations;
+    private final int currentIteration;
+    private final int totalIteration;
+    private final String itemValue;
+    private EngineExpressionEvaluator evaluator;
+
+    IterationContext(Map<String, String> combinations, int currentIteration, int totalIteration, String itemValue) {
+      this.combinations = combinations;
+      this.currentIteration = currentIteration;
+      this.totalIteration = totalIteration;
+      this.itemValue = itemValue;
+    }
+
+    String resolve(String encodedText) {
+      if (evaluator == null) {
+        evaluator = new StrategyExpressionEvaluator(combinations, currentIteration, totalIteration, itemValue);
+      }
+      return (String) evaluator.resolve(encodedText, ExpressionMode.RETURN_ORIGINAL_EXPRESSION_IF_UNRESOLVED);
+    }
+  }
+
+  private static class NotSelfContainedException extends RuntimeException {
+    NotSelfContainedException() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -12,4 +12,5 @@ public class PmsSdkModuleUtils {
   public static final String CORE_EXECUTOR_NAME = "CORE_EXECUTOR_NAME";
   public static final String ORCHESTRATION_EVENT_EXECUTOR_NAME = "ORCHESTRATION_EVENT_EXECUTOR_NAME";
   public static final String PLAN_CREATOR_SERVICE_EXECUTOR = "PLAN_CREATOR_SERVICE_EXECUTOR";
+  public static final String TRANSPUT_RESOLVE_CACHE_ENABLED = "TRANSPUT_RESOLVE_CACHE_ENABLED";
 }
@@ -39,4 +39,5 @@ public class PmsSdkCoreConfig {
           .redisConfig(RedisConfig.builder().redisUrl("dummyRedisUrl").build())
           .build();
   AuthorizationServiceHeader serviceHeader;
+  boolean transputResolveCacheEnabled;
 }
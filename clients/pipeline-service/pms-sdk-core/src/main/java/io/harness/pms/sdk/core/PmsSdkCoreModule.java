@@ -82,6 +82,13 @@ public class PmsSdkCoreModule extends AbstractModule {
     return config.getServiceName();
   }
 
+  @Provides
+  @Singleton
+  @Named(PmsSdkModuleUtils.TRANSPUT_RESOLVE_CACHE_ENABLED)
+  public boolean transputResolveCacheEnabled() {
+    return config.isTransputResolveCacheEnabled();
+  }
+
   @Provides
   @Singleton
   @Named(PmsSdkModuleUtils.CORE_EXECUTOR_NAME)
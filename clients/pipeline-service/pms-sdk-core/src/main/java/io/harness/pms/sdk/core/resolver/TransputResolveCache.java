@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.resolver;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.refobjects.RefObject;
+import io.harness.pms.execution.utils.AmbianceUtils;
+import io.harness.pms.sdk.PmsSdkModuleUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.Value;
+
+/**
+ * Read through cache of resolved outcomes and sweeping outputs, keyed by plan execution, runtime level and ref object.
+ *
+ * A ref without a producer resolves to the nearest level that consumed its name, so a later consume can change what it
+ * resolves to. Every consume made through this SDK therefore drops all the entries of its plan execution, by moving
+ * the plan execution to a new generation that is part of the key. Refs that were not found are not cached. Json is
+ * cached instead of the deserialized object so that callers never share instances.
+ *
+ * Consumes made in other pods do not invalidate the cache yet, so it is off unless the SDK is configured with
+ * transputResolveCacheEnabled. When off, every lookup goes to PMS, still with a single call per batch.
+ */
+@Singleton
+@OwnedBy(HarnessTeam.PIPELINE)
+public class TransputResolveCache {
+  private static final long MAX_CACHE_WEIGHT = 32L * 1024 * 1024;
+  private static final long EXPIRE_AFTER_ACCESS_MINUTES = 10;
+
+  public enum TransputType { OUTCOME, SWEEPING_OUTPUT }
+
+  private final Cache<TransputKey, String> cache =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CACHE_WEIGHT)
+          .weigher((TransputKey key, String json) -> json.length() + 1)
+          .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+          .build();
+  // Generations come from one sequence so an evicted plan execution never gets back a generation it had before
+  private final AtomicLong generationSequence = new AtomicLong();
+  private final Cache<String, Long> generations =
+      CacheBuilder.newBuilder().expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES).build();
+  private final Map<TransputType, Counters> counters = new EnumMap<>(TransputType.class);
+  private final boolean enabled;
+
+  @Inject
+  public TransputResolveCache(@Named(PmsSdkModuleUtils.TRANSPUT_RESOLVE_CACHE_ENABLED) boolean enabled) {
+    this.enabled = enabled;
+    for (TransputType transputType : TransputType.values()) {
+      counters.put(transputType, new Counters());
+    }
+  }
+
+  /**
+   * Resolves the ref objects from the cache and the rest with a single call to the loader. The loader gets the ref
+   * objects missing in the cache and returns their json in the same order, null for the ones not found. The result has
+   * the json for every ref object in order, null for the ones not found.
+   */
+  public List<String> resolve(TransputType transputType, Ambiance ambiance, List<RefObject> refObjects,
+      Function<List<RefObject>, List<String>> loader) {
+    Counters transputCounters = counters.get(transputType);
+    List<String> resolved = new ArrayList<>(Collections.nCopies(refObjects.size(), null));
+    List<Integer> missingIndexes = new ArrayList<>();
+    List<RefObject> missingRefObjects = new ArrayList<>();
+    for (int i = 0; i < refObjects.size(); i++) {
+      String json = enabled ? cache.getIfPresent(toKey(transputType, ambiance, refObjects.get(i))) : null;
+      if (json == null) {
+        missingIndexes.add(i);
+        missingRefObjects.add(refObjects.get(i));
+      } else {
+        resolved.set(i, json);
+      }
+    }
+    transputCounters.hits.add(refObjects.size() - missingIndexes.size());
+    transputCounters.misses.add(missingIndexes.size());
+    if (missingIndexes.isEmpty()) {
+      return resolved;
+    }
+
+    long startTime = System.currentTimeMillis();
+    List<String> loaded = loader.apply(missingRefObjects);
+    transputCounters.grpcCalls.increment();
+    transputCounters.grpcLatencyMillis.add(System.currentTimeMillis() - startTime);
+    for (int i = 0; i < missingIndexes.size(); i++) {
+      String json = loaded.get(i);
+      if (json != null) {
+        if (enabled) {
+          cache.put(toKey(transputType, ambiance, missingRefObjects.get(i)), json);
+        }
+        resolved.set(missingIndexes.get(i), json);
+      }
+    }
+    return resolved;
+  }
+
+  /**
+   * Drops every cached outcome and sweeping output of the plan execution. Called after each consume.
+   */
+  public void invalidate(String planExecutionId) {
+    if (enabled) {
+      generations.put(planExecutionId, generationSequence.incrementAndGet());
+    }
+  }
+
+  public Map<TransputType, Snapshot> snapshotAndReset() {
+    Map<TransputType, Snapshot> snapshots = new EnumMap<>(TransputType.class);
+    counters.forEach((transputType, transputCounters) -> {
+      Snapshot snapshot = new Snapshot(transputCounters.hits.sumThenReset(), transputCounters.misses.sumThenReset(),
+          transputCounters.grpcCalls.sumThenReset(), transputCounters.grpcLatencyMillis.sumThenReset());
+      if (snapshot.getLookups() > 0) {
+        snapshots.put(transputType, snapshot);
+      }
+    });
+    return snapshots;
+  }
+
+  private TransputKey toKey(TransputType transputType, Ambiance ambiance, RefObject refObject) {
+    String planExecutionId = ambiance.getPlanExecutionId();
+    long generation =
+        generations.asMap().computeIfAbsent(planExecutionId, ignored -> generationSequence.incrementAndGet());
+    return new TransputKey(
+        transputType, planExecutionId, generation, AmbianceUtils.obtainCurrentRuntimeId(ambiance), refObject);
+  }
+
+  @Value
+  private static class TransputKey {
+    TransputType transputType;
+    String planExecutionId;
+    long generation;
+    String runtimeId;
+    RefObject refObject;
+  }
+
+  private static class Counters {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder grpcCalls = new LongAdder();
+    private final LongAdder grpcLatencyMillis = new LongAdder();
+  }
+
+  @Value
+  public static class Snapshot {
+    long hits;
+    long misses;
+    long grpcCalls;
+    long grpcLatencyMillis;
+
+    public long getLookups() {
+      return hits + misses;
+    }
+
+    public double getHitRatio() {
+      return getLookups() == 0 ? 0 : (double) hits / getLookups();
+    }
+
+    // Without the cache and batching every lookup would have been a call of its own
+    public long getGrpcCallsSaved() {
+      return getLookups() - grpcCalls;
+    }
+
+    public double getAverageGrpcLatencyMillis() {
+      return grpcCalls == 0 ? 0 : (double) grpcLatencyMillis / grpcCalls;
+    }
+  }
+}
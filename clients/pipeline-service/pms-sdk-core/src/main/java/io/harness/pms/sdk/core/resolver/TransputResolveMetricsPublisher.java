@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.resolver;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.metrics.service.api.MetricsPublisher;
+
+import com.google.inject.Inject;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class TransputResolveMetricsPublisher implements MetricsPublisher {
+  public static final String TRANSPUT_CACHE_HIT_RATIO = "pms_sdk_transput_cache_hit_ratio";
+  public static final String TRANSPUT_LOOKUPS = "pms_sdk_transput_lookups";
+  public static final String TRANSPUT_GRPC_CALLS = "pms_sdk_transput_grpc_calls";
+  public static final String TRANSPUT_GRPC_CALLS_SAVED = "pms_sdk_transput_grpc_calls_saved";
+  public static final String TRANSPUT_GRPC_LATENCY = "pms_sdk_transput_grpc_latency";
+
+  private final TransputResolveCache transputResolveCache;
+  private final MetricService metricService;
+
+  @Inject
+  public TransputResolveMetricsPublisher(TransputResolveCache transputResolveCache, MetricService metricService) {
+    this.transputResolveCache = transputResolveCache;
+    this.metricService = metricService;
+  }
+
+  @Override
+  public void recordMetrics() {
+    transputResolveCache.snapshotAndReset().forEach((transputType, snapshot) -> {
+      try (TransputResolveMetricsContext ignored = new TransputResolveMetricsContext(transputType.name())) {
+        metricService.recordMetric(TRANSPUT_CACHE_HIT_RATIO, snapshot.getHitRatio());
+        metricService.recordMetric(TRANSPUT_LOOKUPS, snapshot.getLookups());
+        metricService.recordMetric(TRANSPUT_GRPC_CALLS, snapshot.getGrpcCalls());
+        metricService.recordMetric(TRANSPUT_GRPC_CALLS_SAVED, snapshot.getGrpcCallsSaved());
+        metricService.recordMetric(TRANSPUT_GRPC_LATENCY, snapshot.getAverageGrpcLatencyMillis());
+      }
+    });
+  }
+}
@@ -22,15 +22,21 @@ import io.harness.pms.contracts.service.OutcomeFindAllBlobResponse;
 import io.harness.pms.contracts.service.OutcomeProtoServiceGrpc.OutcomeProtoServiceBlockingStub;
 import io.harness.pms.contracts.service.OutcomeResolveBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveBlobResponse;
+import io.harness.pms.contracts.service.OutcomeResolveManyRequest;
+import io.harness.pms.contracts.service.OutcomeResolveManyResponse;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobResponse;
 import io.harness.pms.sdk.core.data.OptionalOutcome;
 import io.harness.pms.sdk.core.data.Outcome;
+import io.harness.pms.sdk.core.resolver.TransputResolveCache;
+import io.harness.pms.sdk.core.resolver.TransputResolveCache.TransputType;
 import io.harness.pms.sdk.core.resolver.outcome.mapper.PmsOutcomeMapper;
 import io.harness.pms.utils.PmsGrpcClientUtils;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import lombok.NonNull;
 
@@ -38,10 +44,13 @@ import lombok.NonNull;
 @Singleton
 public class OutcomeGrpcServiceImpl implements OutcomeService {
   private final OutcomeProtoServiceBlockingStub outcomeProtoServiceBlockingStub;
+  private final TransputResolveCache transputResolveCache;
 
   @Inject
-  public OutcomeGrpcServiceImpl(OutcomeProtoServiceBlockingStub outcomeProtoServiceBlockingStub) {
+  public OutcomeGrpcServiceImpl(
+      OutcomeProtoServiceBlockingStub outcomeProtoServiceBlockingStub, TransputResolveCache transputResolveCache) {
     this.outcomeProtoServiceBlockingStub = outcomeProtoServiceBlockingStub;
+    this.transputResolveCache = transputResolveCache;
   }
 
   @Override
@@ -70,33 +79,70 @@ public class OutcomeGrpcServiceImpl implements OutcomeService {
 
   @Override
   public Outcome resolve(Ambiance ambiance, RefObject refObject) {
-    OutcomeResolveBlobResponse resolve =
-        PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::resolve,
-            OutcomeResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
-    return PmsOutcomeMapper.convertJsonToOutcome(resolve.getStepTransput());
+    List<String> resolved = transputResolveCache.resolve(
+        TransputType.OUTCOME, ambiance, Collections.singletonList(refObject), missingRefObjects -> {
+          OutcomeResolveBlobResponse resolve =
+              PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::resolve,
+                  OutcomeResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
+          return Collections.singletonList(resolve.getStepTransput());
+        });
+    return PmsOutcomeMapper.convertJsonToOutcome(resolved.get(0));
   }
 
   @Override
   public String consume(Ambiance ambiance, String name, Outcome value, String groupName) {
-    OutcomeConsumeBlobResponse response =
-        PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::consume,
-            OutcomeConsumeBlobRequest.newBuilder()
-                .setAmbiance(ambiance)
-                .setName(name)
-                .setValue(PmsOutcomeMapper.convertOutcomeValueToJson(value))
-                .setGroupName(groupName)
-                .build());
-    return response.getResponse();
+    try {
+      OutcomeConsumeBlobResponse response =
+          PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::consume,
+              OutcomeConsumeBlobRequest.newBuilder()
+                  .setAmbiance(ambiance)
+                  .setName(name)
+                  .setValue(PmsOutcomeMapper.convertOutcomeValueToJson(value))
+                  .setGroupName(groupName)
+                  .build());
+      return response.getResponse();
+    } finally {
+      transputResolveCache.invalidate(ambiance.getPlanExecutionId());
+    }
   }
 
   @Override
   public OptionalOutcome resolveOptional(Ambiance ambiance, RefObject refObject) {
-    OutcomeResolveOptionalBlobResponse response =
-        PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::resolveOptional,
-            OutcomeResolveOptionalBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
-    return OptionalOutcome.builder()
-        .found(response.getFound())
-        .outcome(PmsOutcomeMapper.convertJsonToOutcome(response.getOutcome()))
-        .build();
+    return resolveOptionalMany(ambiance, Collections.singletonList(refObject)).get(0);
+  }
+
+  @Override
+  public List<OptionalOutcome> resolveOptionalMany(Ambiance ambiance, List<RefObject> refObjects) {
+    List<String> resolved = transputResolveCache.resolve(
+        TransputType.OUTCOME, ambiance, refObjects, missingRefObjects -> load(ambiance, missingRefObjects));
+    List<OptionalOutcome> optionalOutcomes = new ArrayList<>();
+    for (String json : resolved) {
+      optionalOutcomes.add(
+          OptionalOutcome.builder().found(json != null).outcome(PmsOutcomeMapper.convertJsonToOutcome(json)).build());
+    }
+    return optionalOutcomes;
+  }
+
+  private List<String> load(Ambiance ambiance, List<RefObject> refObjects) {
+    List<OutcomeResolveOptionalBlobResponse> responses;
+    if (refObjects.size() == 1) {
+      responses = Collections.singletonList(
+          PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::resolveOptional,
+              OutcomeResolveOptionalBlobRequest.newBuilder()
+                  .setAmbiance(ambiance)
+                  .setRefObject(refObjects.get(0))
+                  .build()));
+    } else {
+      OutcomeResolveManyResponse resolveManyResponse =
+          PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::resolveMany,
+              OutcomeResolveManyRequest.newBuilder().setAmbiance(ambiance).addAllRefObjects(refObjects).build());
+      responses = resolveManyResponse.getResponsesList();
+    }
+
+    List<String> jsons = new ArrayList<>();
+    for (OutcomeResolveOptionalBlobResponse response : responses) {
+      jsons.add(response.getFound() ? response.getOutcome() : null);
+    }
+    return jsons;
   }
 }
@@ -28,4 +28,7 @@ public interface OutcomeService extends Resolver<Outcome> {
   Outcome fetchOutcome(@NonNull String outcomeInstanceId);
 
   OptionalOutcome resolveOptional(Ambiance ambiance, RefObject refObject);
+
+  // Resolves all the ref objects with at most one call to pms, results are in the same order as the ref objects
+  List<OptionalOutcome> resolveOptionalMany(Ambiance ambiance, List<RefObject> refObjects);
 }
@@ -19,33 +19,45 @@ import io.harness.pms.contracts.service.SweepingOutputListRequest;
 import io.harness.pms.contracts.service.SweepingOutputListResponse;
 import io.harness.pms.contracts.service.SweepingOutputResolveBlobRequest;
 import io.harness.pms.contracts.service.SweepingOutputResolveBlobResponse;
+import io.harness.pms.contracts.service.SweepingOutputResolveManyRequest;
+import io.harness.pms.contracts.service.SweepingOutputResolveManyResponse;
 import io.harness.pms.contracts.service.SweepingOutputServiceGrpc.SweepingOutputServiceBlockingStub;
 import io.harness.pms.sdk.core.data.ExecutionSweepingOutput;
 import io.harness.pms.sdk.core.data.OptionalSweepingOutput;
+import io.harness.pms.sdk.core.resolver.TransputResolveCache;
+import io.harness.pms.sdk.core.resolver.TransputResolveCache.TransputType;
 import io.harness.pms.serializer.recaster.RecastOrchestrationUtils;
 import io.harness.pms.utils.PmsGrpcClientUtils;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 @Singleton
 public class ExecutionSweepingGrpcOutputService implements ExecutionSweepingOutputService {
   private final SweepingOutputServiceBlockingStub sweepingOutputServiceBlockingStub;
+  private final TransputResolveCache transputResolveCache;
 
   @Inject
-  public ExecutionSweepingGrpcOutputService(SweepingOutputServiceBlockingStub sweepingOutputServiceBlockingStub) {
+  public ExecutionSweepingGrpcOutputService(SweepingOutputServiceBlockingStub sweepingOutputServiceBlockingStub,
+      TransputResolveCache transputResolveCache) {
     this.sweepingOutputServiceBlockingStub = sweepingOutputServiceBlockingStub;
+    this.transputResolveCache = transputResolveCache;
   }
 
   @Override
   public ExecutionSweepingOutput resolve(Ambiance ambiance, RefObject refObject) {
-    SweepingOutputResolveBlobResponse resolve =
-        PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::resolve,
-            SweepingOutputResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
-    return RecastOrchestrationUtils.fromJson(resolve.getStepTransput(), ExecutionSweepingOutput.class);
+    List<String> resolved = transputResolveCache.resolve(TransputType.SWEEPING_OUTPUT, ambiance,
+        Collections.singletonList(refObject), missingRefObjects -> {
+          SweepingOutputResolveBlobResponse resolve =
+              PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::resolve,
+                  SweepingOutputResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
+          return Collections.singletonList(resolve.getStepTransput());
+        });
+    return RecastOrchestrationUtils.fromJson(resolved.get(0), ExecutionSweepingOutput.class);
   }
 
   @Override
@@ -57,20 +69,55 @@ public class ExecutionSweepingGrpcOutputService implements ExecutionSweepingOutp
       builder.setGroupName(groupName);
     }
 
-    SweepingOutputConsumeBlobResponse sweepingOutputConsumeBlobResponse =
-        PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::consume, builder.build());
-    return sweepingOutputConsumeBlobResponse.getResponse();
+    try {
+      SweepingOutputConsumeBlobResponse sweepingOutputConsumeBlobResponse =
+          PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::consume, builder.build());
+      return sweepingOutputConsumeBlobResponse.getResponse();
+    } finally {
+      transputResolveCache.invalidate(ambiance.getPlanExecutionId());
+    }
   }
 
   @Override
   public OptionalSweepingOutput resolveOptional(Ambiance ambiance, RefObject refObject) {
-    OptionalSweepingOutputResolveBlobResponse resolve =
-        PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::resolveOptional,
-            SweepingOutputResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
-    return OptionalSweepingOutput.builder()
-        .output(RecastOrchestrationUtils.fromJson(resolve.getStepTransput(), ExecutionSweepingOutput.class))
-        .found(resolve.getFound())
-        .build();
+    return resolveOptionalMany(ambiance, Collections.singletonList(refObject)).get(0);
+  }
+
+  @Override
+  public List<OptionalSweepingOutput> resolveOptionalMany(Ambiance ambiance, List<RefObject> refObjects) {
+    List<String> resolved = transputResolveCache.resolve(
+        TransputType.SWEEPING_OUTPUT, ambiance, refObjects, missingRefObjects -> load(ambiance, missingRefObjects));
+    List<OptionalSweepingOutput> optionalSweepingOutputs = new ArrayList<>();
+    for (String json : resolved) {
+      optionalSweepingOutputs.add(OptionalSweepingOutput.builder()
+                                      .output(RecastOrchestrationUtils.fromJson(json, ExecutionSweepingOutput.class))
+                                      .found(json != null)
+                                      .build());
+    }
+    return optionalSweepingOutputs;
+  }
+
+  private List<String> load(Ambiance ambiance, List<RefObject> refObjects) {
+    List<OptionalSweepingOutputResolveBlobResponse> responses;
+    if (refObjects.size() == 1) {
+      responses = Collections.singletonList(
+          PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::resolveOptional,
+              SweepingOutputResolveBlobRequest.newBuilder()
+                  .setAmbiance(ambiance)
+                  .setRefObject(refObjects.get(0))
+                  .build()));
+    } else {
+      SweepingOutputResolveManyResponse resolveManyResponse =
+          PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::resolveMany,
+              SweepingOutputResolveManyRequest.newBuilder().setAmbiance(ambiance).addAllRefObjects(refObjects).build());
+      responses = resolveManyResponse.getResponsesList();
+    }
+
+    List<String> jsons = new ArrayList<>();
+    for (OptionalSweepingOutputResolveBlobResponse response : responses) {
+      jsons.add(response.getFound() ? response.getStepTransput() : null);
+    }
+    return jsons;
   }
 
   @Override
@@ -21,6 +21,8 @@ import java.util.List;
 @OwnedBy(CDC)
 public interface ExecutionSweepingOutputService extends Resolver<ExecutionSweepingOutput> {
   OptionalSweepingOutput resolveOptional(Ambiance ambiance, RefObject refObject);
+  // Resolves all the ref objects with at most one call to pms, results are in the same order as the ref objects
+  List<OptionalSweepingOutput> resolveOptionalMany(Ambiance ambiance, List<RefObject> refObjects);
   List<OptionalSweepingOutput> listOutputsWithGivenNameAndSetupIds(
       Ambiance ambiance, String name, List<String> nodeIds);
   List<OptionalSweepingOutput> listOutputsWithGivenNameAndRuntimeIds(
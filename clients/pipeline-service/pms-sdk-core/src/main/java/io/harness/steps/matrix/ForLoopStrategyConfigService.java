@@ -13,13 +13,12 @@ import io.harness.exception.InvalidYamlException;
 import io.harness.plancreator.strategy.HarnessForConfig;
 import io.harness.plancreator.strategy.RepeatUnit;
 import io.harness.plancreator.strategy.StrategyConfig;
+import io.harness.plancreator.strategy.StrategyExpansionTemplate;
 import io.harness.plancreator.strategy.StrategyUtils;
 import io.harness.pms.contracts.execution.ChildrenExecutableResponse;
 import io.harness.pms.contracts.execution.ForMetadata;
 import io.harness.pms.contracts.execution.StrategyMetadata;
 import io.harness.pms.yaml.ParameterField;
-import io.harness.serializer.JsonUtils;
-import io.harness.yaml.utils.JsonPipelineUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.utils.Lists;
@@ -222,6 +221,7 @@ public class ForLoopStrategyConfigService implements StrategyConfigService {
   public StrategyInfo expandJsonNode(
       StrategyConfig strategyConfig, JsonNode jsonNode, Optional<Integer> maxExpansionLimit) {
     HarnessForConfig harnessForConfig = strategyConfig.getRepeat();
+    StrategyExpansionTemplate expansionTemplate = StrategyExpansionTemplate.compile(jsonNode);
     List<JsonNode> jsonNodes = new ArrayList<>();
     if (!ParameterField.isBlank(harnessForConfig.getTimes())) {
       if (maxExpansionLimit.isPresent()) {
@@ -230,18 +230,17 @@ public class ForLoopStrategyConfigService implements StrategyConfigService {
           throw new InvalidYamlException("Iteration count is beyond the supported limit of " + maxExpansionLimit.get());
         }
       }
-      for (int i = 0; i < harnessForConfig.getTimes().getValue(); i++) {
-        JsonNode clonedNode = JsonPipelineUtils.asTree(JsonUtils.asMap(StrategyUtils.replaceExpressions(
-            jsonNode.deepCopy().toString(), new HashMap<>(), i, harnessForConfig.getTimes().getValue(), null)));
+      int times = harnessForConfig.getTimes().getValue();
+      for (int i = 0; i < times; i++) {
+        JsonNode clonedNode = expansionTemplate.expand(new HashMap<>(), i, times, null);
         StrategyUtils.modifyJsonNode(clonedNode, Lists.newArrayList(String.valueOf(i)));
         jsonNodes.add(clonedNode);
       }
     } else {
-      int currentIteration = 0;
       List<String> params = splitParamsIfNeeded(harnessForConfig);
+      int currentIteration = 0;
       for (String value : params) {
-        JsonNode clonedNode = JsonPipelineUtils.asTree(JsonUtils.asMap(StrategyUtils.replaceExpressions(
-            jsonNode.deepCopy().toString(), new HashMap<>(), currentIteration, params.size(), value)));
+        JsonNode clonedNode = expansionTemplate.expand(new HashMap<>(), currentIteration, params.size(), value);
         StrategyUtils.modifyJsonNode(clonedNode, Lists.newArrayList(String.valueOf(currentIteration)));
         jsonNodes.add(clonedNode);
         currentIteration++;
@@ -14,13 +14,13 @@ import io.harness.plancreator.strategy.ExcludeConfig;
 import io.harness.plancreator.strategy.ExpressionAxisConfig;
 import io.harness.plancreator.strategy.MatrixConfig;
 import io.harness.plancreator.strategy.StrategyConfig;
+import io.harness.plancreator.strategy.StrategyExpansionTemplate;
 import io.harness.plancreator.strategy.StrategyUtils;
 import io.harness.pms.contracts.execution.ChildrenExecutableResponse;
 import io.harness.pms.contracts.execution.MatrixMetadata;
 import io.harness.pms.contracts.execution.StrategyMetadata;
 import io.harness.pms.yaml.ParameterField;
 import io.harness.serializer.JsonUtils;
-import io.harness.yaml.utils.JsonPipelineUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.inject.Singleton;
@@ -91,11 +91,12 @@ public class MatrixConfigService implements StrategyConfigService {
       }
     }
 
+    StrategyExpansionTemplate expansionTemplate = StrategyExpansionTemplate.compile(jsonNode);
     List<JsonNode> jsonNodes = new ArrayList<>();
     int currentIteration = 0;
     for (List<Integer> matrixData : matrixMetadata) {
-      JsonNode clonedNode = JsonPipelineUtils.asTree(JsonUtils.asMap(StrategyUtils.replaceExpressions(
-          jsonNode.deepCopy().toString(), combinations.get(currentIteration), currentIteration, totalCount, null)));
+      JsonNode clonedNode =
+          expansionTemplate.expand(combinations.get(currentIteration), currentIteration, totalCount, null);
       StrategyUtils.modifyJsonNode(clonedNode, matrixData.stream().map(String::valueOf).collect(Collectors.toList()));
       jsonNodes.add(clonedNode);
       currentIteration++;
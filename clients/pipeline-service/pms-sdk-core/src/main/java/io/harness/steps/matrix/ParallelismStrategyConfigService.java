@@ -9,12 +9,11 @@ package io.harness.steps.matrix;
 
 import io.harness.exception.InvalidYamlException;
 import io.harness.plancreator.strategy.StrategyConfig;
+import io.harness.plancreator.strategy.StrategyExpansionTemplate;
 import io.harness.plancreator.strategy.StrategyUtils;
 import io.harness.pms.contracts.execution.ChildrenExecutableResponse;
 import io.harness.pms.contracts.execution.StrategyMetadata;
 import io.harness.pms.yaml.ParameterField;
-import io.harness.serializer.JsonUtils;
-import io.harness.yaml.utils.JsonPipelineUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.utils.Lists;
@@ -54,10 +53,10 @@ public class ParallelismStrategyConfigService implements StrategyConfigService {
         }
       }
     }
+    StrategyExpansionTemplate expansionTemplate = StrategyExpansionTemplate.compile(jsonNode);
     List<JsonNode> jsonNodes = new ArrayList<>();
     for (int i = 0; i < parallelism; i++) {
-      JsonNode clonedJsonNode = JsonPipelineUtils.asTree(JsonUtils.asMap(
-          StrategyUtils.replaceExpressions(jsonNode.deepCopy().toString(), new HashMap<>(), i, parallelism, null)));
+      JsonNode clonedJsonNode = expansionTemplate.expand(new HashMap<>(), i, parallelism, null);
       StrategyUtils.modifyJsonNode(clonedJsonNode, Lists.newArrayList(String.valueOf(i)));
       jsonNodes.add(clonedJsonNode);
     }
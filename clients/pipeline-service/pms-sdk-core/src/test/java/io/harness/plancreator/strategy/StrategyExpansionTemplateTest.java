@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.plancreator.strategy;
+
+import static io.harness.rule.OwnerRule.SAHIL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.yaml.YamlUtils;
+import io.harness.rule.Owner;
+import io.harness.serializer.JsonUtils;
+import io.harness.yaml.utils.JsonPipelineUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class StrategyExpansionTemplateTest extends CategoryTest {
+  private static final String STAGE_YAML = "identifier: a11\n"
+      + "name: <+matrix.a> stage\n"
+      + "type: Approval\n"
+      + "description: \"quoted \\\"<+matrix.b>\\\" and \\\\ escaped\"\n"
+      + "variables:\n"
+      + "  - name: matrixA\n"
+      + "    value: <+matrix.a>\n"
+      + "    type: String\n"
+      + "  - name: iteration\n"
+      + "    value: <+strategy.iteration> of <+strategy.iterations>\n"
+      + "  - name: pipelineVariable\n"
+      + "    value: <+pipeline.variables.a>\n"
+      + "  - name: item\n"
+      + "    value: <+repeat.item>\n"
+      + "spec:\n"
+      + "  timeout: 10\n"
+      + "  enabled: true\n"
+      + "  retries: null\n"
+      + "  <+matrix.b>_key: value\n"
+      + "  execution:\n"
+      + "    steps:\n"
+      + "      - step:\n"
+      + "          identifier: http\n"
+      + "          spec:\n"
+      + "            url: https://www.google.com\n"
+      + "            headers: []\n"
+      + "            ratio: 1.5\n"
+      + "      - step:\n"
+      + "          identifier: <+matrix.a>_step\n"
+      + "          spec:\n"
+      + "            url: https://<+matrix.b>.com\n";
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testExpandIsSameAsResolvingJsonString() throws IOException {
+    JsonNode stageNode = YamlUtils.readTree(STAGE_YAML).getNode().getCurrJsonNode();
+    StrategyExpansionTemplate expansionTemplate = StrategyExpansionTemplate.compile(stageNode);
+
+    List<Map<String, String>> combinations = new ArrayList<>();
+    for (String a : new String[] {"1", "two", "with space"}) {
+      for (String b : new String[] {"b1", "b2"}) {
+        Map<String, String> combination = new HashMap<>();
+        combination.put("a", a);
+        combination.put("b", b);
+        combinations.add(combination);
+      }
+    }
+    for (int i = 0; i < combinations.size(); i++) {
+      assertThat(expansionTemplate.expand(combinations.get(i), i, combinations.size(), "item" + i).toString())
+          .isEqualTo(expandAsJsonString(stageNode, combinations.get(i), i, combinations.size(), "item" + i));
+    }
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testExpandSharesSubtreesWithoutExpressions() throws IOException {
+    JsonNode stageNode = YamlUtils.readTree(STAGE_YAML).getNode().getCurrJsonNode();
+    StrategyExpansionTemplate expansionTemplate = StrategyExpansionTemplate.compile(stageNode);
+
+    Map<String, String> combination = new HashMap<>();
+    combination.put("a", "1");
+    combination.put("b", "2");
+    JsonNode first = expansionTemplate.expand(combination, 0, 2, null);
+    JsonNode second = expansionTemplate.expand(combination, 1, 2, null);
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first.get("spec")).isNotSameAs(second.get("spec"));
+    assertThat(first.get("spec").get("execution").get("steps").get(0))
+        .isSameAs(second.get("spec").get("execution").get("steps").get(0));
+    assertThat(first.get("spec").get("execution").get("steps").get(0))
+        .isNotSameAs(stageNode.get("spec").get("execution").get("steps").get(0));
+    assertThat(first.get("variables").get(2).get("value").asText()).isEqualTo("<+pipeline.variables.a>");
+    assertThat(first.get("variables").get(1).get("value").asText()).isEqualTo("0 of 2");
+    assertThat(second.get("variables").get(1).get("value").asText()).isEqualTo("1 of 2");
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testExpressionSpanningValuesIsResolvedAsJsonString() throws IOException {
+    String yaml = "identifier: a\nname: \"<+matrix.a\"\nvalue: \"> <+matrix.a>\"\n";
+    JsonNode stageNode = YamlUtils.readTree(yaml).getNode().getCurrJsonNode();
+    StrategyExpansionTemplate expansionTemplate = StrategyExpansionTemplate.compile(stageNode);
+
+    Map<String, String> combination = new HashMap<>();
+    combination.put("a", "1");
+    assertThat(outcome(() -> expansionTemplate.expand(combination, 0, 1, null).toString()))
+        .isEqualTo(outcome(() -> expandAsJsonString(stageNode, combination, 0, 1, null)));
+  }
+
+  // The expanded json, or the type of the exception if expanding fails
+  private String outcome(Supplier<String> expansion) {
+    try {
+      return expansion.get();
+    } catch (RuntimeException ex) {
+      return ex.getClass().getName();
+    }
+  }
+
+  private String expandAsJsonString(
+      JsonNode jsonNode, Map<String, String> combination, int currentIteration, int totalIteration, String itemValue) {
+    return JsonPipelineUtils
+        .asTree(JsonUtils.asMap(StrategyUtils.replaceExpressions(
+            jsonNode.deepCopy().toString(), combination, currentIteration, totalIteration, itemValue)))
+        .toString();
+  }
+}
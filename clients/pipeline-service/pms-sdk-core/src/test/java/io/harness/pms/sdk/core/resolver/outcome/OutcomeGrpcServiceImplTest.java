@@ -10,6 +10,9 @@ package io.harness.pms.sdk.core.resolver.outcome;
 import static io.harness.rule.OwnerRule.SAHIL;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 import io.harness.category.element.UnitTests;
@@ -26,15 +29,23 @@ import io.harness.pms.contracts.service.OutcomeFindAllBlobResponse;
 import io.harness.pms.contracts.service.OutcomeProtoServiceGrpc.OutcomeProtoServiceBlockingStub;
 import io.harness.pms.contracts.service.OutcomeResolveBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveBlobResponse;
+import io.harness.pms.contracts.service.OutcomeResolveManyRequest;
+import io.harness.pms.contracts.service.OutcomeResolveManyResponse;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobResponse;
 import io.harness.pms.sdk.core.AmbianceTestUtils;
 import io.harness.pms.sdk.core.PmsSdkCoreTestBase;
+import io.harness.pms.sdk.core.data.OptionalOutcome;
 import io.harness.pms.sdk.core.data.StringOutcome;
 import io.harness.pms.sdk.core.resolver.RefObjectUtils;
+import io.harness.pms.sdk.core.resolver.TransputResolveCache;
+import io.harness.pms.sdk.core.resolver.TransputResolveCache.Snapshot;
+import io.harness.pms.sdk.core.resolver.TransputResolveCache.TransputType;
 import io.harness.rule.Owner;
 
 import io.fabric8.utils.Lists;
+import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -45,13 +56,16 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 public class OutcomeGrpcServiceImplTest extends PmsSdkCoreTestBase {
   public static String PLAN_EXECUTION_ID = "planExecutionId";
   public static String RUNTIME_ID = "runtimeId";
+  private static final String OUTCOME_JSON = "{\"__recast\":\"io.harness.pms.sdk.core.data.StringOutcome\"}";
   OutcomeProtoServiceBlockingStub outcomeProtoServiceBlockingStub;
+  TransputResolveCache transputResolveCache;
   OutcomeGrpcServiceImpl outcomeGrpcService;
 
   @Before
   public void setup() {
     outcomeProtoServiceBlockingStub = Mockito.mock(OutcomeProtoServiceBlockingStub.class);
-    outcomeGrpcService = new OutcomeGrpcServiceImpl(outcomeProtoServiceBlockingStub);
+    transputResolveCache = new TransputResolveCache(true);
+    outcomeGrpcService = new OutcomeGrpcServiceImpl(outcomeProtoServiceBlockingStub, transputResolveCache);
   }
 
   @Test
@@ -147,4 +161,107 @@ public class OutcomeGrpcServiceImplTest extends PmsSdkCoreTestBase {
         .resolveOptional(
             OutcomeResolveOptionalBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
   }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveIsCachedPerExecution() {
+    RefObject refObject = RefObjectUtils.getOutcomeRefObject("test");
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    when(outcomeProtoServiceBlockingStub.resolve(any()))
+        .thenReturn(OutcomeResolveBlobResponse.newBuilder().setStepTransput(OUTCOME_JSON).build());
+
+    assertThat(outcomeGrpcService.resolve(ambiance, refObject)).isInstanceOf(StringOutcome.class);
+    assertThat(outcomeGrpcService.resolve(ambiance, refObject)).isInstanceOf(StringOutcome.class);
+    assertThat(outcomeGrpcService.resolveOptional(ambiance, refObject).isFound()).isTrue();
+
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(1)).resolve(any());
+    Mockito.verify(outcomeProtoServiceBlockingStub, never()).resolveOptional(any());
+    Snapshot snapshot = transputResolveCache.snapshotAndReset().get(TransputType.OUTCOME);
+    assertThat(snapshot.getHits()).isEqualTo(2);
+    assertThat(snapshot.getMisses()).isEqualTo(1);
+    assertThat(snapshot.getGrpcCallsSaved()).isEqualTo(2);
+    assertThat(transputResolveCache.snapshotAndReset()).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveIsNotCachedWhenCacheIsDisabled() {
+    transputResolveCache = new TransputResolveCache(false);
+    outcomeGrpcService = new OutcomeGrpcServiceImpl(outcomeProtoServiceBlockingStub, transputResolveCache);
+    RefObject refObject = RefObjectUtils.getOutcomeRefObject("test");
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    when(outcomeProtoServiceBlockingStub.resolve(any()))
+        .thenReturn(OutcomeResolveBlobResponse.newBuilder().setStepTransput(OUTCOME_JSON).build());
+
+    assertThat(outcomeGrpcService.resolve(ambiance, refObject)).isInstanceOf(StringOutcome.class);
+    assertThat(outcomeGrpcService.resolve(ambiance, refObject)).isInstanceOf(StringOutcome.class);
+
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(2)).resolve(any());
+    Snapshot snapshot = transputResolveCache.snapshotAndReset().get(TransputType.OUTCOME);
+    assertThat(snapshot.getHits()).isEqualTo(0);
+    assertThat(snapshot.getMisses()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testConsumeDropsCachedResolutionsOfExecution() {
+    RefObject refObject = RefObjectUtils.getOutcomeRefObject("test");
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    when(outcomeProtoServiceBlockingStub.resolve(any()))
+        .thenReturn(OutcomeResolveBlobResponse.newBuilder().setStepTransput(OUTCOME_JSON).build());
+    when(outcomeProtoServiceBlockingStub.consume(any()))
+        .thenReturn(OutcomeConsumeBlobResponse.newBuilder().setResponse("id").build());
+
+    outcomeGrpcService.resolve(ambiance, refObject);
+    outcomeGrpcService.resolve(ambiance, refObject);
+    outcomeGrpcService.consume(ambiance, "test", StringOutcome.builder().build(), "groupName");
+    outcomeGrpcService.resolve(ambiance, refObject);
+
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(2)).resolve(any());
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveOptionalManyBatchesMissesAndSkipsNotFound() {
+    RefObject found = RefObjectUtils.getOutcomeRefObject("found");
+    RefObject notFound = RefObjectUtils.getOutcomeRefObject("notFound");
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    when(outcomeProtoServiceBlockingStub.resolveMany(OutcomeResolveManyRequest.newBuilder()
+                                                         .setAmbiance(ambiance)
+                                                         .addRefObjects(found)
+                                                         .addRefObjects(notFound)
+                                                         .build()))
+        .thenReturn(OutcomeResolveManyResponse.newBuilder()
+                        .addResponses(
+                            OutcomeResolveOptionalBlobResponse.newBuilder().setFound(true).setOutcome(OUTCOME_JSON))
+                        .addResponses(OutcomeResolveOptionalBlobResponse.newBuilder().setFound(false))
+                        .build());
+    when(outcomeProtoServiceBlockingStub.resolveOptional(
+             OutcomeResolveOptionalBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(notFound).build()))
+        .thenReturn(OutcomeResolveOptionalBlobResponse.newBuilder().setFound(false).build());
+
+    List<OptionalOutcome> optionalOutcomes =
+        outcomeGrpcService.resolveOptionalMany(ambiance, Lists.newArrayList(found, notFound));
+    assertThat(optionalOutcomes.get(0).isFound()).isTrue();
+    assertThat(optionalOutcomes.get(0).getOutcome()).isInstanceOf(StringOutcome.class);
+    assertThat(optionalOutcomes.get(1).isFound()).isFalse();
+    assertThat(optionalOutcomes.get(1).getOutcome()).isNull();
+
+    // Only the ref that was not found goes to pms again
+    optionalOutcomes = outcomeGrpcService.resolveOptionalMany(ambiance, Lists.newArrayList(found, notFound));
+    assertThat(optionalOutcomes.get(0).isFound()).isTrue();
+    assertThat(optionalOutcomes.get(1).isFound()).isFalse();
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(1)).resolveMany(any());
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(1)).resolveOptional(any());
+
+    Map<TransputType, Snapshot> snapshots = transputResolveCache.snapshotAndReset();
+    assertThat(snapshots).containsOnlyKeys(TransputType.OUTCOME);
+    assertThat(snapshots.get(TransputType.OUTCOME).getLookups()).isEqualTo(4);
+    assertThat(snapshots.get(TransputType.OUTCOME).getGrpcCalls()).isEqualTo(2);
+    assertThat(snapshots.get(TransputType.OUTCOME).getHitRatio()).isEqualTo(0.25);
+  }
 }
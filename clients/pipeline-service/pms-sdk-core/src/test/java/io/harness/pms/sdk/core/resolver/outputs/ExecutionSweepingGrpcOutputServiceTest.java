@@ -9,7 +9,9 @@ package io.harness.pms.sdk.core.resolver.outputs;
 
 import static io.harness.rule.OwnerRule.SAHIL;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,28 +24,37 @@ import io.harness.pms.contracts.service.OptionalSweepingOutputResolveBlobRespons
 import io.harness.pms.contracts.service.SweepingOutputConsumeBlobResponse;
 import io.harness.pms.contracts.service.SweepingOutputResolveBlobRequest;
 import io.harness.pms.contracts.service.SweepingOutputResolveBlobResponse;
+import io.harness.pms.contracts.service.SweepingOutputResolveManyRequest;
+import io.harness.pms.contracts.service.SweepingOutputResolveManyResponse;
 import io.harness.pms.contracts.service.SweepingOutputServiceGrpc;
 import io.harness.pms.sdk.core.AmbianceTestUtils;
 import io.harness.pms.sdk.core.PmsSdkCoreTestBase;
+import io.harness.pms.sdk.core.data.OptionalSweepingOutput;
 import io.harness.pms.sdk.core.resolver.RefObjectUtils;
+import io.harness.pms.sdk.core.resolver.TransputResolveCache;
 import io.harness.rule.Owner;
 
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 @PrepareForTest({SweepingOutputServiceGrpc.SweepingOutputServiceBlockingStub.class})
 public class ExecutionSweepingGrpcOutputServiceTest extends PmsSdkCoreTestBase {
   @Mock SweepingOutputServiceGrpc.SweepingOutputServiceBlockingStub sweepingOutputServiceBlockingStub;
+  @Spy TransputResolveCache transputResolveCache = new TransputResolveCache(true);
   @InjectMocks ExecutionSweepingGrpcOutputService executionSweepingGrpcOutputService;
 
   public void initialize() {
     Mockito.mock(sweepingOutputServiceBlockingStub.getClass());
-    executionSweepingGrpcOutputService = new ExecutionSweepingGrpcOutputService(sweepingOutputServiceBlockingStub);
+    executionSweepingGrpcOutputService =
+        new ExecutionSweepingGrpcOutputService(sweepingOutputServiceBlockingStub, transputResolveCache);
   }
 
   @Test
@@ -89,4 +100,38 @@ public class ExecutionSweepingGrpcOutputServiceTest extends PmsSdkCoreTestBase {
 
     verify(sweepingOutputServiceBlockingStub).consume(any());
   }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveOptionalManyUsesSingleCallAndCachesFound() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    RefObject first = RefObjectUtils.getSweepingOutputRefObject("first");
+    RefObject second = RefObjectUtils.getSweepingOutputRefObject("second");
+    String json = "{\"__recast\":\"io.harness.pms.sdk.core.resolver.outputs.TestExecutionSweepingOutput\"}";
+    when(sweepingOutputServiceBlockingStub.resolveMany(SweepingOutputResolveManyRequest.newBuilder()
+                                                           .setAmbiance(ambiance)
+                                                           .addRefObjects(first)
+                                                           .addRefObjects(second)
+                                                           .build()))
+        .thenReturn(SweepingOutputResolveManyResponse.newBuilder()
+                        .addResponses(
+                            OptionalSweepingOutputResolveBlobResponse.newBuilder().setFound(true).setStepTransput(json))
+                        .addResponses(
+                            OptionalSweepingOutputResolveBlobResponse.newBuilder().setFound(true).setStepTransput(json))
+                        .build());
+
+    List<OptionalSweepingOutput> outputs =
+        executionSweepingGrpcOutputService.resolveOptionalMany(ambiance, Arrays.asList(first, second));
+    assertThat(outputs).hasSize(2);
+    assertThat(outputs.get(0).isFound()).isTrue();
+    assertThat(outputs.get(1).getOutput()).isInstanceOf(TestExecutionSweepingOutput.class);
+
+    assertThat(executionSweepingGrpcOutputService.resolveOptional(ambiance, second).isFound()).isTrue();
+    assertThat(executionSweepingGrpcOutputService.resolve(ambiance, first))
+        .isInstanceOf(TestExecutionSweepingOutput.class);
+    verify(sweepingOutputServiceBlockingStub, times(1)).resolveMany(any());
+    verify(sweepingOutputServiceBlockingStub, times(0)).resolveOptional(any());
+    verify(sweepingOutputServiceBlockingStub, times(0)).resolve(any());
+  }
 }
@@ -69,6 +69,8 @@ public class PmsSdkConfiguration {
           .build();
 
   @Default PipelineSdkRedisEventsConfig pipelineSdkRedisEventsConfig = PipelineSdkRedisEventsConfig.builder().build();
+  // Caches resolved outcomes and sweeping outputs in the pod. Consumes made by other pods do not invalidate it yet.
+  boolean transputResolveCacheEnabled;
 
   public String getServiceName() {
     return moduleType.name().toLowerCase();
@@ -77,6 +77,7 @@ public class PmsSdkModule extends AbstractModule {
                                          .orchestrationEventPoolConfig(config.getOrchestrationEventPoolConfig())
                                          .planCreatorServicePoolConfig(config.getPlanCreatorServiceInternalConfig())
                                          .pipelineSdkRedisEventsConfig(config.getPipelineSdkRedisEventsConfig())
+                                         .transputResolveCacheEnabled(config.isTransputResolveCacheEnabled())
                                          .build()));
     modules.add(
         PmsSdkEventsFrameworkModule.getInstance(config.getEventsFrameworkConfiguration(), config.getServiceName()));
@@ -68,6 +68,8 @@ append_config "clientCertificateKeyFilePath" $DELEGATE_CLIENT_CERTIFICATE_KEY_PA
 append_config "grpcAuthorityModificationDisabled" ${GRPC_AUTHORITY_MODIFICATION_DISABLED:-false}
 # Intended for debugging, has to be set explicitly as its never set in generated yaml.
 append_config "trustAllCertificates" ${TRUST_ALL_CERTIFICATES:-false}
+append_config "perpetualTaskElasticExecutionEnabled" ${PERPETUAL_TASK_ELASTIC_EXECUTION_ENABLED:-false}
+append_config "perpetualTaskMaxConcurrentRunsPerType" $PERPETUAL_TASK_MAX_CONCURRENT_RUNS_PER_TYPE
 
 # 3. Start the delegate
 JAVA_OPTS=${JAVA_OPTS//UseCGroupMemoryLimitForHeap/UseContainerSupport}
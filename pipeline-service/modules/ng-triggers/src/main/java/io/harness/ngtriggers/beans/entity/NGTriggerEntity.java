@@ -18,6 +18,7 @@ import io.harness.iterator.PersistentNGCronIterable;
 import io.harness.mongo.index.CompoundMongoIndex;
 import io.harness.mongo.index.FdIndex;
 import io.harness.mongo.index.MongoIndex;
+import io.harness.mongo.index.SortCompoundMongoIndex;
 import io.harness.ng.DbAliases;
 import io.harness.ng.core.common.beans.NGTag;
 import io.harness.ngtriggers.beans.entity.metadata.NGTriggerMetadata;
@@ -94,6 +95,11 @@ public class NGTriggerEntity implements PersistentEntity, PersistentNGCronIterab
                 .name("accId_signature_index")
                 .field(NGTriggerEntityKeys.accountId)
                 .field("metadata.buildMetadata.pollingConfig.signature")
+                .build(),
+            SortCompoundMongoIndex.builder()
+                .name("accountId_lastModifiedAt_desc")
+                .field(NGTriggerEntityKeys.accountId)
+                .descSortField(NGTriggerEntityKeys.lastModifiedAt)
                 .build())
         .build();
   }
@@ -10,10 +10,12 @@ package io.harness.ngtriggers.eventmapper.filters.impl;
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.ngtriggers.beans.response.TriggerEventResponse.FinalStatus.NO_ENABLED_TRIGGER_FOR_ACCOUNT_SOURCE_REPO;
+import static io.harness.ngtriggers.beans.response.TriggerEventResponse.FinalStatus.NO_MATCHING_TRIGGER_FOR_EVENT_ACTION;
 
 import static java.util.stream.Collectors.toList;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
 import io.harness.ngtriggers.beans.dto.TriggerDetails;
 import io.harness.ngtriggers.beans.dto.eventmapping.WebhookEventMappingResponse;
 import io.harness.ngtriggers.beans.dto.eventmapping.WebhookEventMappingResponse.WebhookEventMappingResponseBuilder;
@@ -22,7 +24,9 @@ import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
 import io.harness.ngtriggers.eventmapper.filters.TriggerFilter;
 import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
 import io.harness.ngtriggers.helpers.TriggerEventResponseHelper;
+import io.harness.ngtriggers.helpers.WebhookTriggerRoutingIndex;
 import io.harness.ngtriggers.service.NGTriggerService;
+import io.harness.utils.PmsFeatureFlagService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -36,24 +40,22 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(PIPELINE)
 public class AccountTriggerFilter implements TriggerFilter {
   private final NGTriggerService ngTriggerService;
+  private final WebhookTriggerRoutingIndex webhookTriggerRoutingIndex;
+  private final PmsFeatureFlagService pmsFeatureFlagService;
 
   @Override
   public WebhookEventMappingResponse applyFilter(FilterRequestData filterRequestData) {
     WebhookEventMappingResponseBuilder builder = initWebhookEventMappingResponse(filterRequestData);
     TriggerWebhookEvent triggerWebhookEvent = filterRequestData.getWebhookPayloadData().getOriginalEvent();
+    if (pmsFeatureFlagService.isEnabled(
+            triggerWebhookEvent.getAccountId(), FeatureName.WEBHOOK_TRIGGER_ROUTING_INDEX)) {
+      return applyRoutingIndex(builder, filterRequestData);
+    }
     List<NGTriggerEntity> triggersForAccount =
         ngTriggerService.findTriggersForWehbookBySourceRepoType(triggerWebhookEvent, false, true);
 
     if (isEmpty(triggersForAccount)) {
-      String errorMsg = new StringBuilder(256)
-                            .append("No enabled trigger found for Account:")
-                            .append(triggerWebhookEvent.getAccountId())
-                            .append(", SourceRepoType: ")
-                            .append(triggerWebhookEvent.getSourceRepoType())
-                            .toString();
-      log.info(errorMsg);
-      builder.failedToFindTrigger(true).webhookEventResponse(TriggerEventResponseHelper.toResponse(
-          NO_ENABLED_TRIGGER_FOR_ACCOUNT_SOURCE_REPO, triggerWebhookEvent, null, null, errorMsg, null));
+      addNoEnabledTriggerResponse(builder, triggerWebhookEvent);
     } else {
       addDetails(builder, filterRequestData,
           triggersForAccount.stream()
@@ -63,4 +65,38 @@ public class AccountTriggerFilter implements TriggerFilter {
 
     return builder.build();
   }
+
+  private void addNoEnabledTriggerResponse(
+      WebhookEventMappingResponseBuilder builder, TriggerWebhookEvent triggerWebhookEvent) {
+    String errorMsg = new StringBuilder(256)
+                          .append("No enabled trigger found for Account:")
+                          .append(triggerWebhookEvent.getAccountId())
+                          .append(", SourceRepoType: ")
+                          .append(triggerWebhookEvent.getSourceRepoType())
+                          .toString();
+    log.info(errorMsg);
+    builder.failedToFindTrigger(true).webhookEventResponse(TriggerEventResponseHelper.toResponse(
+        NO_ENABLED_TRIGGER_FOR_ACCOUNT_SOURCE_REPO, triggerWebhookEvent, null, null, errorMsg, null));
+  }
+
+  private WebhookEventMappingResponse applyRoutingIndex(
+      WebhookEventMappingResponseBuilder builder, FilterRequestData filterRequestData) {
+    TriggerWebhookEvent triggerWebhookEvent = filterRequestData.getWebhookPayloadData().getOriginalEvent();
+    List<TriggerDetails> candidateTriggers = webhookTriggerRoutingIndex.findCandidateTriggers(
+        triggerWebhookEvent, filterRequestData.getWebhookPayloadData().getWebhookEvent());
+
+    if (candidateTriggers == null) {
+      addNoEnabledTriggerResponse(builder, triggerWebhookEvent);
+    } else if (isEmpty(candidateTriggers)) {
+      log.info("No trigger matched event type and action of the payload");
+      builder.failedToFindTrigger(true).webhookEventResponse(
+          TriggerEventResponseHelper.toResponse(NO_MATCHING_TRIGGER_FOR_EVENT_ACTION, triggerWebhookEvent, null, null,
+              "No Trigger matched conditions for payload event for Account: " + filterRequestData.getAccountId(),
+              null));
+    } else {
+      addDetails(builder, filterRequestData, candidateTriggers);
+    }
+
+    return builder.build();
+  }
 }
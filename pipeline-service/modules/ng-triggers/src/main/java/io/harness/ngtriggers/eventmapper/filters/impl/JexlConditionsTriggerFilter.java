@@ -20,6 +20,7 @@ import io.harness.ngtriggers.beans.source.NGTriggerSpecV2;
 import io.harness.ngtriggers.beans.source.webhook.v2.WebhookTriggerConfigV2;
 import io.harness.ngtriggers.eventmapper.filters.TriggerFilter;
 import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
+import io.harness.ngtriggers.expressions.TriggerExpressionEvaluator;
 import io.harness.ngtriggers.helpers.TriggerEventResponseHelper;
 import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
 import io.harness.ngtriggers.utils.WebhookTriggerFilterUtils;
@@ -42,6 +43,9 @@ public class JexlConditionsTriggerFilter implements TriggerFilter {
   public WebhookEventMappingResponse applyFilter(FilterRequestData filterRequestData) {
     WebhookEventMappingResponseBuilder mappingResponseBuilder = initWebhookEventMappingResponse(filterRequestData);
     List<TriggerDetails> matchedTriggers = new ArrayList<>();
+    // One evaluator of the payload is shared by all the triggers
+    TriggerExpressionEvaluator triggerExpressionEvaluator =
+        WebhookTriggerFilterUtils.generatorPMSExpressionEvaluator(filterRequestData.getWebhookPayloadData());
 
     for (TriggerDetails trigger : filterRequestData.getDetails()) {
       try {
@@ -54,7 +58,7 @@ public class JexlConditionsTriggerFilter implements TriggerFilter {
                                             .ngTriggerConfigV2(ngTriggerConfig)
                                             .ngTriggerEntity(trigger.getNgTriggerEntity())
                                             .build();
-        if (checkTriggerEligibility(filterRequestData, triggerDetails)) {
+        if (checkTriggerEligibility(triggerExpressionEvaluator, triggerDetails)) {
           matchedTriggers.add(triggerDetails);
         }
       } catch (Exception e) {
@@ -77,6 +81,13 @@ public class JexlConditionsTriggerFilter implements TriggerFilter {
   }
 
   boolean checkTriggerEligibility(FilterRequestData filterRequestData, TriggerDetails triggerDetails) {
+    return checkTriggerEligibility(
+        WebhookTriggerFilterUtils.generatorPMSExpressionEvaluator(filterRequestData.getWebhookPayloadData()),
+        triggerDetails);
+  }
+
+  boolean checkTriggerEligibility(
+      TriggerExpressionEvaluator triggerExpressionEvaluator, TriggerDetails triggerDetails) {
     NGTriggerSpecV2 spec = triggerDetails.getNgTriggerConfigV2().getSource().getSpec();
     if (!WebhookTriggerConfigV2.class.isAssignableFrom(spec.getClass())) {
       log.error("Trigger spec is not a WebhookTriggerConfig");
@@ -85,9 +96,6 @@ public class JexlConditionsTriggerFilter implements TriggerFilter {
 
     WebhookTriggerConfigV2 webhookTriggerConfig = (WebhookTriggerConfigV2) spec;
     return WebhookTriggerFilterUtils.checkIfJexlConditionsMatch(
-        filterRequestData.getWebhookPayloadData().getParseWebhookResponse(),
-        filterRequestData.getWebhookPayloadData().getOriginalEvent().getHeaders(),
-        filterRequestData.getWebhookPayloadData().getOriginalEvent().getPayload(),
-        webhookTriggerConfig.getSpec().fetchPayloadAware().fetchJexlCondition());
+        triggerExpressionEvaluator, webhookTriggerConfig.getSpec().fetchPayloadAware().fetchJexlCondition());
   }
 }
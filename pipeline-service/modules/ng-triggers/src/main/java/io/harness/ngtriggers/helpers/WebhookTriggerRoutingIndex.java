@@ -0,0 +1,271 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ngtriggers.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.ngtriggers.beans.source.webhook.WebhookAction.BT_PULL_REQUEST_UPDATED;
+
+import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.WebhookEvent;
+import io.harness.ngtriggers.beans.config.NGTriggerConfigV2;
+import io.harness.ngtriggers.beans.dto.TriggerDetails;
+import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
+import io.harness.ngtriggers.beans.entity.NGTriggerEntity.NGTriggerEntityKeys;
+import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
+import io.harness.ngtriggers.beans.source.NGTriggerSpecV2;
+import io.harness.ngtriggers.beans.source.webhook.v2.WebhookTriggerConfigV2;
+import io.harness.ngtriggers.beans.source.webhook.v2.WebhookTriggerSpecV2;
+import io.harness.ngtriggers.beans.source.webhook.v2.bitbucket.action.BitbucketPRAction;
+import io.harness.ngtriggers.beans.source.webhook.v2.git.GitAction;
+import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
+import io.harness.ngtriggers.mapper.TriggerFilterHelper;
+import io.harness.ngtriggers.utils.WebhookTriggerFilterUtils;
+import io.harness.repositories.spring.NGTriggerRepository;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * In-memory index of the enabled webhook triggers of an account, keyed by source repo type, event type and action, so
+ * that a git webhook event only has to go through the filter chain for the handful of triggers which can match it.
+ * Trigger configs are parsed once when the index is built and handed to the filters with the triggers.
+ *
+ * <p>The index of an account is rebuilt when the most recent lastModifiedAt of its triggers moves, which every trigger
+ * write updates, and dropped on trigger CRUD in this process. The routed triggers are read again by id, so triggers
+ * hard deleted by another process are not returned. Entries also expire after a while, which bounds how long a write
+ * hidden by clock skew between processes can go unnoticed.
+ */
+@Singleton
+@Slf4j
+@OwnedBy(PIPELINE)
+public class WebhookTriggerRoutingIndex {
+  private static final long MAX_ACCOUNTS = 10000;
+  private static final long EXPIRY_MINUTES = 5;
+
+  private final NGTriggerRepository ngTriggerRepository;
+  private final NGTriggerElementMapper ngTriggerElementMapper;
+  private final Cache<String, AccountRoutes> routesByAccount;
+
+  @Inject
+  public WebhookTriggerRoutingIndex(
+      NGTriggerRepository ngTriggerRepository, NGTriggerElementMapper ngTriggerElementMapper) {
+    this.ngTriggerRepository = ngTriggerRepository;
+    this.ngTriggerElementMapper = ngTriggerElementMapper;
+    this.routesByAccount = CacheBuilder.newBuilder()
+                               .maximumSize(MAX_ACCOUNTS)
+                               .expireAfterWrite(EXPIRY_MINUTES, TimeUnit.MINUTES)
+                               .build();
+  }
+
+  /**
+   * Returns the enabled triggers of the account and source repo type of the event which can match its event type and
+   * action, or null if the account has no enabled trigger for the source repo type at all.
+   */
+  public List<TriggerDetails> findCandidateTriggers(
+      TriggerWebhookEvent triggerWebhookEvent, WebhookEvent webhookEvent) {
+    AccountRoutes accountRoutes = getAccountRoutes(triggerWebhookEvent.getAccountId());
+    RepoRoutes repoRoutes = accountRoutes.getRoutesByRepoType().get(toKey(triggerWebhookEvent.getSourceRepoType()));
+    if (repoRoutes == null) {
+      return null;
+    }
+
+    Map<String, RoutedTrigger> candidates = repoRoutes.route(webhookEvent);
+    if (candidates.isEmpty()) {
+      return emptyList();
+    }
+
+    // Read the candidates again so that triggers deleted since the index was built are left out
+    List<TriggerDetails> triggerDetails = new ArrayList<>();
+    Criteria criteria = Criteria.where(NGTriggerEntityKeys.uuid)
+                            .in(candidates.keySet())
+                            .and(NGTriggerEntityKeys.deleted)
+                            .is(false)
+                            .and(NGTriggerEntityKeys.enabled)
+                            .is(true);
+    for (NGTriggerEntity ngTriggerEntity : ngTriggerRepository.findAll(criteria, Pageable.unpaged())) {
+      RoutedTrigger routedTrigger = candidates.get(ngTriggerEntity.getUuid());
+      NGTriggerConfigV2 ngTriggerConfig =
+          Objects.equals(routedTrigger.getLastModifiedAt(), ngTriggerEntity.getLastModifiedAt())
+          ? routedTrigger.getNgTriggerConfig()
+          : null;
+      triggerDetails.add(
+          TriggerDetails.builder().ngTriggerEntity(ngTriggerEntity).ngTriggerConfigV2(ngTriggerConfig).build());
+    }
+    return triggerDetails;
+  }
+
+  public void invalidate(String accountId) {
+    routesByAccount.invalidate(accountId);
+  }
+
+  private AccountRoutes getAccountRoutes(String accountId) {
+    // The version is read before the triggers, so a write racing with the build moves it past the built index
+    Long lastModifiedAt = ngTriggerRepository.findLastModifiedAt(accountId);
+    AccountRoutes accountRoutes = routesByAccount.getIfPresent(accountId);
+    if (accountRoutes == null || !Objects.equals(accountRoutes.getLastModifiedAt(), lastModifiedAt)) {
+      accountRoutes = buildAccountRoutes(accountId, lastModifiedAt);
+      routesByAccount.put(accountId, accountRoutes);
+    }
+    return accountRoutes;
+  }
+
+  @VisibleForTesting
+  AccountRoutes buildAccountRoutes(String accountId, Long lastModifiedAt) {
+    long startTs = System.currentTimeMillis();
+    Criteria criteria = TriggerFilterHelper.createCriteriaForWebhookTriggerGetList(
+        accountId, null, null, emptyList(), EMPTY, false, true);
+    Map<String, RepoRoutes> routesByRepoType = new HashMap<>();
+    int count = 0;
+    for (NGTriggerEntity ngTriggerEntity : ngTriggerRepository.findAll(criteria, Pageable.unpaged())) {
+      if (ngTriggerEntity.getMetadata() == null || ngTriggerEntity.getMetadata().getWebhook() == null) {
+        continue;
+      }
+      String repoType = toKey(ngTriggerEntity.getMetadata().getWebhook().getType());
+      routesByRepoType.computeIfAbsent(repoType, k -> new RepoRoutes()).add(toRoutedTrigger(ngTriggerEntity));
+      count++;
+    }
+    log.info("Built webhook trigger routing index of [{}] triggers for account [{}] in [{}ms]", count, accountId,
+        System.currentTimeMillis() - startTs);
+    return new AccountRoutes(lastModifiedAt, routesByRepoType);
+  }
+
+  private RoutedTrigger toRoutedTrigger(NGTriggerEntity ngTriggerEntity) {
+    NGTriggerConfigV2 ngTriggerConfig = null;
+    WebhookTriggerSpecV2 webhookTriggerSpec = null;
+    try {
+      ngTriggerConfig = ngTriggerElementMapper.toTriggerConfigV2(ngTriggerEntity);
+      NGTriggerSpecV2 spec = ngTriggerConfig.getSource().getSpec();
+      if (spec instanceof WebhookTriggerConfigV2) {
+        webhookTriggerSpec = ((WebhookTriggerConfigV2) spec).getSpec();
+      }
+    } catch (Exception e) {
+      // Routed to every event of its source repo type, for the filters to report
+      log.warn("Failed to parse Trigger [{}] for routing", ngTriggerEntity.getIdentifier(), e);
+    }
+    return new RoutedTrigger(
+        ngTriggerEntity.getUuid(), ngTriggerEntity.getLastModifiedAt(), ngTriggerConfig, webhookTriggerSpec);
+  }
+
+  private static String toKey(String value) {
+    return value == null ? EMPTY : value.toLowerCase(Locale.ROOT);
+  }
+
+  @Value
+  @VisibleForTesting
+  static class AccountRoutes {
+    Long lastModifiedAt;
+    Map<String, RepoRoutes> routesByRepoType;
+  }
+
+  @Value
+  static class RoutedTrigger {
+    String uuid;
+    Long lastModifiedAt;
+    NGTriggerConfigV2 ngTriggerConfig;
+    WebhookTriggerSpecV2 webhookTriggerSpec;
+  }
+
+  @VisibleForTesting
+  static class RepoRoutes {
+    private final List<RoutedTrigger> unrouted = new ArrayList<>();
+    private final Map<WebhookEvent.Type, ActionRoutes> routesByEventType = new EnumMap<>(WebhookEvent.Type.class);
+
+    void add(RoutedTrigger routedTrigger) {
+      WebhookTriggerSpecV2 webhookTriggerSpec = routedTrigger.getWebhookTriggerSpec();
+      if (webhookTriggerSpec == null || webhookTriggerSpec.fetchGitAware() == null) {
+        unrouted.add(routedTrigger);
+        return;
+      }
+      List<WebhookEvent.Type> eventTypes = new ArrayList<>();
+      try {
+        for (WebhookEvent.Type eventType : WebhookEvent.Type.values()) {
+          if (WebhookTriggerFilterUtils.checkIfEventTypeMatches(eventType, webhookTriggerSpec)) {
+            eventTypes.add(eventType);
+          }
+        }
+      } catch (Exception e) {
+        unrouted.add(routedTrigger);
+        return;
+      }
+      eventTypes.forEach(
+          eventType -> routesByEventType.computeIfAbsent(eventType, k -> new ActionRoutes()).add(routedTrigger));
+    }
+
+    Map<String, RoutedTrigger> route(WebhookEvent webhookEvent) {
+      Map<String, RoutedTrigger> candidates = new HashMap<>();
+      unrouted.forEach(routedTrigger -> candidates.put(routedTrigger.getUuid(), routedTrigger));
+      if (webhookEvent == null || webhookEvent.getType() == null) {
+        routesByEventType.values().forEach(actionRoutes -> actionRoutes.addAll(candidates));
+        return candidates;
+      }
+      ActionRoutes actionRoutes = routesByEventType.get(webhookEvent.getType());
+      if (actionRoutes != null) {
+        String action = webhookEvent.getBaseAttributes() == null ? null : webhookEvent.getBaseAttributes().getAction();
+        actionRoutes.route(action, candidates);
+      }
+      return candidates;
+    }
+  }
+
+  private static class ActionRoutes {
+    private final List<RoutedTrigger> all = new ArrayList<>();
+    private final List<RoutedTrigger> anyAction = new ArrayList<>();
+    private final Map<String, List<RoutedTrigger>> byAction = new HashMap<>();
+
+    void add(RoutedTrigger routedTrigger) {
+      all.add(routedTrigger);
+      List<GitAction> actions = routedTrigger.getWebhookTriggerSpec().fetchGitAware().fetchActions();
+      if (isEmpty(actions)) {
+        anyAction.add(routedTrigger);
+        return;
+      }
+      Set<String> keys = new LinkedHashSet<>();
+      actions.forEach(action -> keys.add(toKey(action.getParsedValue())));
+      // Bitbucket Server sends "open" for updated pull requests, see WebhookTriggerFilterUtils
+      if (actions.contains(BT_PULL_REQUEST_UPDATED)) {
+        keys.add(toKey(BitbucketPRAction.CREATE.getParsedValue()));
+      }
+      keys.forEach(key -> byAction.computeIfAbsent(key, k -> new ArrayList<>()).add(routedTrigger));
+    }
+
+    void route(String action, Map<String, RoutedTrigger> candidates) {
+      if (isEmpty(action)) {
+        addAll(candidates);
+        return;
+      }
+      anyAction.forEach(routedTrigger -> candidates.put(routedTrigger.getUuid(), routedTrigger));
+      byAction.getOrDefault(toKey(action), emptyList())
+          .forEach(routedTrigger -> candidates.put(routedTrigger.getUuid(), routedTrigger));
+    }
+
+    void addAll(Map<String, RoutedTrigger> candidates) {
+      all.forEach(routedTrigger -> candidates.put(routedTrigger.getUuid(), routedTrigger));
+    }
+  }
+}
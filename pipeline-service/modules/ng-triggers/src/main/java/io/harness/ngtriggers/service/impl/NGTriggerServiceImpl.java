@@ -74,6 +74,7 @@ import io.harness.ngtriggers.events.TriggerUpdateEvent;
 import io.harness.ngtriggers.exceptions.InvalidTriggerYamlException;
 import io.harness.ngtriggers.helpers.TriggerCatalogHelper;
 import io.harness.ngtriggers.helpers.TriggerHelper;
+import io.harness.ngtriggers.helpers.WebhookTriggerRoutingIndex;
 import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
 import io.harness.ngtriggers.mapper.TriggerFilterHelper;
 import io.harness.ngtriggers.service.NGTriggerService;
@@ -168,6 +169,7 @@ public class NGTriggerServiceImpl implements NGTriggerService {
 
   private final PmsFeatureFlagService pmsFeatureFlagService;
   private final BuildTriggerHelper validationHelper;
+  private final WebhookTriggerRoutingIndex webhookTriggerRoutingIndex;
   private static final String PIPELINE = "pipeline";
   private static final String TRIGGER = "trigger";
   private static final String INPUT_YAML = "inputYaml";
@@ -178,6 +180,7 @@ public class NGTriggerServiceImpl implements NGTriggerService {
   public NGTriggerEntity create(NGTriggerEntity ngTriggerEntity) {
     try {
       NGTriggerEntity savedNgTriggerEntity = ngTriggerRepository.save(ngTriggerEntity);
+      webhookTriggerRoutingIndex.invalidate(savedNgTriggerEntity.getAccountId());
       performPostUpsertFlow(savedNgTriggerEntity, false);
       outboxService.save(new TriggerCreateEvent(ngTriggerEntity.getAccountId(), ngTriggerEntity.getOrgIdentifier(),
           ngTriggerEntity.getProjectIdentifier(), savedNgTriggerEntity));
@@ -359,6 +362,7 @@ public class NGTriggerServiceImpl implements NGTriggerService {
       throw new InvalidRequestException(
           String.format("NGTrigger [%s] couldn't be updated or doesn't exist", ngTriggerEntity.getIdentifier()));
     }
+    webhookTriggerRoutingIndex.invalidate(updatedEntity.getAccountId());
 
     performPostUpsertFlow(updatedEntity, true);
     return updatedEntity;
@@ -395,6 +399,7 @@ public class NGTriggerServiceImpl implements NGTriggerService {
     if (!hardDeleteResult.wasAcknowledged()) {
       throw new InvalidRequestException(String.format("NGTrigger [%s] couldn't hard delete", identifier));
     }
+    webhookTriggerRoutingIndex.invalidate(accountId);
     log.info("NGTrigger {} hard delete successful", identifier);
 
     if (ngTriggerEntity.isPresent()) {
@@ -52,6 +52,9 @@ import org.apache.commons.lang3.StringUtils;
 @UtilityClass
 @Slf4j
 public class WebhookTriggerFilterUtils {
+  private static final Pattern HEADER_CONDITION_PATTERN =
+      Pattern.compile("(<\\+trigger.header\\[[\\'|\"])(.*?)([\\'|\"]\\]>)");
+
   public boolean evaluateEventAndActionFilters(
       WebhookPayloadData webhookPayloadData, WebhookTriggerSpecV2 webhookTriggerConfigSpec) {
     return checkIfEventTypeMatches(webhookPayloadData.getWebhookEvent().getType(), webhookTriggerConfigSpec)
@@ -185,10 +188,21 @@ public class WebhookTriggerFilterUtils {
       return true;
     }
 
-    jexlExpression = sanitiseHeaderConditionsForJexl(jexlExpression);
+    return checkIfJexlConditionsMatch(
+        generatorPMSExpressionEvaluator(parseWebhookResponse, headers, payload), jexlExpression);
+  }
 
-    TriggerExpressionEvaluator triggerExpressionEvaluator =
-        generatorPMSExpressionEvaluator(parseWebhookResponse, headers, payload);
+  /**
+   * Evaluates the jexl condition with an evaluator of the payload, which can be shared by the triggers matched against
+   * the same event.
+   */
+  public boolean checkIfJexlConditionsMatch(
+      TriggerExpressionEvaluator triggerExpressionEvaluator, String jexlExpression) {
+    if (isBlank(jexlExpression)) {
+      return true;
+    }
+
+    jexlExpression = sanitiseHeaderConditionsForJexl(jexlExpression);
     Object result = triggerExpressionEvaluator.evaluateExpression(jexlExpression);
     if (result != null && Boolean.class.isAssignableFrom(result.getClass())) {
       return (Boolean) result;
@@ -219,8 +233,7 @@ public class WebhookTriggerFilterUtils {
     }
 
     try {
-      Pattern p = Pattern.compile("(<\\+trigger.header\\[[\\'|\"])(.*?)([\\'|\"]\\]>)");
-      Matcher m = p.matcher(expresion);
+      Matcher m = HEADER_CONDITION_PATTERN.matcher(expresion);
 
       while (m.find()) {
         expresion = expresion.replace(
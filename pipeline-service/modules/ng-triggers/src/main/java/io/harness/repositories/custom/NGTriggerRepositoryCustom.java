@@ -24,4 +24,5 @@ public interface NGTriggerRepositoryCustom {
   NGTriggerEntity updateValidationStatus(Criteria criteria, NGTriggerEntity ngTriggerEntity);
   NGTriggerEntity updateValidationStatusAndMetadata(Criteria criteria, NGTriggerEntity ngTriggerEntity);
   DeleteResult hardDelete(Criteria criteria);
+  Long findLastModifiedAt(String accountId);
 }
@@ -25,6 +25,7 @@ import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -50,6 +51,7 @@ public class NGTriggerRepositoryCustomImpl implements NGTriggerRepositoryCustom
   public NGTriggerEntity update(Criteria criteria, NGTriggerEntity ngTriggerEntity) {
     Query query = new Query(criteria);
     Update update = TriggerFilterHelper.getUpdateOperations(ngTriggerEntity);
+    update.set(NGTriggerEntityKeys.lastModifiedAt, System.currentTimeMillis());
     RetryPolicy<Object> retryPolicy = getRetryPolicy(
         "[Retrying]: Failed updating Trigger; attempt: {}", "[Failed]: Failed updating Trigger; attempt: {}");
     return Failsafe.with(retryPolicy)
@@ -64,6 +66,7 @@ public class NGTriggerRepositoryCustomImpl implements NGTriggerRepositoryCustom
     Update update = new Update();
     update.set(NGTriggerEntityKeys.triggerStatus, ngTriggerEntity.getTriggerStatus());
     update.set(NGTriggerEntityKeys.enabled, ngTriggerEntity.getEnabled());
+    update.set(NGTriggerEntityKeys.lastModifiedAt, System.currentTimeMillis());
     RetryPolicy<Object> retryPolicy = getRetryPolicy(
         "[Retrying]: Failed updating Trigger; attempt: {}", "[Failed]: Failed updating Trigger; attempt: {}");
     return Failsafe.with(retryPolicy)
@@ -78,6 +81,7 @@ public class NGTriggerRepositoryCustomImpl implements NGTriggerRepositoryCustom
     Update update = new Update();
     update.set(NGTriggerEntityKeys.triggerStatus, ngTriggerEntity.getTriggerStatus());
     update.set(NGTriggerEntityKeys.metadata, ngTriggerEntity.getMetadata());
+    update.set(NGTriggerEntityKeys.lastModifiedAt, System.currentTimeMillis());
     RetryPolicy<Object> retryPolicy = getRetryPolicy(
         "[Retrying]: Failed updating Trigger; attempt: {}", "[Failed]: Failed updating Trigger; attempt: {}");
     return Failsafe.with(retryPolicy)
@@ -94,6 +98,16 @@ public class NGTriggerRepositoryCustomImpl implements NGTriggerRepositoryCustom
     return Failsafe.with(retryPolicy).get(() -> mongoTemplate.remove(query, NGTriggerEntity.class));
   }
 
+  @Override
+  public Long findLastModifiedAt(String accountId) {
+    Query query = new Query(Criteria.where(NGTriggerEntityKeys.accountId).is(accountId))
+                      .with(Sort.by(Sort.Direction.DESC, NGTriggerEntityKeys.lastModifiedAt))
+                      .limit(1);
+    query.fields().include(NGTriggerEntityKeys.lastModifiedAt);
+    NGTriggerEntity lastModified = mongoTemplate.findOne(query, NGTriggerEntity.class);
+    return lastModified == null ? null : lastModified.getLastModifiedAt();
+  }
+
   private RetryPolicy<Object> getRetryPolicy(String failedAttemptMessage, String failureMessage) {
     return PersistenceUtils.getRetryPolicy(failedAttemptMessage, failureMessage);
   }
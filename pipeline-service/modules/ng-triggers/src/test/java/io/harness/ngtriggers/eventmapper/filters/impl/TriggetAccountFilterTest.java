@@ -9,14 +9,19 @@ package io.harness.ngtriggers.eventmapper.filters.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
 import static io.harness.ngtriggers.beans.response.TriggerEventResponse.FinalStatus.NO_ENABLED_TRIGGER_FOR_ACCOUNT_SOURCE_REPO;
+import static io.harness.ngtriggers.beans.response.TriggerEventResponse.FinalStatus.NO_MATCHING_TRIGGER_FOR_EVENT_ACTION;
 import static io.harness.rule.OwnerRule.ADWAIT;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.beans.PRWebhookEvent;
 import io.harness.category.element.UnitTests;
 import io.harness.ngtriggers.beans.dto.TriggerDetails;
 import io.harness.ngtriggers.beans.dto.eventmapping.WebhookEventMappingResponse;
@@ -24,12 +29,15 @@ import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
 import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
 import io.harness.ngtriggers.beans.scm.WebhookPayloadData;
 import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
+import io.harness.ngtriggers.helpers.WebhookTriggerRoutingIndex;
 import io.harness.ngtriggers.service.NGTriggerService;
 import io.harness.rule.Owner;
+import io.harness.utils.PmsFeatureFlagService;
 
 import com.google.inject.Inject;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,6 +49,8 @@ import org.powermock.api.mockito.PowerMockito;
 @OwnedBy(PIPELINE)
 public class TriggetAccountFilterTest extends CategoryTest {
   @Mock private NGTriggerService ngTriggerService;
+  @Mock private WebhookTriggerRoutingIndex webhookTriggerRoutingIndex;
+  @Mock private PmsFeatureFlagService pmsFeatureFlagService;
   @Inject @InjectMocks AccountTriggerFilter accountTriggerFilter;
 
   @Before
@@ -90,4 +100,40 @@ public class TriggetAccountFilterTest extends CategoryTest {
         triggerDetails.stream().map(triggerDetails1 -> triggerDetails1.getNgTriggerEntity()).collect(toList());
     assertThat(entities).containsExactlyInAnyOrder(t1, t2);
   }
+
+  @Test
+  @Owner(developers = ADWAIT)
+  @Category(UnitTests.class)
+  public void applyAccountFilterWithRoutingIndex() {
+    TriggerWebhookEvent triggerWebhookEvent =
+        TriggerWebhookEvent.builder().accountId("acc").sourceRepoType("GITHUB").build();
+    PRWebhookEvent webhookEvent = PRWebhookEvent.builder().build();
+    FilterRequestData filterRequestData =
+        FilterRequestData.builder()
+            .accountId("acc")
+            .webhookPayloadData(
+                WebhookPayloadData.builder().originalEvent(triggerWebhookEvent).webhookEvent(webhookEvent).build())
+            .build();
+    when(pmsFeatureFlagService.isEnabled("acc", FeatureName.WEBHOOK_TRIGGER_ROUTING_INDEX)).thenReturn(true);
+    TriggerDetails routed =
+        TriggerDetails.builder().ngTriggerEntity(NGTriggerEntity.builder().identifier("T1").build()).build();
+    when(webhookTriggerRoutingIndex.findCandidateTriggers(triggerWebhookEvent, webhookEvent))
+        .thenReturn(null)
+        .thenReturn(Collections.emptyList())
+        .thenReturn(Collections.singletonList(routed));
+
+    WebhookEventMappingResponse webhookEventMappingResponse = accountTriggerFilter.applyFilter(filterRequestData);
+    assertThat(webhookEventMappingResponse.getWebhookEventResponse().getFinalStatus())
+        .isEqualTo(NO_ENABLED_TRIGGER_FOR_ACCOUNT_SOURCE_REPO);
+
+    webhookEventMappingResponse = accountTriggerFilter.applyFilter(filterRequestData);
+    assertThat(webhookEventMappingResponse.isFailedToFindTrigger()).isTrue();
+    assertThat(webhookEventMappingResponse.getWebhookEventResponse().getFinalStatus())
+        .isEqualTo(NO_MATCHING_TRIGGER_FOR_EVENT_ACTION);
+
+    webhookEventMappingResponse = accountTriggerFilter.applyFilter(filterRequestData);
+    assertThat(webhookEventMappingResponse.isFailedToFindTrigger()).isFalse();
+    assertThat(webhookEventMappingResponse.getTriggers()).containsExactly(routed);
+    verifyZeroInteractions(ngTriggerService);
+  }
 }
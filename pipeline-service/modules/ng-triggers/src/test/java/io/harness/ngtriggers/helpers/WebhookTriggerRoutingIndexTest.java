@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ngtriggers.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.ADWAIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.PRWebhookEvent;
+import io.harness.beans.PushWebhookEvent;
+import io.harness.beans.WebhookBaseAttributes;
+import io.harness.category.element.UnitTests;
+import io.harness.ngtriggers.beans.config.NGTriggerConfigV2;
+import io.harness.ngtriggers.beans.dto.TriggerDetails;
+import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
+import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
+import io.harness.ngtriggers.beans.entity.metadata.NGTriggerMetadata;
+import io.harness.ngtriggers.beans.entity.metadata.WebhookMetadata;
+import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
+import io.harness.repositories.spring.NGTriggerRepository;
+import io.harness.rule.Owner;
+import io.harness.utils.YamlPipelineUtils;
+
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+@OwnedBy(PIPELINE)
+public class WebhookTriggerRoutingIndexTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "acc";
+
+  @Mock NGTriggerRepository ngTriggerRepository;
+  @Mock NGTriggerElementMapper ngTriggerElementMapper;
+  WebhookTriggerRoutingIndex webhookTriggerRoutingIndex;
+
+  NGTriggerEntity prTrigger;
+  NGTriggerEntity pushTrigger;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    webhookTriggerRoutingIndex = new WebhookTriggerRoutingIndex(ngTriggerRepository, ngTriggerElementMapper);
+    prTrigger = trigger("pr", "ng-trigger-github-pr-v2.yaml");
+    pushTrigger = trigger("push", "ng-trigger-github-push-v2.yaml");
+    when(ngTriggerRepository.findLastModifiedAt(ACCOUNT_ID)).thenReturn(1L);
+  }
+
+  @Test
+  @Owner(developers = ADWAIT)
+  @Category(UnitTests.class)
+  public void testRouteByEventTypeAndAction() {
+    doReturn(new PageImpl<>(Arrays.asList(prTrigger, pushTrigger)))
+        .doReturn(new PageImpl<>(Collections.singletonList(prTrigger)))
+        .when(ngTriggerRepository)
+        .findAll(any(Criteria.class), any(Pageable.class));
+
+    List<TriggerDetails> candidates = webhookTriggerRoutingIndex.findCandidateTriggers(
+        event("GITHUB"), PRWebhookEvent.builder().baseAttributes(action("open")).build());
+
+    assertThat(candidates).hasSize(1);
+    assertThat(candidates.get(0).getNgTriggerEntity()).isEqualTo(prTrigger);
+    assertThat(candidates.get(0).getNgTriggerConfigV2()).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = ADWAIT)
+  @Category(UnitTests.class)
+  public void testNoRouteForActionOrRepoType() {
+    doReturn(new PageImpl<>(Arrays.asList(prTrigger, pushTrigger)))
+        .when(ngTriggerRepository)
+        .findAll(any(Criteria.class), any(Pageable.class));
+
+    assertThat(webhookTriggerRoutingIndex.findCandidateTriggers(
+                   event("GITHUB"), PRWebhookEvent.builder().baseAttributes(action("assigned")).build()))
+        .isEmpty();
+    assertThat(webhookTriggerRoutingIndex.findCandidateTriggers(
+                   event("GITLAB"), PushWebhookEvent.builder().baseAttributes(action("")).build()))
+        .isNull();
+    // Built once while the version does not move
+    verify(ngTriggerRepository, times(1)).findAll(any(Criteria.class), any(Pageable.class));
+  }
+
+  @Test
+  @Owner(developers = ADWAIT)
+  @Category(UnitTests.class)
+  public void testRebuildWhenVersionMoves() {
+    doReturn(new PageImpl<>(Collections.singletonList(prTrigger)))
+        .when(ngTriggerRepository)
+        .findAll(any(Criteria.class), any(Pageable.class));
+    PushWebhookEvent pushEvent = PushWebhookEvent.builder().baseAttributes(action("")).build();
+    assertThat(webhookTriggerRoutingIndex.findCandidateTriggers(event("GITHUB"), pushEvent)).isEmpty();
+
+    when(ngTriggerRepository.findLastModifiedAt(ACCOUNT_ID)).thenReturn(2L);
+    doReturn(new PageImpl<>(Arrays.asList(prTrigger, pushTrigger)))
+        .doReturn(new PageImpl<>(Collections.singletonList(pushTrigger)))
+        .when(ngTriggerRepository)
+        .findAll(any(Criteria.class), any(Pageable.class));
+
+    List<TriggerDetails> candidates = webhookTriggerRoutingIndex.findCandidateTriggers(event("GITHUB"), pushEvent);
+    assertThat(candidates).hasSize(1);
+    assertThat(candidates.get(0).getNgTriggerEntity()).isEqualTo(pushTrigger);
+  }
+
+  private NGTriggerEntity trigger(String uuid, String yamlFile) throws IOException {
+    String yaml = Resources.toString(
+        Objects.requireNonNull(getClass().getClassLoader().getResource(yamlFile)), StandardCharsets.UTF_8);
+    NGTriggerEntity ngTriggerEntity =
+        NGTriggerEntity.builder()
+            .uuid(uuid)
+            .accountId(ACCOUNT_ID)
+            .identifier(uuid)
+            .yaml(yaml)
+            .lastModifiedAt(1L)
+            .metadata(NGTriggerMetadata.builder().webhook(WebhookMetadata.builder().type("Github").build()).build())
+            .build();
+    when(ngTriggerElementMapper.toTriggerConfigV2(ngTriggerEntity))
+        .thenReturn(YamlPipelineUtils.read(yaml, NGTriggerConfigV2.class));
+    return ngTriggerEntity;
+  }
+
+  private TriggerWebhookEvent event(String sourceRepoType) {
+    return TriggerWebhookEvent.builder().accountId(ACCOUNT_ID).sourceRepoType(sourceRepoType).build();
+  }
+
+  private WebhookBaseAttributes action(String action) {
+    return WebhookBaseAttributes.builder().action(action).build();
+  }
+}
@@ -64,6 +64,7 @@ import io.harness.ngtriggers.beans.source.webhook.v2.WebhookTriggerConfigV2;
 import io.harness.ngtriggers.beans.target.TargetType;
 import io.harness.ngtriggers.buildtriggers.helpers.BuildTriggerHelper;
 import io.harness.ngtriggers.helpers.TriggerCatalogHelper;
+import io.harness.ngtriggers.helpers.WebhookTriggerRoutingIndex;
 import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
 import io.harness.ngtriggers.service.impl.NGTriggerServiceImpl;
 import io.harness.ngtriggers.utils.PollingSubscriptionHelper;
@@ -130,6 +131,7 @@ public class NGTriggerServiceImplTest extends CategoryTest {
   @Mock KryoSerializer kryoSerializer;
 
   @Mock PollingResourceClient pollingResourceClient;
+  @Mock WebhookTriggerRoutingIndex webhookTriggerRoutingIndex;
 
   TriggerValidationHandler triggerValidationHandler;
 
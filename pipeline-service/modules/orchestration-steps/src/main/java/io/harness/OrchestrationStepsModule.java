@@ -18,6 +18,8 @@ import io.harness.steps.barriers.service.BarrierServiceImpl;
 import io.harness.steps.container.execution.ContainerExecutionConfig;
 import io.harness.steps.resourcerestraint.service.ResourceRestraintInstanceService;
 import io.harness.steps.resourcerestraint.service.ResourceRestraintInstanceServiceImpl;
+import io.harness.steps.resourcerestraint.service.ResourceRestraintLedgerService;
+import io.harness.steps.resourcerestraint.service.ResourceRestraintLedgerServiceImpl;
 import io.harness.steps.resourcerestraint.service.ResourceRestraintRegistry;
 import io.harness.steps.resourcerestraint.service.ResourceRestraintRegistryImpl;
 import io.harness.steps.resourcerestraint.service.ResourceRestraintService;
@@ -50,6 +52,7 @@ public class OrchestrationStepsModule extends AbstractModule {
     bind(ResourceRestraintService.class).to(ResourceRestraintServiceImpl.class);
     bind(ResourceRestraintInstanceService.class).to(ResourceRestraintInstanceServiceImpl.class);
     bind(ResourceRestraintRegistry.class).to(ResourceRestraintRegistryImpl.class);
+    bind(ResourceRestraintLedgerService.class).to(ResourceRestraintLedgerServiceImpl.class);
     bind(ApprovalInstanceService.class).to(ApprovalInstanceServiceImpl.class);
   }
 
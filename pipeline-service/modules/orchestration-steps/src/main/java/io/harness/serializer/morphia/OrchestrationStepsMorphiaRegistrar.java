@@ -19,6 +19,7 @@ import io.harness.steps.approval.step.servicenow.entities.ServiceNowApprovalInst
 import io.harness.steps.barriers.beans.BarrierExecutionInstance;
 import io.harness.steps.resourcerestraint.beans.ResourceRestraint;
 import io.harness.steps.resourcerestraint.beans.ResourceRestraintInstance;
+import io.harness.steps.resourcerestraint.beans.ResourceRestraintLedger;
 
 import java.util.Set;
 
@@ -29,6 +30,7 @@ public class OrchestrationStepsMorphiaRegistrar implements MorphiaRegistrar {
     set.add(BarrierExecutionInstance.class);
     set.add(ResourceRestraint.class);
     set.add(ResourceRestraintInstance.class);
+    set.add(ResourceRestraintLedger.class);
     set.add(ApprovalInstance.class);
     set.add(HarnessApprovalInstance.class);
     set.add(JiraApprovalInstance.class);
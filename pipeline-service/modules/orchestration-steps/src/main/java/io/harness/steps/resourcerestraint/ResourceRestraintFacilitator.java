@@ -16,6 +16,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.FeatureName;
 import io.harness.distribution.constraint.Constraint;
+import io.harness.distribution.constraint.ConstraintLedger;
 import io.harness.distribution.constraint.ConstraintUnit;
 import io.harness.distribution.constraint.Consumer;
 import io.harness.distribution.constraint.ConsumerId;
@@ -48,6 +49,7 @@ import io.harness.steps.resourcerestraint.service.ResourceRestraintInstanceServi
 import io.harness.steps.resourcerestraint.service.ResourceRestraintRegistry;
 import io.harness.steps.resourcerestraint.service.ResourceRestraintService;
 import io.harness.steps.resourcerestraint.utils.ResourceRestraintUtils;
+import io.harness.utils.PmsFeatureFlagService;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
@@ -59,7 +61,7 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.PIPELINE)
 @Slf4j
 public class ResourceRestraintFacilitator implements Facilitator {
-  private static final String LOCK_PREFIX = "RR_LOCK_";
+  public static final String LOCK_PREFIX = "RR_LOCK_";
 
   public static final FacilitatorType FACILITATOR_TYPE =
       FacilitatorType.newBuilder().setType(StepSpecTypeConstants.RESOURCE_RESTRAINT_FACILITATOR_TYPE).build();
@@ -69,6 +71,7 @@ public class ResourceRestraintFacilitator implements Facilitator {
   @Inject private ResourceRestraintRegistry resourceRestraintRegistry;
   @Inject private PmsEngineExpressionService pmsEngineExpressionService;
   @Inject private PersistentLocker persistentLocker;
+  @Inject private PmsFeatureFlagService pmsFeatureFlagService;
 
   @Override
   public FacilitatorResponse facilitate(
@@ -110,8 +113,8 @@ public class ResourceRestraintFacilitator implements Facilitator {
             .build();
       }
 
-      Map<String, Object> constraintContext =
-          populateConstraintContext(resourceRestraint, specParameters, releaseEntityId);
+      Map<String, Object> constraintContext = populateConstraintContext(
+          AmbianceUtils.getAccountId(ambiance), resourceRestraint, specParameters, releaseEntityId);
 
       String consumerId = generateUuid();
       try {
@@ -150,8 +153,8 @@ public class ResourceRestraintFacilitator implements Facilitator {
         .build();
   }
 
-  private Map<String, Object> populateConstraintContext(
-      ResourceRestraint resourceRestraint, IResourceRestraintSpecParameters stepParameters, String releaseEntityId) {
+  private Map<String, Object> populateConstraintContext(String accountId, ResourceRestraint resourceRestraint,
+      IResourceRestraintSpecParameters stepParameters, String releaseEntityId) {
     Map<String, Object> constraintContext = new HashMap<>();
     constraintContext.put(ResourceRestraintInstanceKeys.releaseEntityType, stepParameters.getHoldingScope().name());
     constraintContext.put(ResourceRestraintInstanceKeys.releaseEntityId, releaseEntityId);
@@ -160,6 +163,8 @@ public class ResourceRestraintFacilitator implements Facilitator {
     constraintContext.put(ResourceRestraintKeys.capacity, resourceRestraint.getCapacity());
     constraintContext.put(ResourceRestraintKeys.name, resourceRestraint.getName());
     constraintContext.put(FeatureName.RESOURCE_CONSTRAINT_MAX_QUEUE.name(), true);
+    constraintContext.put(ConstraintLedger.LEDGER_MODE,
+        pmsFeatureFlagService.isEnabled(accountId, FeatureName.RESOURCE_CONSTRAINT_LEDGER));
 
     return constraintContext;
   }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.steps.resourcerestraint.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAccess;
+
+import com.google.common.collect.ImmutableList;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * The permits used by the active consumers of a resource unit and the queue of its blocked consumers, kept in one
+ * document so that registering, unblocking and finishing a consumer are single conditional updates of it.
+ */
+@OwnedBy(PIPELINE)
+@Data
+@Builder
+@FieldNameConstants(innerTypeName = "ResourceRestraintLedgerKeys")
+@StoreIn(DbAliases.PMS)
+@Entity(value = "resourceRestraintLedgers")
+@Document("resourceRestraintLedgers")
+@TypeAlias("resourceRestraintLedger")
+public class ResourceRestraintLedger implements PersistentEntity, UuidAccess {
+  public static final long TTL = 6;
+
+  @Id @org.mongodb.morphia.annotations.Id String uuid;
+
+  String resourceRestraintId;
+  String resourceUnit;
+  int capacity;
+
+  int usedPermits;
+  @Builder.Default List<String> activeConsumers = new ArrayList<>();
+  @Builder.Default List<String> blockedConsumers = new ArrayList<>();
+
+  // Incremented by every update, so that a reconciliation only applies if nothing changed since it read the ledger
+  long revision;
+
+  @Builder.Default @FdTtlIndex Date validUntil = Date.from(OffsetDateTime.now().plusMonths(TTL).toInstant());
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("resourceRestraintId_resourceUnit_unique_idx")
+                 .unique(true)
+                 .field(ResourceRestraintLedgerKeys.resourceRestraintId)
+                 .field(ResourceRestraintLedgerKeys.resourceUnit)
+                 .build())
+        .build();
+  }
+}
@@ -53,6 +53,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -67,6 +68,7 @@ public class ResourceRestraintInstanceServiceImpl implements ResourceRestraintIn
   @Inject private ResourceRestraintRegistry resourceRestraintRegistry;
   @Inject private ResourceRestraintService resourceRestraintService;
   @Inject private NodeExecutionService nodeExecutionService;
+  @Inject private ResourceRestraintLedgerService resourceRestraintLedgerService;
 
   @Override
   public ResourceRestraintInstance save(ResourceRestraintInstance resourceRestraintInstance) {
@@ -81,6 +83,10 @@ public class ResourceRestraintInstanceServiceImpl implements ResourceRestraintIn
             .orElseThrow(
                 () -> new InvalidRequestException("Cannot find ResourceRestraintInstance with id [" + uuid + "]."));
 
+    if (!resourceRestraintLedgerService.unblock(
+            instance.getResourceRestraintId(), resourceUnit, uuid, instance.getPermits())) {
+      return null;
+    }
     instance.setState(ACTIVE);
     instance.setAcquireAt(System.currentTimeMillis());
 
@@ -99,6 +105,8 @@ public class ResourceRestraintInstanceServiceImpl implements ResourceRestraintIn
       log.error("Cannot unblock constraint" + uuid);
       return null;
     }
+    resourceRestraintLedgerService.release(
+        modified.getResourceRestraintId(), modified.getResourceUnit(), uuid, modified.getPermits());
     return modified;
   }
 
@@ -158,7 +166,10 @@ public class ResourceRestraintInstanceServiceImpl implements ResourceRestraintIn
       units.forEach(unit -> {
         final RunnableConsumers runnableConsumers = constraint.runnableConsumers(unit, resourceRestraintRegistry);
         for (ConsumerId consumerId : runnableConsumers.getConsumerIds()) {
-          if (!constraint.consumerUnblocked(unit, consumerId, null, resourceRestraintRegistry)) {
+          // The instances found the consumer runnable, so a ledger that refuses it is out of step with them
+          if (!constraint.consumerUnblocked(unit, consumerId, null, resourceRestraintRegistry)
+              && !(resourceRestraintLedgerService.reconcile(restraint.getUuid(), unit.getValue())
+                  && constraint.consumerUnblocked(unit, consumerId, null, resourceRestraintRegistry))) {
             break;
           }
         }
@@ -172,7 +183,8 @@ public class ResourceRestraintInstanceServiceImpl implements ResourceRestraintIn
     Query query = query(
         new Criteria().andOperator(where(ResourceRestraintInstanceKeys.resourceRestraintId).is(resourceRestraintId),
             where(ResourceRestraintInstanceKeys.resourceUnit).is(resourceUnit),
-            where(ResourceRestraintInstanceKeys.state).in(BLOCKED, ACTIVE)));
+            where(ResourceRestraintInstanceKeys.state).in(BLOCKED, ACTIVE)))
+                      .with(Sort.by(ResourceRestraintInstanceKeys.order));
 
     return mongoTemplate.find(query, ResourceRestraintInstance.class);
   }
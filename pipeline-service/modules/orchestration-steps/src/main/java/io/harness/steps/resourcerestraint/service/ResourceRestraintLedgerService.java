@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.steps.resourcerestraint.service;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.distribution.constraint.Constraint;
+import io.harness.distribution.constraint.Consumer;
+
+@OwnedBy(PIPELINE)
+public interface ResourceRestraintLedgerService {
+  Consumer.State acquire(String resourceRestraintId, String resourceUnit, String consumerId, int permits,
+      Constraint.Spec spec, int maxBlocked);
+
+  void revert(String resourceRestraintId, String resourceUnit, String consumerId, int permits, Consumer.State state);
+
+  /**
+   * Moves a blocked consumer out of the queue and takes its permits. Returns false if the unit does not have enough
+   * permits available, and true if the unit has no ledger or the consumer is not queued in it.
+   */
+  boolean unblock(String resourceRestraintId, String resourceUnit, String consumerId, int permits);
+
+  void release(String resourceRestraintId, String resourceUnit, String consumerId, int permits);
+
+  /**
+   * Rebuilds the ledger of the unit from its active and blocked instances if they do not match. Returns true if the
+   * ledger was changed.
+   */
+  boolean reconcile(String resourceRestraintId, String resourceUnit);
+
+  void delete(String resourceRestraintId, String resourceUnit);
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.steps.resourcerestraint.service;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.distribution.constraint.Consumer.State.ACTIVE;
+import static io.harness.distribution.constraint.Consumer.State.BLOCKED;
+import static io.harness.distribution.constraint.Consumer.State.REJECTED;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.distribution.constraint.Constraint;
+import io.harness.distribution.constraint.Consumer;
+import io.harness.lock.AcquiredLock;
+import io.harness.lock.PersistentLocker;
+import io.harness.steps.resourcerestraint.ResourceRestraintFacilitator;
+import io.harness.steps.resourcerestraint.beans.ResourceRestraintInstance;
+import io.harness.steps.resourcerestraint.beans.ResourceRestraintInstance.ResourceRestraintInstanceKeys;
+import io.harness.steps.resourcerestraint.beans.ResourceRestraintLedger;
+import io.harness.steps.resourcerestraint.beans.ResourceRestraintLedger.ResourceRestraintLedgerKeys;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Keeps the ledger of a resource unit in step with its instances. Consumers are registered with the facilitator lock of
+ * the resource constraint held, while unblocking and finishing consumers are not, so every update of the ledger is
+ * conditional on the state it expects and is applied in a single operation.
+ */
+@OwnedBy(PIPELINE)
+@Singleton
+@Slf4j
+public class ResourceRestraintLedgerServiceImpl implements ResourceRestraintLedgerService {
+  @Inject private MongoTemplate mongoTemplate;
+  @Inject private PersistentLocker persistentLocker;
+
+  @Override
+  public Consumer.State acquire(String resourceRestraintId, String resourceUnit, String consumerId, int permits,
+      Constraint.Spec spec, int maxBlocked) {
+    Consumer.State state = tryAcquire(resourceRestraintId, resourceUnit, consumerId, permits, spec, maxBlocked);
+    // A rejection is either a full queue or a unit without a ledger yet, which is only checked for when rejected
+    if (state == REJECTED
+        && !mongoTemplate.exists(ledgerQuery(resourceRestraintId, resourceUnit), ResourceRestraintLedger.class)) {
+      initialize(resourceRestraintId, resourceUnit, spec.getLimits());
+      state = tryAcquire(resourceRestraintId, resourceUnit, consumerId, permits, spec, maxBlocked);
+    }
+    return state;
+  }
+
+  private Consumer.State tryAcquire(String resourceRestraintId, String resourceUnit, String consumerId, int permits,
+      Constraint.Spec spec, int maxBlocked) {
+    Query activeQuery =
+        ledgerQuery(resourceRestraintId, resourceUnit)
+            .addCriteria(where(ResourceRestraintLedgerKeys.usedPermits).lte(spec.getLimits() - permits));
+    if (spec.getStrategy() == Constraint.Strategy.FIFO) {
+      activeQuery.addCriteria(where(ResourceRestraintLedgerKeys.blockedConsumers).size(0));
+    }
+    if (update(activeQuery,
+            new Update()
+                .inc(ResourceRestraintLedgerKeys.usedPermits, permits)
+                .push(ResourceRestraintLedgerKeys.activeConsumers, consumerId)
+                .set(ResourceRestraintLedgerKeys.capacity, spec.getLimits()))) {
+      return ACTIVE;
+    }
+
+    Query blockedQuery = ledgerQuery(resourceRestraintId, resourceUnit);
+    if (maxBlocked > 0) {
+      // The queue is full once it has an element at the last allowed position
+      blockedQuery.addCriteria(
+          where(ResourceRestraintLedgerKeys.blockedConsumers + "." + (maxBlocked - 1)).exists(false));
+    }
+    return update(blockedQuery,
+               new Update()
+                   .push(ResourceRestraintLedgerKeys.blockedConsumers, consumerId)
+                   .set(ResourceRestraintLedgerKeys.capacity, spec.getLimits()))
+        ? BLOCKED
+        : REJECTED;
+  }
+
+  @Override
+  public void revert(
+      String resourceRestraintId, String resourceUnit, String consumerId, int permits, Consumer.State state) {
+    if (state == ACTIVE || state == BLOCKED) {
+      release(resourceRestraintId, resourceUnit, consumerId, permits);
+    }
+  }
+
+  @Override
+  public boolean unblock(String resourceRestraintId, String resourceUnit, String consumerId, int permits) {
+    Query capacityQuery = ledgerQuery(resourceRestraintId, resourceUnit);
+    capacityQuery.fields().include(ResourceRestraintLedgerKeys.capacity);
+    ResourceRestraintLedger ledger = mongoTemplate.findOne(capacityQuery, ResourceRestraintLedger.class);
+    if (ledger == null) {
+      return true;
+    }
+
+    Query query = queuedQuery(resourceRestraintId, resourceUnit, consumerId)
+                      .addCriteria(where(ResourceRestraintLedgerKeys.capacity).is(ledger.getCapacity()))
+                      .addCriteria(where(ResourceRestraintLedgerKeys.usedPermits).lte(ledger.getCapacity() - permits));
+    if (update(query,
+            new Update()
+                .inc(ResourceRestraintLedgerKeys.usedPermits, permits)
+                .pull(ResourceRestraintLedgerKeys.blockedConsumers, consumerId)
+                .push(ResourceRestraintLedgerKeys.activeConsumers, consumerId))) {
+      return true;
+    }
+    return !mongoTemplate.exists(
+        queuedQuery(resourceRestraintId, resourceUnit, consumerId), ResourceRestraintLedger.class);
+  }
+
+  @Override
+  public void release(String resourceRestraintId, String resourceUnit, String consumerId, int permits) {
+    Query activeQuery = ledgerQuery(resourceRestraintId, resourceUnit)
+                            .addCriteria(where(ResourceRestraintLedgerKeys.activeConsumers).is(consumerId));
+    if (update(activeQuery,
+            new Update()
+                .inc(ResourceRestraintLedgerKeys.usedPermits, -permits)
+                .pull(ResourceRestraintLedgerKeys.activeConsumers, consumerId))) {
+      return;
+    }
+    update(queuedQuery(resourceRestraintId, resourceUnit, consumerId),
+        new Update().pull(ResourceRestraintLedgerKeys.blockedConsumers, consumerId));
+  }
+
+  @Override
+  public boolean reconcile(String resourceRestraintId, String resourceUnit) {
+    // Without the facilitator lock a consumer could be in the ledger and not yet saved as an instance
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(
+             ResourceRestraintFacilitator.LOCK_PREFIX + resourceRestraintId, Duration.ofMinutes(1))) {
+      if (lock == null) {
+        return false;
+      }
+      ResourceRestraintLedger ledger =
+          mongoTemplate.findOne(ledgerQuery(resourceRestraintId, resourceUnit), ResourceRestraintLedger.class);
+      if (ledger == null) {
+        return false;
+      }
+
+      Set<String> ledgerActiveConsumers = new HashSet<>(ledger.getActiveConsumers());
+      List<String> activeConsumers = new ArrayList<>();
+      List<String> blockedConsumers = new ArrayList<>();
+      int usedPermits = 0;
+      for (ResourceRestraintInstance instance : loadInstances(resourceRestraintId, resourceUnit)) {
+        // A consumer is activated right after the ledger unblocks it, so until then it is still blocked as an instance
+        if (instance.getState() == ACTIVE || ledgerActiveConsumers.contains(instance.getUuid())) {
+          activeConsumers.add(instance.getUuid());
+          usedPermits += instance.getPermits();
+        } else {
+          blockedConsumers.add(instance.getUuid());
+        }
+      }
+      if (usedPermits == ledger.getUsedPermits() && ledgerActiveConsumers.equals(new HashSet<>(activeConsumers))
+          && blockedConsumers.equals(ledger.getBlockedConsumers())) {
+        return false;
+      }
+
+      Query query = ledgerQuery(resourceRestraintId, resourceUnit)
+                        .addCriteria(where(ResourceRestraintLedgerKeys.revision).is(ledger.getRevision()));
+      boolean reconciled = update(query,
+          new Update()
+              .set(ResourceRestraintLedgerKeys.usedPermits, usedPermits)
+              .set(ResourceRestraintLedgerKeys.activeConsumers, activeConsumers)
+              .set(ResourceRestraintLedgerKeys.blockedConsumers, blockedConsumers));
+      if (reconciled) {
+        log.warn("Reconciled the ledger of resource unit {} of resource constraint {} from {} to {} used permits",
+            resourceUnit, resourceRestraintId, ledger.getUsedPermits(), usedPermits);
+      }
+      return reconciled;
+    }
+  }
+
+  @Override
+  public void delete(String resourceRestraintId, String resourceUnit) {
+    mongoTemplate.remove(ledgerQuery(resourceRestraintId, resourceUnit), ResourceRestraintLedger.class);
+  }
+
+  private void initialize(String resourceRestraintId, String resourceUnit, int capacity) {
+    List<String> activeConsumers = new ArrayList<>();
+    List<String> blockedConsumers = new ArrayList<>();
+    int usedPermits = 0;
+    for (ResourceRestraintInstance instance : loadInstances(resourceRestraintId, resourceUnit)) {
+      if (instance.getState() == ACTIVE) {
+        activeConsumers.add(instance.getUuid());
+        usedPermits += instance.getPermits();
+      } else {
+        blockedConsumers.add(instance.getUuid());
+      }
+    }
+
+    Update update = new Update()
+                        .setOnInsert(ResourceRestraintLedgerKeys.uuid, generateUuid())
+                        .setOnInsert(ResourceRestraintLedgerKeys.capacity, capacity)
+                        .setOnInsert(ResourceRestraintLedgerKeys.usedPermits, usedPermits)
+                        .setOnInsert(ResourceRestraintLedgerKeys.activeConsumers, activeConsumers)
+                        .setOnInsert(ResourceRestraintLedgerKeys.blockedConsumers, blockedConsumers)
+                        .setOnInsert(ResourceRestraintLedgerKeys.revision, 0L)
+                        .setOnInsert(ResourceRestraintLedgerKeys.validUntil,
+                            Date.from(OffsetDateTime.now().plusMonths(ResourceRestraintLedger.TTL).toInstant()));
+    try {
+      mongoTemplate.upsert(ledgerQuery(resourceRestraintId, resourceUnit), update, ResourceRestraintLedger.class);
+    } catch (DuplicateKeyException e) {
+      log.info("The ledger of resource unit {} of resource constraint {} was created concurrently", resourceUnit,
+          resourceRestraintId);
+    }
+  }
+
+  private List<ResourceRestraintInstance> loadInstances(String resourceRestraintId, String resourceUnit) {
+    Query query = query(
+        new Criteria().andOperator(where(ResourceRestraintInstanceKeys.resourceRestraintId).is(resourceRestraintId),
+            where(ResourceRestraintInstanceKeys.resourceUnit).is(resourceUnit),
+            where(ResourceRestraintInstanceKeys.state).in(BLOCKED, ACTIVE)))
+                      .with(Sort.by(ResourceRestraintInstanceKeys.order));
+    return mongoTemplate.find(query, ResourceRestraintInstance.class);
+  }
+
+  private boolean update(Query query, Update update) {
+    update.inc(ResourceRestraintLedgerKeys.revision, 1);
+    return mongoTemplate.updateFirst(query, update, ResourceRestraintLedger.class).getModifiedCount() > 0;
+  }
+
+  private static Query ledgerQuery(String resourceRestraintId, String resourceUnit) {
+    return query(where(ResourceRestraintLedgerKeys.resourceRestraintId).is(resourceRestraintId))
+        .addCriteria(where(ResourceRestraintLedgerKeys.resourceUnit).is(resourceUnit));
+  }
+
+  private static Query queuedQuery(String resourceRestraintId, String resourceUnit, String consumerId) {
+    return ledgerQuery(resourceRestraintId, resourceUnit)
+        .addCriteria(where(ResourceRestraintLedgerKeys.blockedConsumers).is(consumerId));
+  }
+}
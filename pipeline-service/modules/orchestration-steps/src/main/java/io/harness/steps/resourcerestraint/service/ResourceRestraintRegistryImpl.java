@@ -16,6 +16,7 @@ import static java.lang.String.format;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.distribution.constraint.Constraint;
 import io.harness.distribution.constraint.ConstraintId;
+import io.harness.distribution.constraint.ConstraintLedger;
 import io.harness.distribution.constraint.ConstraintRegistry;
 import io.harness.distribution.constraint.ConstraintUnit;
 import io.harness.distribution.constraint.Consumer;
@@ -45,9 +46,10 @@ import org.springframework.dao.DuplicateKeyException;
 @OwnedBy(PIPELINE)
 @Singleton
 @Slf4j
-public class ResourceRestraintRegistryImpl implements ResourceRestraintRegistry {
+public class ResourceRestraintRegistryImpl implements ResourceRestraintRegistry, ConstraintLedger {
   @Inject private ResourceRestraintService resourceRestraintService;
   @Inject private ResourceRestraintInstanceService resourceRestraintInstanceService;
+  @Inject private ResourceRestraintLedgerService resourceRestraintLedgerService;
   @Inject private WaitNotifyEngine waitNotifyEngine;
 
   public ConstraintRegistry getRegistry() {
@@ -106,6 +108,10 @@ public class ResourceRestraintRegistryImpl implements ResourceRestraintRegistry
     if (ACTIVE == consumer.getState()) {
       builder.acquireAt(System.currentTimeMillis());
     }
+    if (currentlyRunning >= 0) {
+      // Registered without the ledger, which is rebuilt from the instances when the unit uses it again
+      resourceRestraintLedgerService.delete(id.getValue(), unit.getValue());
+    }
 
     try {
       resourceRestraintInstanceService.save(builder.build());
@@ -117,6 +123,19 @@ public class ResourceRestraintRegistryImpl implements ResourceRestraintRegistry
     return true;
   }
 
+  @Override
+  public Consumer.State acquire(
+      ConstraintId id, ConstraintUnit unit, Consumer consumer, Constraint.Spec spec, int maxBlocked) {
+    return resourceRestraintLedgerService.acquire(
+        id.getValue(), unit.getValue(), consumer.getId().getValue(), consumer.getPermits(), spec, maxBlocked);
+  }
+
+  @Override
+  public void revert(ConstraintId id, ConstraintUnit unit, Consumer consumer, Consumer.State state) {
+    resourceRestraintLedgerService.revert(
+        id.getValue(), unit.getValue(), consumer.getId().getValue(), consumer.getPermits(), state);
+  }
+
   @Override
   public boolean adjustRegisterConsumerContext(ConstraintId id, Map<String, Object> context) {
     final int order = resourceRestraintInstanceService.getMaxOrder(id.getValue()) + 1;
@@ -130,7 +149,9 @@ public class ResourceRestraintRegistryImpl implements ResourceRestraintRegistry
   @Override
   public boolean consumerUnblocked(
       ConstraintId id, ConstraintUnit unit, ConsumerId consumerId, Map<String, Object> context) {
-    resourceRestraintInstanceService.activateBlockedInstance(consumerId.getValue(), unit.getValue());
+    if (resourceRestraintInstanceService.activateBlockedInstance(consumerId.getValue(), unit.getValue()) == null) {
+      return false;
+    }
     ResponseData responseData = ResourceRestraintResponseData.builder()
                                     .resourceRestraintId(id.getValue())
                                     .resourceUnit(unit.getValue())
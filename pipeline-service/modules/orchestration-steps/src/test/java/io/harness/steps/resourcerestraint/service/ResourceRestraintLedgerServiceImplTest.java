@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.steps.resourcerestraint.service;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.distribution.constraint.Consumer.State.ACTIVE;
+import static io.harness.distribution.constraint.Consumer.State.BLOCKED;
+import static io.harness.distribution.constraint.Consumer.State.FINISHED;
+import static io.harness.distribution.constraint.Consumer.State.REJECTED;
+import static io.harness.rule.OwnerRule.FERNANDOD;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.OrchestrationStepsTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.distribution.constraint.Constraint;
+import io.harness.distribution.constraint.Consumer;
+import io.harness.rule.Owner;
+import io.harness.steps.resourcerestraint.beans.ResourceRestraintInstance;
+
+import com.google.inject.Inject;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class ResourceRestraintLedgerServiceImplTest extends OrchestrationStepsTestBase {
+  private static final Constraint.Spec FIFO =
+      Constraint.Spec.builder().strategy(Constraint.Strategy.FIFO).limits(2).build();
+  private static final Constraint.Spec ASAP =
+      Constraint.Spec.builder().strategy(Constraint.Strategy.ASAP).limits(2).build();
+
+  @Inject private ResourceRestraintInstanceService resourceRestraintInstanceService;
+  @Inject private ResourceRestraintLedgerService resourceRestraintLedgerService;
+
+  @Test
+  @Owner(developers = FERNANDOD)
+  @Category(UnitTests.class)
+  public void shouldInitializeLedgerFromInstances() {
+    String resourceRestraintId = generateUuid();
+    String resourceUnit = generateUuid();
+    String active = generateUuid();
+    saveInstance(resourceRestraintId, resourceUnit, active, ACTIVE, 1, 1);
+
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c1", 1, FIFO, 0))
+        .isEqualTo(ACTIVE);
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c2", 1, FIFO, 0))
+        .isEqualTo(BLOCKED);
+    assertThat(resourceRestraintLedgerService.unblock(resourceRestraintId, resourceUnit, "c2", 1)).isFalse();
+
+    resourceRestraintLedgerService.release(resourceRestraintId, resourceUnit, active, 1);
+    assertThat(resourceRestraintLedgerService.unblock(resourceRestraintId, resourceUnit, "c2", 1)).isTrue();
+    // A consumer no longer queued is left to the instances
+    assertThat(resourceRestraintLedgerService.unblock(resourceRestraintId, resourceUnit, "c2", 1)).isTrue();
+  }
+
+  @Test
+  @Owner(developers = FERNANDOD)
+  @Category(UnitTests.class)
+  public void shouldKeepStrategyOfConstraint() {
+    String resourceRestraintId = generateUuid();
+    String resourceUnit = generateUuid();
+
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c1", 1, ASAP, 0))
+        .isEqualTo(ACTIVE);
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c2", 2, ASAP, 0))
+        .isEqualTo(BLOCKED);
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c3", 1, ASAP, 0))
+        .isEqualTo(ACTIVE);
+
+    String fifoRestraintId = generateUuid();
+    assertThat(resourceRestraintLedgerService.acquire(fifoRestraintId, resourceUnit, "c1", 1, FIFO, 0))
+        .isEqualTo(ACTIVE);
+    assertThat(resourceRestraintLedgerService.acquire(fifoRestraintId, resourceUnit, "c2", 2, FIFO, 0))
+        .isEqualTo(BLOCKED);
+    assertThat(resourceRestraintLedgerService.acquire(fifoRestraintId, resourceUnit, "c3", 1, FIFO, 0))
+        .isEqualTo(BLOCKED);
+  }
+
+  @Test
+  @Owner(developers = FERNANDOD)
+  @Category(UnitTests.class)
+  public void shouldRejectWhenQueueIsFull() {
+    String resourceRestraintId = generateUuid();
+    String resourceUnit = generateUuid();
+
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c1", 2, FIFO, 2))
+        .isEqualTo(ACTIVE);
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c2", 1, FIFO, 2))
+        .isEqualTo(BLOCKED);
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c3", 1, FIFO, 2))
+        .isEqualTo(BLOCKED);
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c4", 1, FIFO, 2))
+        .isEqualTo(REJECTED);
+
+    resourceRestraintLedgerService.revert(resourceRestraintId, resourceUnit, "c3", 1, BLOCKED);
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, "c4", 1, FIFO, 2))
+        .isEqualTo(BLOCKED);
+  }
+
+  @Test
+  @Owner(developers = FERNANDOD)
+  @Category(UnitTests.class)
+  public void shouldReconcileLedgerWithInstances() {
+    String resourceRestraintId = generateUuid();
+    String resourceUnit = generateUuid();
+    String blocked = generateUuid();
+    ResourceRestraintInstance finished = saveInstance(resourceRestraintId, resourceUnit, generateUuid(), ACTIVE, 2, 1);
+    assertThat(resourceRestraintLedgerService.acquire(resourceRestraintId, resourceUnit, blocked, 1, FIFO, 0))
+        .isEqualTo(BLOCKED);
+    saveInstance(resourceRestraintId, resourceUnit, blocked, BLOCKED, 1, 2);
+
+    // Finished without the ledger being told, so it still holds the permits of the consumer
+    finished.setState(FINISHED);
+    resourceRestraintInstanceService.save(finished);
+    assertThat(resourceRestraintLedgerService.unblock(resourceRestraintId, resourceUnit, blocked, 1)).isFalse();
+
+    assertThat(resourceRestraintLedgerService.reconcile(resourceRestraintId, resourceUnit)).isTrue();
+    assertThat(resourceRestraintLedgerService.reconcile(resourceRestraintId, resourceUnit)).isFalse();
+    assertThat(resourceRestraintLedgerService.unblock(resourceRestraintId, resourceUnit, blocked, 1)).isTrue();
+  }
+
+  private ResourceRestraintInstance saveInstance(
+      String resourceRestraintId, String resourceUnit, String uuid, Consumer.State state, int permits, int order) {
+    return resourceRestraintInstanceService.save(ResourceRestraintInstance.builder()
+                                                     .uuid(uuid)
+                                                     .resourceRestraintId(resourceRestraintId)
+                                                     .resourceUnit(resourceUnit)
+                                                     .releaseEntityType("PLAN")
+                                                     .releaseEntityId(generateUuid())
+                                                     .state(state)
+                                                     .permits(permits)
+                                                     .order(order)
+                                                     .build());
+  }
+}
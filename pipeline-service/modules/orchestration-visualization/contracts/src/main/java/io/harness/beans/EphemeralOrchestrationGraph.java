@@ -25,6 +25,7 @@ public class EphemeralOrchestrationGraph {
   Long startTs;
   Long endTs;
   Status status;
+  Long lastUpdatedAt;
 
   List<String> rootNodeIds;
   OrchestrationAdjacencyListInternal adjacencyList;
@@ -23,6 +23,8 @@ public class ExecutionGraph {
   Map<String, ExecutionNode> nodeMap;
   Map<String, ExecutionNodeAdjacencyList> nodeAdjacencyListMap;
   RepresentationStrategy representationStrategy = RepresentationStrategy.CAMELCASE;
+  // Pass it to the graph patches endpoint to follow the execution without reading the whole graph again
+  Long lastUpdatedAt;
 
   // attach project, account, org, execution id
   Map<String, String> executionMetadata;
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Map;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The changes to the ExecutionGraph of a plan execution between two event logs. Nodes and adjacency lists in the maps
+ * replace the ones with the same id, rootNodeId is null if it did not change.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+public class ExecutionGraphPatch {
+  long fromUpdatedAt;
+  long lastUpdatedAt;
+  String rootNodeId;
+  Map<String, ExecutionNode> nodeMap;
+  Set<String> removedNodeIds;
+  Map<String, ExecutionNodeAdjacencyList> nodeAdjacencyListMap;
+  Set<String> removedAdjacencyListIds;
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.pms.contracts.execution.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The changes a batch of orchestration event logs made to the graph of a plan execution. A patch applies to the graph
+ * as of the last event log before the batch, fromUpdatedAt, and brings it to the last event log of the batch.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+public class OrchestrationGraphPatch {
+  long fromUpdatedAt;
+  long lastUpdatedAt;
+
+  Status status;
+  Long endTs;
+  // Null if the batch did not change the root nodes
+  List<String> rootNodeIds;
+
+  Map<String, GraphVertex> vertices;
+  Set<String> removedVertices;
+  Map<String, EdgeListInternal> edges;
+  Set<String> removedEdges;
+
+  public OrchestrationGraph applyTo(OrchestrationGraph orchestrationGraph) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    adjacencyList.getGraphVertexMap().keySet().removeAll(removedVertices);
+    adjacencyList.getGraphVertexMap().putAll(vertices);
+    adjacencyList.getAdjacencyMap().keySet().removeAll(removedEdges);
+    adjacencyList.getAdjacencyMap().putAll(edges);
+
+    OrchestrationGraph patched = orchestrationGraph;
+    if (rootNodeIds != null) {
+      patched = OrchestrationGraph.builder()
+                    .cacheKey(orchestrationGraph.getCacheKey())
+                    .cacheContextOrder(orchestrationGraph.getCacheContextOrder())
+                    .cacheParams(orchestrationGraph.getCacheParams())
+                    .planExecutionId(orchestrationGraph.getPlanExecutionId())
+                    .startTs(orchestrationGraph.getStartTs())
+                    .rootNodeIds(new ArrayList<>(rootNodeIds))
+                    .adjacencyList(adjacencyList)
+                    .build();
+    }
+    return patched.withStatus(status).withEndTs(endTs).withLastUpdatedAt(lastUpdatedAt);
+  }
+}
@@ -22,6 +22,7 @@ public class EphemeralOrchestrationGraphConverter {
         .startTs(orchestrationGraph.getStartTs())
         .endTs(orchestrationGraph.getEndTs())
         .status(orchestrationGraph.getStatus())
+        .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
         .rootNodeIds(orchestrationGraph.getRootNodeIds())
         .planExecutionId(orchestrationGraph.getPlanExecutionId())
         .adjacencyList(orchestrationGraph.getAdjacencyList())
@@ -28,6 +28,8 @@ public class OrchestrationGraphDTO {
   Long startTs;
   Long endTs;
   Status status;
+  // Event log the graph is up to date with, the patches after it bring the graph to its latest state
+  Long lastUpdatedAt;
 
   List<String> rootNodeIds;
   OrchestrationAdjacencyListDTO adjacencyList;
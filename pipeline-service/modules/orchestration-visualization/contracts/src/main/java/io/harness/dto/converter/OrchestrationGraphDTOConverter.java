@@ -23,6 +23,7 @@ public class OrchestrationGraphDTOConverter {
         .startTs(ephemeralOrchestrationGraph.getStartTs())
         .endTs(ephemeralOrchestrationGraph.getEndTs())
         .status(ephemeralOrchestrationGraph.getStatus())
+        .lastUpdatedAt(ephemeralOrchestrationGraph.getLastUpdatedAt())
         .rootNodeIds(ephemeralOrchestrationGraph.getRootNodeIds())
         .planExecutionId(ephemeralOrchestrationGraph.getPlanExecutionId())
         .adjacencyList(
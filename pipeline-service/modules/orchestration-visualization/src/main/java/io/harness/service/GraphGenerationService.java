@@ -10,9 +10,12 @@ package io.harness.service;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphPatch;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 
+import java.util.List;
+
 @OwnedBy(HarnessTeam.PIPELINE)
 public interface GraphGenerationService {
   OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId);
@@ -29,4 +32,10 @@ public interface GraphGenerationService {
   boolean updateGraph(String planExecutionId);
 
   boolean updateGraphWithWaitLock(String planExecutionId);
+
+  /**
+   * Returns the patches which bring the graph of the execution from lastUpdatedAt to its latest state, in order, or
+   * null if they are already compacted into a snapshot and the whole graph has to be read again.
+   */
+  List<OrchestrationGraphPatch> getOrchestrationGraphPatches(String planExecutionId, long lastUpdatedAt);
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphPatch;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Remembers the state of a graph before a batch of event logs is applied to it, so that only the vertices and edges the
+ * batch changed are written. Vertices replaced by the event handlers are found by identity, vertices the handlers
+ * change in place have to be marked as touched, and edge lists, which are changed in place, are compared by value.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+class GraphChangeTracker {
+  private final long fromUpdatedAt;
+  private final List<String> rootNodeIds;
+  private final Map<String, GraphVertex> vertices;
+  private final Map<String, EdgeListInternal> edges;
+  private final Set<String> touchedVertices = new HashSet<>();
+
+  GraphChangeTracker(OrchestrationGraph orchestrationGraph) {
+    this.fromUpdatedAt = orchestrationGraph.getLastUpdatedAt();
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    this.rootNodeIds = copyOf(orchestrationGraph.getRootNodeIds());
+    this.vertices = new HashMap<>(adjacencyList.getGraphVertexMap());
+    this.edges = new HashMap<>();
+    adjacencyList.getAdjacencyMap().forEach((id, edgeList) -> edges.put(id, copyOf(edgeList)));
+  }
+
+  long getFromUpdatedAt() {
+    return fromUpdatedAt;
+  }
+
+  void touch(String vertexId) {
+    touchedVertices.add(vertexId);
+  }
+
+  OrchestrationGraphPatch toPatch(OrchestrationGraph orchestrationGraph) {
+    Map<String, GraphVertex> updatedVertices = orchestrationGraph.getAdjacencyList().getGraphVertexMap();
+    Map<String, GraphVertex> changedVertices = new HashMap<>();
+    updatedVertices.forEach((id, vertex) -> {
+      if (vertices.get(id) != vertex || touchedVertices.contains(id)) {
+        changedVertices.put(id, vertex);
+      }
+    });
+    Set<String> removedVertices = new HashSet<>(vertices.keySet());
+    removedVertices.removeAll(updatedVertices.keySet());
+
+    Map<String, EdgeListInternal> updatedEdges = orchestrationGraph.getAdjacencyList().getAdjacencyMap();
+    Map<String, EdgeListInternal> changedEdges = new HashMap<>();
+    updatedEdges.forEach((id, edgeList) -> {
+      if (!Objects.equals(edges.get(id), edgeList)) {
+        changedEdges.put(id, edgeList);
+      }
+    });
+    Set<String> removedEdges = new HashSet<>(edges.keySet());
+    removedEdges.removeAll(updatedEdges.keySet());
+
+    List<String> updatedRootNodeIds = orchestrationGraph.getRootNodeIds();
+    return OrchestrationGraphPatch.builder()
+        .fromUpdatedAt(fromUpdatedAt)
+        .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
+        .status(orchestrationGraph.getStatus())
+        .endTs(orchestrationGraph.getEndTs())
+        .rootNodeIds(Objects.equals(rootNodeIds, updatedRootNodeIds) ? null : copyOf(updatedRootNodeIds))
+        .vertices(changedVertices)
+        .removedVertices(removedVertices)
+        .edges(changedEdges)
+        .removedEdges(removedEdges)
+        .build();
+  }
+
+  private static List<String> copyOf(List<String> list) {
+    return list == null ? null : new ArrayList<>(list);
+  }
+
+  private static EdgeListInternal copyOf(EdgeListInternal edgeList) {
+    return EdgeListInternal.builder()
+        .parentId(edgeList.getParentId())
+        .prevIds(copyOf(edgeList.getPrevIds()))
+        .nextIds(copyOf(edgeList.getNextIds()))
+        .edges(copyOf(edgeList.getEdges()))
+        .build();
+  }
+}
@@ -15,6 +15,9 @@ import io.harness.beans.EphemeralOrchestrationGraph;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.OrchestrationGraphDelta.OrchestrationGraphDeltaKeys;
+import io.harness.beans.OrchestrationGraphPatch;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
 import io.harness.cache.SpringCacheEntity;
@@ -43,6 +46,7 @@ import io.harness.pms.plan.execution.ExecutionSummaryUpdateUtils;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 import io.harness.pms.plan.execution.service.PmsExecutionSummaryService;
 import io.harness.repositories.orchestrationEventLog.OrchestrationEventLogRepository;
+import io.harness.serializer.KryoSerializer;
 import io.harness.service.GraphGenerationService;
 import io.harness.skip.service.VertexSkipperService;
 import io.harness.utils.PmsFeatureFlagService;
@@ -60,6 +64,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
 @OwnedBy(HarnessTeam.PIPELINE)
@@ -67,8 +76,14 @@ import org.springframework.data.mongodb.core.query.Update;
 @Slf4j
 public class GraphGenerationServiceImpl implements GraphGenerationService {
   public static final int THRESHOLD_LOG = 1000;
+  // How long a delta is kept after the graph moved past it, for readers following the graph by its patches
+  public static final Duration PATCH_RETENTION = Duration.ofMinutes(10);
 
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
+  private static final Duration UPDATE_LOCK_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration UPDATE_WAIT_TIMEOUT = Duration.ofSeconds(30);
+  // Updates made without the lock can still win the race against the lock holder
+  private static final int MAX_LOCKED_UPDATE_ATTEMPTS = 3;
 
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
@@ -80,22 +95,16 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Inject private PlanExecutionStatusUpdateEventHandler planExecutionStatusUpdateEventHandler;
   @Inject private StepDetailsUpdateEventHandler stepDetailsUpdateEventHandler;
   @Inject private PmsExecutionSummaryService pmsExecutionSummaryService;
-  @Inject private PersistentLocker persistentLocker;
+  @Inject private MongoTemplate mongoTemplate;
+  @Inject private KryoSerializer kryoSerializer;
   @Inject private OrchestrationLogPublisher orchestrationLogPublisher;
   @Inject private PmsFeatureFlagService pmsFeatureFlagService;
+  @Inject private PersistentLocker persistentLocker;
 
   @Override
   public boolean updateGraph(String planExecutionId) {
-    String lockName = GRAPH_LOCK + planExecutionId;
-    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(lockName, Duration.ofSeconds(10))) {
-      if (lock == null) {
-        log.debug(String.format(
-            "[PMS_GRAPH_LOCK_TEST] Not able to take lock on graph generation for lockName - %s, returning early.",
-            lockName));
-        return false;
-      }
-
-      return updateGraphUnderLock(planExecutionId);
+    try {
+      return applyEventLogs(planExecutionId);
     } catch (Exception exception) {
       log.error(String.format(
                     "[GRAPH_ERROR] Exception Occurred while updating graph for planExecutionId: %s", planExecutionId),
@@ -108,15 +117,19 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   public boolean updateGraphWithWaitLock(String planExecutionId) {
     String lockName = GRAPH_LOCK + planExecutionId;
     try (AcquiredLock<?> lock =
-             persistentLocker.waitToAcquireLock(lockName, Duration.ofSeconds(10), Duration.ofSeconds(30))) {
+             persistentLocker.waitToAcquireLock(lockName, UPDATE_LOCK_TIMEOUT, UPDATE_WAIT_TIMEOUT)) {
       if (lock == null) {
         log.debug(String.format(
             "[PMS_GRAPH_LOCK_TEST] Not able to take lock on graph generation for lockName - %s, returning early.",
             lockName));
         return false;
       }
-
-      return updateGraphUnderLock(planExecutionId);
+      for (int attempt = 1; !applyEventLogs(planExecutionId); attempt++) {
+        if (attempt == MAX_LOCKED_UPDATE_ATTEMPTS) {
+          return false;
+        }
+      }
+      return true;
     } catch (Exception exception) {
       log.error(String.format(
                     "[GRAPH_ERROR] Exception Occurred while updating graph for planExecutionId: %s", planExecutionId),
@@ -125,20 +138,24 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     }
   }
 
-  // This must always be called after acquiring the lock
   @VisibleForTesting
-  boolean updateGraphUnderLock(String planExecutionId) {
+  boolean applyEventLogs(String planExecutionId) {
     OrchestrationGraph orchestrationGraph = getCachedOrchestrationGraph(planExecutionId);
     if (orchestrationGraph == null) {
       log.warn("[PMS_GRAPH] Graph not yet generated. Passing on to next iteration");
       return true;
     }
-    return updateGraphUnderLock(orchestrationGraph);
+    return applyEventLogs(orchestrationGraph);
   }
 
-  // This must always be called after acquiring the lock
+  /**
+   * Applies the unprocessed event logs to the graph, appends the changes they made as a delta after the last event log
+   * the graph had seen and then stores the whole graph as the new snapshot. Updates racing from the same graph are
+   * resolved by the unique index on the deltas: only the first one is appended and the others return false, to be
+   * retried on the next event.
+   */
   @VisibleForTesting
-  boolean updateGraphUnderLock(OrchestrationGraph orchestrationGraph) {
+  boolean applyEventLogs(OrchestrationGraph orchestrationGraph) {
     if (orchestrationGraph == null) {
       return false;
     }
@@ -158,6 +175,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       // Re-emit if there are too many logs
       shouldAck = false;
     }
+    GraphChangeTracker changeTracker = new GraphChangeTracker(orchestrationGraph);
     boolean updateRequired = false;
     Update executionSummaryUpdate = new Update();
     Set<String> nodeExecutionIds = new HashSet<>();
@@ -171,11 +189,13 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         case STEP_DETAILS_UPDATE:
           orchestrationGraph = stepDetailsUpdateEventHandler.handleEvent(
               planExecutionId, nodeExecutionId, orchestrationGraph, executionSummaryUpdate);
+          changeTracker.touch(nodeExecutionId);
           updateRequired = true;
           break;
         case STEP_INPUTS_UPDATE:
           orchestrationGraph =
               stepDetailsUpdateEventHandler.handleStepInputEvent(planExecutionId, nodeExecutionId, orchestrationGraph);
+          changeTracker.touch(nodeExecutionId);
           updateRequired = true;
           break;
         default:
@@ -210,7 +230,11 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       lastUpdatedAt = orchestrationEventLog.getCreatedAt();
     }
 
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    if (!appendDelta(changeTracker, orchestrationGraph.withLastUpdatedAt(lastUpdatedAt))) {
+      log.info("[PMS_GRAPH] Graph of planExecutionId [{}] was updated concurrently, skipping [{}] event logs",
+          planExecutionId, unprocessedEventLogs.size());
+      return false;
+    }
     if (updateRequired) {
       pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
     }
@@ -219,14 +243,89 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     return shouldAck;
   }
 
+  private boolean appendDelta(GraphChangeTracker changeTracker, OrchestrationGraph orchestrationGraph) {
+    String planExecutionId = orchestrationGraph.getPlanExecutionId();
+    OrchestrationGraphPatch patch = changeTracker.toPatch(orchestrationGraph);
+    try {
+      mongoTemplate.insert(OrchestrationGraphDelta.builder()
+                               .planExecutionId(planExecutionId)
+                               .fromUpdatedAt(patch.getFromUpdatedAt())
+                               .lastUpdatedAt(patch.getLastUpdatedAt())
+                               .patch(kryoSerializer.asDeflatedBytes(patch))
+                               .build());
+    } catch (DuplicateKeyException ex) {
+      return false;
+    }
+
+    cachePartialOrchestrationGraph(orchestrationGraph, orchestrationGraph.getLastUpdatedAt());
+    // A slower update overwriting this snapshot with an older one still finds the deltas on top of it, as long as it
+    // is not older than the retention. Anything missing is rebuilt from the event logs.
+    mongoTemplate.remove(new Query(Criteria.where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                       .is(planExecutionId)
+                                       .and(OrchestrationGraphDeltaKeys.fromUpdatedAt)
+                                       .lt(orchestrationGraph.getLastUpdatedAt() - PATCH_RETENTION.toMillis())),
+        OrchestrationGraphDelta.class);
+    return true;
+  }
+
+  /**
+   * Returns the last snapshot of the graph. Every update stores one, only the deltas of an update whose snapshot was
+   * not stored, or was overwritten by a slower update, are applied on top of it.
+   */
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
-    return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    OrchestrationGraph orchestrationGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (orchestrationGraph == null) {
+      return null;
+    }
+    for (OrchestrationGraphPatch patch : getChainedPatches(planExecutionId, orchestrationGraph.getLastUpdatedAt())) {
+      orchestrationGraph = patch.applyTo(orchestrationGraph);
+    }
+    return orchestrationGraph;
+  }
+
+  @Override
+  public List<OrchestrationGraphPatch> getOrchestrationGraphPatches(String planExecutionId, long lastUpdatedAt) {
+    long snapshotUpdatedAt = getSnapshotUpdatedAt(planExecutionId);
+    if (lastUpdatedAt == snapshotUpdatedAt) {
+      return new ArrayList<>();
+    }
+    List<OrchestrationGraphPatch> patches = getChainedPatches(planExecutionId, lastUpdatedAt);
+    if (patches.isEmpty() || patches.get(patches.size() - 1).getLastUpdatedAt() < snapshotUpdatedAt) {
+      // The deltas from lastUpdatedAt are past the retention or were appended on top of a graph replaced since
+      return null;
+    }
+    return patches;
+  }
+
+  // Deltas which do not continue from the last one applied were appended on top of a graph replaced since
+  private List<OrchestrationGraphPatch> getChainedPatches(String planExecutionId, long fromUpdatedAt) {
+    Query query = new Query(Criteria.where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                .is(planExecutionId)
+                                .and(OrchestrationGraphDeltaKeys.fromUpdatedAt)
+                                .gte(fromUpdatedAt))
+                      .with(Sort.by(Sort.Direction.ASC, OrchestrationGraphDeltaKeys.fromUpdatedAt));
+    List<OrchestrationGraphPatch> patches = new ArrayList<>();
+    long cursor = fromUpdatedAt;
+    for (OrchestrationGraphDelta delta : mongoTemplate.find(query, OrchestrationGraphDelta.class)) {
+      if (delta.getFromUpdatedAt() == cursor) {
+        patches.add((OrchestrationGraphPatch) kryoSerializer.asInflatedObject(delta.getPatch()));
+        cursor = delta.getLastUpdatedAt();
+      }
+    }
+    return patches;
+  }
+
+  private long getSnapshotUpdatedAt(String planExecutionId) {
+    Long snapshotUpdatedAt = mongoStore.getEntityUpdatedAt(
+        OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    return snapshotUpdatedAt == null ? 0 : snapshotUpdatedAt;
   }
 
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
-    mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
+    mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL, orchestrationGraph.getLastUpdatedAt());
   }
 
   private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
@@ -336,6 +435,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
             .startTs(orchestrationGraph.getStartTs())
             .endTs(orchestrationGraph.getEndTs())
             .status(orchestrationGraph.getStatus())
+            .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
             .adjacencyList(orchestrationAdjacencyListGenerator.generatePartialAdjacencyList(
                 startId, orchestrationGraph.getAdjacencyList()))
             .build();
@@ -20,6 +20,7 @@ import io.harness.OrchestrationVisualizationTestBase;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphPatch;
 import io.harness.beans.converter.GraphVertexConverter;
 import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
@@ -226,14 +227,14 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
   @Test
   @Owner(developers = SHALINI)
   @Category(UnitTests.class)
-  public void testUpdateGraphUnderLock() {
-    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(generateUuid()));
+  public void testApplyEventLogs() {
+    assertTrue(graphGenerationServiceImpl.applyEventLogs(generateUuid()));
   }
 
   @Test
   @Owner(developers = SHALINI)
   @Category(UnitTests.class)
-  public void testUpdateGraphUnderLockWithOrchestrationGraph() {
+  public void testApplyEventLogsWithOrchestrationGraph() {
     String planExecutionId = generateUuid();
     String nodeExecutionId = generateUuid();
     List<OrchestrationEventLog> logs = new ArrayList<>();
@@ -255,14 +256,80 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
             .resolvedStepParameters(new HashMap<>())
             .build());
     assertTrue(
-        graphGenerationServiceImpl.updateGraphUnderLock(OrchestrationGraph.builder()
-                                                            .planExecutionId(planExecutionId)
-                                                            .rootNodeIds(new ArrayList<>())
-                                                            .lastUpdatedAt(1222L)
-                                                            .adjacencyList(OrchestrationAdjacencyListInternal.builder()
-                                                                               .adjacencyMap(new HashMap<>())
-                                                                               .graphVertexMap(new HashMap<>())
-                                                                               .build())
-                                                            .build()));
+        graphGenerationServiceImpl.applyEventLogs(OrchestrationGraph.builder()
+                                                      .planExecutionId(planExecutionId)
+                                                      .rootNodeIds(new ArrayList<>())
+                                                      .lastUpdatedAt(1222L)
+                                                      .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                                                                         .adjacencyMap(new HashMap<>())
+                                                                         .graphVertexMap(new HashMap<>())
+                                                                         .build())
+                                                      .build()));
+  }
+
+  @Test
+  @Owner(developers = SHALINI)
+  @Category(UnitTests.class)
+  public void shouldAppendPatchOnTopOfSnapshot() {
+    String planExecutionId = generateUuid();
+    String nodeExecutionId = generateUuid();
+    graphGenerationService.cacheOrchestrationGraph(emptyGraph(planExecutionId, 1222L));
+    doReturn(Collections.singletonList(OrchestrationEventLog.builder()
+                                           .nodeExecutionId(nodeExecutionId)
+                                           .orchestrationEventType(OrchestrationEventType.NODE_EXECUTION_START)
+                                           .createdAt(1550L)
+                                           .build()))
+        .when(orchestrationEventLogRepository)
+        .findUnprocessedEvents(planExecutionId, 1222L, 1000);
+    nodeExecutionService.save(
+        NodeExecution.builder()
+            .uuid(nodeExecutionId)
+            .stepType(StepType.newBuilder().setStepCategory(StepCategory.STEP).build())
+            .status(Status.RUNNING)
+            .ambiance(Ambiance.newBuilder()
+                          .setPlanExecutionId(planExecutionId)
+                          .addLevels(Level.newBuilder().setNodeType(NodeType.PLAN_NODE.toString()).build())
+                          .build())
+            .module("cd")
+            .resolvedStepParameters(new HashMap<>())
+            .build());
+
+    assertTrue(graphGenerationServiceImpl.applyEventLogs(planExecutionId));
+
+    List<OrchestrationGraphPatch> patches = graphGenerationService.getOrchestrationGraphPatches(planExecutionId, 1222L);
+    assertThat(patches).hasSize(1);
+    assertThat(patches.get(0).getFromUpdatedAt()).isEqualTo(1222L);
+    assertThat(patches.get(0).getLastUpdatedAt()).isEqualTo(1550L);
+    assertThat(patches.get(0).getVertices()).containsOnlyKeys(nodeExecutionId);
+    assertThat(patches.get(0).getRootNodeIds()).containsExactly(nodeExecutionId);
+
+    // The update is compacted into the snapshot, reads do not replay the delta
+    OrchestrationGraph snapshot =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    assertThat(snapshot.getLastUpdatedAt()).isEqualTo(1550L);
+    assertThat(snapshot.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(nodeExecutionId);
+    OrchestrationGraph orchestrationGraph = graphGenerationService.getCachedOrchestrationGraph(planExecutionId);
+    assertThat(orchestrationGraph.getLastUpdatedAt()).isEqualTo(1550L);
+    assertThat(orchestrationGraph.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(nodeExecutionId);
+    assertThat(graphGenerationService.getOrchestrationGraphPatches(planExecutionId, 1550L)).isEmpty();
+    // A reader behind the kept deltas has to read the whole graph again
+    assertThat(graphGenerationService.getOrchestrationGraphPatches(planExecutionId, 1000L)).isNull();
+
+    // An update started from the same state as the applied one is rejected
+    assertThat(graphGenerationServiceImpl.applyEventLogs(emptyGraph(planExecutionId, 1222L))).isFalse();
+    assertThat(graphGenerationService.getOrchestrationGraphPatches(planExecutionId, 1222L)).hasSize(1);
+  }
+
+  private OrchestrationGraph emptyGraph(String planExecutionId, long lastUpdatedAt) {
+    return OrchestrationGraph.builder()
+        .cacheKey(planExecutionId)
+        .planExecutionId(planExecutionId)
+        .rootNodeIds(new ArrayList<>())
+        .lastUpdatedAt(lastUpdatedAt)
+        .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                           .adjacencyMap(new HashMap<>())
+                           .graphVertexMap(new HashMap<>())
+                           .build())
+        .build();
   }
 }
@@ -30,6 +30,9 @@ public interface PmsOutcomeService extends Resolver {
 
   OptionalOutcome resolveOptional(Ambiance ambiance, RefObject refObject);
 
+  // Resolves the refs with one query per kind of ref instead of one per ref, results are in the order of the refs
+  List<OptionalOutcome> resolveOptionalMany(Ambiance ambiance, List<RefObject> refObjects);
+
   List<OutcomeInstance> fetchOutcomeInstanceByRuntimeId(String runtimeId);
 
   List<String> cloneForRetryExecution(Ambiance ambiance, String originalNodeExecutionId);
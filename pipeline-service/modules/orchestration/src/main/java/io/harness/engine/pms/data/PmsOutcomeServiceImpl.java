@@ -34,14 +34,17 @@ import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.mongodb.DuplicateKeyException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
@@ -212,6 +215,78 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
     }
   }
 
+  @Override
+  public List<OptionalOutcome> resolveOptionalMany(Ambiance ambiance, List<RefObject> refObjects) {
+    Set<String> names = new HashSet<>();
+    Set<String> producerNames = new HashSet<>();
+    Set<String> producerIds = new HashSet<>();
+    for (RefObject refObject : refObjects) {
+      if (EmptyPredicate.isNotEmpty(refObject.getProducerId())) {
+        producerNames.add(refObject.getName());
+        producerIds.add(refObject.getProducerId());
+      } else if (!refObject.getName().contains(".")) {
+        names.add(refObject.getName());
+      }
+    }
+    Map<String, OutcomeInstance> instancesByName = findUsingRuntimeId(ambiance, names);
+    Map<List<String>, OutcomeInstance> instancesByProducer =
+        findUsingProducerSetupId(ambiance, producerNames, producerIds);
+
+    List<OptionalOutcome> optionalOutcomes = new ArrayList<>(refObjects.size());
+    for (RefObject refObject : refObjects) {
+      OutcomeInstance instance;
+      if (EmptyPredicate.isNotEmpty(refObject.getProducerId())) {
+        instance = instancesByProducer.get(Arrays.asList(refObject.getName(), refObject.getProducerId()));
+      } else if (!refObject.getName().contains(".")) {
+        instance = instancesByName.get(refObject.getName());
+      } else {
+        // Expressions are evaluated one at a time
+        optionalOutcomes.add(resolveOptional(ambiance, refObject));
+        continue;
+      }
+      optionalOutcomes.add(instance == null
+              ? OptionalOutcome.builder().found(false).build()
+              : OptionalOutcome.builder().found(true).outcome(instance.getOutcomeJsonValue()).build());
+    }
+    return optionalOutcomes;
+  }
+
+  // The instance of each name saved at the most specific level of the ambiance, as resolveUsingRuntimeId picks it
+  private Map<String, OutcomeInstance> findUsingRuntimeId(Ambiance ambiance, Set<String> names) {
+    if (EmptyPredicate.isEmpty(names)) {
+      return Collections.emptyMap();
+    }
+    Query query =
+        query(where(OutcomeInstanceKeys.planExecutionId).is(ambiance.getPlanExecutionId()))
+            .addCriteria(where(OutcomeInstanceKeys.name).in(names))
+            .addCriteria(
+                where(OutcomeInstanceKeys.levelRuntimeIdIdx).in(ResolverUtils.prepareLevelRuntimeIdIndices(ambiance)));
+    Map<String, OutcomeInstance> instancesByName = new HashMap<>();
+    for (OutcomeInstance instance : mongoTemplate.find(query, OutcomeInstance.class)) {
+      instancesByName.merge(instance.getName(), instance,
+          (a, b) -> a.getLevelRuntimeIdIdx().compareTo(b.getLevelRuntimeIdIdx()) >= 0 ? a : b);
+    }
+    return instancesByName;
+  }
+
+  // The latest instance of each name and producer, as resolveUsingProducerSetupId picks it
+  private Map<List<String>, OutcomeInstance> findUsingProducerSetupId(
+      Ambiance ambiance, Set<String> names, Set<String> producerIds) {
+    if (EmptyPredicate.isEmpty(names)) {
+      return Collections.emptyMap();
+    }
+    Query query = query(where(OutcomeInstanceKeys.planExecutionId).is(ambiance.getPlanExecutionId()))
+                      .addCriteria(where(OutcomeInstanceKeys.name).in(names))
+                      .addCriteria(where(OutcomeInstanceKeys.producedBySetupId).in(producerIds))
+                      .with(Sort.by(Sort.Direction.DESC, OutcomeInstanceKeys.createdAt));
+    Map<List<String>, OutcomeInstance> instancesByProducer = new HashMap<>();
+    for (OutcomeInstance instance : mongoTemplate.find(query, OutcomeInstance.class)) {
+      instancesByProducer.putIfAbsent(
+          Arrays.asList(instance.getName(), instance.getProducedBy().getSetupId()), instance);
+    }
+    return instancesByProducer;
+  }
+
   @Override
   public List<OutcomeInstance> fetchOutcomeInstanceByRuntimeId(String runtimeId) {
     Query query = query(where(OutcomeInstanceKeys.producedByRuntimeId).is(runtimeId));
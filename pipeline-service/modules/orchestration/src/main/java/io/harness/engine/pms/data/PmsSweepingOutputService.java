@@ -19,6 +19,9 @@ import java.util.List;
 public interface PmsSweepingOutputService extends Resolver {
   RawOptionalSweepingOutput resolveOptional(Ambiance ambiance, RefObject refObject);
 
+  // Resolves the refs that are plain names with one query, results are in the order of the refs
+  List<RawOptionalSweepingOutput> resolveOptionalMany(Ambiance ambiance, List<RefObject> refObjects);
+
   List<RawOptionalSweepingOutput> findOutputsUsingNodeId(Ambiance ambiance, String name, List<String> nodeIds);
 
   List<RawOptionalSweepingOutput> findOutputsUsingExecutionIds(Ambiance ambiance, String name, List<String> nodeIds);
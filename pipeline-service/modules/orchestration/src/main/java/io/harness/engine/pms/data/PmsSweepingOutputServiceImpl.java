@@ -34,7 +34,10 @@ import com.mongodb.DuplicateKeyException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.jexl3.JexlException;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -134,6 +137,41 @@ public class PmsSweepingOutputServiceImpl implements PmsSweepingOutputService {
     }
   }
 
+  @Override
+  public List<RawOptionalSweepingOutput> resolveOptionalMany(Ambiance ambiance, List<RefObject> refObjects) {
+    Set<String> names = refObjects.stream()
+                            .map(RefObject::getName)
+                            .filter(name -> !name.contains("."))
+                            .collect(Collectors.toSet());
+    Map<String, ExecutionSweepingOutputInstance> instancesByName = new HashMap<>();
+    if (EmptyPredicate.isNotEmpty(names)) {
+      Query query = query(where(ExecutionSweepingOutputKeys.planExecutionId).is(ambiance.getPlanExecutionId()))
+                        .addCriteria(where(ExecutionSweepingOutputKeys.name).in(names))
+                        .addCriteria(where(ExecutionSweepingOutputKeys.levelRuntimeIdIdx)
+                                         .in(ResolverUtils.prepareLevelRuntimeIdIndices(ambiance)));
+      // The instance saved at the most specific level wins, as in getInstance
+      for (ExecutionSweepingOutputInstance instance :
+          mongoTemplate.find(query, ExecutionSweepingOutputInstance.class)) {
+        instancesByName.merge(instance.getName(), instance,
+            (a, b) -> a.getLevelRuntimeIdIdx().compareTo(b.getLevelRuntimeIdIdx()) >= 0 ? a : b);
+      }
+    }
+
+    List<RawOptionalSweepingOutput> outputs = new ArrayList<>(refObjects.size());
+    for (RefObject refObject : refObjects) {
+      if (refObject.getName().contains(".")) {
+        // Expressions are evaluated one at a time
+        outputs.add(resolveOptional(ambiance, refObject));
+        continue;
+      }
+      ExecutionSweepingOutputInstance instance = instancesByName.get(refObject.getName());
+      outputs.add(instance == null
+              ? RawOptionalSweepingOutput.builder().found(false).build()
+              : RawOptionalSweepingOutput.builder().found(true).output(instance.getOutputValueJson()).build());
+    }
+    return outputs;
+  }
+
   private RawOptionalSweepingOutput resolveOptionalUsingRuntimeId(Ambiance ambiance, RefObject refObject) {
     ExecutionSweepingOutputInstance instance = getInstance(ambiance, refObject);
     if (instance == null) {
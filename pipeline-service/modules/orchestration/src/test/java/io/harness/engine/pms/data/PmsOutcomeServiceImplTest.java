@@ -195,6 +195,31 @@ public class PmsOutcomeServiceImplTest extends OrchestrationTestBase {
     assertThat(optionalOutcome.isFound()).isTrue();
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldResolveOptionalMany() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    String setupId = AmbianceUtils.obtainCurrentSetupId(ambiance);
+    String outcomeJson1 = RecastOrchestrationUtils.toJson(DummyOrchestrationOutcome.builder().test("test1").build());
+    String outcomeJson2 = RecastOrchestrationUtils.toJson(DummyOrchestrationOutcome.builder().test("test2").build());
+    pmsOutcomeService.consume(ambiance, "outcome1", outcomeJson1, null);
+    pmsOutcomeService.consume(ambiance, "outcome2", outcomeJson2, null);
+
+    List<OptionalOutcome> optionalOutcomes = pmsOutcomeService.resolveOptionalMany(ambiance,
+        Arrays.asList(RefObjectUtils.getOutcomeRefObject("outcome2"),
+            RefObjectUtils.getOutcomeRefObject("outcome1", setupId, null),
+            RefObjectUtils.getOutcomeRefObject("missing"), RefObjectUtils.getOutcomeRefObject("outcome1"),
+            RefObjectUtils.getOutcomeRefObject("outcome2", generateUuid(), null)));
+
+    assertThat(optionalOutcomes)
+        .containsExactly(OptionalOutcome.builder().found(true).outcome(outcomeJson2).build(),
+            OptionalOutcome.builder().found(true).outcome(outcomeJson1).build(),
+            OptionalOutcome.builder().found(false).build(),
+            OptionalOutcome.builder().found(true).outcome(outcomeJson1).build(),
+            OptionalOutcome.builder().found(false).build());
+  }
+
   @Test
   @Owner(developers = ALEXEI)
   @Category(UnitTests.class)
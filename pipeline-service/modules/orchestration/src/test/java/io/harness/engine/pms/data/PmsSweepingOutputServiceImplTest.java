@@ -31,6 +31,7 @@ import io.harness.utils.AmbianceTestUtils;
 import io.harness.utils.DummySweepingOutput;
 
 import com.google.inject.Inject;
+import java.util.Arrays;
 import java.util.List;
 import org.bson.Document;
 import org.junit.Test;
@@ -130,6 +131,34 @@ public class PmsSweepingOutputServiceImplTest extends OrchestrationTestBase {
         .isInstanceOf(GroupNotFoundException.class);
   }
 
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void testResolveOptionalMany() {
+    Ambiance ambianceSection = AmbianceTestUtils.buildAmbiance();
+    Ambiance ambianceStep = prepareStepAmbiance(ambianceSection);
+
+    pmsSweepingOutputService.consume(ambianceSection, "outputName",
+        RecastOrchestrationUtils.toJson(DummySweepingOutput.builder().test("testSection").build()), null);
+    pmsSweepingOutputService.consume(ambianceStep, "outputName",
+        RecastOrchestrationUtils.toJson(DummySweepingOutput.builder().test("testStep").build()), null);
+    pmsSweepingOutputService.consume(ambianceSection, "otherOutputName",
+        RecastOrchestrationUtils.toJson(DummySweepingOutput.builder().test("testOther").build()), null);
+
+    List<RawOptionalSweepingOutput> outputs = pmsSweepingOutputService.resolveOptionalMany(ambianceStep,
+        Arrays.asList(RefObjectUtils.getSweepingOutputRefObject("otherOutputName"),
+            RefObjectUtils.getSweepingOutputRefObject("missingOutputName"),
+            RefObjectUtils.getSweepingOutputRefObject("outputName")));
+
+    assertThat(outputs).hasSize(3);
+    assertThat(outputs.get(0).isFound()).isTrue();
+    validateResult(Document.parse(outputs.get(0).getOutput()), "testOther");
+    assertThat(outputs.get(1).isFound()).isFalse();
+    // The output saved at the most specific level wins
+    assertThat(outputs.get(2).isFound()).isTrue();
+    validateResult(Document.parse(outputs.get(2).getOutput()), "testStep");
+  }
+
   private void validateResult(Document foundOutput, String testValue) {
     assertThat(foundOutput).isNotNull();
     assertThat(foundOutput.getString("test")).isEqualTo(testValue);
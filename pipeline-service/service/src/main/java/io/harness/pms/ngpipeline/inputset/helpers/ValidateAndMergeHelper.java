@@ -42,8 +42,11 @@ import io.harness.pms.stages.StagesExpressionExtractor;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -211,16 +214,27 @@ public class ValidateAndMergeHelper {
           "Pipeline " + pipelineIdentifier + " does not have any runtime input. All existing input sets are invalid");
     }
 
+    // The referenced input sets, and then the input sets their overlays reference, are each loaded in one call
+    Map<String, InputSetEntity> inputSets = pmsInputSetService.getAllWithoutValidations(
+        accountId, orgIdentifier, projectIdentifier, pipelineIdentifier, inputSetReferences, false);
+    Set<String> overlayReferences = new LinkedHashSet<>();
+    inputSets.values()
+        .stream()
+        .filter(inputSet -> inputSet.getInputSetEntityType() != InputSetEntityType.INPUT_SET)
+        .forEach(inputSet -> overlayReferences.addAll(inputSet.getInputSetReferences()));
+    Map<String, InputSetEntity> overlayInputSets = EmptyPredicate.isEmpty(overlayReferences)
+        ? Collections.emptyMap()
+        : pmsInputSetService.getAllWithoutValidations(accountId, orgIdentifier, projectIdentifier,
+            pipelineIdentifier, new ArrayList<>(overlayReferences), false);
+
     Set<String> invalidReferences = new HashSet<>();
     List<String> inputSetYamlList = new ArrayList<>();
     inputSetReferences.forEach(identifier -> {
-      Optional<InputSetEntity> entity = pmsInputSetService.getWithoutValidations(
-          accountId, orgIdentifier, projectIdentifier, pipelineIdentifier, identifier, false);
-      if (!entity.isPresent()) {
+      InputSetEntity inputSet = inputSets.get(identifier);
+      if (inputSet == null) {
         invalidReferences.add(identifier);
         return;
       }
-      InputSetEntity inputSet = entity.get();
       if (inputSet.getIsInvalid()) {
         invalidReferences.add(identifier);
         return;
@@ -231,15 +245,14 @@ public class ValidateAndMergeHelper {
           invalidReferences.add(identifier);
         }
       } else {
-        List<String> overlayReferences = inputSet.getInputSetReferences();
-        overlayReferences.forEach(id -> {
-          Optional<InputSetEntity> entity2 = pmsInputSetService.getWithoutValidations(
-              accountId, orgIdentifier, projectIdentifier, pipelineIdentifier, id, false);
-          if (!entity2.isPresent()) {
+        inputSet.getInputSetReferences().forEach(id -> {
+          InputSetEntity overlayReferencedInputSet = overlayInputSets.get(id);
+          if (overlayReferencedInputSet == null) {
             invalidReferences.add(identifier);
           } else {
-            inputSetYamlList.add(entity2.get().getYaml());
-            if (InputSetErrorsHelper.getErrorMap(pipelineTemplateForValidations, entity2.get().getYaml()) != null) {
+            inputSetYamlList.add(overlayReferencedInputSet.getYaml());
+            if (InputSetErrorsHelper.getErrorMap(pipelineTemplateForValidations, overlayReferencedInputSet.getYaml())
+                != null) {
               invalidReferences.add(identifier);
             }
           }
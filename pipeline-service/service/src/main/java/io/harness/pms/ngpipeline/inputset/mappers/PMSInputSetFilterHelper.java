@@ -22,6 +22,7 @@ import io.harness.pms.ngpipeline.inputset.beans.entity.InputSetEntity.InputSetEn
 import io.harness.pms.ngpipeline.inputset.beans.entity.InputSetEntityType;
 import io.harness.pms.ngpipeline.inputset.beans.resource.InputSetListTypePMS;
 
+import java.util.List;
 import lombok.experimental.UtilityClass;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Update;
@@ -137,4 +138,20 @@ public class PMSInputSetFilterHelper {
         .and(InputSetEntityKeys.identifier)
         .is(identifier);
   }
+
+  public Criteria getCriteriaForFindAll(String accountId, String orgIdentifier, String projectIdentifier,
+      String pipelineIdentifier, List<String> identifiers, boolean notDeleted) {
+    return Criteria.where(InputSetEntityKeys.deleted)
+        .is(!notDeleted)
+        .and(InputSetEntityKeys.accountId)
+        .is(accountId)
+        .and(InputSetEntityKeys.orgIdentifier)
+        .is(orgIdentifier)
+        .and(InputSetEntityKeys.projectIdentifier)
+        .is(projectIdentifier)
+        .and(InputSetEntityKeys.pipelineIdentifier)
+        .is(pipelineIdentifier)
+        .and(InputSetEntityKeys.identifier)
+        .in(identifiers);
+  }
 }
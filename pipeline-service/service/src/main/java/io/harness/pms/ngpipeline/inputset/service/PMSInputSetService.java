@@ -17,6 +17,7 @@ import io.harness.pms.ngpipeline.inputset.beans.resource.InputSetImportRequestDT
 import io.harness.pms.pipeline.PipelineEntity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +34,10 @@ public interface PMSInputSetService {
   Optional<InputSetEntity> getWithoutValidations(String accountId, String orgIdentifier, String projectIdentifier,
       String pipelineIdentifier, String identifier, boolean deleted);
 
+  // returns the input sets found, keyed by identifier, remote input sets are fetched from git together
+  Map<String, InputSetEntity> getAllWithoutValidations(String accountId, String orgIdentifier,
+      String projectIdentifier, String pipelineIdentifier, List<String> identifiers, boolean deleted);
+
   // pipeline branch and repo ID are needed for old git sync
   InputSetEntity update(
       InputSetEntity inputSetEntity, ChangeType changeType, String pipelineBranch, String pipelineRepoID);
@@ -167,6 +167,32 @@ public class PMSInputSetServiceImpl implements PMSInputSetService {
     return optionalInputSetEntity;
   }
 
+  @Override
+  public Map<String, InputSetEntity> getAllWithoutValidations(String accountId, String orgIdentifier,
+      String projectIdentifier, String pipelineIdentifier, List<String> identifiers, boolean deleted) {
+    Map<String, InputSetEntity> inputSetEntities = new HashMap<>();
+    if (gitSyncSdkService.isGitSyncEnabled(accountId, orgIdentifier, projectIdentifier)) {
+      for (String identifier : identifiers) {
+        getWithoutValidations(accountId, orgIdentifier, projectIdentifier, pipelineIdentifier, identifier, deleted)
+            .ifPresent(inputSetEntity -> inputSetEntities.put(identifier, inputSetEntity));
+      }
+      return inputSetEntities;
+    }
+    try {
+      inputSetRepository
+          .findAll(accountId, orgIdentifier, projectIdentifier, pipelineIdentifier, identifiers, !deleted)
+          .forEach(inputSetEntity -> inputSetEntities.put(inputSetEntity.getIdentifier(), inputSetEntity));
+    } catch (ExplanationException | HintException | ScmException e) {
+      log.error(String.format("Error while retrieving input sets %s", identifiers), e);
+      throw e;
+    } catch (Exception e) {
+      log.error(String.format("Error while retrieving input sets %s", identifiers), e);
+      throw new InvalidRequestException(
+          String.format("Error while retrieving input sets %s: %s", identifiers, e.getMessage()));
+    }
+    return inputSetEntities;
+  }
+
   @Override
   public InputSetEntity update(
       InputSetEntity inputSetEntity, ChangeType changeType, String pipelineBranch, String pipelineRepoID) {
@@ -8,21 +8,28 @@
 package io.harness.pms.pipeline.mappers;
 
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.DelegateInfo;
 import io.harness.beans.EdgeList;
 import io.harness.beans.ExecutionGraph;
+import io.harness.beans.ExecutionGraphPatch;
 import io.harness.beans.ExecutionNode;
 import io.harness.beans.ExecutionNodeAdjacencyList;
+import io.harness.beans.OrchestrationGraphPatch;
+import io.harness.beans.converter.EdgeListConverter;
 import io.harness.dto.GraphDelegateSelectionLogParams;
 import io.harness.dto.GraphVertexDTO;
 import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.converter.GraphVertexDTOConverter;
+import io.harness.pms.contracts.steps.SkipType;
 import io.harness.pms.execution.ExecutionStatus;
 import io.harness.pms.plan.execution.PipelineExecutionSummaryKeys;
 import io.harness.pms.plan.execution.PlanExecutionUtils;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,9 +100,35 @@ public class ExecutionGraphMapper {
         .nodeAdjacencyListMap(orchestrationGraph.getAdjacencyList().getAdjacencyMap().entrySet().stream().collect(
             Collectors.toMap(Map.Entry::getKey, entry -> toExecutionNodeAdjacencyList.apply(entry.getValue()))))
         .executionMetadata(getMetadataMap(summaryEntity))
+        .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
         .build();
   }
 
+  /**
+   * Returns null if a patch changes a vertex which is skipped in the ExecutionGraph, the graph has to be read again.
+   */
+  public List<ExecutionGraphPatch> toExecutionGraphPatches(List<OrchestrationGraphPatch> patches) {
+    List<ExecutionGraphPatch> executionGraphPatches = new ArrayList<>();
+    for (OrchestrationGraphPatch patch : patches) {
+      if (patch.getVertices().values().stream().anyMatch(vertex -> vertex.getSkipType() != SkipType.NOOP)) {
+        return null;
+      }
+      executionGraphPatches.add(
+          ExecutionGraphPatch.builder()
+              .fromUpdatedAt(patch.getFromUpdatedAt())
+              .lastUpdatedAt(patch.getLastUpdatedAt())
+              .rootNodeId(isEmpty(patch.getRootNodeIds()) ? null : patch.getRootNodeIds().get(0))
+              .nodeMap(patch.getVertices().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                  entry -> toExecutionNode(GraphVertexDTOConverter.toGraphVertexDTO.apply(entry.getValue())))))
+              .removedNodeIds(patch.getRemovedVertices())
+              .nodeAdjacencyListMap(patch.getEdges().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                  entry -> toExecutionNodeAdjacencyList.apply(EdgeListConverter.convertFrom(entry.getValue())))))
+              .removedAdjacencyListIds(patch.getRemovedEdges())
+              .build());
+    }
+    return executionGraphPatches;
+  }
+
   public Map<String, String> getMetadataMap(PipelineExecutionSummaryEntity summaryEntity) {
     Map<String, String> executionMetadata = new HashMap<>();
     if (summaryEntity.getAccountId() != null) {
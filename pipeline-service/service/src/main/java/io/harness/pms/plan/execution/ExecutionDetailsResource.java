@@ -20,6 +20,7 @@ import io.harness.accesscontrol.acl.api.ResourceScope;
 import io.harness.accesscontrol.clients.AccessControlClient;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.apiexamples.PipelineAPIConstants;
+import io.harness.beans.ExecutionGraphPatch;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.exception.InvalidRequestException;
 import io.harness.filter.dto.FilterPropertiesDTO;
@@ -296,6 +297,38 @@ public class ExecutionDetailsResource {
     return ResponseDTO.newResponse(executionDetailDTO);
   }
 
+  @GET
+  @Path("/v2/{planExecutionId}/graphPatches")
+  @ApiOperation(value = "Gets the changes to the Execution Graph", nickname = "getExecutionGraphPatches")
+  @Operation(operationId = "getExecutionGraphPatches",
+      summary = "Fetch the changes to the Execution Graph after the given one",
+      responses =
+      {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "default",
+            description = "Returns the changes to the Execution Graph in order, "
+                + "or no data if the Execution Graph has to be fetched again")
+      })
+  @Hidden
+  public ResponseDTO<List<ExecutionGraphPatch>>
+  getExecutionGraphPatches(
+      @NotNull @Parameter(description = PipelineResourceConstants.ACCOUNT_PARAM_MESSAGE, required = true) @QueryParam(
+          NGCommonEntityConstants.ACCOUNT_KEY) @AccountIdentifier String accountId,
+      @Parameter(description = PipelineResourceConstants.ORG_PARAM_MESSAGE, required = true) @NotNull @QueryParam(
+          NGCommonEntityConstants.ORG_KEY) @OrgIdentifier String orgId,
+      @NotNull @Parameter(description = PipelineResourceConstants.PROJECT_PARAM_MESSAGE, required = true) @QueryParam(
+          NGCommonEntityConstants.PROJECT_KEY) @ProjectIdentifier String projectId,
+      @NotNull @Parameter(description = "lastUpdatedAt of the Execution Graph or of the last change applied to it",
+          required = true) @QueryParam("lastUpdatedAt") Long lastUpdatedAt,
+      @Parameter(description = "Plan Execution Id for which we want to get the changes to the Execution Graph",
+          required = true) @PathParam(NGCommonEntityConstants.PLAN_KEY) String planExecutionId) {
+    PipelineExecutionSummaryEntity executionSummaryEntity =
+        pmsExecutionService.getPipelineExecutionSummaryEntity(accountId, orgId, projectId, planExecutionId, false);
+    accessControlClient.checkForAccessOrThrow(ResourceScope.of(accountId, orgId, projectId),
+        Resource.of("PIPELINE", executionSummaryEntity.getPipelineIdentifier()), PipelineRbacPermissions.PIPELINE_VIEW);
+
+    return ResponseDTO.newResponse(pmsExecutionService.getExecutionGraphPatches(planExecutionId, lastUpdatedAt));
+  }
+
   @GET
   @Path("/{planExecutionId}")
   @ApiOperation(value = "Gets Execution Detail", nickname = "getExecutionDetail")
@@ -20,6 +20,8 @@ import io.harness.pms.contracts.service.OutcomeFindAllBlobResponse;
 import io.harness.pms.contracts.service.OutcomeProtoServiceGrpc.OutcomeProtoServiceImplBase;
 import io.harness.pms.contracts.service.OutcomeResolveBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveBlobResponse;
+import io.harness.pms.contracts.service.OutcomeResolveManyRequest;
+import io.harness.pms.contracts.service.OutcomeResolveManyResponse;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobResponse;
 
@@ -89,4 +91,21 @@ public class OutcomeServiceGrpcServerImpl extends OutcomeProtoServiceImplBase {
     responseObserver.onNext(builder.build());
     responseObserver.onCompleted();
   }
+
+  @Override
+  public void resolveMany(
+      OutcomeResolveManyRequest request, StreamObserver<OutcomeResolveManyResponse> responseObserver) {
+    OutcomeResolveManyResponse.Builder responseBuilder = OutcomeResolveManyResponse.newBuilder();
+    for (OptionalOutcome resolve :
+        pmsOutcomeService.resolveOptionalMany(request.getAmbiance(), request.getRefObjectsList())) {
+      OutcomeResolveOptionalBlobResponse.Builder builder =
+          OutcomeResolveOptionalBlobResponse.newBuilder().setFound(resolve.isFound());
+      if (resolve.isFound() && resolve.getOutcome() != null) {
+        builder.setOutcome(resolve.getOutcome());
+      }
+      responseBuilder.addResponses(builder.build());
+    }
+    responseObserver.onNext(responseBuilder.build());
+    responseObserver.onCompleted();
+  }
 }
@@ -19,6 +19,8 @@ import io.harness.pms.contracts.service.SweepingOutputListRequest;
 import io.harness.pms.contracts.service.SweepingOutputListResponse;
 import io.harness.pms.contracts.service.SweepingOutputResolveBlobRequest;
 import io.harness.pms.contracts.service.SweepingOutputResolveBlobResponse;
+import io.harness.pms.contracts.service.SweepingOutputResolveManyRequest;
+import io.harness.pms.contracts.service.SweepingOutputResolveManyResponse;
 import io.harness.pms.contracts.service.SweepingOutputServiceGrpc.SweepingOutputServiceImplBase;
 
 import com.google.inject.Inject;
@@ -96,6 +98,23 @@ public class SweepingOutputServiceImpl extends SweepingOutputServiceImplBase {
     responseObserver.onCompleted();
   }
 
+  @Override
+  public void resolveMany(
+      SweepingOutputResolveManyRequest request, StreamObserver<SweepingOutputResolveManyResponse> responseObserver) {
+    SweepingOutputResolveManyResponse.Builder responseBuilder = SweepingOutputResolveManyResponse.newBuilder();
+    for (RawOptionalSweepingOutput resolve :
+        pmsSweepingOutputService.resolveOptionalMany(request.getAmbiance(), request.getRefObjectsList())) {
+      Builder builder = OptionalSweepingOutputResolveBlobResponse.newBuilder().setFound(resolve.isFound());
+      if (resolve.isFound()) {
+        builder.setStepTransput(resolve.getOutput());
+      }
+      responseBuilder.addResponses(builder.build());
+    }
+
+    responseObserver.onNext(responseBuilder.build());
+    responseObserver.onCompleted();
+  }
+
   @Override
   public void resolve(
       SweepingOutputResolveBlobRequest request, StreamObserver<SweepingOutputResolveBlobResponse> responseObserver) {
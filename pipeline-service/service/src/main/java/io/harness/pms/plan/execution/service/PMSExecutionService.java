@@ -10,6 +10,7 @@ package io.harness.pms.plan.execution.service;
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.ExecutionGraphPatch;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.pms.contracts.interrupts.InterruptConfig;
 import io.harness.pms.execution.ExecutionStatus;
@@ -45,6 +46,11 @@ public interface PMSExecutionService {
 
   OrchestrationGraphDTO getOrchestrationGraph(String stageNodeId, String planExecutionId, String stageNodeExecutionId);
 
+  /**
+   * Returns the changes to the execution graph after lastUpdatedAt in order, or null if the graph has to be read again.
+   */
+  List<ExecutionGraphPatch> getExecutionGraphPatches(String planExecutionId, long lastUpdatedAt);
+
   InterruptDTO registerInterrupt(
       PlanExecutionInterruptType executionInterruptType, String planExecutionId, String nodeExecutionId);
 
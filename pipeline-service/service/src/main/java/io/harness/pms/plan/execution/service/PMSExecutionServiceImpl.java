@@ -16,6 +16,8 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 import io.harness.ModuleType;
 import io.harness.NGResourceFilterConstants;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.ExecutionGraphPatch;
+import io.harness.beans.OrchestrationGraphPatch;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.engine.OrchestrationService;
@@ -52,6 +54,7 @@ import io.harness.pms.ngpipeline.inputset.helpers.ValidateAndMergeHelper;
 import io.harness.pms.pipeline.PMSPipelineListBranchesResponse;
 import io.harness.pms.pipeline.PMSPipelineListRepoResponse;
 import io.harness.pms.pipeline.PipelineEntity;
+import io.harness.pms.pipeline.mappers.ExecutionGraphMapper;
 import io.harness.pms.plan.execution.ModuleInfoOperators;
 import io.harness.pms.plan.execution.PlanExecutionInterruptType;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
@@ -514,6 +517,14 @@ public class PMSExecutionServiceImpl implements PMSExecutionService {
     return graphGenerationService.generatePartialOrchestrationGraphFromSetupNodeIdAndExecutionId(
         stageNodeId, planExecutionId, stageNodeExecutionId);
   }
+
+  @Override
+  public List<ExecutionGraphPatch> getExecutionGraphPatches(String planExecutionId, long lastUpdatedAt) {
+    List<OrchestrationGraphPatch> patches =
+        graphGenerationService.getOrchestrationGraphPatches(planExecutionId, lastUpdatedAt);
+    return patches == null ? null : ExecutionGraphMapper.toExecutionGraphPatches(patches);
+  }
+
   @Override
   public InterruptDTO registerInterrupt(
       PlanExecutionInterruptType executionInterruptType, String planExecutionId, String nodeExecutionId) {
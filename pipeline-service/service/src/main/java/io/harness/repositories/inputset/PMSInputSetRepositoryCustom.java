@@ -41,6 +41,9 @@ public interface PMSInputSetRepositoryCustom {
   Optional<InputSetEntity> find(String accountId, String orgIdentifier, String projectIdentifier,
       String pipelineIdentifier, String identifier, boolean notDeleted, boolean getMetadataOnly);
 
+  List<InputSetEntity> findAll(String accountId, String orgIdentifier, String projectIdentifier,
+      String pipelineIdentifier, List<String> identifiers, boolean notDeleted);
+
   InputSetEntity updateForOldGitSync(InputSetEntity entityToUpdate, InputSetYamlDTO yamlDTO, ChangeType changeType);
 
   InputSetEntity update(InputSetEntity entityToUpdate);
@@ -35,9 +35,15 @@ import io.harness.springdata.PersistenceUtils;
 import io.harness.springdata.TransactionHelper;
 
 import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -184,25 +190,82 @@ public class PMSInputSetRepositoryCustomImpl implements PMSInputSetRepositoryCus
     }
     if (savedEntity.getStoreType() == StoreType.REMOTE) {
       // fetch yaml from git
-      GitEntityInfo gitEntityInfo = GitAwareContextHelper.getGitRequestParamsInfo();
-      savedEntity = (InputSetEntity) gitAwareEntityHelper.fetchEntityFromRemote(savedEntity,
-          Scope.builder()
-              .accountIdentifier(accountId)
-              .orgIdentifier(orgIdentifier)
-              .projectIdentifier(projectIdentifier)
-              .build(),
-          GitContextRequestParams.builder()
-              .branchName(gitEntityInfo.getBranch())
-              .connectorRef(savedEntity.getConnectorRef())
-              .filePath(savedEntity.getFilePath())
-              .repoName(savedEntity.getRepo())
-              .build(),
-          Collections.emptyMap());
+      savedEntity = fetchRemoteEntity(savedEntity);
     }
 
     return Optional.of(savedEntity);
   }
 
+  /**
+   * Loads the input sets with one query. The yaml of remote input sets is fetched with one git call per repo, input
+   * sets left out of that call are fetched one at a time so that their error surfaces as it does for a single find.
+   */
+  @Override
+  public List<InputSetEntity> findAll(String accountId, String orgIdentifier, String projectIdentifier,
+      String pipelineIdentifier, List<String> identifiers, boolean notDeleted) {
+    Criteria criteria = PMSInputSetFilterHelper.getCriteriaForFindAll(
+        accountId, orgIdentifier, projectIdentifier, pipelineIdentifier, identifiers, notDeleted);
+    List<InputSetEntity> savedEntities = mongoTemplate.find(new Query(criteria), InputSetEntity.class);
+
+    Map<List<String>, List<InputSetEntity>> remoteEntitiesByRepo = new LinkedHashMap<>();
+    List<InputSetEntity> inputSetEntities = new ArrayList<>();
+    for (InputSetEntity savedEntity : savedEntities) {
+      if (savedEntity.getStoreType() == StoreType.REMOTE) {
+        List<String> repoKey = Arrays.asList(savedEntity.getConnectorRef(), savedEntity.getRepo());
+        remoteEntitiesByRepo.computeIfAbsent(repoKey, k -> new ArrayList<>()).add(savedEntity);
+      } else {
+        inputSetEntities.add(savedEntity);
+      }
+    }
+    if (remoteEntitiesByRepo.isEmpty()) {
+      return inputSetEntities;
+    }
+
+    GitEntityInfo gitEntityInfo = GitAwareContextHelper.getGitRequestParamsInfo();
+    Scope scope = Scope.builder()
+                      .accountIdentifier(accountId)
+                      .orgIdentifier(orgIdentifier)
+                      .projectIdentifier(projectIdentifier)
+                      .build();
+    for (List<InputSetEntity> remoteEntities : remoteEntitiesByRepo.values()) {
+      Set<InputSetEntity> fetchedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+      try {
+        fetchedEntities.addAll(gitAwareEntityHelper.fetchEntitiesFromRemote(remoteEntities, scope,
+            GitContextRequestParams.builder()
+                .branchName(gitEntityInfo.getBranch())
+                .connectorRef(remoteEntities.get(0).getConnectorRef())
+                .repoName(remoteEntities.get(0).getRepo())
+                .build(),
+            Collections.emptyMap()));
+      } catch (Exception e) {
+        log.warn("Failed to fetch input sets from repo [{}] in one call, fetching them one at a time",
+            remoteEntities.get(0).getRepo(), e);
+      }
+      for (InputSetEntity remoteEntity : remoteEntities) {
+        inputSetEntities.add(
+            fetchedEntities.contains(remoteEntity) ? remoteEntity : fetchRemoteEntity(remoteEntity));
+      }
+    }
+    return inputSetEntities;
+  }
+
+  private InputSetEntity fetchRemoteEntity(InputSetEntity savedEntity) {
+    GitEntityInfo gitEntityInfo = GitAwareContextHelper.getGitRequestParamsInfo();
+    return (InputSetEntity) gitAwareEntityHelper.fetchEntityFromRemote(savedEntity,
+        Scope.builder()
+            .accountIdentifier(savedEntity.getAccountIdentifier())
+            .orgIdentifier(savedEntity.getOrgIdentifier())
+            .projectIdentifier(savedEntity.getProjectIdentifier())
+            .build(),
+        GitContextRequestParams.builder()
+            .branchName(gitEntityInfo.getBranch())
+            .connectorRef(savedEntity.getConnectorRef())
+            .filePath(savedEntity.getFilePath())
+            .repoName(savedEntity.getRepo())
+            .build(),
+        Collections.emptyMap());
+  }
+
   @Override
   public InputSetEntity updateForOldGitSync(
       InputSetEntity entityToUpdate, InputSetYamlDTO yamlDTO, ChangeType changeType) {
@@ -13,7 +13,12 @@ import static io.harness.rule.OwnerRule.NAMAN;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.harness.PipelineServiceTestBase;
 import io.harness.annotations.dev.OwnedBy;
@@ -29,6 +34,7 @@ import io.harness.pms.pipeline.PipelineEntity;
 import io.harness.pms.pipeline.service.PMSPipelineService;
 import io.harness.rule.Owner;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
@@ -115,9 +121,6 @@ public class ValidateAndMergeHelperTest extends PipelineServiceTestBase {
                                        .identifier(invalidIdentifier)
                                        .inputSetEntityType(InputSetEntityType.INPUT_SET)
                                        .build();
-    doReturn(Optional.of(invalidEntity))
-        .when(pmsInputSetService)
-        .getWithoutValidations(accountId, orgId, projectId, pipelineId, invalidIdentifier, false);
 
     String validIdentifier = "validIdentifier";
     InputSetEntity validEntity = InputSetEntity.builder()
@@ -126,9 +129,10 @@ public class ValidateAndMergeHelperTest extends PipelineServiceTestBase {
                                      .inputSetEntityType(InputSetEntityType.INPUT_SET)
                                      .yaml(validInputSetYaml)
                                      .build();
-    doReturn(Optional.of(validEntity))
+    doReturn(ImmutableMap.of(invalidIdentifier, invalidEntity, validIdentifier, validEntity))
         .when(pmsInputSetService)
-        .getWithoutValidations(accountId, orgId, projectId, pipelineId, validIdentifier, false);
+        .getAllWithoutValidations(
+            accountId, orgId, projectId, pipelineId, Arrays.asList(invalidIdentifier, validIdentifier), false);
 
     assertThatThrownBy(()
                            -> validateAndMergeHelper.getMergeInputSetFromPipelineTemplate(accountId, orgId, projectId,
@@ -208,10 +212,6 @@ public class ValidateAndMergeHelperTest extends PipelineServiceTestBase {
         + "        key: s1Value1";
     InputSetEntity forS1 =
         InputSetEntity.builder().yaml(yamlForS1).inputSetEntityType(InputSetEntityType.INPUT_SET).build();
-    doReturn(Optional.of(forS1))
-        .when(pmsInputSetService)
-        .getWithoutValidations(accountId, orgId, projectId, pipelineId, "forS1", false);
-
     String yamlForS1AndS2 = "inputSet:\n"
         + "  pipeline:\n"
         + "    stages:\n"
@@ -225,10 +225,6 @@ public class ValidateAndMergeHelperTest extends PipelineServiceTestBase {
         + "        key3: s2Value3";
     InputSetEntity forS1AndS2 =
         InputSetEntity.builder().yaml(yamlForS1AndS2).inputSetEntityType(InputSetEntityType.INPUT_SET).build();
-    doReturn(Optional.of(forS1AndS2))
-        .when(pmsInputSetService)
-        .getWithoutValidations(accountId, orgId, projectId, pipelineId, "forS1AndS2", false);
-
     String yamlForS2 = "inputSet:\n"
         + "  pipeline:\n"
         + "    stages:\n"
@@ -237,9 +233,10 @@ public class ValidateAndMergeHelperTest extends PipelineServiceTestBase {
         + "        key1: s2Value2FromForS2\n";
     InputSetEntity forS2 =
         InputSetEntity.builder().yaml(yamlForS2).inputSetEntityType(InputSetEntityType.INPUT_SET).build();
-    doReturn(Optional.of(forS2))
+    doReturn(ImmutableMap.of("forS1", forS1, "forS1AndS2", forS1AndS2, "forS2", forS2))
         .when(pmsInputSetService)
-        .getWithoutValidations(accountId, orgId, projectId, pipelineId, "forS2", false);
+        .getAllWithoutValidations(
+            accountId, orgId, projectId, pipelineId, Arrays.asList("forS1", "forS1AndS2", "forS2"), false);
 
     String mergedInputSet = validateAndMergeHelper.getMergeInputSetFromPipelineTemplate(accountId, orgId, projectId,
         pipelineId, Arrays.asList("forS1", "forS1AndS2", "forS2"), null, null, Collections.singletonList("s2"));
@@ -253,6 +250,69 @@ public class ValidateAndMergeHelperTest extends PipelineServiceTestBase {
             + "      key3: \"s2Value3\"\n");
   }
 
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testGetMergeInputSetFromPipelineTemplateWithOverlay() {
+    String pipelineYaml = "pipeline:\n"
+        + "  stages:\n"
+        + "  - stage:\n"
+        + "      identifier: s1\n"
+        + "      key: <+input>\n"
+        + "  - stage:\n"
+        + "      identifier: s2\n"
+        + "      key: <+input>";
+    PipelineEntity pipeline = PipelineEntity.builder().yaml(pipelineYaml).build();
+    doReturn(Optional.of(pipeline))
+        .when(pmsPipelineService)
+        .getAndValidatePipeline(accountId, orgId, projectId, pipelineId, false);
+
+    InputSetEntity overlay = InputSetEntity.builder()
+                                 .isInvalid(false)
+                                 .inputSetEntityType(InputSetEntityType.OVERLAY_INPUT_SET)
+                                 .inputSetReferences(Arrays.asList("forS1", "forS2"))
+                                 .build();
+    doReturn(ImmutableMap.of("overlay", overlay))
+        .when(pmsInputSetService)
+        .getAllWithoutValidations(accountId, orgId, projectId, pipelineId, Collections.singletonList("overlay"), false);
+    InputSetEntity forS1 = InputSetEntity.builder()
+                               .yaml("inputSet:\n"
+                                   + "  pipeline:\n"
+                                   + "    stages:\n"
+                                   + "    - stage:\n"
+                                   + "        identifier: s1\n"
+                                   + "        key: s1Value")
+                               .inputSetEntityType(InputSetEntityType.INPUT_SET)
+                               .build();
+    InputSetEntity forS2 = InputSetEntity.builder()
+                               .yaml("inputSet:\n"
+                                   + "  pipeline:\n"
+                                   + "    stages:\n"
+                                   + "    - stage:\n"
+                                   + "        identifier: s2\n"
+                                   + "        key: s2Value")
+                               .inputSetEntityType(InputSetEntityType.INPUT_SET)
+                               .build();
+    doReturn(ImmutableMap.of("forS1", forS1, "forS2", forS2))
+        .when(pmsInputSetService)
+        .getAllWithoutValidations(accountId, orgId, projectId, pipelineId, Arrays.asList("forS1", "forS2"), false);
+
+    String mergedInputSet = validateAndMergeHelper.getMergeInputSetFromPipelineTemplate(
+        accountId, orgId, projectId, pipelineId, Collections.singletonList("overlay"), null, null, null);
+    assertThat(mergedInputSet)
+        .isEqualTo("pipeline:\n"
+            + "  stages:\n"
+            + "  - stage:\n"
+            + "      identifier: \"s1\"\n"
+            + "      key: \"s1Value\"\n"
+            + "  - stage:\n"
+            + "      identifier: \"s2\"\n"
+            + "      key: \"s2Value\"\n");
+    // The overlay and the input sets it references are loaded with one call each
+    verify(pmsInputSetService, times(2))
+        .getAllWithoutValidations(anyString(), anyString(), anyString(), anyString(), anyList(), anyBoolean());
+  }
+
   private String getPipelineYamlWithNoRuntime() {
     return "pipeline:\n"
         + "  name: no runtime\n"
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@OwnedBy(PL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "AuditEventBatchResult", description = "Outcome of creating a batch of Audit Events.")
+public class AuditEventBatchResultDTO {
+  @Schema(description = "Insert ids of the Audit Events that were not saved and should be sent again")
+  List<String> failedInsertIds;
+  @Schema(description = "True if the batch was rejected because the audit service is saturated, "
+          + "the producer should back off before sending it again")
+  boolean throttled;
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@OwnedBy(PL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "AuditEventCursorPage", description = "A page of Audit Events, newest first.")
+public class AuditEventCursorPageDTO {
+  @Schema(description = "Audit Events of this page") List<AuditEventDTO> content;
+  @Schema(description = "Token to fetch the next page with, absent on the last page") String nextPageToken;
+  @Schema(description = "Number of matching Audit Events, only returned for the first page") Long totalItems;
+  @Schema(description = "True if there are more matching Audit Events than totalItems") Boolean totalItemsCapped;
+}
@@ -11,7 +11,10 @@ import static io.harness.NGCommonEntityConstants.ACCOUNT_PARAM_MESSAGE;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.NGCommonEntityConstants;
+import io.harness.NGResourceFilterConstants;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
+import io.harness.audit.beans.AuditEventCursorPageDTO;
 import io.harness.audit.beans.AuditEventDTO;
 import io.harness.audit.beans.AuditFilterPropertiesDTO;
 import io.harness.ng.beans.PageRequest;
@@ -32,10 +35,12 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.BeanParam;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -80,6 +85,22 @@ public interface AuditResource {
   create(@RequestBody(description = "This has the information to create an Audit event.",
       required = true) @NotNull @Valid AuditEventDTO auditEventDTO);
 
+  @POST
+  @Path("/batch")
+  @Hidden
+  @ApiOperation(hidden = true, value = "Create a batch of Audits", nickname = "postAuditBatch")
+  @Operation(operationId = "postAuditEventBatch", summary = "Creates a batch of Audit Events",
+      responses =
+      {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "default",
+            description = "Returns the insert ids of the Audit Events that were not created.")
+      },
+      hidden = true)
+  @InternalApi
+  ResponseDTO<AuditEventBatchResultDTO>
+  createAll(@RequestBody(description = "This has the information to create the Audit events, at most 1000.",
+      required = true) @NotNull @Valid List<AuditEventDTO> auditEventDTOs);
+
   @POST
   @Path("/list")
   @ApiOperation(value = "Get Audit Event list", nickname = "getAuditEventList")
@@ -94,4 +115,24 @@ public interface AuditResource {
        @QueryParam(NGCommonEntityConstants.ACCOUNT_KEY) String accountIdentifier, @BeanParam PageRequest pageRequest,
       @RequestBody(description = "This has the filter attributes for listing Audit Events")
       AuditFilterPropertiesDTO auditFilterPropertiesDTO);
+
+  @POST
+  @Path("/list/cursor")
+  @ApiOperation(value = "Get Audit Event list by cursor", nickname = "getAuditEventListByCursor")
+  @Operation(operationId = "getAuditEventListByCursor", summary = "List Audit Events by cursor",
+      responses =
+      {
+        @io.swagger.v3.oas.annotations.responses.
+        ApiResponse(responseCode = "default",
+            description = "This has a page of Audit Events, newest first, and the token of the next page.")
+      })
+  ResponseDTO<AuditEventCursorPageDTO>
+  listByCursor(@Parameter(description = ACCOUNT_PARAM_MESSAGE, required = true) @NotNull
+               @QueryParam(NGCommonEntityConstants.ACCOUNT_KEY) String accountIdentifier,
+      @Parameter(description = "Token of the page to fetch, returned with the previous page. "
+              + "If left empty, the first page is returned") @QueryParam("pageToken") String pageToken,
+      @Parameter(description = "Number of Audit Events per page, at most 100") @QueryParam(
+          NGResourceFilterConstants.SIZE_KEY) @DefaultValue("50") int size,
+      @RequestBody(description = "This has the filter attributes for listing Audit Events")
+      AuditFilterPropertiesDTO auditFilterPropertiesDTO);
 }
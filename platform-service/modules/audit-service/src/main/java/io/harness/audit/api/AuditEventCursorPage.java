@@ -0,0 +1,27 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.api;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.entities.AuditEvent;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(PL)
+@Value
+@Builder
+public class AuditEventCursorPage {
+  List<AuditEvent> content;
+  String nextPageToken;
+  Long totalItems;
+  Boolean totalItemsCapped;
+}
@@ -10,12 +10,13 @@ package io.harness.audit.api;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
 import io.harness.audit.beans.AuditEventDTO;
 import io.harness.audit.beans.AuditFilterPropertiesDTO;
 import io.harness.audit.entities.AuditEvent;
 import io.harness.ng.beans.PageRequest;
 
-import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.domain.Page;
@@ -24,12 +25,15 @@ import org.springframework.data.domain.Page;
 public interface AuditService {
   Boolean create(AuditEventDTO auditEventDTO);
 
+  AuditEventBatchResultDTO createAll(List<AuditEventDTO> auditEventDTOs);
+
   Optional<AuditEvent> get(String accountIdentifier, String auditId);
 
   Page<AuditEvent> list(
       String accountIdentifier, PageRequest pageRequest, AuditFilterPropertiesDTO auditFilterPropertiesDTO);
 
-  void purgeAuditsOlderThanTimestamp(String accountIdentifier, Instant timestamp);
+  AuditEventCursorPage listByCursor(String accountIdentifier, String pageToken, int pageSize,
+      AuditFilterPropertiesDTO auditFilterPropertiesDTO);
 
   Set<String> getUniqueAuditedAccounts();
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.api.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.audit.mapper.AuditEventMapper.fromDTO;
+
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
+import io.harness.audit.beans.AuditEventDTO;
+import io.harness.audit.entities.AuditEvent;
+import io.harness.audit.entities.AuditEvent.AuditEventKeys;
+import io.harness.audit.entities.YamlDiffRecord;
+import io.harness.audit.entities.YamlDiffRecord.YamlDiffRecordKeys;
+import io.harness.audit.repositories.AuditRepository;
+import io.harness.audit.repositories.AuditYamlRepository;
+import io.harness.threading.ForceQueuePolicy;
+import io.harness.threading.ThreadPool;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.BulkWriteError;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Writes batches of audit events with unordered insertMany calls of up to MAX_INSERT_BATCH_SIZE events. The yaml
+ * diffs of a batch are inserted in parallel with its events, which is why event ids are assigned before the insert.
+ *
+ * An event is reported as failed when either its event or its yaml diff could not be written, whatever part of it was
+ * written is removed again so that the producer can send it once more. Events that already exist by insertId count as
+ * written. At most MAX_IN_FLIGHT_EVENTS events are written at a time, batches beyond that are rejected as throttled
+ * instead of queueing up in the service.
+ */
+@OwnedBy(PL)
+@Slf4j
+@Singleton
+public class AuditEventBatchWriter {
+  static final int MAX_INSERT_BATCH_SIZE = 500;
+  static final int MAX_IN_FLIGHT_EVENTS = 10000;
+
+  private final AuditRepository auditRepository;
+  private final AuditYamlRepository auditYamlRepository;
+  private final Semaphore inFlightEvents = new Semaphore(MAX_IN_FLIGHT_EVENTS);
+  // The in flight limit leaves at most one yaml diff insert per insert batch running
+  private final ExecutorService yamlDiffExecutor =
+      ThreadPool.create(1, MAX_IN_FLIGHT_EVENTS / MAX_INSERT_BATCH_SIZE, 60, TimeUnit.SECONDS,
+          new ThreadFactoryBuilder().setNameFormat("audit-yaml-diff-writer-%d").setDaemon(true).build(), -1,
+          new ForceQueuePolicy(), "audit-yaml-diff-writer");
+
+  @Inject
+  public AuditEventBatchWriter(AuditRepository auditRepository, AuditYamlRepository auditYamlRepository) {
+    this.auditRepository = auditRepository;
+    this.auditYamlRepository = auditYamlRepository;
+  }
+
+  public AuditEventBatchResultDTO write(List<AuditEventDTO> auditEventDTOs) {
+    if (!inFlightEvents.tryAcquire(auditEventDTOs.size())) {
+      return AuditEventBatchResultDTO.builder().failedInsertIds(getInsertIds(auditEventDTOs)).throttled(true).build();
+    }
+    try {
+      long startTime = System.currentTimeMillis();
+      List<String> failedInsertIds = new ArrayList<>();
+      for (List<AuditEventDTO> insertBatch : Lists.partition(auditEventDTOs, MAX_INSERT_BATCH_SIZE)) {
+        failedInsertIds.addAll(writeInsertBatch(insertBatch));
+      }
+      log.info(String.format("Took %d milliseconds for create audit batch db operation of %d events, %d failed.",
+          System.currentTimeMillis() - startTime, auditEventDTOs.size(), failedInsertIds.size()));
+      return AuditEventBatchResultDTO.builder().failedInsertIds(failedInsertIds).throttled(false).build();
+    } finally {
+      inFlightEvents.release(auditEventDTOs.size());
+    }
+  }
+
+  private List<String> writeInsertBatch(List<AuditEventDTO> auditEventDTOs) {
+    List<AuditEvent> auditEvents = new ArrayList<>();
+    List<YamlDiffRecord> yamlDiffRecords = new ArrayList<>();
+    List<Integer> yamlDiffEventIndexes = new ArrayList<>();
+    for (int i = 0; i < auditEventDTOs.size(); i++) {
+      AuditEventDTO auditEventDTO = auditEventDTOs.get(i);
+      AuditEvent auditEvent = fromDTO(auditEventDTO);
+      auditEvent.setId(new ObjectId().toHexString());
+      auditEvents.add(auditEvent);
+      if (auditEventDTO.getYamlDiffRecord() != null) {
+        yamlDiffRecords.add(toYamlDiffRecord(auditEventDTO, auditEvent.getId()));
+        yamlDiffEventIndexes.add(i);
+      }
+    }
+
+    CompletableFuture<Set<Integer>> yamlDiffWrite = yamlDiffRecords.isEmpty()
+        ? CompletableFuture.completedFuture(new HashSet<>())
+        : CompletableFuture.supplyAsync(() -> insertYamlDiffs(yamlDiffRecords, yamlDiffEventIndexes), yamlDiffExecutor);
+
+    Set<Integer> failedEventIndexes = new HashSet<>();
+    Set<Integer> duplicateEventIndexes = new HashSet<>();
+    try {
+      for (BulkWriteError error : auditRepository.insertAll(auditEvents)) {
+        if (isDuplicateKeyCode(error.getCode())) {
+          duplicateEventIndexes.add(error.getIndex());
+        } else {
+          failedEventIndexes.add(error.getIndex());
+        }
+      }
+    } catch (Exception e) {
+      log.error("Could not insert a batch of {} audit events", auditEvents.size(), e);
+      addAllIndexes(failedEventIndexes, auditEvents.size());
+    }
+    Set<Integer> failedYamlDiffEventIndexes = yamlDiffWrite.join();
+
+    // An existing event keeps its own yaml diff, a yaml diff that failed for it does not matter
+    failedYamlDiffEventIndexes.removeAll(duplicateEventIndexes);
+    Set<Integer> failedIndexes = new HashSet<>(failedEventIndexes);
+    failedIndexes.addAll(failedYamlDiffEventIndexes);
+    removePartialWrites(auditEvents, yamlDiffEventIndexes, failedIndexes, duplicateEventIndexes);
+
+    return failedIndexes.stream()
+        .sorted()
+        .map(index -> auditEvents.get(index).getInsertId())
+        .collect(Collectors.toList());
+  }
+
+  private Set<Integer> insertYamlDiffs(List<YamlDiffRecord> yamlDiffRecords, List<Integer> yamlDiffEventIndexes) {
+    Set<Integer> failedEventIndexes = new HashSet<>();
+    try {
+      for (BulkWriteError error : auditYamlRepository.insertAll(yamlDiffRecords)) {
+        failedEventIndexes.add(yamlDiffEventIndexes.get(error.getIndex()));
+      }
+    } catch (Exception e) {
+      log.error("Could not insert a batch of {} yaml diffs", yamlDiffRecords.size(), e);
+      failedEventIndexes.addAll(yamlDiffEventIndexes);
+    }
+    return failedEventIndexes;
+  }
+
+  private void removePartialWrites(List<AuditEvent> auditEvents, List<Integer> yamlDiffEventIndexes,
+      Set<Integer> failedIndexes, Set<Integer> duplicateEventIndexes) {
+    // Ids were generated for this batch, removing by them never touches events written by an earlier attempt
+    List<String> failedEventIds =
+        failedIndexes.stream().map(index -> auditEvents.get(index).getId()).collect(Collectors.toList());
+    List<String> orphanYamlDiffAuditIds = yamlDiffEventIndexes.stream()
+                                              .filter(index -> failedIndexes.contains(index)
+                                                      || duplicateEventIndexes.contains(index))
+                                              .map(index -> auditEvents.get(index).getId())
+                                              .collect(Collectors.toList());
+    try {
+      if (!failedEventIds.isEmpty()) {
+        auditRepository.delete(Criteria.where(AuditEventKeys.id).in(failedEventIds));
+      }
+      if (!orphanYamlDiffAuditIds.isEmpty()) {
+        auditYamlRepository.delete(Criteria.where(YamlDiffRecordKeys.auditId).in(orphanYamlDiffAuditIds));
+      }
+    } catch (Exception e) {
+      log.error("Could not remove partially written audit events {}", failedEventIds, e);
+    }
+  }
+
+  private static YamlDiffRecord toYamlDiffRecord(AuditEventDTO auditEventDTO, String auditId) {
+    return YamlDiffRecord.builder()
+        .auditId(auditId)
+        .accountIdentifier(auditEventDTO.getResourceScope().getAccountIdentifier())
+        .oldYaml(auditEventDTO.getYamlDiffRecord().getOldYaml())
+        .newYaml(auditEventDTO.getYamlDiffRecord().getNewYaml())
+        .timestamp(Instant.ofEpochMilli(auditEventDTO.getTimestamp()))
+        .build();
+  }
+
+  private static void addAllIndexes(Set<Integer> indexes, int size) {
+    for (int i = 0; i < size; i++) {
+      indexes.add(i);
+    }
+  }
+
+  private static List<String> getInsertIds(List<AuditEventDTO> auditEventDTOs) {
+    return auditEventDTOs.stream().map(AuditEventDTO::getInsertId).collect(Collectors.toList());
+  }
+}
@@ -20,8 +20,10 @@ import static java.lang.System.currentTimeMillis;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.StaticAuditFilter;
+import io.harness.audit.api.AuditEventCursorPage;
 import io.harness.audit.api.AuditService;
 import io.harness.audit.api.AuditYamlService;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
 import io.harness.audit.beans.AuditEventDTO;
 import io.harness.audit.beans.AuditFilterPropertiesDTO;
 import io.harness.audit.beans.Environment;
@@ -37,13 +39,16 @@ import io.harness.audit.entities.YamlDiffRecord;
 import io.harness.audit.mapper.ResourceMapper;
 import io.harness.audit.mapper.ResourceScopeMapper;
 import io.harness.audit.repositories.AuditRepository;
+import io.harness.exception.InvalidRequestException;
 import io.harness.ng.beans.PageRequest;
 import io.harness.ng.core.common.beans.KeyValuePair;
 import io.harness.ng.core.common.beans.KeyValuePair.KeyValuePairKeys;
 
 import com.google.inject.Inject;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -53,12 +58,18 @@ import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @OwnedBy(PL)
 @Slf4j
 public class AuditServiceImpl implements AuditService {
+  static final int MAX_CURSOR_PAGE_SIZE = 100;
+  static final int MAX_COUNT = 10000;
+  static final int MAX_CREATE_BATCH_SIZE = 1000;
+  private static final String PAGE_TOKEN_SEPARATOR = ":";
+
   private final TransactionTemplate transactionTemplate;
 
   private final RetryPolicy<Object> transactionRetryPolicy = DEFAULT_RETRY_POLICY;
@@ -66,14 +77,17 @@ public class AuditServiceImpl implements AuditService {
   private final AuditRepository auditRepository;
   private final AuditYamlService auditYamlService;
   private final AuditFilterPropertiesValidator auditFilterPropertiesValidator;
+  private final AuditEventBatchWriter auditEventBatchWriter;
 
   @Inject
   public AuditServiceImpl(AuditRepository auditRepository, AuditYamlService auditYamlService,
-      AuditFilterPropertiesValidator auditFilterPropertiesValidator, TransactionTemplate transactionTemplate) {
+      AuditFilterPropertiesValidator auditFilterPropertiesValidator, TransactionTemplate transactionTemplate,
+      AuditEventBatchWriter auditEventBatchWriter) {
     this.auditRepository = auditRepository;
     this.auditYamlService = auditYamlService;
     this.auditFilterPropertiesValidator = auditFilterPropertiesValidator;
     this.transactionTemplate = transactionTemplate;
+    this.auditEventBatchWriter = auditEventBatchWriter;
   }
 
   @Override
@@ -100,6 +114,15 @@ public class AuditServiceImpl implements AuditService {
     }
   }
 
+  @Override
+  public AuditEventBatchResultDTO createAll(List<AuditEventDTO> auditEventDTOs) {
+    if (auditEventDTOs.size() > MAX_CREATE_BATCH_SIZE) {
+      throw new InvalidRequestException(String.format(
+          "At most %d audit events can be created at once, found %d", MAX_CREATE_BATCH_SIZE, auditEventDTOs.size()));
+    }
+    return auditEventBatchWriter.write(auditEventDTOs);
+  }
+
   private void saveYamlDiff(AuditEventDTO auditEventDTO, String auditId) {
     if (auditEventDTO.getYamlDiffRecord() != null) {
       YamlDiffRecord yamlDiffRecord = YamlDiffRecord.builder()
@@ -132,6 +155,66 @@ public class AuditServiceImpl implements AuditService {
     return result;
   }
 
+  /**
+   * Lists audit events newest first, continuing after the (timestamp, insertId) of the last event of the previous
+   * page. Unlike offset pages a deep page costs the same as the first one. The total is only counted for the first
+   * page and stops at MAX_COUNT.
+   */
+  @Override
+  public AuditEventCursorPage listByCursor(String accountIdentifier, String pageToken, int pageSize,
+      AuditFilterPropertiesDTO auditFilterPropertiesDTO) {
+    long startTime = System.currentTimeMillis();
+    auditFilterPropertiesValidator.validate(accountIdentifier, auditFilterPropertiesDTO);
+    if (pageSize <= 0 || pageSize > MAX_CURSOR_PAGE_SIZE) {
+      throw new InvalidRequestException(
+          String.format("Page size should be between 1 and %d, found %d", MAX_CURSOR_PAGE_SIZE, pageSize));
+    }
+    Criteria filterCriteria = getFilterCriteria(accountIdentifier, auditFilterPropertiesDTO);
+    Criteria criteria = pageToken == null
+        ? filterCriteria
+        : new Criteria().andOperator(filterCriteria, getPageTokenCriteria(pageToken));
+    // insertId is unique per account and timestamp, together they order events totally
+    Sort sort = Sort.by(Sort.Direction.DESC, AuditEventKeys.timestamp, AuditEventKeys.insertId);
+    List<AuditEvent> auditEvents = auditRepository.findAll(criteria, sort, pageSize + 1);
+
+    String nextPageToken = null;
+    if (auditEvents.size() > pageSize) {
+      auditEvents = auditEvents.subList(0, pageSize);
+      nextPageToken = toPageToken(auditEvents.get(pageSize - 1));
+    }
+    AuditEventCursorPage.AuditEventCursorPageBuilder page =
+        AuditEventCursorPage.builder().content(auditEvents).nextPageToken(nextPageToken);
+    if (pageToken == null) {
+      // Counting one past MAX_COUNT tells exactly MAX_COUNT matches apart from more
+      long totalItems =
+          nextPageToken == null ? auditEvents.size() : auditRepository.count(filterCriteria, MAX_COUNT + 1);
+      page.totalItems(Math.min(totalItems, MAX_COUNT)).totalItemsCapped(totalItems > MAX_COUNT);
+    }
+    log.info(String.format(
+        "Took %d milliseconds for list audit by cursor db operation.", System.currentTimeMillis() - startTime));
+    return page.build();
+  }
+
+  private static String toPageToken(AuditEvent auditEvent) {
+    String token = auditEvent.getTimestamp().toEpochMilli() + PAGE_TOKEN_SEPARATOR + auditEvent.getInsertId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Criteria getPageTokenCriteria(String pageToken) {
+    Instant timestamp;
+    String insertId;
+    try {
+      String token = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+      int separatorIndex = token.indexOf(PAGE_TOKEN_SEPARATOR);
+      timestamp = Instant.ofEpochMilli(Long.parseLong(token.substring(0, separatorIndex)));
+      insertId = token.substring(separatorIndex + 1);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new InvalidRequestException("Invalid page token " + pageToken);
+    }
+    return new Criteria().orOperator(Criteria.where(AuditEventKeys.timestamp).lt(timestamp),
+        Criteria.where(AuditEventKeys.timestamp).is(timestamp).and(AuditEventKeys.insertId).lt(insertId));
+  }
+
   private Criteria getFilterCriteria(String accountIdentifier, AuditFilterPropertiesDTO auditFilterPropertiesDTO) {
     List<Criteria> criteriaList = new ArrayList<>();
     criteriaList.add(getBaseScopeCriteria(accountIdentifier));
@@ -249,14 +332,6 @@ public class AuditServiceImpl implements AuditService {
     return new Criteria().orOperator(criteriaList.toArray(new Criteria[0]));
   }
 
-  @Override
-  public void purgeAuditsOlderThanTimestamp(String accountIdentifier, Instant timestamp) {
-    auditRepository.delete(Criteria.where(AuditEventKeys.timestamp)
-                               .lte(timestamp)
-                               .and(AuditEventKeys.ACCOUNT_IDENTIFIER_KEY)
-                               .is(accountIdentifier));
-  }
-
   @Override
   public Set<String> getUniqueAuditedAccounts() {
     return new HashSet<>(auditRepository.fetchDistinctAccountIdentifiers());
@@ -13,14 +13,11 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.api.AuditYamlService;
 import io.harness.audit.entities.YamlDiffRecord;
-import io.harness.audit.entities.YamlDiffRecord.YamlDiffRecordKeys;
 import io.harness.audit.repositories.AuditYamlRepository;
 import io.harness.exception.InvalidRequestException;
 
 import com.google.inject.Inject;
-import java.time.Instant;
 import java.util.Optional;
-import org.springframework.data.mongodb.core.query.Criteria;
 
 @OwnedBy(PL)
 public class AuditYamlServiceImpl implements AuditYamlService {
@@ -51,12 +48,4 @@ public class AuditYamlServiceImpl implements AuditYamlService {
     }
     return false;
   }
-
-  @Override
-  public void purgeYamlDiffOlderThanTimestamp(String accountIdentifier, Instant timestamp) {
-    auditYamlRepository.delete(Criteria.where(YamlDiffRecordKeys.timestamp)
-                                   .lte(timestamp)
-                                   .and(YamlDiffRecordKeys.accountIdentifier)
-                                   .is(accountIdentifier));
-  }
 }
@@ -24,6 +24,7 @@ import io.harness.audit.entities.Resource.ResourceKeys;
 import io.harness.audit.entities.ResourceScope.ResourceScopeKeys;
 import io.harness.mongo.index.CompoundMongoIndex;
 import io.harness.mongo.index.MongoIndex;
+import io.harness.mongo.index.SortCompoundMongoIndex;
 import io.harness.ng.DbAliases;
 import io.harness.ng.core.common.beans.KeyValuePair;
 import io.harness.ng.core.common.beans.KeyValuePair.KeyValuePairKeys;
@@ -114,6 +115,30 @@ public class AuditEvent {
                  .field(AuditEventKeys.insertId)
                  .unique(true)
                  .build())
+        // Cursor listing sorts by timestamp and insertId within the equality filters of AuditServiceImpl, the
+        // account only shape is served by uniqueNgAuditEventIdx
+        .add(SortCompoundMongoIndex.builder()
+                 .name("ngAuditAccountOrgTimeInsertIdx")
+                 .field(AuditEventKeys.ACCOUNT_IDENTIFIER_KEY)
+                 .field(AuditEventKeys.ORG_IDENTIFIER_KEY)
+                 .descSortField(AuditEventKeys.timestamp)
+                 .descSortField(AuditEventKeys.insertId)
+                 .build())
+        .add(SortCompoundMongoIndex.builder()
+                 .name("ngAuditAccountOrgProjectTimeInsertIdx")
+                 .field(AuditEventKeys.ACCOUNT_IDENTIFIER_KEY)
+                 .field(AuditEventKeys.ORG_IDENTIFIER_KEY)
+                 .field(AuditEventKeys.PROJECT_IDENTIFIER_KEY)
+                 .descSortField(AuditEventKeys.timestamp)
+                 .descSortField(AuditEventKeys.insertId)
+                 .build())
+        .add(SortCompoundMongoIndex.builder()
+                 .name("ngAuditAccountResourceTypeTimeInsertIdx")
+                 .field(AuditEventKeys.ACCOUNT_IDENTIFIER_KEY)
+                 .field(AuditEventKeys.RESOURCE_TYPE_KEY)
+                 .descSortField(AuditEventKeys.timestamp)
+                 .descSortField(AuditEventKeys.insertId)
+                 .build())
         .build();
   }
 
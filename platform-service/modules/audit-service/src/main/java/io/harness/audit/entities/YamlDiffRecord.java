@@ -57,6 +57,11 @@ public class YamlDiffRecord {
                  .field(YamlDiffRecordKeys.accountIdentifier)
                  .field(YamlDiffRecordKeys.auditId)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("accountIdentifierTimestampIdx")
+                 .field(YamlDiffRecordKeys.accountIdentifier)
+                 .field(YamlDiffRecordKeys.timestamp)
+                 .build())
         .build();
   }
 }
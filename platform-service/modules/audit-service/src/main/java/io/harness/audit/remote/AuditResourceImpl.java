@@ -14,8 +14,11 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.utils.PageUtils.getNGPageResponse;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.api.AuditEventCursorPage;
 import io.harness.audit.api.AuditService;
 import io.harness.audit.api.impl.AuditPermissionValidator;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
+import io.harness.audit.beans.AuditEventCursorPageDTO;
 import io.harness.audit.beans.AuditEventDTO;
 import io.harness.audit.beans.AuditFilterPropertiesDTO;
 import io.harness.audit.beans.ResourceScopeDTO;
@@ -29,6 +32,8 @@ import io.harness.security.annotations.InternalApi;
 
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.ws.rs.BeanParam;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -55,17 +60,18 @@ public class AuditResourceImpl implements AuditResource {
     return response;
   }
 
+  public ResponseDTO<AuditEventBatchResultDTO> createAll(List<AuditEventDTO> auditEventDTOs) {
+    long startTime = System.currentTimeMillis();
+    ResponseDTO<AuditEventBatchResultDTO> response = ResponseDTO.newResponse(auditService.createAll(auditEventDTOs));
+    log.info(String.format("Took %d milliseconds for create audit batch api of %d events.",
+        System.currentTimeMillis() - startTime, auditEventDTOs.size()));
+    return response;
+  }
+
   public ResponseDTO<PageResponse<AuditEventDTO>> list(
       String accountIdentifier, @BeanParam PageRequest pageRequest, AuditFilterPropertiesDTO auditFilterPropertiesDTO) {
     long startTime = System.currentTimeMillis();
-    if (auditFilterPropertiesDTO != null && isNotEmpty(auditFilterPropertiesDTO.getScopes())) {
-      for (ResourceScopeDTO resourceScopeDTO : auditFilterPropertiesDTO.getScopes()) {
-        auditPermissionValidator.validate(accountIdentifier, resourceScopeDTO);
-      }
-    } else {
-      auditPermissionValidator.validate(
-          accountIdentifier, ResourceScopeDTO.builder().accountIdentifier(accountIdentifier).build());
-    }
+    validatePermissions(accountIdentifier, auditFilterPropertiesDTO);
     if (isEmpty(pageRequest.getSortOrders())) {
       SortOrder order = SortOrder.Builder.aSortOrder().withField(AuditEventKeys.timestamp, DESC).build();
       pageRequest.setSortOrders(ImmutableList.of(order));
@@ -76,4 +82,33 @@ public class AuditResourceImpl implements AuditResource {
     log.info(String.format("Took %d milliseconds for list audit api.", System.currentTimeMillis() - startTime));
     return response;
   }
+
+  public ResponseDTO<AuditEventCursorPageDTO> listByCursor(
+      String accountIdentifier, String pageToken, int size, AuditFilterPropertiesDTO auditFilterPropertiesDTO) {
+    long startTime = System.currentTimeMillis();
+    validatePermissions(accountIdentifier, auditFilterPropertiesDTO);
+    AuditEventCursorPage page =
+        auditService.listByCursor(accountIdentifier, pageToken, size, auditFilterPropertiesDTO);
+    AuditEventCursorPageDTO pageDTO =
+        AuditEventCursorPageDTO.builder()
+            .content(page.getContent().stream().map(AuditEventMapper::toDTO).collect(Collectors.toList()))
+            .nextPageToken(page.getNextPageToken())
+            .totalItems(page.getTotalItems())
+            .totalItemsCapped(page.getTotalItemsCapped())
+            .build();
+    log.info(String.format(
+        "Took %d milliseconds for list audit by cursor api.", System.currentTimeMillis() - startTime));
+    return ResponseDTO.newResponse(pageDTO);
+  }
+
+  private void validatePermissions(String accountIdentifier, AuditFilterPropertiesDTO auditFilterPropertiesDTO) {
+    if (auditFilterPropertiesDTO != null && isNotEmpty(auditFilterPropertiesDTO.getScopes())) {
+      for (ResourceScopeDTO resourceScopeDTO : auditFilterPropertiesDTO.getScopes()) {
+        auditPermissionValidator.validate(accountIdentifier, resourceScopeDTO);
+      }
+    } else {
+      auditPermissionValidator.validate(
+          accountIdentifier, ResourceScopeDTO.builder().accountIdentifier(accountIdentifier).build());
+    }
+  }
 }
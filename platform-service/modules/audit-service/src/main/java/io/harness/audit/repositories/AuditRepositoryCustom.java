@@ -12,15 +12,20 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.entities.AuditEvent;
 
+import com.mongodb.BulkWriteError;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 
 @OwnedBy(PL)
 public interface AuditRepositoryCustom {
   Page<AuditEvent> findAll(Criteria criteria, Pageable pageable);
+  List<AuditEvent> findAll(Criteria criteria, Sort sort, int limit);
+  long count(Criteria criteria, int limit);
   AuditEvent get(Criteria criteria);
   void delete(Criteria criteria);
+  List<BulkWriteError> insertAll(List<AuditEvent> auditEvents);
   List<String> fetchDistinctAccountIdentifiers();
 }
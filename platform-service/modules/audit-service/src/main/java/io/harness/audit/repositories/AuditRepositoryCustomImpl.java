@@ -15,9 +15,14 @@ import io.harness.audit.entities.AuditEvent.AuditEventKeys;
 import io.harness.mongo.helper.SecondaryMongoTemplateHolder;
 
 import com.google.inject.Inject;
+import com.mongodb.BulkWriteError;
+import java.util.Collections;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -44,10 +49,33 @@ public class AuditRepositoryCustomImpl implements AuditRepositoryCustom {
         () -> secondaryMongoTemplate.count(Query.of(query).limit(-1).skip(-1), AuditEvent.class));
   }
 
+  @Override
+  public List<AuditEvent> findAll(Criteria criteria, Sort sort, int limit) {
+    Query query = new Query(criteria).with(sort).limit(limit);
+    return secondaryMongoTemplate.find(query, AuditEvent.class);
+  }
+
+  @Override
+  public long count(Criteria criteria, int limit) {
+    // The count stops at limit, it does not walk every matching event of large accounts
+    return secondaryMongoTemplate.count(new Query(criteria).limit(limit), AuditEvent.class);
+  }
+
   @Override
   public void delete(Criteria criteria) {
     Query query = new Query(criteria);
-    mongoTemplate.findAllAndRemove(query, AuditEvent.class);
+    mongoTemplate.remove(query, AuditEvent.class);
+  }
+
+  @Override
+  public List<BulkWriteError> insertAll(List<AuditEvent> auditEvents) {
+    // Unordered, one failing event does not keep the rest of the batch from being inserted
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, AuditEvent.class).insert(auditEvents).execute();
+      return Collections.emptyList();
+    } catch (BulkOperationException e) {
+      return e.getErrors();
+    }
   }
 
   @Override
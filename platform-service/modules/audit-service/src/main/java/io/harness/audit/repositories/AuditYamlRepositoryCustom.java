@@ -10,10 +10,14 @@ package io.harness.audit.repositories;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.entities.YamlDiffRecord;
 
+import com.mongodb.BulkWriteError;
+import java.util.List;
 import org.springframework.data.mongodb.core.query.Criteria;
 
 @OwnedBy(PL)
 public interface AuditYamlRepositoryCustom {
   void delete(Criteria criteria);
+  List<BulkWriteError> insertAll(List<YamlDiffRecord> yamlDiffRecords);
 }
@@ -10,10 +10,15 @@ package io.harness.audit.repositories;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.audit.entities.AuditEvent;
+import io.harness.audit.entities.YamlDiffRecord;
 
 import com.google.inject.Inject;
+import com.mongodb.BulkWriteError;
+import java.util.Collections;
+import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -26,6 +31,16 @@ public class AuditYamlRepositoryCustomImpl implements AuditYamlRepositoryCustom
   @Override
   public void delete(Criteria criteria) {
     Query query = new Query(criteria);
-    mongoTemplate.findAllAndRemove(query, AuditEvent.class);
+    mongoTemplate.remove(query, YamlDiffRecord.class);
+  }
+
+  @Override
+  public List<BulkWriteError> insertAll(List<YamlDiffRecord> yamlDiffRecords) {
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, YamlDiffRecord.class).insert(yamlDiffRecords).execute();
+      return Collections.emptyList();
+    } catch (BulkOperationException e) {
+      return e.getErrors();
+    }
   }
 }
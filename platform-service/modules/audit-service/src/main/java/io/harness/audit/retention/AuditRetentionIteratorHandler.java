@@ -14,8 +14,6 @@ import static java.time.Duration.ofHours;
 import static java.time.Duration.ofMinutes;
 
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.audit.api.AuditService;
-import io.harness.audit.api.AuditYamlService;
 import io.harness.audit.entities.AuditSettings;
 import io.harness.audit.entities.AuditSettings.AuditSettingsKeys;
 import io.harness.iterator.PersistenceIteratorFactory;
@@ -33,16 +31,14 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 public class AuditRetentionIteratorHandler implements MongoPersistenceIterator.Handler<AuditSettings> {
   @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
   @Inject private MongoTemplate mongoTemplate;
-  @Inject private AuditService auditService;
-  @Inject private AuditYamlService auditYamlService;
+  @Inject private AuditRetentionPurger auditRetentionPurger;
 
   @Override
   public void handle(AuditSettings auditSettings) {
     Instant toBeDeletedTillTimestamp = Instant.now().minus(
         Duration.ofSeconds(auditSettings.getRetentionPeriodInMonths() * ChronoUnit.MONTHS.getDuration().getSeconds()));
 
-    auditService.purgeAuditsOlderThanTimestamp(auditSettings.getAccountIdentifier(), toBeDeletedTillTimestamp);
-    auditYamlService.purgeYamlDiffOlderThanTimestamp(auditSettings.getAccountIdentifier(), toBeDeletedTillTimestamp);
+    auditRetentionPurger.purge(auditSettings, toBeDeletedTillTimestamp);
   }
 
   public void registerIterators() {
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.retention;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.entities.AuditEvent;
+import io.harness.audit.entities.AuditEvent.AuditEventKeys;
+import io.harness.audit.entities.AuditSettings;
+import io.harness.audit.entities.YamlDiffRecord;
+import io.harness.audit.entities.YamlDiffRecord.YamlDiffRecordKeys;
+import io.harness.threading.Morpheus;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.MongoWriteConcernException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Deletes the audit events and yaml diffs of an account that are past its retention period, oldest first, in batches
+ * of BATCH_SIZE. A batch reads only the _id of its documents and removes them with one deleteMany.
+ *
+ * Deletes wait for a majority of the replica set, so a lagging secondary slows the purge down instead of falling
+ * further behind. Every run deletes everything older than the cutoff, a run that was stopped or hit
+ * MAX_BATCHES_PER_RUN is simply picked up by the next iteration.
+ */
+@OwnedBy(PL)
+@Slf4j
+@Singleton
+public class AuditRetentionPurger {
+  static final int BATCH_SIZE = 1000;
+  static final int MAX_BATCHES_PER_RUN = 500;
+  private static final Duration REPLICATION_LAG_BACKOFF = Duration.ofSeconds(30);
+  private static final int MAX_REPLICATION_LAG_BACKOFFS_PER_RUN = 5;
+  private static final WriteConcern PURGE_WRITE_CONCERN = WriteConcern.MAJORITY.withWTimeout(10, TimeUnit.SECONDS);
+  private static final String ID_FIELD = "_id";
+
+  private static final PurgeTarget AUDIT_EVENTS = new PurgeTarget(AuditEvent.class,
+      AuditEventKeys.ACCOUNT_IDENTIFIER_KEY, AuditEventKeys.timestamp,
+      Sort.by(Sort.Direction.ASC, AuditEventKeys.timestamp, AuditEventKeys.insertId));
+  private static final PurgeTarget YAML_DIFFS = new PurgeTarget(YamlDiffRecord.class,
+      YamlDiffRecordKeys.accountIdentifier, YamlDiffRecordKeys.timestamp,
+      Sort.by(Sort.Direction.ASC, YamlDiffRecordKeys.timestamp));
+
+  private final MongoTemplate mongoTemplate;
+
+  @Inject
+  public AuditRetentionPurger(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  public void purge(AuditSettings auditSettings, Instant purgeTill) {
+    long startTime = System.currentTimeMillis();
+    long auditEvents = purge(AUDIT_EVENTS, auditSettings, purgeTill);
+    long yamlDiffs = purge(YAML_DIFFS, auditSettings, purgeTill);
+    log.info("Purged {} audit events and {} yaml diffs older than {} of account {} in {} milliseconds", auditEvents,
+        yamlDiffs, purgeTill, auditSettings.getAccountIdentifier(), System.currentTimeMillis() - startTime);
+  }
+
+  private long purge(PurgeTarget target, AuditSettings auditSettings, Instant purgeTill) {
+    String collectionName = mongoTemplate.getCollectionName(target.getEntityClass());
+    MongoCollection<Document> collection =
+        mongoTemplate.getCollection(collectionName).withWriteConcern(PURGE_WRITE_CONCERN);
+
+    Criteria criteria = Criteria.where(target.getAccountField())
+                            .is(auditSettings.getAccountIdentifier())
+                            .and(target.getTimestampField())
+                            .lt(purgeTill);
+    Query batchQuery = new Query(criteria).with(target.getSort()).limit(BATCH_SIZE);
+    batchQuery.fields().include(ID_FIELD);
+
+    long deleted = 0;
+    int replicationLagBackoffs = 0;
+    for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+      List<Document> batchDocuments = mongoTemplate.find(batchQuery, Document.class, collectionName);
+      if (batchDocuments.isEmpty()) {
+        break;
+      }
+      List<Object> ids = batchDocuments.stream().map(document -> document.get(ID_FIELD)).collect(Collectors.toList());
+      try {
+        deleted += collection.deleteMany(Filters.in(ID_FIELD, ids)).getDeletedCount();
+      } catch (MongoWriteConcernException e) {
+        // The batch is deleted on the primary, the secondaries did not catch up in time
+        deleted += ids.size();
+        if (++replicationLagBackoffs > MAX_REPLICATION_LAG_BACKOFFS_PER_RUN) {
+          log.warn("Stopping purge of {} for account {}, replication keeps lagging", collectionName,
+              auditSettings.getAccountIdentifier(), e);
+          return deleted;
+        }
+        Morpheus.sleep(REPLICATION_LAG_BACKOFF);
+      }
+      if (batchDocuments.size() < BATCH_SIZE) {
+        break;
+      }
+    }
+    return deleted;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class PurgeTarget {
+    private final Class<?> entityClass;
+    private final String accountField;
+    private final String timestampField;
+    private final Sort sort;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.api.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.ModuleType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.Action;
+import io.harness.audit.beans.AuditEventBatchResultDTO;
+import io.harness.audit.beans.AuditEventDTO;
+import io.harness.audit.beans.AuthenticationInfoDTO;
+import io.harness.audit.beans.ResourceDTO;
+import io.harness.audit.beans.ResourceScopeDTO;
+import io.harness.audit.beans.YamlDiffRecordDTO;
+import io.harness.audit.entities.AuditEvent;
+import io.harness.audit.entities.AuditEvent.AuditEventKeys;
+import io.harness.audit.entities.YamlDiffRecord;
+import io.harness.audit.entities.YamlDiffRecord.YamlDiffRecordKeys;
+import io.harness.audit.repositories.AuditRepository;
+import io.harness.audit.repositories.AuditYamlRepository;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+@OwnedBy(PL)
+public class AuditEventBatchWriterTest extends CategoryTest {
+  private static final int DUPLICATE_KEY = 11000;
+
+  private AuditRepository auditRepository;
+  private AuditYamlRepository auditYamlRepository;
+  private AuditEventBatchWriter auditEventBatchWriter;
+
+  @Before
+  public void setup() {
+    auditRepository = mock(AuditRepository.class);
+    auditYamlRepository = mock(AuditYamlRepository.class);
+    auditEventBatchWriter = new AuditEventBatchWriter(auditRepository, auditYamlRepository);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testWriteInsertsEventsAndYamlDiffsInBulk() {
+    when(auditRepository.insertAll(any())).thenReturn(emptyList());
+    when(auditYamlRepository.insertAll(any())).thenReturn(emptyList());
+
+    AuditEventBatchResultDTO result =
+        auditEventBatchWriter.write(Arrays.asList(auditEventDTO("a", true), auditEventDTO("b", false)));
+
+    assertThat(result.isThrottled()).isFalse();
+    assertThat(result.getFailedInsertIds()).isEmpty();
+    List<AuditEvent> auditEvents = captureAuditEvents();
+    List<YamlDiffRecord> yamlDiffRecords = captureYamlDiffRecords();
+    assertThat(auditEvents).extracting(AuditEvent::getInsertId).containsExactly("a", "b");
+    assertThat(yamlDiffRecords).extracting(YamlDiffRecord::getAuditId).containsExactly(auditEvents.get(0).getId());
+    verify(auditRepository, never()).delete(any());
+    verify(auditYamlRepository, never()).delete(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testWriteTreatsDuplicatesAsWritten() {
+    when(auditRepository.insertAll(any())).thenReturn(singletonList(bulkWriteError(DUPLICATE_KEY, 0)));
+    when(auditYamlRepository.insertAll(any())).thenReturn(emptyList());
+
+    AuditEventBatchResultDTO result = auditEventBatchWriter.write(singletonList(auditEventDTO("a", true)));
+
+    assertThat(result.getFailedInsertIds()).isEmpty();
+    String auditId = captureAuditEvents().get(0).getId();
+    verify(auditRepository, never()).delete(any());
+    assertThat(captureYamlDiffDeleteCriteria().get(YamlDiffRecordKeys.auditId, Document.class).get("$in"))
+        .isEqualTo(singletonList(auditId));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testWriteRemovesEventsWhoseYamlDiffFailed() {
+    when(auditRepository.insertAll(any())).thenReturn(emptyList());
+    when(auditYamlRepository.insertAll(any())).thenReturn(singletonList(bulkWriteError(1, 1)));
+
+    AuditEventBatchResultDTO result = auditEventBatchWriter.write(
+        Arrays.asList(auditEventDTO("a", true), auditEventDTO("b", false), auditEventDTO("c", true)));
+
+    assertThat(result.getFailedInsertIds()).containsExactly("c");
+    String auditId = captureAuditEvents().get(2).getId();
+    ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    verify(auditRepository, times(1)).delete(criteriaArgumentCaptor.capture());
+    assertThat(criteriaArgumentCaptor.getValue().getCriteriaObject().get(AuditEventKeys.id, Document.class).get("$in"))
+        .isEqualTo(singletonList(auditId));
+    assertThat(captureYamlDiffDeleteCriteria().get(YamlDiffRecordKeys.auditId, Document.class).get("$in"))
+        .isEqualTo(singletonList(auditId));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testWriteSplitsIntoInsertBatches() {
+    when(auditRepository.insertAll(any())).thenReturn(emptyList());
+    List<AuditEventDTO> auditEventDTOs = IntStream.range(0, AuditEventBatchWriter.MAX_INSERT_BATCH_SIZE + 1)
+                                             .mapToObj(i -> auditEventDTO(String.valueOf(i), false))
+                                             .collect(Collectors.toList());
+
+    AuditEventBatchResultDTO result = auditEventBatchWriter.write(auditEventDTOs);
+
+    assertThat(result.getFailedInsertIds()).isEmpty();
+    verify(auditRepository, times(2)).insertAll(any());
+    verify(auditYamlRepository, never()).insertAll(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testWriteThrottlesWhenSaturated() {
+    List<AuditEventDTO> auditEventDTOs = new ArrayList<>();
+    for (int i = 0; i <= AuditEventBatchWriter.MAX_IN_FLIGHT_EVENTS; i++) {
+      auditEventDTOs.add(AuditEventDTO.builder().insertId(String.valueOf(i)).build());
+    }
+
+    AuditEventBatchResultDTO result = auditEventBatchWriter.write(auditEventDTOs);
+
+    assertThat(result.isThrottled()).isTrue();
+    assertThat(result.getFailedInsertIds()).hasSize(auditEventDTOs.size());
+    verify(auditRepository, never()).insertAll(any());
+  }
+
+  private AuditEventDTO auditEventDTO(String insertId, boolean withYamlDiff) {
+    return AuditEventDTO.builder()
+        .insertId(insertId)
+        .resourceScope(ResourceScopeDTO.builder().accountIdentifier("account").build())
+        .timestamp(System.currentTimeMillis())
+        .authenticationInfo(AuthenticationInfoDTO.builder().build())
+        .module(ModuleType.CORE)
+        .resource(ResourceDTO.builder().type("SECRET").identifier(insertId).build())
+        .action(Action.CREATE)
+        .yamlDiffRecord(withYamlDiff ? YamlDiffRecordDTO.builder().newYaml("yaml").build() : null)
+        .build();
+  }
+
+  private List<AuditEvent> captureAuditEvents() {
+    ArgumentCaptor<List> auditEventsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(auditRepository, times(1)).insertAll(auditEventsArgumentCaptor.capture());
+    return auditEventsArgumentCaptor.getValue();
+  }
+
+  private List<YamlDiffRecord> captureYamlDiffRecords() {
+    ArgumentCaptor<List> yamlDiffRecordsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(auditYamlRepository, times(1)).insertAll(yamlDiffRecordsArgumentCaptor.capture());
+    return yamlDiffRecordsArgumentCaptor.getValue();
+  }
+
+  private Document captureYamlDiffDeleteCriteria() {
+    ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    verify(auditYamlRepository, times(1)).delete(criteriaArgumentCaptor.capture());
+    return criteriaArgumentCaptor.getValue().getCriteriaObject();
+  }
+
+  private static BulkWriteError bulkWriteError(int code, int index) {
+    return new BulkWriteError(code, "error", new BasicDBObject(), index);
+  }
+}
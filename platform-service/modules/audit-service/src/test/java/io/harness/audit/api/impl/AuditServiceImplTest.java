@@ -19,8 +19,11 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertNull;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -34,6 +37,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.Action;
 import io.harness.audit.StaticAuditFilter;
+import io.harness.audit.api.AuditEventCursorPage;
 import io.harness.audit.api.AuditService;
 import io.harness.audit.api.AuditYamlService;
 import io.harness.audit.beans.AuditFilterPropertiesDTO;
@@ -46,11 +50,13 @@ import io.harness.audit.entities.AuditEvent;
 import io.harness.audit.entities.AuditEvent.AuditEventKeys;
 import io.harness.audit.repositories.AuditRepository;
 import io.harness.category.element.UnitTests;
+import io.harness.exception.InvalidRequestException;
 import io.harness.ng.beans.PageRequest;
 import io.harness.rule.Owner;
 
 import com.mongodb.BasicDBList;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import org.bson.Document;
 import org.junit.Before;
@@ -59,6 +65,7 @@ import org.junit.experimental.categories.Category;
 import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -79,8 +86,8 @@ public class AuditServiceImplTest extends CategoryTest {
     auditFilterPropertiesValidator = mock(AuditFilterPropertiesValidator.class);
     transactionTemplate = mock(TransactionTemplate.class);
 
-    auditService = spy(
-        new AuditServiceImpl(auditRepository, auditYamlService, auditFilterPropertiesValidator, transactionTemplate));
+    auditService = spy(new AuditServiceImpl(auditRepository, auditYamlService, auditFilterPropertiesValidator,
+        transactionTemplate, mock(AuditEventBatchWriter.class)));
     doNothing().when(auditFilterPropertiesValidator).validate(any(), any());
   }
 
@@ -342,4 +349,70 @@ public class AuditServiceImplTest extends CategoryTest {
     Document principalTypeDocument = (Document) andList.get(0);
     assertEquals(SYSTEM, principalTypeDocument.get(AuditEventKeys.PRINCIPAL_TYPE_KEY));
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListByCursor() {
+    String accountIdentifier = randomAlphabetic(10);
+    Instant timestamp = Instant.ofEpochMilli(1680000000000L);
+    List<AuditEvent> firstPage = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      firstPage.add(AuditEvent.builder().insertId("insert" + (3 - i)).timestamp(timestamp).build());
+    }
+    when(auditRepository.findAll(any(Criteria.class), any(Sort.class), eq(3))).thenReturn(firstPage);
+    when(auditRepository.count(any(Criteria.class), anyInt())).thenReturn(25L);
+
+    AuditEventCursorPage page = auditService.listByCursor(accountIdentifier, null, 2, null);
+    assertEquals(2, page.getContent().size());
+    assertNotNull(page.getNextPageToken());
+    assertEquals(Long.valueOf(25L), page.getTotalItems());
+    assertEquals(Boolean.FALSE, page.getTotalItemsCapped());
+    verify(auditRepository, times(1)).count(any(Criteria.class), eq(AuditServiceImpl.MAX_COUNT + 1));
+
+    ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(auditRepository.findAll(any(Criteria.class), any(Sort.class), eq(3)))
+        .thenReturn(singletonList(firstPage.get(2)));
+    page = auditService.listByCursor(accountIdentifier, page.getNextPageToken(), 2, null);
+    verify(auditRepository, times(2)).findAll(criteriaArgumentCaptor.capture(), any(Sort.class), eq(3));
+    verify(auditRepository, times(1)).count(any(Criteria.class), anyInt());
+    assertEquals(1, page.getContent().size());
+    assertNull(page.getNextPageToken());
+    assertNull(page.getTotalItems());
+
+    List<Document> andList = (List<Document>) criteriaArgumentCaptor.getValue().getCriteriaObject().get("$and");
+    List<Document> orList = (List<Document>) andList.get(1).get("$or");
+    assertEquals(2, orList.size());
+    assertEquals(timestamp, ((Document) orList.get(0).get(AuditEventKeys.timestamp)).get("$lt"));
+    assertEquals("insert2", ((Document) orList.get(1).get(AuditEventKeys.insertId)).get("$lt"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListByCursorCapsTotalItems() {
+    Instant timestamp = Instant.ofEpochMilli(1680000000000L);
+    List<AuditEvent> firstPage = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      firstPage.add(AuditEvent.builder().insertId("insert" + (3 - i)).timestamp(timestamp).build());
+    }
+    when(auditRepository.findAll(any(Criteria.class), any(Sort.class), eq(3))).thenReturn(firstPage);
+
+    when(auditRepository.count(any(Criteria.class), anyInt())).thenReturn((long) AuditServiceImpl.MAX_COUNT);
+    AuditEventCursorPage page = auditService.listByCursor(randomAlphabetic(10), null, 2, null);
+    assertEquals(Long.valueOf(AuditServiceImpl.MAX_COUNT), page.getTotalItems());
+    assertEquals(Boolean.FALSE, page.getTotalItemsCapped());
+
+    when(auditRepository.count(any(Criteria.class), anyInt())).thenReturn(AuditServiceImpl.MAX_COUNT + 1L);
+    page = auditService.listByCursor(randomAlphabetic(10), null, 2, null);
+    assertEquals(Long.valueOf(AuditServiceImpl.MAX_COUNT), page.getTotalItems());
+    assertEquals(Boolean.TRUE, page.getTotalItemsCapped());
+  }
+
+  @Test(expected = InvalidRequestException.class)
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListByCursorWithInvalidToken() {
+    auditService.listByCursor(randomAlphabetic(10), "not-a-token", 10, null);
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.retention;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.entities.AuditEvent;
+import io.harness.audit.entities.AuditEvent.AuditEventKeys;
+import io.harness.audit.entities.AuditSettings;
+import io.harness.audit.entities.ResourceScope;
+import io.harness.audit.entities.YamlDiffRecord;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.LifecycleRule;
+import io.harness.rule.Owner;
+import io.harness.testlib.module.MongoRuleMixin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+@OwnedBy(PL)
+public class AuditRetentionPurgerTest extends CategoryTest implements MongoRuleMixin {
+  private static final String ACCOUNT = "account";
+  private static final String OTHER_ACCOUNT = "otherAccount";
+
+  @Rule public LifecycleRule lifecycleRule = new LifecycleRule();
+
+  private MongoTemplate mongoTemplate;
+  private AuditRetentionPurger auditRetentionPurger;
+  private final Instant purgeTill = Instant.parse("2023-01-01T00:00:00Z");
+
+  @Before
+  public void setup() {
+    String databaseName = databaseName();
+    mongoTemplate = new MongoTemplate(realMongoClient(lifecycleRule.getClosingFactory(), databaseName), databaseName);
+    auditRetentionPurger = new AuditRetentionPurger(mongoTemplate);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPurgeDeletesOnlyExpiredDocumentsOfAccount() {
+    insertAuditEvents(ACCOUNT, purgeTill.minus(Duration.ofDays(10)), 3);
+    insertAuditEvents(ACCOUNT, purgeTill.plus(Duration.ofDays(1)), 2);
+    insertAuditEvents(OTHER_ACCOUNT, purgeTill.minus(Duration.ofDays(10)), 2);
+    insertYamlDiff(ACCOUNT, purgeTill.minus(Duration.ofDays(10)));
+    insertYamlDiff(ACCOUNT, purgeTill.plus(Duration.ofDays(1)));
+    insertYamlDiff(OTHER_ACCOUNT, purgeTill.minus(Duration.ofDays(10)));
+    AuditSettings auditSettings = saveAuditSettings();
+
+    auditRetentionPurger.purge(auditSettings, purgeTill);
+
+    assertThat(getAuditEventTimestamps(ACCOUNT)).allMatch(purgeTill::isBefore).hasSize(2);
+    assertThat(getAuditEventTimestamps(OTHER_ACCOUNT)).hasSize(2);
+    assertThat(mongoTemplate.findAll(YamlDiffRecord.class))
+        .extracting(YamlDiffRecord::getAccountIdentifier, YamlDiffRecord::getTimestamp)
+        .containsExactlyInAnyOrder(tuple(ACCOUNT, purgeTill.plus(Duration.ofDays(1))),
+            tuple(OTHER_ACCOUNT, purgeTill.minus(Duration.ofDays(10))));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPurgeDeletesInBatches() {
+    Instant start = purgeTill.minus(Duration.ofDays(1));
+    insertAuditEvents(ACCOUNT, start, AuditRetentionPurger.BATCH_SIZE * 2 + 5);
+    AuditSettings auditSettings = saveAuditSettings();
+
+    auditRetentionPurger.purge(auditSettings, purgeTill);
+
+    assertThat(getAuditEventTimestamps(ACCOUNT)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPurgeKeepsDocumentsAtCutoff() {
+    insertAuditEvents(ACCOUNT, purgeTill.minus(Duration.ofDays(35)), 1);
+    insertAuditEvents(ACCOUNT, purgeTill.minusMillis(1), 1);
+    insertAuditEvents(ACCOUNT, purgeTill, 1);
+    AuditSettings auditSettings = saveAuditSettings();
+
+    auditRetentionPurger.purge(auditSettings, purgeTill);
+
+    assertThat(getAuditEventTimestamps(ACCOUNT)).containsExactly(purgeTill);
+  }
+
+  private void insertAuditEvents(String accountIdentifier, Instant start, int count) {
+    List<AuditEvent> auditEvents = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      auditEvents.add(AuditEvent.builder()
+                          .insertId(accountIdentifier + start.toEpochMilli() + i)
+                          .resourceScope(ResourceScope.builder().accountIdentifier(accountIdentifier).build())
+                          .timestamp(start.plusMillis(i))
+                          .build());
+    }
+    mongoTemplate.insertAll(auditEvents);
+  }
+
+  private void insertYamlDiff(String accountIdentifier, Instant timestamp) {
+    mongoTemplate.insert(YamlDiffRecord.builder()
+                             .auditId(accountIdentifier + timestamp.toEpochMilli())
+                             .accountIdentifier(accountIdentifier)
+                             .timestamp(timestamp)
+                             .build());
+  }
+
+  private AuditSettings saveAuditSettings() {
+    return mongoTemplate.insert(
+        AuditSettings.builder().accountIdentifier(ACCOUNT).retentionPeriodInMonths(1).build());
+  }
+
+  private List<Instant> getAuditEventTimestamps(String accountIdentifier) {
+    return mongoTemplate
+        .find(new Query(Criteria.where(AuditEventKeys.ACCOUNT_IDENTIFIER_KEY).is(accountIdentifier)), AuditEvent.class)
+        .stream()
+        .map(AuditEvent::getTimestamp)
+        .collect(Collectors.toList());
+  }
+}